@@ -0,0 +1,82 @@
+package com.microservices.productservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files written with -rf json, printing for every benchmark and parameter combination
+ * the change of its score and of the bytes it allocates per operation, as reported by the gc profiler.
+ * Usage: BenchmarkComparison &lt;baseline.json&gt; &lt;current.json&gt;
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BenchmarkComparison <baseline.json> <current.json>");
+        }
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        System.out.printf("%-90s %16s %16s %9s %16s %16s %9s%n", "Benchmark", "Baseline", "Current", "Change",
+                          "Baseline B/op", "Current B/op", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            double scoreAfter = after.path("primaryMetric").path("score").asDouble();
+            double allocationAfter = after.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(Double.NaN);
+            if (before == null) {
+                System.out.printf("%-90s %16s %16.3f %9s %16s %16.0f %9s%n", entry.getKey(), "-", scoreAfter, "new",
+                                  "-", allocationAfter, "new");
+                continue;
+            }
+            double scoreBefore = before.path("primaryMetric").path("score").asDouble();
+            double allocationBefore = before.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(Double.NaN);
+            System.out.printf("%-90s %16.3f %16.3f %9s %16.0f %16.0f %9s%n", entry.getKey(), scoreBefore, scoreAfter,
+                              change(scoreBefore, scoreAfter), allocationBefore, allocationAfter,
+                              change(allocationBefore, allocationAfter));
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-90s %16s%n", key, "removed"));
+    }
+
+    /**
+     * Reads a JMH JSON result file into its results keyed by benchmark name, parameters and score unit.
+     */
+    private static Map<String, JsonNode> read(File resultFile) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(resultFile)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            if (!params.isEmpty()) {
+                key.append(params);
+            }
+            key.append(" (").append(result.path("primaryMetric").path("scoreUnit").asText()).append(')');
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static String change(double before, double after) {
+        if (Double.isNaN(before) || Double.isNaN(after) || before == 0) {
+            return "-";
+        }
+        return String.format("%+.1f%%", (after - before) * 100 / before);
+    }
+}
@@ -0,0 +1,46 @@
+package com.microservices.productservice.benchmark;
+
+import com.microservices.productservice.controller.advice.ProductServiceExceptionHandler;
+import com.microservices.productservice.dto.ErrorDto;
+import com.microservices.productservice.exception.ErrorCatalog;
+import com.microservices.productservice.exception.ProductServiceException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.microservices.productservice.utility.ExceptionConstant.GET_PRODUCT_BY_ID_NOT_FOUND;
+
+/**
+ * Measures the error path of a request for a missing product: throwing the ProductServiceException and turning it
+ * into the error response of the {@link ProductServiceExceptionHandler}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private ProductServiceExceptionHandler productServiceExceptionHandler;
+
+    @Setup
+    public void setUp() {
+        productServiceExceptionHandler = new ProductServiceExceptionHandler(new ErrorCatalog());
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorDto> productNotFound() {
+        try {
+            throw new ProductServiceException(GET_PRODUCT_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND);
+        } catch (ProductServiceException e) {
+            return productServiceExceptionHandler.handleProductServiceException(e);
+        }
+    }
+}
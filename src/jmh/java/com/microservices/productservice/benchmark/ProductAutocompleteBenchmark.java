@@ -0,0 +1,98 @@
+package com.microservices.productservice.benchmark;
+
+import com.microservices.productservice.config.AutocompleteProperties;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.service.index.CatalogIndex;
+import com.microservices.productservice.service.index.ProductNameTrie;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures prefix completions and renames on the {@link ProductNameTrie} for catalogs of 1M products named brand,
+ * adjective and product type, as the load harness names them, either sharing 5120 names or each carrying a unique
+ * serial number after them: a one-letter prefix, a prefix ending in a space, a prefix of a whole name, and the
+ * rename of a product, which copies the nodes on the paths of its old and new names.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductAutocompleteBenchmark {
+
+    private static final String[] BRANDS = {"Acme", "Nova", "Zenith", "Apex", "Orion", "Lumen", "Vertex", "Polar",
+                                            "Summit", "Atlas", "Quantum", "Echo", "Titan", "Aurora", "Nimbus", "Vivid"};
+
+    private static final String[] ADJECTIVES = {"Wireless", "Portable", "Smart", "Compact", "Ultra", "Classic",
+                                                "Premium", "Ergonomic", "Mechanical", "Digital", "Foldable",
+                                                "Rugged", "Slim", "Pro", "Mini", "Studio"};
+
+    private static final String[] TYPES = {"Laptop", "Keyboard", "Mouse", "Monitor", "Speaker", "Headphones",
+                                           "Camera", "Watch", "Tablet", "Router", "Printer", "Projector", "Drone",
+                                           "Charger", "Microphone", "Webcam", "Console", "Backpack", "Lamp", "Desk"};
+
+    private static final int CATALOG_SIZE = 1_000_000;
+
+    private static final int LIMIT = 10;
+
+    @Param({"false", "true"})
+    private boolean uniqueNames;
+
+    private ProductNameTrie productNameTrie;
+
+    private Random random;
+
+    /**
+     * Version given to the next renamed product, later than any version in the trie, so that every rename applies.
+     */
+    private long version;
+
+    @Setup
+    public void setUp() {
+        random = new Random(CATALOG_SIZE);
+        List<Product> products = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 1; i <= CATALOG_SIZE; i++) {
+            products.add(new Product(i, productName(i), 0));
+        }
+        productNameTrie = new ProductNameTrie(new AutocompleteProperties());
+        CatalogIndex.Rebuild rebuild = productNameTrie.startRebuild();
+        products.forEach(rebuild::add);
+        rebuild.publish();
+    }
+
+    @Benchmark
+    public List<String> completeOneLetter() {
+        return productNameTrie.complete("a", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> completeFinishedWord() {
+        return productNameTrie.complete("Acme ", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> completeWholeName() {
+        return productNameTrie.complete("acme wireless mouse", LIMIT);
+    }
+
+    @Benchmark
+    public void renameProduct() {
+        int productId = 1 + random.nextInt(CATALOG_SIZE);
+        productNameTrie.upsert(new Product(productId, productName(productId + random.nextInt(2)), 0, ++version));
+    }
+
+    private String productName(int serialNumber) {
+        String productName = BRANDS[random.nextInt(BRANDS.length)] + " "
+                + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + TYPES[random.nextInt(TYPES.length)];
+        return uniqueNames ? productName + " " + serialNumber : productName;
+    }
+}
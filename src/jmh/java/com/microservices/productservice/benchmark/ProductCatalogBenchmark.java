@@ -0,0 +1,89 @@
+package com.microservices.productservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.group.OnCreate;
+import com.microservices.productservice.dto.validation.ProductDtoValidator;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.service.mapper.ProductMapper;
+import com.microservices.productservice.service.mapper.ProductMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MAXIMUM;
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MINIMUM;
+
+/**
+ * Measures the CPU work done per product listing for catalogs of 10, 1k and 100k products: mapping the entities
+ * to Dtos, validating the Dtos, name and price rules included, and serializing the Dto list with the
+ * ObjectMapper configuration Spring MVC uses. Run it with the gc profiler to see the bytes allocated per listing.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductCatalogBenchmark {
+
+    private static final String[] WORDS = {"Gaming", "Laptop", "Wireless", "Mouse", "Mechanical", "Keyboard",
+                                           "Ultra", "Monitor", "Portable", "Speaker", "Smart", "Watch"};
+
+    @Param({"10", "1000", "100000"})
+    private int catalogSize;
+
+    private ProductMapper productMapper;
+    private ProductDtoValidator productDtoValidator;
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+    private List<ProductDto> productDtos;
+
+    @Setup
+    public void setUp() {
+        productMapper = new ProductMapperImpl();
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        productDtoValidator = new ProductDtoValidator(messageSource);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Random random = new Random(catalogSize);
+        products = new ArrayList<>(catalogSize);
+        for (int i = 1; i <= catalogSize; i++) {
+            String productName = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            long productPrice = PRODUCT_PRICE_MINIMUM
+                    + (long) (random.nextDouble() * random.nextDouble() * (PRODUCT_PRICE_MAXIMUM - PRODUCT_PRICE_MINIMUM));
+            products.add(new Product(i, productName, productPrice, random.nextInt(5)));
+        }
+        productDtos = productMapper.productListToProductDtoList(products);
+    }
+
+    @Benchmark
+    public List<ProductDto> mapProductList() {
+        return productMapper.productListToProductDtoList(products);
+    }
+
+    @Benchmark
+    public int validateProductList() {
+        int violations = 0;
+        for (ProductDto productDto : productDtos) {
+            violations += productDtoValidator.validate(productDto, OnCreate.class).size();
+        }
+        return violations;
+    }
+
+    @Benchmark
+    public byte[] serializeProductList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productDtos);
+    }
+}
@@ -0,0 +1,59 @@
+package com.microservices.productservice.benchmark;
+
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.group.OnCreate;
+import com.microservices.productservice.dto.validation.ProductDtoValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the validation of a ProductDto request body for the OnCreate group by Hibernate Validator
+ * with the hand-written {@link ProductDtoValidator}, for a valid product and for a product violating
+ * the name pattern and the maximum price.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductDtoValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String input;
+
+    private Validator beanValidator;
+    private ProductDtoValidator productDtoValidator;
+    private ProductDto productDto;
+
+    @Setup
+    public void setUp() {
+        beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        productDtoValidator = new ProductDtoValidator(messageSource);
+        productDto = "valid".equals(input) ? new ProductDto(0, "Gaming Laptop", 5_000_000)
+                                           : new ProductDto(0, "Laptop 2", 20_000_000);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ProductDto>> beanValidation() {
+        return beanValidator.validate(productDto, OnCreate.class);
+    }
+
+    @Benchmark
+    public List<String> handWrittenValidator() {
+        return productDtoValidator.validate(productDto, OnCreate.class);
+    }
+}
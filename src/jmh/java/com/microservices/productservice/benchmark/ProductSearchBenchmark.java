@@ -0,0 +1,88 @@
+package com.microservices.productservice.benchmark;
+
+import com.microservices.productservice.config.SearchIndexProperties;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.service.index.CatalogIndex;
+import com.microservices.productservice.service.index.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MAXIMUM;
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MINIMUM;
+
+/**
+ * Measures product name searches on the {@link ProductSearchIndex} for catalogs of 100k and 1M products named
+ * brand, adjective and product type, as the load harness names them: one term found in one name in twenty, two
+ * such terms, three terms, and a common term within a narrow price range.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSearchBenchmark {
+
+    private static final String[] BRANDS = {"Acme", "Nova", "Zenith", "Apex", "Orion", "Lumen", "Vertex", "Polar",
+                                            "Summit", "Atlas", "Quantum", "Echo", "Titan", "Aurora", "Nimbus", "Vivid"};
+
+    private static final String[] ADJECTIVES = {"Wireless", "Portable", "Smart", "Compact", "Ultra", "Classic",
+                                                "Premium", "Ergonomic", "Mechanical", "Digital", "Foldable",
+                                                "Rugged", "Slim", "Pro", "Mini", "Studio"};
+
+    private static final String[] TYPES = {"Laptop", "Keyboard", "Mouse", "Monitor", "Speaker", "Headphones",
+                                           "Camera", "Watch", "Tablet", "Router", "Printer", "Projector", "Drone",
+                                           "Charger", "Microphone", "Webcam", "Console", "Backpack", "Lamp", "Desk"};
+
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000"})
+    private int catalogSize;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(catalogSize);
+        List<Product> products = new ArrayList<>(catalogSize);
+        for (int i = 1; i <= catalogSize; i++) {
+            String productName = BRANDS[random.nextInt(BRANDS.length)] + " "
+                    + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + TYPES[random.nextInt(TYPES.length)];
+            long productPrice = PRODUCT_PRICE_MINIMUM
+                    + (long) (random.nextDouble() * random.nextDouble() * (PRODUCT_PRICE_MAXIMUM - PRODUCT_PRICE_MINIMUM));
+            products.add(new Product(i, productName, productPrice, 0));
+        }
+        productSearchIndex = new ProductSearchIndex(new SearchIndexProperties());
+        CatalogIndex.Rebuild rebuild = productSearchIndex.startRebuild();
+        products.forEach(rebuild::add);
+        rebuild.publish();
+    }
+
+    @Benchmark
+    public List<Product> searchOneTerm() {
+        return productSearchIndex.search("mouse", Long.MIN_VALUE, Long.MAX_VALUE, LIMIT);
+    }
+
+    @Benchmark
+    public List<Product> searchTwoTerms() {
+        return productSearchIndex.search("wireless mouse", Long.MIN_VALUE, Long.MAX_VALUE, LIMIT);
+    }
+
+    @Benchmark
+    public List<Product> searchThreeTerms() {
+        return productSearchIndex.search("Acme Wireless Mouse", Long.MIN_VALUE, Long.MAX_VALUE, LIMIT);
+    }
+
+    @Benchmark
+    public List<Product> searchOneTermInPriceRange() {
+        return productSearchIndex.search("mouse", 2_000_000, 2_100_000, LIMIT);
+    }
+}
@@ -0,0 +1,158 @@
+package com.microservices.productservice.benchmark;
+
+import com.microservices.productservice.config.GuardedDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Measures the time to run a burst of 1k and 10k blocking tasks on a pool of 200 platform threads, the size of the
+ * Tomcat worker pool, and on a virtual thread per task. Each task sleeps for 10ms, and one in ten also borrows one
+ * of 20 connections from a {@link GuardedDataSource} and sleeps on it for 2ms. Apart from the GuardedDataSource,
+ * no code of the service runs, so this only isolates the cost of the thread model and the connection guard; it
+ * says nothing about the throughput of the execution modes, which is compared on the real endpoints by running the
+ * load harness with and without -Dspring.profiles.active=virtual. Running on virtual threads requires a Java 21
+ * runtime.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ThreadDispatchBenchmark {
+
+    private static final int TOMCAT_MAXIMUM_THREADS = 200;
+    private static final int MAXIMUM_POOL_SIZE = 20;
+    private static final long TASK_BLOCKING_MILLIS = 10;
+    private static final long CONNECTION_BLOCKING_MILLIS = 2;
+    private static final int CONNECTION_PERCENT = 10;
+
+    @Param({"1000", "10000"})
+    private int tasks;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private Consumer<Runnable> executor;
+    private ExecutorService platformThreads;
+    private DataSource dataSource;
+
+    @Setup
+    public void setUp() {
+        if ("platform".equals(threads)) {
+            platformThreads = Executors.newFixedThreadPool(TOMCAT_MAXIMUM_THREADS);
+            executor = platformThreads::execute;
+        } else {
+            executor = new VirtualThreadTaskExecutor("tomcat-handler-")::execute;
+        }
+        dataSource = new GuardedDataSource(new StubDataSource(), MAXIMUM_POOL_SIZE, Duration.ofSeconds(30));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformThreads != null) {
+            platformThreads.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public int runBurst() throws InterruptedException {
+        CountDownLatch completed = new CountDownLatch(tasks);
+        AtomicInteger failed = new AtomicInteger();
+        for (int i = 0; i < tasks; i++) {
+            executor.accept(() -> {
+                try {
+                    runTask();
+                } catch (SQLException e) {
+                    failed.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    completed.countDown();
+                }
+            });
+        }
+        completed.await();
+        return failed.get();
+    }
+
+    private void runTask() throws SQLException, InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(TASK_BLOCKING_MILLIS);
+        if (ThreadLocalRandom.current().nextInt(100) < CONNECTION_PERCENT) {
+            try (Connection connection = dataSource.getConnection()) {
+                TimeUnit.MILLISECONDS.sleep(CONNECTION_BLOCKING_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Stand-in for the connection pool, lending connections that do nothing.
+     */
+    private static final class StubDataSource implements DataSource {
+
+        private static final Connection CONNECTION = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> null);
+
+        @Override
+        public Connection getConnection() {
+            return CONNECTION;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return CONNECTION;
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            throw new SQLException("Not a wrapper");
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
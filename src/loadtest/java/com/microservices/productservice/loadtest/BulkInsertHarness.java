@@ -0,0 +1,173 @@
+package com.microservices.productservice.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.productservice.ProductServiceApplication;
+import com.microservices.productservice.config.BulkInsertProperties;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.ProductDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the insert throughput of product creation on the embedded database of the embedded profile: the
+ * configured numbers of products are created through POST /products/bulk, split into requests of at most
+ * product.bulk.maximum-size products, then loadtest.single-insert-count products are created one POST /products
+ * at a time, for comparison. A warm-up of loadtest.bulk-insert-warmup products is created and discarded first.
+ * Each request is sent once the previous one is answered, so the figures are those of a single client.
+ * The host and the database the figures were measured on are printed ahead of them, to be published with them.
+ * Settings come from loadtest.yml as for the {@link LoadHarness}; the catalog seeded before the service starts can
+ * be emptied with -Dloadtest.catalog-size=0.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+public final class BulkInsertHarness {
+
+    private static final String ROW_FORMAT = "%-24s %10s %10s %10s %10s %12s%n";
+    private static final TypeReference<List<BulkProductResultDto>> BULK_RESULTS = new TypeReference<>() {
+    };
+
+    private final LoadTestProperties loadTestProperties;
+    private final CatalogGenerator catalogGenerator;
+    private final ObjectMapper objectMapper;
+    private final URI productsUri;
+    private final int maximumBulkSize;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Random random = new Random();
+
+    private BulkInsertHarness(LoadTestProperties loadTestProperties, CatalogGenerator catalogGenerator,
+                              ObjectMapper objectMapper, URI baseUri, int maximumBulkSize) {
+        this.loadTestProperties = loadTestProperties;
+        this.catalogGenerator = catalogGenerator;
+        this.objectMapper = objectMapper;
+        this.productsUri = baseUri.resolve("/products");
+        this.maximumBulkSize = maximumBulkSize;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableEnvironment environment = LoadHarness.harnessEnvironment(args);
+        LoadTestProperties loadTestProperties = Binder.get(environment)
+                .bindOrCreate("loadtest", LoadTestProperties.class);
+        CatalogGenerator catalogGenerator = new CatalogGenerator(loadTestProperties);
+        catalogGenerator.seed(new DriverManagerDataSource(environment.getRequiredProperty("spring.datasource.url"),
+                                                          environment.getProperty("spring.datasource.username", ""),
+                                                          environment.getProperty("spring.datasource.password", "")));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .profiles(LoadHarness.EMBEDDED_PROFILE)
+                .run(args)) {
+            URI baseUri = URI.create("http://localhost:"
+                                             + context.getEnvironment().getRequiredProperty("local.server.port"));
+            BulkInsertHarness harness = new BulkInsertHarness(
+                    loadTestProperties, catalogGenerator, context.getBean(ObjectMapper.class), baseUri,
+                    context.getBean(BulkInsertProperties.class).getMaximumSize());
+            printEnvironment(context.getBean(DataSource.class));
+            harness.run();
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        log.info("Warming up with {} products", loadTestProperties.getBulkInsertWarmup());
+        insertInBulk(loadTestProperties.getBulkInsertWarmup());
+
+        System.out.printf(ROW_FORMAT, "Mode", "Products", "Requests", "Created", "Seconds", "Rows/s");
+        for (int size : loadTestProperties.getBulkInsertSizes()) {
+            long start = System.nanoTime();
+            long created = insertInBulk(size);
+            print("POST /products/bulk", size, (size + maximumBulkSize - 1) / maximumBulkSize, created,
+                  System.nanoTime() - start);
+        }
+        int count = loadTestProperties.getSingleInsertCount();
+        long start = System.nanoTime();
+        long created = 0;
+        for (int i = 0; i < count; i++) {
+            if (send("", newProduct()).statusCode() == HttpStatus.CREATED.value()) {
+                created++;
+            }
+        }
+        print("POST /products", count, count, created, System.nanoTime() - start);
+    }
+
+    /**
+     * Creates the given number of new products through the bulk endpoint.
+     *
+     * @param size The number of products to be created.
+     * @return The number of products created.
+     */
+    private long insertInBulk(int size) throws IOException, InterruptedException {
+        long created = 0;
+        for (int sent = 0; sent < size; sent += maximumBulkSize) {
+            List<ProductDto> productDtos = new ArrayList<>(Math.min(maximumBulkSize, size - sent));
+            for (int i = 0; i < Math.min(maximumBulkSize, size - sent); i++) {
+                productDtos.add(newProduct());
+            }
+            HttpResponse<byte[]> response = send("/bulk", productDtos);
+            if (response.statusCode() != HttpStatus.CREATED.value()
+                    && response.statusCode() != HttpStatus.MULTI_STATUS.value()) {
+                throw new IllegalStateException("Bulk insert answered " + response.statusCode());
+            }
+            created += objectMapper.readValue(response.body(), BULK_RESULTS).stream()
+                    .filter(result -> result.getStatusCode() == HttpStatus.CREATED.value())
+                    .count();
+        }
+        return created;
+    }
+
+    private HttpResponse<byte[]> send(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(productsUri + path))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private ProductDto newProduct() {
+        return new ProductDto(0L, catalogGenerator.productName(random), catalogGenerator.productPrice(random));
+    }
+
+    /**
+     * Prints the host and the database the insert throughput is measured on.
+     *
+     * @param dataSource The data source of the service.
+     */
+    private static void printEnvironment(DataSource dataSource) throws SQLException {
+        Runtime runtime = Runtime.getRuntime();
+        System.out.printf("Host: %s %s, %d processors, %d MB maximum heap, Java %s%n", System.getProperty("os.name"),
+                          System.getProperty("os.arch"), runtime.availableProcessors(), runtime.maxMemory() >> 20,
+                          Runtime.version());
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            System.out.printf("Database: %s %s at %s%n", metaData.getDatabaseProductName(),
+                              metaData.getDatabaseProductVersion(), metaData.getURL());
+        }
+    }
+
+    private static void print(String mode, long products, long requests, long created, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf(ROW_FORMAT, mode, products, requests, created, String.format("%.2f", seconds),
+                          String.format("%.0f", created / seconds));
+    }
+}
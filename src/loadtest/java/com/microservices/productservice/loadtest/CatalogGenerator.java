@@ -0,0 +1,155 @@
+package com.microservices.productservice.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MAXIMUM;
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MINIMUM;
+
+/**
+ * Seeds the product table with a synthetic catalog. Names combine a brand, an adjective and a product type;
+ * prices follow a log-normal distribution around the configured median, end in 99 cents and stay within the
+ * validated price range. The catalog is generated in chunks of consecutive ids, each from its own seeded random
+ * generator, so that the same size always gives the same catalog whatever the number of loading threads.
+ * The table is created here, as Hibernate would create it, and its price index is built once the rows are loaded.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogGenerator {
+
+    private static final int CHUNK_SIZE = 250_000;
+
+    private static final String[] BRANDS = {"Acme", "Nova", "Zenith", "Apex", "Orion", "Lumen", "Vertex", "Polar",
+                                            "Summit", "Atlas", "Quantum", "Echo", "Titan", "Aurora", "Nimbus", "Vivid"};
+
+    private static final String[] ADJECTIVES = {"Wireless", "Portable", "Smart", "Compact", "Ultra", "Classic",
+                                                "Premium", "Ergonomic", "Mechanical", "Digital", "Foldable",
+                                                "Rugged", "Slim", "Pro", "Mini", "Studio"};
+
+    private static final String[] TYPES = {"Laptop", "Keyboard", "Mouse", "Monitor", "Speaker", "Headphones",
+                                           "Camera", "Watch", "Tablet", "Router", "Printer", "Projector", "Drone",
+                                           "Charger", "Microphone", "Webcam", "Console", "Backpack", "Lamp", "Desk"};
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS product ("
+            + "product_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+            + "product_name VARCHAR(255), "
+            + "product_price BIGINT NOT NULL, "
+            + "version BIGINT DEFAULT 0 NOT NULL)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product (product_id, product_name, product_price, version) VALUES (?, ?, ?, 0)";
+
+    private static final String RESTART_IDENTITY_SQL = "ALTER TABLE product ALTER COLUMN product_id RESTART WITH ";
+
+    private static final String CREATE_INDEX_SQL = "CREATE INDEX IF NOT EXISTS price_index ON product (product_price)";
+
+    private final LoadTestProperties loadTestProperties;
+
+    /**
+     * Creates the product table and fills it with the configured number of products, with ids 1 to catalogSize.
+     *
+     * @param dataSource The embedded database.
+     * @return The number of products inserted.
+     */
+    public long seed(DataSource dataSource) throws SQLException, InterruptedException {
+        long catalogSize = loadTestProperties.getCatalogSize();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE_SQL);
+        }
+        long start = System.nanoTime();
+        AtomicLong inserted = new AtomicLong();
+        ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long firstId = 1; firstId <= catalogSize; firstId += CHUNK_SIZE) {
+                long chunkFirstId = firstId;
+                long chunkLastId = Math.min(catalogSize, firstId + CHUNK_SIZE - 1);
+                chunks.add(executorService.submit(() -> {
+                    insertChunk(dataSource, chunkFirstId, chunkLastId);
+                    long total = inserted.addAndGet(chunkLastId - chunkFirstId + 1);
+                    log.info("Seeded {} of {} products", total, catalogSize);
+                    return null;
+                }));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            throw new SQLException("Could not seed the catalog", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(RESTART_IDENTITY_SQL + (catalogSize + 1));
+            statement.execute(CREATE_INDEX_SQL);
+        }
+        log.info("Seeded {} products in {} ms", inserted.get(), (System.nanoTime() - start) / 1_000_000);
+        return inserted.get();
+    }
+
+    /**
+     * Generates a product name from the given random generator.
+     *
+     * @param random The random generator.
+     * @return A name of letters and spaces, as the name validation requires.
+     */
+    public String productName(RandomGenerator random) {
+        return BRANDS[random.nextInt(BRANDS.length)] + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                + TYPES[random.nextInt(TYPES.length)];
+    }
+
+    /**
+     * Generates a product price from the given random generator.
+     *
+     * @param random The random generator.
+     * @return A price in cents ending in 99 cents, within the validated price range.
+     */
+    public long productPrice(RandomGenerator random) {
+        double price = loadTestProperties.getPriceMedian()
+                * Math.exp(loadTestProperties.getPriceSpread() * random.nextGaussian());
+        long charmPrice = (long) Math.ceil(price / 100) * 100 - 1;
+        return Math.max(PRODUCT_PRICE_MINIMUM, Math.min(PRODUCT_PRICE_MAXIMUM, charmPrice));
+    }
+
+    private void insertChunk(DataSource dataSource, long firstId, long lastId) throws SQLException {
+        Random random = new Random(firstId);
+        int seedBatchSize = loadTestProperties.getSeedBatchSize();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            connection.setAutoCommit(false);
+            int batched = 0;
+            for (long productId = firstId; productId <= lastId; productId++) {
+                statement.setLong(1, productId);
+                statement.setString(2, productName(random));
+                statement.setLong(3, productPrice(random));
+                statement.addBatch();
+                if (++batched == seedBatchSize) {
+                    statement.executeBatch();
+                    connection.commit();
+                    batched = 0;
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.microservices.productservice.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Throughput, latency and errors of one endpoint over the measured part of a load run. Latencies are measured
+ * from the time each request was due to start, so time spent queued behind slow responses is included.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EndpointReport {
+
+    /**
+     * ProductController method name of the endpoint, or "total" for all endpoints together.
+     */
+    private String endpoint;
+
+    /**
+     * Number of requests due during the measurement.
+     */
+    private long requests;
+
+    /**
+     * Completed requests per second.
+     */
+    private double throughput;
+
+    /**
+     * Number of requests answered with a status of 400 or above, failed, or not sent.
+     */
+    private long errors;
+
+    /**
+     * Share of the requests that were errors, between 0 and 1.
+     */
+    private double errorRate;
+
+    /**
+     * Median latency in milliseconds.
+     */
+    private double p50;
+
+    /**
+     * 90th percentile latency in milliseconds.
+     */
+    private double p90;
+
+    /**
+     * 99th percentile latency in milliseconds.
+     */
+    private double p99;
+
+    /**
+     * 99.9th percentile latency in milliseconds.
+     */
+    private double p999;
+
+    /**
+     * Highest latency in milliseconds.
+     */
+    private double max;
+
+    /**
+     * Number of requests per outcome: the response status, "failed" if no response came or "rejected" if the
+     * request was not sent because too many were outstanding.
+     */
+    private Map<String, Long> outcomes;
+}
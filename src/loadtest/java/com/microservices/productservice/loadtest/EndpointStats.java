@@ -0,0 +1,105 @@
+package com.microservices.productservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the outcomes and latencies of the requests to one endpoint. Latencies are kept in microseconds in an
+ * HdrHistogram with three significant digits, which the completing threads write to without locking.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+class EndpointStats {
+
+    static final String FAILED = "failed";
+    static final String REJECTED = "rejected";
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROSECONDS_PER_MILLISECOND = 1_000.0;
+
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Records a response.
+     *
+     * @param status       The response status.
+     * @param latencyNanos The time from the due start of the request to its response.
+     */
+    void response(int status, long latencyNanos) {
+        record(Integer.toString(status), status >= 400);
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /**
+     * Records a request that got no response.
+     *
+     * @param latencyNanos The time from the due start of the request to its failure.
+     */
+    void failure(long latencyNanos) {
+        record(FAILED, true);
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /**
+     * Records a request that was not sent because too many requests were outstanding.
+     */
+    void rejection() {
+        record(REJECTED, true);
+    }
+
+    /**
+     * Adds the recorded requests of this endpoint to another.
+     *
+     * @param total The statistics the requests are added to.
+     */
+    void addTo(EndpointStats total) {
+        total.latencies.add(latencies);
+        total.requests.add(requests.sum());
+        total.errors.add(errors.sum());
+        outcomes.forEach((outcome, count) -> total.outcomes.computeIfAbsent(outcome, key -> new LongAdder())
+                .add(count.sum()));
+    }
+
+    /**
+     * Summarizes the recorded requests.
+     *
+     * @param endpoint The name of the endpoint.
+     * @param seconds  The length of the measurement.
+     * @return The report of the endpoint.
+     */
+    EndpointReport toReport(String endpoint, double seconds) {
+        Histogram snapshot = latencies.copy();
+        long requestCount = requests.sum();
+        long errorCount = errors.sum();
+        Map<String, Long> outcomeCounts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> outcomeCounts.put(outcome, count.sum()));
+        return new EndpointReport(endpoint, requestCount, snapshot.getTotalCount() / seconds, errorCount,
+                                  requestCount == 0 ? 0 : (double) errorCount / requestCount,
+                                  millis(snapshot.getValueAtPercentile(50)), millis(snapshot.getValueAtPercentile(90)),
+                                  millis(snapshot.getValueAtPercentile(99)), millis(snapshot.getValueAtPercentile(99.9)),
+                                  millis(snapshot.getMaxValue()), outcomeCounts);
+    }
+
+    private void record(String outcome, boolean error) {
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROSECONDS_PER_MILLISECOND;
+    }
+}
@@ -0,0 +1,393 @@
+package com.microservices.productservice.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.ProductDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the ProductController endpoints with an open workload: requests start at exponentially distributed
+ * intervals for the configured mean arrival rate, whether or not earlier requests have been answered, as
+ * independent clients would send them. Each request goes to an endpoint drawn from the weighted mix and is
+ * recorded against the time it was due, not the time it was sent, so a stalled service shows in the latencies
+ * instead of slowing the arrivals down. Products created during the run are the first to be deleted, which keeps
+ * the seeded catalog, and the hit rate of the reads, stable.
+ * When loadtest.clients is set, the driver runs a closed workload instead: that many clients each keep exactly one
+ * request outstanding, sending the next as soon as the previous is answered, so the throughput is what the
+ * service sustains at that concurrency and each latency is measured from the time its request was sent.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+public class LoadDriver {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final String TOTAL = "total";
+
+    /**
+     * The ProductController endpoints, named after their methods.
+     */
+    enum Endpoint {
+        GET_ALL_PRODUCTS("getAllProducts"),
+        GET_ALL_PRODUCTS_SORTED_BY_PRICE("getAllProductsSortedByPrice"),
+        STREAM_ALL_PRODUCTS("streamAllProducts"),
+        STREAM_ALL_PRODUCTS_SORTED_BY_PRICE("streamAllProductsSortedByPrice"),
+        GET_PRODUCTS_BY_PRICE_RANGE("getProductsByPriceRange"),
+        GET_PRODUCTS_PAGE("getProductsPage"),
+        GET_PRODUCTS_SORTED_BY_PRICE_PAGE("getProductsSortedByPricePage"),
+        GET_PRODUCTS_BY_PRICE_RANGE_PAGE("getProductsByPriceRangePage"),
+        CREATE_PRODUCT("createProduct"),
+        CREATE_PRODUCTS("createProducts"),
+        GET_PRODUCT_BY_ID("getProductById"),
+        LOOKUP_PRODUCTS("lookupProducts"),
+        SEARCH_PRODUCTS("searchProducts"),
+        AUTOCOMPLETE_PRODUCT_NAMES("autocompleteProductNames"),
+        DELETE_PRODUCT_BY_ID("deleteProductById"),
+        DELETE_PRODUCTS("deleteProducts"),
+        ADJUST_PRICES("adjustPrices"),
+        UPDATE_PRODUCT("updateProduct"),
+        UPDATE_PRODUCT_FIELDS("updateProductFields");
+
+        private final String methodName;
+
+        Endpoint(String methodName) {
+            this.methodName = methodName;
+        }
+
+        static Endpoint ofMethodName(String methodName) {
+            return Arrays.stream(values())
+                    .filter(endpoint -> endpoint.methodName.equals(methodName))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Unknown endpoint " + methodName + " in loadtest.mix, expected one of "
+                                    + Arrays.stream(values()).map(endpoint -> endpoint.methodName).toList()));
+        }
+    }
+
+    private final LoadTestProperties loadTestProperties;
+    private final CatalogGenerator catalogGenerator;
+    private final ObjectMapper objectMapper;
+    private final URI productsUri;
+    private final HttpClient httpClient;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Queue<Long> createdProductIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Constructs a driver for the service listening at the given base URI.
+     *
+     * @param loadTestProperties The settings of the run.
+     * @param catalogGenerator   The generator of the names and prices sent.
+     * @param objectMapper       The mapper writing the request bodies.
+     * @param baseUri            The base URI of the service, such as http://localhost:8085.
+     */
+    public LoadDriver(LoadTestProperties loadTestProperties, CatalogGenerator catalogGenerator,
+                      ObjectMapper objectMapper, URI baseUri) {
+        this.loadTestProperties = loadTestProperties;
+        this.catalogGenerator = catalogGenerator;
+        this.objectMapper = objectMapper;
+        this.productsUri = baseUri.resolve("/products");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        List<Endpoint> weightedEndpoints = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int totalWeight = 0;
+        for (Map.Entry<String, Integer> entry : loadTestProperties.getMix().entrySet()) {
+            Endpoint endpoint = Endpoint.ofMethodName(entry.getKey());
+            if (entry.getValue() > 0) {
+                totalWeight += entry.getValue();
+                weightedEndpoints.add(endpoint);
+                weights.add(totalWeight);
+            }
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("loadtest.mix gives no endpoint a positive weight");
+        }
+        this.endpoints = weightedEndpoints.toArray(Endpoint[]::new);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+        weightedEndpoints.forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+    }
+
+    /**
+     * Sends requests for the warmup and the measurement, waits for the outstanding ones and reports on the
+     * requests due during the measurement.
+     *
+     * @return The report of each endpoint of the mix, followed by the total.
+     */
+    public List<EndpointReport> run() throws InterruptedException {
+        return loadTestProperties.getClients() > 0 ? runClosed() : runOpen();
+    }
+
+    private List<EndpointReport> runOpen() throws InterruptedException {
+        double meanIntervalNanos = NANOS_PER_SECOND / loadTestProperties.getArrivalRate();
+        long start = System.nanoTime();
+        long measurementStart = start + loadTestProperties.getWarmup().toNanos();
+        long measurementEnd = measurementStart + loadTestProperties.getDuration().toNanos();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        log.info("Driving {} requests per second for {} after a warmup of {}", loadTestProperties.getArrivalRate(),
+                 loadTestProperties.getDuration(), loadTestProperties.getWarmup());
+
+        long due = start;
+        while (true) {
+            due += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            if (due >= measurementEnd) {
+                break;
+            }
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = nextEndpoint(random);
+            EndpointStats endpointStats = due >= measurementStart ? stats.get(endpoint) : null;
+            if (inFlight.get() >= loadTestProperties.getMaximumInFlight()) {
+                if (endpointStats != null) {
+                    endpointStats.rejection();
+                }
+                continue;
+            }
+            send(endpoint, request(endpoint, random), due, endpointStats, null);
+        }
+        return drain();
+    }
+
+    /**
+     * Starts every client at once; each sends requests back to back until the measurement ends.
+     */
+    private List<EndpointReport> runClosed() throws InterruptedException {
+        long start = System.nanoTime();
+        long measurementStart = start + loadTestProperties.getWarmup().toNanos();
+        long measurementEnd = measurementStart + loadTestProperties.getDuration().toNanos();
+        log.info("Driving {} clients for {} after a warmup of {}", loadTestProperties.getClients(),
+                 loadTestProperties.getDuration(), loadTestProperties.getWarmup());
+        for (int client = 0; client < loadTestProperties.getClients(); client++) {
+            sendNext(measurementStart, measurementEnd);
+        }
+        long wait;
+        while ((wait = measurementEnd - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(wait, TimeUnit.MILLISECONDS.toNanos(100)));
+        }
+        return drain();
+    }
+
+    /**
+     * Sends the next request of a closed-workload client, unless the measurement has ended.
+     */
+    private void sendNext(long measurementStart, long measurementEnd) {
+        long now = System.nanoTime();
+        if (now >= measurementEnd) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Endpoint endpoint = nextEndpoint(random);
+        send(endpoint, request(endpoint, random), now, now >= measurementStart ? stats.get(endpoint) : null,
+             () -> sendNext(measurementStart, measurementEnd));
+    }
+
+    /**
+     * Waits for the outstanding requests, up to the drain timeout, and reports on the measured ones.
+     */
+    private List<EndpointReport> drain() throws InterruptedException {
+        long drainDeadline = System.nanoTime() + loadTestProperties.getDrainTimeout().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            log.warn("{} requests were still outstanding after {}", inFlight.get(),
+                     loadTestProperties.getDrainTimeout());
+        }
+        return report(loadTestProperties.getDuration().toNanos() / (double) NANOS_PER_SECOND);
+    }
+
+    private Endpoint nextEndpoint(ThreadLocalRandom random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, draw + 1);
+        return endpoints[index >= 0 ? index : -index - 1];
+    }
+
+    private void send(Endpoint endpoint, HttpRequest request, long due, EndpointStats endpointStats,
+                      Runnable next) {
+        inFlight.incrementAndGet();
+        HttpResponse.BodyHandler<?> bodyHandler = endpoint == Endpoint.CREATE_PRODUCT
+                ? HttpResponse.BodyHandlers.ofByteArray() : HttpResponse.BodyHandlers.discarding();
+        httpClient.sendAsync(request, bodyHandler).whenComplete((response, failure) -> {
+            long latency = System.nanoTime() - due;
+            if (endpointStats != null) {
+                if (response != null) {
+                    endpointStats.response(response.statusCode(), latency);
+                } else {
+                    endpointStats.failure(latency);
+                }
+            }
+            if (response != null && response.statusCode() == HttpStatus.CREATED.value()
+                    && response.body() instanceof byte[] body) {
+                rememberCreatedProduct(body);
+            }
+            if (next != null) {
+                next.run();
+            }
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private void rememberCreatedProduct(byte[] body) {
+        try {
+            JsonNode productId = objectMapper.readTree(body).get("productId");
+            if (productId != null) {
+                createdProductIds.add(productId.asLong());
+            }
+        } catch (IOException e) {
+            log.debug("Could not read a created product", e);
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint, ThreadLocalRandom random) {
+        int pageSize = loadTestProperties.getPageSize();
+        return switch (endpoint) {
+            case GET_ALL_PRODUCTS -> get("", MediaType.APPLICATION_JSON_VALUE);
+            case GET_ALL_PRODUCTS_SORTED_BY_PRICE -> get("/sorted", MediaType.APPLICATION_JSON_VALUE);
+            case STREAM_ALL_PRODUCTS -> get("", MediaType.APPLICATION_NDJSON_VALUE);
+            case STREAM_ALL_PRODUCTS_SORTED_BY_PRICE -> get("/sorted", MediaType.APPLICATION_NDJSON_VALUE);
+            case GET_PRODUCTS_BY_PRICE_RANGE -> get(priceRange(random), MediaType.APPLICATION_JSON_VALUE);
+            case GET_PRODUCTS_PAGE -> get("?pageSize=" + pageSize, MediaType.APPLICATION_JSON_VALUE);
+            case GET_PRODUCTS_SORTED_BY_PRICE_PAGE -> get("/sorted?pageSize=" + pageSize,
+                                                          MediaType.APPLICATION_JSON_VALUE);
+            case GET_PRODUCTS_BY_PRICE_RANGE_PAGE -> get(priceRange(random) + "?pageSize=" + pageSize,
+                                                         MediaType.APPLICATION_JSON_VALUE);
+            case CREATE_PRODUCT -> withBody("POST", "", newProduct(random));
+            case CREATE_PRODUCTS -> withBody("POST", "/bulk", newProducts(random));
+            case GET_PRODUCT_BY_ID -> get("/" + existingProductId(random), MediaType.APPLICATION_JSON_VALUE);
+            case LOOKUP_PRODUCTS -> withBody("POST", "/lookup", existingProductIds(random));
+            case SEARCH_PRODUCTS -> get("/search?q=" + searchQuery(random) + "&limit=" + pageSize,
+                                        MediaType.APPLICATION_JSON_VALUE);
+            case AUTOCOMPLETE_PRODUCT_NAMES -> get("/autocomplete?prefix=" + autocompletePrefix(random),
+                                                   MediaType.APPLICATION_JSON_VALUE);
+            case DELETE_PRODUCT_BY_ID -> builder("/" + productIdToDelete(random)).DELETE().build();
+            case DELETE_PRODUCTS -> withBody("POST", "/bulk/delete", productIdsToDelete(random));
+            case ADJUST_PRICES -> withBody("POST", "/price/adjust", new PriceAdjustmentDto(
+                    PriceAdjustmentDto.Type.PERCENTAGE, random.nextBoolean() ? 1 : -1, null, null,
+                    existingProductIds(random)));
+            case UPDATE_PRODUCT -> withBody("PUT", "", new ProductDto(existingProductId(random),
+                                                                      catalogGenerator.productName(random),
+                                                                      catalogGenerator.productPrice(random)));
+            case UPDATE_PRODUCT_FIELDS -> withBody("PATCH", "", new ProductDto(existingProductId(random), null,
+                                                                               catalogGenerator.productPrice(random)));
+        };
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(productsUri + path)).timeout(loadTestProperties.getDrainTimeout());
+    }
+
+    private HttpRequest get(String path, String accept) {
+        return builder(path).header(HttpHeaders.ACCEPT, accept).GET().build();
+    }
+
+    private HttpRequest withBody(String method, String path, Object body) {
+        try {
+            return builder(path)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String priceRange(ThreadLocalRandom random) {
+        long lowerLimit = catalogGenerator.productPrice(random) - loadTestProperties.getPriceRangeWidth() / 2;
+        return "/price/range/" + lowerLimit + "/" + (lowerLimit + loadTestProperties.getPriceRangeWidth());
+    }
+
+    private String searchQuery(ThreadLocalRandom random) {
+        String[] terms = catalogGenerator.productName(random).split(" ");
+        String query = String.join(" ", Arrays.copyOfRange(terms, random.nextInt(terms.length), terms.length));
+        return URLEncoder.encode(query, StandardCharsets.UTF_8);
+    }
+
+    private String autocompletePrefix(ThreadLocalRandom random) {
+        String productName = catalogGenerator.productName(random);
+        return URLEncoder.encode(productName.substring(0, 1 + random.nextInt(productName.length())),
+                                 StandardCharsets.UTF_8);
+    }
+
+    private ProductDto newProduct(ThreadLocalRandom random) {
+        return new ProductDto(0L, catalogGenerator.productName(random), catalogGenerator.productPrice(random));
+    }
+
+    private List<ProductDto> newProducts(ThreadLocalRandom random) {
+        List<ProductDto> productDtos = new ArrayList<>(loadTestProperties.getBatchSize());
+        for (int i = 0; i < loadTestProperties.getBatchSize(); i++) {
+            productDtos.add(newProduct(random));
+        }
+        return productDtos;
+    }
+
+    private long existingProductId(ThreadLocalRandom random) {
+        return 1 + random.nextLong(Math.max(1, loadTestProperties.getCatalogSize()));
+    }
+
+    private List<Long> existingProductIds(ThreadLocalRandom random) {
+        List<Long> productIds = new ArrayList<>(loadTestProperties.getBatchSize());
+        for (int i = 0; i < loadTestProperties.getBatchSize(); i++) {
+            productIds.add(existingProductId(random));
+        }
+        return productIds;
+    }
+
+    private long productIdToDelete(ThreadLocalRandom random) {
+        Long productId = createdProductIds.poll();
+        return productId != null ? productId : existingProductId(random);
+    }
+
+    private List<Long> productIdsToDelete(ThreadLocalRandom random) {
+        List<Long> productIds = new ArrayList<>(loadTestProperties.getBatchSize());
+        for (int i = 0; i < loadTestProperties.getBatchSize(); i++) {
+            productIds.add(productIdToDelete(random));
+        }
+        return productIds;
+    }
+
+    private List<EndpointReport> report(double seconds) {
+        List<EndpointReport> reports = new ArrayList<>();
+        EndpointStats total = new EndpointStats();
+        stats.forEach((endpoint, endpointStats) -> {
+            reports.add(endpointStats.toReport(endpoint.methodName, seconds));
+            endpointStats.addTo(total);
+        });
+        reports.add(total.toReport(TOTAL, seconds));
+        return reports;
+    }
+}
@@ -0,0 +1,106 @@
+package com.microservices.productservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.productservice.ProductServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a load test end to end: seeds the embedded database of the embedded profile with a synthetic catalog,
+ * starts the service on it, drives it with {@link LoadDriver} and prints the throughput, latency percentiles and
+ * error rate of every endpoint, also writing them to loadtest.report-file as JSON. The catalog is seeded before
+ * the service starts, so its price index and caches warm up on the full catalog as they would in production.
+ * Settings come from loadtest.yml and can be overridden by system properties or --name=value arguments, which
+ * are also passed on to the service.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+public final class LoadHarness {
+
+    static final String EMBEDDED_PROFILE = "embedded";
+    private static final String ROW_FORMAT = "%-32s %10s %10s %8s %8s %10s %10s %10s %10s %10s  %s%n";
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableEnvironment environment = harnessEnvironment(args);
+        LoadTestProperties loadTestProperties = Binder.get(environment)
+                .bindOrCreate("loadtest", LoadTestProperties.class);
+        CatalogGenerator catalogGenerator = new CatalogGenerator(loadTestProperties);
+        catalogGenerator.seed(new DriverManagerDataSource(environment.getRequiredProperty("spring.datasource.url"),
+                                                          environment.getProperty("spring.datasource.username", ""),
+                                                          environment.getProperty("spring.datasource.password", "")));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .profiles(EMBEDDED_PROFILE)
+                .run(args)) {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            URI baseUri = URI.create("http://localhost:"
+                                             + context.getEnvironment().getRequiredProperty("local.server.port"));
+            List<EndpointReport> reports = new LoadDriver(loadTestProperties, catalogGenerator, objectMapper, baseUri)
+                    .run();
+            print(reports);
+            if (loadTestProperties.getReportFile() != null) {
+                File reportFile = new File(loadTestProperties.getReportFile());
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, reports);
+                log.info("Report written to {}", reportFile.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Builds the environment the harness reads its settings from: the arguments, the system properties, then
+     * loadtest.yml and application-embedded.yml, whose database the catalog is seeded into.
+     */
+    static ConfigurableEnvironment harnessEnvironment(String[] args) throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        YamlPropertySourceLoader yamlPropertySourceLoader = new YamlPropertySourceLoader();
+        for (String resource : new String[]{"loadtest.yml", "application-" + EMBEDDED_PROFILE + ".yml"}) {
+            for (PropertySource<?> propertySource : yamlPropertySourceLoader.load(resource,
+                                                                                  new ClassPathResource(resource))) {
+                environment.getPropertySources().addLast(propertySource);
+            }
+        }
+        return environment;
+    }
+
+    private static void print(List<EndpointReport> reports) {
+        System.out.printf(ROW_FORMAT, "Endpoint", "Requests", "Req/s", "Errors", "Error %", "p50 ms", "p90 ms",
+                          "p99 ms", "p99.9 ms", "Max ms", "Outcomes");
+        for (EndpointReport report : reports) {
+            System.out.printf(ROW_FORMAT, report.getEndpoint(), report.getRequests(),
+                              String.format("%.1f", report.getThroughput()), report.getErrors(),
+                              String.format("%.2f", report.getErrorRate() * 100), String.format("%.2f", report.getP50()),
+                              String.format("%.2f", report.getP90()), String.format("%.2f", report.getP99()),
+                              String.format("%.2f", report.getP999()), String.format("%.2f", report.getMax()),
+                              outcomes(report.getOutcomes()));
+        }
+    }
+
+    private static String outcomes(Map<String, Long> outcomes) {
+        return outcomes.entrySet().stream()
+                .map(outcome -> outcome.getKey() + "=" + outcome.getValue())
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,113 @@
+package com.microservices.productservice.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties of the load harness, read from loadtest.yml and system properties.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    /**
+     * Number of products seeded into the embedded database before the service starts.
+     */
+    private long catalogSize = 1_000_000;
+
+    /**
+     * Number of rows sent to the database in one JDBC batch while seeding.
+     */
+    private int seedBatchSize = 10_000;
+
+    /**
+     * Median price of the seeded products, in cents.
+     */
+    private long priceMedian = 29_999;
+
+    /**
+     * Standard deviation of the logarithm of the seeded prices; larger values give a longer tail of expensive
+     * products.
+     */
+    private double priceSpread = 0.9;
+
+    /**
+     * Mean number of requests started per second. Requests arrive at this rate whatever the response times.
+     */
+    private double arrivalRate = 500;
+
+    /**
+     * Number of clients of a closed workload, each sending its next request as soon as its previous one is
+     * answered; 0 drives the open workload at the arrival rate instead.
+     */
+    private int clients = 0;
+
+    /**
+     * Time the service is driven before its responses are recorded.
+     */
+    private Duration warmup = Duration.ofSeconds(10);
+
+    /**
+     * Time the responses are recorded for.
+     */
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * Longest time to wait for the outstanding requests once no more are started.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Largest number of outstanding requests; a request arriving beyond it is not sent and counts as an error.
+     */
+    private int maximumInFlight = 10_000;
+
+    /**
+     * Page size of the paginated listings.
+     */
+    private int pageSize = 20;
+
+    /**
+     * Number of products or ids in the bulk, lookup and price adjustment requests.
+     */
+    private int batchSize = 20;
+
+    /**
+     * Width of the price ranges queried, in cents.
+     */
+    private long priceRangeWidth = 1_000;
+
+    /**
+     * Numbers of products created through the bulk endpoint by the {@link BulkInsertHarness}, one measurement each.
+     */
+    private List<Integer> bulkInsertSizes = List.of(10_000, 100_000);
+
+    /**
+     * Number of products created through the bulk endpoint before the {@link BulkInsertHarness} measures.
+     */
+    private int bulkInsertWarmup = 10_000;
+
+    /**
+     * Number of products created one request at a time by the {@link BulkInsertHarness}, for comparison.
+     */
+    private int singleInsertCount = 10_000;
+
+    /**
+     * File the report is written to as JSON, or null to only print it.
+     */
+    private String reportFile;
+
+    /**
+     * Relative weight of each ProductController endpoint in the arrival mix, keyed by method name.
+     */
+    private Map<String, Integer> mix = new LinkedHashMap<>();
+}
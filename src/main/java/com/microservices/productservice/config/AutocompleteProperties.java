@@ -0,0 +1,27 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the in-memory trie of product names that answers autocomplete requests.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.autocomplete")
+public class AutocompleteProperties {
+
+    /**
+     * Whether product name autocomplete is available; it is answered from memory only.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of completions precomputed at every node of the trie, which is also the largest number of
+     * suggestions returned for a prefix.
+     */
+    private int maximumCompletions = 10;
+}
@@ -0,0 +1,34 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the loader that merges concurrent product loads into batches.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.batch-loader")
+public class BatchLoaderProperties {
+
+    /**
+     * Whether concurrent loads of different products are merged into one query.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time a batch stays open for further ids after its first id was requested. It is only opened while another
+     * batch is open or loading, and then adds up to this much to the latency of each load it merges.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * Number of ids after which a batch is loaded without waiting for the end of the window.
+     */
+    private int maximumBatchSize = 100;
+}
@@ -0,0 +1,32 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for bulk product creation and deletion.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.bulk")
+public class BulkInsertProperties {
+
+    /**
+     * Number of rows sent to the database in one JDBC batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Number of rows committed in one transaction; a failing chunk is rolled back without affecting the others.
+     * Bulk deletes use it as the largest IN list of one DELETE statement.
+     */
+    private int chunkSize = 5_000;
+
+    /**
+     * Largest number of products or ids accepted in one bulk request.
+     */
+    private int maximumSize = 100_000;
+}
@@ -0,0 +1,29 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the periodic rebuild of the in-memory views of the catalog, which all read
+ * the product table in one shared scan.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.catalog-index")
+public class CatalogIndexProperties {
+
+    /**
+     * Interval between full rebuilds from the database, which pick up writes made by other instances.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of scans of a rebuild whose views keep being discarded or adjusted while not loaded.
+     */
+    private int maximumRebuildAttempts = 3;
+}
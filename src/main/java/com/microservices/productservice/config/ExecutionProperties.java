@@ -0,0 +1,49 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the threads serving requests and the guard of the connection pool.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.execution")
+public class ExecutionProperties {
+
+    /**
+     * Threads running request handling and the ProductService calls made by it.
+     */
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * Maximum number of connections borrowed at once in virtual mode; defaults to the maximum pool size.
+     */
+    private Integer connectionPermits;
+
+    /**
+     * Time a virtual thread waits for a connection permit before its query fails.
+     */
+    private Duration connectionWait = Duration.ofSeconds(2);
+
+    /**
+     * Execution modes of the servlet stack.
+     */
+    public enum Mode {
+
+        /**
+         * Requests run on the bounded Tomcat worker pool.
+         */
+        PLATFORM,
+
+        /**
+         * Every request runs on its own virtual thread. Requires a Java 21 runtime.
+         */
+        VIRTUAL
+    }
+}
@@ -0,0 +1,110 @@
+package com.microservices.productservice.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data source letting at most a fixed number of threads hold a connection at once. A thread borrowing a
+ * connection first takes a permit from a fair semaphore, and returns it when the connection is closed.
+ * With thousands of virtual threads this keeps the surplus parked on the semaphore, where waiting is cheap,
+ * rather than queued inside the pool or pinned to carrier threads by the JDBC driver. A thread that gets no
+ * permit within the configured wait fails with the same SQLTransientConnectionException as a pool timeout.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public class GuardedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long waitNanos;
+
+    /**
+     * Guards the given data source.
+     *
+     * @param targetDataSource The data source lending the connections.
+     * @param permits          The maximum number of connections borrowed at once.
+     * @param wait             The time to wait for a permit.
+     */
+    public GuardedDataSource(DataSource targetDataSource, int permits, Duration wait) {
+        super(targetDataSource);
+        this.permits = new Semaphore(permits, true);
+        this.waitNanos = wait.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of threads waiting for a connection permit.
+     *
+     * @return The waiting threads.
+     */
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No connection permit available within " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        }
+    }
+
+    /**
+     * Wraps a borrowed connection so that its first close returns the permit.
+     */
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,31 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for paged product listings.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.pagination")
+public class PaginationProperties {
+
+    /**
+     * Largest number of products returned on one page; larger requested page sizes are capped to it.
+     */
+    private int maximumPageSize = 100;
+
+    /**
+     * Caps a requested page size to the range from one to the maximum page size.
+     *
+     * @param pageSize The requested page size.
+     * @return The page size to be used.
+     */
+    public int cap(int pageSize) {
+        return Math.max(1, Math.min(pageSize, maximumPageSize));
+    }
+}
@@ -0,0 +1,21 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the in-memory price index.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.price-index")
+public class PriceIndexProperties {
+
+    /**
+     * Whether sorted and price range queries are answered from memory instead of the database.
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,66 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process product cache.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+    /**
+     * Maximum number of products held in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which a cached product is discarded and must be loaded again.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * Time after which a cached product is reloaded in the background on its next read.
+     */
+    private Duration refreshAfterWrite = Duration.ofMinutes(1);
+
+    /**
+     * Largest number of productIds resolved by one IN query when many products are loaded at once.
+     */
+    private int batchLoadSize = 500;
+
+    /**
+     * Settings of the optional off-heap second-tier cache.
+     */
+    private OffHeap offHeap = new OffHeap();
+
+    /**
+     * Configuration properties for the off-heap second-tier product cache.
+     */
+    @Data
+    public static class OffHeap {
+
+        /**
+         * Whether products are also kept in direct memory behind the on-heap cache.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Total amount of direct memory the second tier may reserve.
+         */
+        private DataSize maximumMemory = DataSize.ofMegabytes(64);
+
+        /**
+         * Size of each direct memory slab; slabs are reserved lazily until the maximum memory is reached.
+         */
+        private DataSize slabSize = DataSize.ofMegabytes(1);
+    }
+}
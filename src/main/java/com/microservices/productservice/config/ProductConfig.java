@@ -3,9 +3,11 @@ package com.microservices.productservice.config;
 import com.microservices.productservice.service.mapper.ProductMapper;
 import com.microservices.productservice.service.mapper.ProductMapperImpl;
 import lombok.Getter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Configuration class for the Product module.
@@ -17,6 +19,11 @@ import org.springframework.context.annotation.PropertySource;
  */
 @Getter
 @Configuration
+@EnableConfigurationProperties({ProductCacheProperties.class, PriceIndexProperties.class, PaginationProperties.class,
+                                BulkInsertProperties.class, BatchLoaderProperties.class, RequestLogProperties.class,
+                                ExecutionProperties.class, SearchIndexProperties.class,
+                                AutocompleteProperties.class, CatalogIndexProperties.class})
+@EnableScheduling
 @PropertySource("classpath:errorcode.properties")
 @PropertySource("classpath:messages.properties")
 public class ProductConfig {
@@ -0,0 +1,30 @@
+package com.microservices.productservice.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration of the reactive profile, which serves the products with WebFlux and R2DBC instead of
+ * Spring MVC and JPA. Tomcat stays on the classpath for the servlet stack, so Netty is chosen explicitly here:
+ * its few event-loop threads hold the open connections, none of them blocked by a request in progress.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Creates the Netty server of the reactive profile.
+     *
+     * @return The reactive web server factory.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
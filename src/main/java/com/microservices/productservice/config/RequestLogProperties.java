@@ -0,0 +1,39 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the asynchronous request log of the ProductService controllers.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.request-log")
+public class RequestLogProperties {
+
+    /**
+     * Whether requests are logged at INFO by a background thread, instead of at DEBUG on the request thread.
+     */
+    private boolean async = true;
+
+    /**
+     * Number of requests the ring buffer holds before further requests are dropped.
+     */
+    private int bufferSize = 4096;
+
+    /**
+     * Fraction, between 0 and 1, of the requests logged for an endpoint without a sampling rate of its own.
+     */
+    private double samplingRate = 1.0;
+
+    /**
+     * Fraction of the requests logged, keyed by the name of the controller method.
+     */
+    private Map<String, Double> samplingRates = new HashMap<>();
+}
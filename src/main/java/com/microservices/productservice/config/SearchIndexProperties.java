@@ -0,0 +1,27 @@
+package com.microservices.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the in-memory product name search index.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@ConfigurationProperties(prefix = "product.search-index")
+public class SearchIndexProperties {
+
+    /**
+     * Whether product name search is available; it is answered from memory only.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of products written since the last build that are kept apart from the compressed postings;
+     * beyond it they are merged into new postings in memory.
+     */
+    private int maximumPendingProducts = 10_000;
+}
@@ -0,0 +1,82 @@
+package com.microservices.productservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration of the virtual execution mode, enabled by product.execution.mode=virtual, which the virtual profile
+ * sets along with the settings that only make sense in this mode: Tomcat accepting up to 10k connections and an
+ * explicitly sized connection pool.
+ * Tomcat hands every request to a new virtual thread, so the ProductService calls made while handling it run on
+ * that thread too, and the data source is wrapped in a {@link GuardedDataSource} sized to the connection pool.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "product.execution", name = "mode", havingValue = "virtual")
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * Replaces the Tomcat worker pool with a virtual thread per request.
+     *
+     * @return The protocol handler customizer.
+     * @throws IllegalStateException if the runtime does not support virtual threads.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        VirtualThreadTaskExecutor executor;
+        try {
+            executor = new VirtualThreadTaskExecutor("tomcat-handler-");
+        } catch (UnsupportedOperationException e) {
+            throw new IllegalStateException("product.execution.mode=virtual requires a Java 21 runtime", e);
+        }
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * Wraps the data source so that no more threads hold a connection than the pool lends.
+     *
+     * @param executionProperties The execution settings.
+     * @return The post processor guarding the data source.
+     */
+    @Bean
+    public static BeanPostProcessor guardedDataSourcePostProcessor(
+            ObjectProvider<ExecutionProperties> executionProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof GuardedDataSource) {
+                    return bean;
+                }
+                ExecutionProperties properties = executionProperties.getObject();
+                int permits = properties.getConnectionPermits() != null ? properties.getConnectionPermits()
+                                                                        : maximumPoolSize(dataSource);
+                log.info("Guarding data source {} with {} connection permits", beanName, permits);
+                return new GuardedDataSource(dataSource, permits, properties.getConnectionWait());
+            }
+        };
+    }
+
+    /**
+     * Maximum size of the connection pool, or the Hikari default if the pool leaves it unset until it starts.
+     */
+    private static int maximumPoolSize(DataSource dataSource) {
+        int maximumPoolSize = dataSource instanceof HikariDataSource hikariDataSource
+                              ? hikariDataSource.getMaximumPoolSize() : 0;
+        return maximumPoolSize > 0 ? maximumPoolSize : DEFAULT_POOL_SIZE;
+    }
+}
@@ -1,19 +1,30 @@
 package com.microservices.productservice.controller;
 
+import com.microservices.productservice.dto.BulkDeleteResultDto;
+import com.microservices.productservice.dto.BulkProductResultDto;
 import com.microservices.productservice.dto.ErrorDto;
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.PriceAdjustmentResultDto;
 import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.ProductLookupDto;
+import com.microservices.productservice.dto.ProductPageDto;
 import com.microservices.productservice.dto.group.OnCreate;
 import com.microservices.productservice.dto.group.OnUpdate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -29,9 +40,10 @@ import java.util.List;
 public interface ProductController {
 
     /**
-     * Retrieves all products.
+     * Retrieves all products, tagged with the catalog revision.
      *
-     * @return A ResponseEntity containing a list of ProductDto.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing a list of ProductDto, or 304 if the catalog has not changed.
      */
     @Operation(summary = "Retrieve all products.",
             description = "Retrieve all the products from the database.",
@@ -40,15 +52,18 @@ public interface ProductController {
             @ApiResponse(responseCode = "200",
                     description = "Successfully retrieved the products.",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = ProductDto.class))})
+                            schema = @Schema(implementation = ProductDto.class))}),
+            @ApiResponse(responseCode = "304",
+                    description = "The catalog has not changed since the revision given in If-None-Match.")
     })
     @GetMapping
-    ResponseEntity<List<ProductDto>> getAllProducts();
+    ResponseEntity<List<ProductDto>> getAllProducts(WebRequest webRequest);
 
     /**
-     * Retrieves all products sorted by price.
+     * Retrieves all products sorted by price, tagged with the catalog revision.
      *
-     * @return A ResponseEntity containing a sorted list of ProductDto.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing a sorted list of ProductDto, or 304 if the catalog has not changed.
      */
     @Operation(summary = "Retrieve all products sorted by price.",
             description = "Retrieve all the products sorted by price in ascending order from the database.",
@@ -57,36 +72,161 @@ public interface ProductController {
             @ApiResponse(responseCode = "200",
                     description = "Successfully retrieved the products sorted by price.",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = ProductDto.class))})
+                            schema = @Schema(implementation = ProductDto.class))}),
+            @ApiResponse(responseCode = "304",
+                    description = "The catalog has not changed since the revision given in If-None-Match.")
     })
     @GetMapping("/sorted")
-    ResponseEntity<List<ProductDto>> getAllProductsSortedByPrice();
+    ResponseEntity<List<ProductDto>> getAllProductsSortedByPrice(WebRequest webRequest);
+
+    /**
+     * Streams all products as newline-delimited JSON, one product per line.
+     *
+     * @return A ResponseEntity containing a StreamingResponseBody that writes the products.
+     */
+    @Operation(summary = "Stream all products.",
+            description = "Stream all the products from the database as newline-delimited JSON, ordered by Id.",
+            tags = {"GET"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully streamed the products.",
+                    content = {@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ProductDto.class))})
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAllProducts();
+
+    /**
+     * Streams all products sorted by price as newline-delimited JSON, one product per line.
+     *
+     * @return A ResponseEntity containing a StreamingResponseBody that writes the products.
+     */
+    @Operation(summary = "Stream all products sorted by price.",
+            description = "Stream all the products sorted by price in ascending order from the database as newline-delimited JSON.",
+            tags = {"GET"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully streamed the products sorted by price.",
+                    content = {@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ProductDto.class))})
+    })
+    @GetMapping(value = "/sorted", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAllProductsSortedByPrice();
 
     /**
-     * Retrieves products within the specified price range.
+     * Retrieves products within the specified price range, tagged with the catalog revision.
      *
-     * @param lowerLimit The lower limit of the price range.
-     * @param upperLimit The upper limit of the price range.
-     * @return A ResponseEntity containing a list of ProductDto within the given price range.
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing a list of ProductDto within the given price range, or 304 if the catalog
+     *         has not changed.
      */
     @Operation(summary = "Retrieves products within the specified price range.",
             description = "Retrieve all the products within the specified price range from the database.",
             tags = {"GET"})
-    @Parameter(name = "lowerLimit", description = "The lower limit of the price range.")
-    @Parameter(name = "upperLimit", description = "The upper limit of the price range.")
+    @Parameter(name = "lowerLimit", description = "The lower limit of the price range, in cents.")
+    @Parameter(name = "upperLimit", description = "The upper limit of the price range, in cents.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Successfully retrieved products within the specified price range.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ProductDto.class))}),
+            @ApiResponse(responseCode = "304",
+                    description = "The catalog has not changed since the revision given in If-None-Match."),
             @ApiResponse(responseCode = "400",
                     description = "Invalid price range parameters.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorDto.class))})
     })
     @GetMapping("/price/range/{lowerLimit}/{upperLimit}")
-    ResponseEntity<List<ProductDto>> getProductsByPriceRange(@PathVariable Double lowerLimit,
-                                                             @PathVariable Double upperLimit);
+    ResponseEntity<List<ProductDto>> getProductsByPriceRange(@PathVariable Long lowerLimit,
+                                                             @PathVariable Long upperLimit,
+                                                             WebRequest webRequest);
+
+    /**
+     * Retrieves one page of products ordered by productId.
+     *
+     * @param pageSize The requested number of products.
+     * @param cursor   The cursor returned with the previous page, absent for the first page.
+     * @return A ResponseEntity containing a ProductPageDto.
+     */
+    @Operation(summary = "Retrieve one page of products.",
+            description = "Retrieve one page of products ordered by Id, continuing after the given cursor.",
+            tags = {"GET"})
+    @Parameter(name = "pageSize", description = "The requested number of products, capped to the maximum page size.")
+    @Parameter(name = "cursor", description = "The cursor returned with the previous page, absent for the first page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully retrieved the page of products.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProductPageDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid page cursor.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping(params = "pageSize")
+    ResponseEntity<ProductPageDto> getProductsPage(@RequestParam int pageSize,
+                                                   @RequestParam(required = false) String cursor);
+
+    /**
+     * Retrieves one page of products sorted by price.
+     *
+     * @param pageSize The requested number of products.
+     * @param cursor   The cursor returned with the previous page, absent for the first page.
+     * @return A ResponseEntity containing a ProductPageDto.
+     */
+    @Operation(summary = "Retrieve one page of products sorted by price.",
+            description = "Retrieve one page of products sorted by price in ascending order, continuing after the given cursor.",
+            tags = {"GET"})
+    @Parameter(name = "pageSize", description = "The requested number of products, capped to the maximum page size.")
+    @Parameter(name = "cursor", description = "The cursor returned with the previous page, absent for the first page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully retrieved the page of products sorted by price.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProductPageDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid page cursor.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping(value = "/sorted", params = "pageSize")
+    ResponseEntity<ProductPageDto> getProductsSortedByPricePage(@RequestParam int pageSize,
+                                                                @RequestParam(required = false) String cursor);
+
+    /**
+     * Retrieves one page of products within the specified price range.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @param pageSize   The requested number of products.
+     * @param cursor     The cursor returned with the previous page, absent for the first page.
+     * @return A ResponseEntity containing a ProductPageDto.
+     */
+    @Operation(summary = "Retrieves one page of products within the specified price range.",
+            description = "Retrieve one page of products within the specified price range sorted by price, continuing after the given cursor.",
+            tags = {"GET"})
+    @Parameter(name = "lowerLimit", description = "The lower limit of the price range, in cents.")
+    @Parameter(name = "upperLimit", description = "The upper limit of the price range, in cents.")
+    @Parameter(name = "pageSize", description = "The requested number of products, capped to the maximum page size.")
+    @Parameter(name = "cursor", description = "The cursor returned with the previous page, absent for the first page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully retrieved the page of products within the specified price range.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProductPageDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid price range parameters or page cursor.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping(value = "/price/range/{lowerLimit}/{upperLimit}", params = "pageSize")
+    ResponseEntity<ProductPageDto> getProductsByPriceRangePage(@PathVariable Long lowerLimit,
+                                                               @PathVariable Long upperLimit,
+                                                               @RequestParam int pageSize,
+                                                               @RequestParam(required = false) String cursor);
 
     /**
      * Creates a new product.
@@ -111,11 +251,40 @@ public interface ProductController {
     @PostMapping
     ResponseEntity<ProductDto> createProduct(@RequestBody @Validated({OnCreate.class}) ProductDto productDto);
 
+    /**
+     * Creates products in bulk.
+     *
+     * @param productDtos The Dtos containing information for creating the products.
+     * @return A ResponseEntity containing one BulkProductResultDto per requested product.
+     */
+    @Operation(summary = "Creates products in bulk.",
+            description = "Validates the products and creates the valid ones in the database using batched inserts.",
+            tags = {"POST"})
+    @Parameter(name = "productDtos", description = "The Dtos containing information for creating the products.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201",
+                    description = "Successfully created all the products.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkProductResultDto.class))}),
+            @ApiResponse(responseCode = "207",
+                    description = "Some of the products were not created; see the status of each result.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkProductResultDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "The bulk request is empty, too large or has empty entries.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @PostMapping("/bulk")
+    ResponseEntity<List<BulkProductResultDto>> createProducts(@RequestBody List<ProductDto> productDtos);
+
     /**
      * Retrieves a product by its unique identifier.
      *
-     * @param productId The unique identifier of the product.
-     * @return A ResponseEntity containing the ProductDto for the specified productId.
+     * @param productId  The unique identifier of the product.
+     * @param webRequest The request, checked against If-None-Match.
+     * @return A ResponseEntity containing the ProductDto for the specified productId and its ETag,
+     *         or 304 if the product has not changed.
      */
 
     @Operation(summary = "Retrieves a product by its Id",
@@ -127,13 +296,113 @@ public interface ProductController {
                     description = "Successfully retrieved the product.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ProductDto.class))}),
+            @ApiResponse(responseCode = "304",
+                    description = "The product has not changed since the version given in If-None-Match."),
             @ApiResponse(responseCode = "404",
                     description = "Product not found.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorDto.class))})
     })
     @GetMapping("/{productId}")
-    ResponseEntity<ProductDto> getProductById(@PathVariable Long productId);
+    ResponseEntity<ProductDto> getProductById(@PathVariable Long productId, WebRequest webRequest);
+
+    /**
+     * Retrieves many products by their unique identifiers in one call.
+     *
+     * @param productIds The unique identifiers of the products.
+     * @return A ResponseEntity containing the products found and the missing ids.
+     */
+    @Operation(summary = "Retrieves many products by their Ids.",
+            description = "Retrieves the products matching the given unique identifiers and reports the ids that match no product.",
+            tags = {"POST"})
+    @Parameter(name = "productIds", description = "The unique identifiers of the products.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully looked up the products.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProductLookupDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "More ids than the maximum bulk size.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @PostMapping("/lookup")
+    ResponseEntity<ProductLookupDto> lookupProducts(@RequestBody List<Long> productIds);
+
+    /**
+     * Searches products by name, best matches first, tagged with the catalog revision.
+     *
+     * @param q          The search text; every term of it must occur in a matching product name.
+     * @param lowerLimit The optional lower limit of the price range, in cents.
+     * @param upperLimit The optional upper limit of the price range, in cents.
+     * @param limit      The requested number of products.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing the matching ProductDto ranked by relevance, or 304 if the catalog has
+     *         not changed.
+     */
+    @Operation(summary = "Searches products by name.",
+            description = "Retrieve the products whose name contains every term of the query, best matches first, optionally within a price range.",
+            tags = {"GET"})
+    @Parameter(name = "q", description = "The search text; terms are letters or digits and case is ignored.")
+    @Parameter(name = "lowerLimit", description = "The optional lower limit of the price range, in cents.")
+    @Parameter(name = "upperLimit", description = "The optional upper limit of the price range, in cents.")
+    @Parameter(name = "limit", description = "The requested number of products, capped to the maximum page size.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully searched the products.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProductDto.class))}),
+            @ApiResponse(responseCode = "304",
+                    description = "The catalog has not changed since the revision given in If-None-Match."),
+            @ApiResponse(responseCode = "400",
+                    description = "The query has no terms.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "503",
+                    description = "The search index is not available yet.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping("/search")
+    ResponseEntity<List<ProductDto>> searchProducts(@RequestParam String q,
+                                                    @RequestParam(required = false) Long lowerLimit,
+                                                    @RequestParam(required = false) Long upperLimit,
+                                                    @RequestParam(defaultValue = "20") int limit,
+                                                    WebRequest webRequest);
+
+    /**
+     * Completes a prefix into product names, the names of most products first, tagged with the catalog revision.
+     *
+     * @param prefix     The typed text; case and repeated whitespace are ignored.
+     * @param limit      The requested number of names.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing the normalized product names, or 304 if the catalog has not changed.
+     */
+    @Operation(summary = "Autocompletes product names.",
+            description = "Retrieve the lower-case product names starting with the prefix, names shared by more products first.",
+            tags = {"GET"})
+    @Parameter(name = "prefix", description = "The typed text; case and repeated whitespace are ignored, and a trailing space only matches longer names.")
+    @Parameter(name = "limit", description = "The requested number of names, capped to the completions kept per prefix.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully completed the prefix.",
+                    content = {@Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = String.class)))}),
+            @ApiResponse(responseCode = "304",
+                    description = "The catalog has not changed since the revision given in If-None-Match."),
+            @ApiResponse(responseCode = "400",
+                    description = "The prefix is blank.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "503",
+                    description = "The autocomplete trie is not available yet.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping("/autocomplete")
+    ResponseEntity<List<String>> autocompleteProductNames(@RequestParam String prefix,
+                                                          @RequestParam(defaultValue = "10") int limit,
+                                                          WebRequest webRequest);
 
     /**
      * Deletes a product by its unique identifier.
@@ -156,15 +425,65 @@ public interface ProductController {
     @DeleteMapping("/{productId}")
     ResponseEntity<ProductDto> deleteProductById(@PathVariable Long productId);
 
+    /**
+     * Deletes many products by their unique identifiers in one call.
+     *
+     * @param productIds The unique identifiers of the products to be deleted.
+     * @return A ResponseEntity containing the number of requested and deleted products.
+     */
+    @Operation(summary = "Deletes products in bulk.",
+            description = "Deletes the products matching the given unique identifiers with set-based deletes.",
+            tags = {"POST"})
+    @Parameter(name = "productIds", description = "The unique identifiers of the products to be deleted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully deleted the matching products.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkDeleteResultDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "The bulk request is empty, too large or has empty entries.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @PostMapping("/bulk/delete")
+    ResponseEntity<BulkDeleteResultDto> deleteProducts(@RequestBody List<Long> productIds);
+
+    /**
+     * Changes the price of every product in a price range or id set by a percentage or an absolute amount.
+     *
+     * @param priceAdjustmentDto The Dto describing the price change and the selected products.
+     * @return A ResponseEntity containing the number of products whose price was changed.
+     */
+    @Operation(summary = "Adjusts product prices in bulk.",
+            description = "Applies a percentage or absolute price change to the products in a price range or id set.",
+            tags = {"POST"})
+    @Parameter(name = "priceAdjustmentDto", description = "The Dto describing the price change and the selected products.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully adjusted the prices of the selected products.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceAdjustmentResultDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "The adjustment has no amount or no valid product selection.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @PostMapping("/price/adjust")
+    ResponseEntity<PriceAdjustmentResultDto> adjustPrices(@RequestBody PriceAdjustmentDto priceAdjustmentDto);
+
     /**
      * Updates a product by its unique identifier.
+     * When If-Match carries the ETag of a product version, the update is applied only if the product is still at it.
      *
-     * @return A ResponseEntity containing the updated ProductResponseDto.
+     * @param productDto The Dto containing information for updating the product.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductResponseDto and its ETag.
      */
     @Operation(summary = "Updates a product.",
             description = "Updates a product from the database.",
             tags = {"PUT"})
     @Parameter(name = "productDto", description = "The Dto containing information for updating the product.")
+    @Parameter(name = HttpHeaders.IF_MATCH, description = "The ETag of the product version the update applies to.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Successfully updated the product.",
@@ -175,22 +494,33 @@ public interface ProductController {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorDto.class))}),
             @ApiResponse(responseCode = "404", description = "Product not found.", content =
+                    {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "409", description = "Product updated concurrently.", content =
+                    {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "412", description = "Product version does not match If-Match.", content =
                     {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorDto.class))})
     })
     @PutMapping
-    ResponseEntity<ProductDto> updateProduct(@RequestBody @Validated({OnCreate.class}) ProductDto productDto);
+    ResponseEntity<ProductDto> updateProduct(@RequestBody @Validated({OnCreate.class}) ProductDto productDto,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                             String ifMatch);
 
     /**
      * Partially updates product fields of a product identified by the given unique identifier.
+     * When If-Match carries the ETag of a product version, the update is applied only if the product is still at it.
      *
      * @param productDto The Dto containing information for updating the product.
-     * @return A ResponseEntity containing the updated ProductDto.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductDto and its ETag.
      */
     @Operation(summary = "Partially updates product fields of a product by its Id.",
             description = "Partially updates product fields of a product identified by the given unique identifier",
             tags = {"PATCH"})
     @Parameter(name = "productDto", description = "The Dto containing information for updating the product.")
+    @Parameter(name = HttpHeaders.IF_MATCH, description = "The ETag of the product version the update applies to.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Successfully updated the product.",
@@ -201,11 +531,19 @@ public interface ProductController {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorDto.class))}),
             @ApiResponse(responseCode = "404", description = "Product not found.", content =
+                    {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "409", description = "Product updated concurrently.", content =
+                    {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "412", description = "Product version does not match If-Match.", content =
                     {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorDto.class))})
     })
     @PatchMapping
-    ResponseEntity<ProductDto> updateProductFields(@RequestBody @Validated({OnUpdate.class}) ProductDto productDto);
+    ResponseEntity<ProductDto> updateProductFields(@RequestBody @Validated({OnUpdate.class}) ProductDto productDto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                   String ifMatch);
 
 }
 
@@ -0,0 +1,116 @@
+package com.microservices.productservice.controller;
+
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.group.OnCreate;
+import com.microservices.productservice.dto.group.OnUpdate;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive controller interface for managing products, served instead of {@link ProductController} in the
+ * reactive profile. It answers the same paths with the same bodies, statuses and entity tags; listings are
+ * streamed as a JSON array, or as newline-delimited JSON when requested, with backpressure down to the database.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Tag(name = "ReactiveProductController", description = "Non-blocking APIs for managing products")
+@RequestMapping("/products")
+public interface ReactiveProductController {
+
+    /**
+     * Streams all products ordered by productId.
+     *
+     * @return The products.
+     */
+    @Operation(summary = "Retrieve all products.", tags = {"GET"})
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    Flux<ProductDto> getAllProducts();
+
+    /**
+     * Streams all products sorted by price.
+     *
+     * @return The products sorted by price.
+     */
+    @Operation(summary = "Retrieve all products sorted by price.", tags = {"GET"})
+    @GetMapping(value = "/sorted", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    Flux<ProductDto> getAllProductsSortedByPrice();
+
+    /**
+     * Streams the products within the specified price range, sorted by price.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @return The products within the price range.
+     */
+    @Operation(summary = "Retrieve products by price range.", tags = {"GET"})
+    @GetMapping(value = "/price/range/{lowerLimit}/{upperLimit}",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    Flux<ProductDto> getProductsByPriceRange(@PathVariable Long lowerLimit, @PathVariable Long upperLimit);
+
+    /**
+     * Creates a new product.
+     *
+     * @param productDto The Dto containing information for creating a new product.
+     * @return A ResponseEntity containing the created ProductDto.
+     */
+    @Operation(summary = "Create a new product.", tags = {"POST"})
+    @PostMapping
+    Mono<ResponseEntity<ProductDto>> createProduct(@RequestBody @Validated({OnCreate.class}) ProductDto productDto);
+
+    /**
+     * Retrieves a product by its unique identifier, answering 304 if If-None-Match holds its current entity tag.
+     *
+     * @param productId The unique identifier of the product.
+     * @param exchange  The exchange, checked against If-None-Match.
+     * @return A ResponseEntity containing the ProductDto and its ETag, or an empty 304 response.
+     */
+    @Operation(summary = "Retrieve a product by its Id.", tags = {"GET"})
+    @GetMapping("/{productId}")
+    Mono<ResponseEntity<ProductDto>> getProductById(@PathVariable Long productId, ServerWebExchange exchange);
+
+    /**
+     * Deletes a product by its unique identifier.
+     *
+     * @param productId The unique identifier of the product to be deleted.
+     * @return A ResponseEntity containing the deleted ProductDto.
+     */
+    @Operation(summary = "Delete a product by its Id.", tags = {"DELETE"})
+    @DeleteMapping("/{productId}")
+    Mono<ResponseEntity<ProductDto>> deleteProductById(@PathVariable Long productId);
+
+    /**
+     * Updates a product, only if it is still at the version given by If-Match when the header is present.
+     *
+     * @param productDto The Dto containing information for updating the product.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductDto and its ETag.
+     */
+    @Operation(summary = "Updates a product.", tags = {"PUT"})
+    @PutMapping
+    Mono<ResponseEntity<ProductDto>> updateProduct(@RequestBody @Validated({OnCreate.class}) ProductDto productDto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                   String ifMatch);
+
+    /**
+     * Partially updates a product, only if it is still at the version given by If-Match when the header is present.
+     *
+     * @param productDto The Dto containing information for updating the product.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductDto and its ETag.
+     */
+    @Operation(summary = "Partially updates product fields of a product by its Id.", tags = {"PATCH"})
+    @PatchMapping
+    Mono<ResponseEntity<ProductDto>> updateProductFields(@RequestBody @Validated({OnUpdate.class}) ProductDto productDto,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                         String ifMatch);
+}
@@ -1,9 +1,11 @@
 package com.microservices.productservice.controller.advice;
 
 import com.microservices.productservice.dto.ErrorDto;
+import com.microservices.productservice.exception.ErrorCatalog;
 import com.microservices.productservice.exception.ProductServiceException;
-import com.microservices.productservice.utility.PropertiesFileReader;
+import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -27,24 +29,21 @@ import java.util.List;
  * @since 31/01/2024
  */
 @ControllerAdvice(value = "com.microservices.productservice.controller")
+@Profile("!reactive")
+@RequiredArgsConstructor
 public class ProductServiceExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final ErrorCatalog errorCatalog;
+
     /**
-     * Handles exceptions specific to the ProductService.
+     * Handles exceptions specific to the ProductService with the error response preloaded in the ErrorCatalog.
      *
      * @param ex The ProductServiceException.
      * @return ResponseEntity containing error details.
      */
     @ExceptionHandler(ProductServiceException.class)
     public final ResponseEntity<ErrorDto> handleProductServiceException(final ProductServiceException ex) {
-        ErrorDto errorDetails = new ErrorDto(
-                Integer.parseInt(PropertiesFileReader.getProperties("classpath:errorcode.properties")
-                                                     .getProperty(ex.getMessage())),
-                PropertiesFileReader.getProperties("classpath:messages.properties")
-                                    .getProperty(ex.getMessage()),
-                LocalDateTime.now());
-
-        return new ResponseEntity<>(errorDetails, HttpStatusCode.valueOf(ex.getHttpStatus().value()));
+        return new ResponseEntity<>(errorCatalog.toErrorDto(ex), ex.getHttpStatus());
     }
 
     /**
@@ -0,0 +1,83 @@
+package com.microservices.productservice.controller.advice;
+
+import com.microservices.productservice.dto.ErrorDto;
+import com.microservices.productservice.exception.ErrorCatalog;
+import com.microservices.productservice.exception.ProductServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Exception handler of the reactive profile, answering with the same error bodies as
+ * {@link ProductServiceExceptionHandler} does for the servlet stack.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@ControllerAdvice(value = "com.microservices.productservice.controller")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductExceptionHandler {
+
+    private final ErrorCatalog errorCatalog;
+
+    /**
+     * Handles exceptions specific to the ProductService with the error response preloaded in the ErrorCatalog.
+     *
+     * @param ex The ProductServiceException.
+     * @return ResponseEntity containing error details.
+     */
+    @ExceptionHandler(ProductServiceException.class)
+    public final ResponseEntity<ErrorDto> handleProductServiceException(final ProductServiceException ex) {
+        return new ResponseEntity<>(errorCatalog.toErrorDto(ex), ex.getHttpStatus());
+    }
+
+    /**
+     * Handles validation errors with one error per rejected field.
+     *
+     * @param ex The WebExchangeBindException.
+     * @return ResponseEntity containing a list of error details.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public final ResponseEntity<List<ErrorDto>> handleWebExchangeBindException(final WebExchangeBindException ex) {
+        List<ErrorDto> errors = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> new ErrorDto(ex.getStatusCode().value(), error.getDefaultMessage(), LocalDateTime.now()))
+                .toList();
+        return new ResponseEntity<>(errors, ex.getStatusCode());
+    }
+
+    /**
+     * Handles unreadable requests, such as malformed bodies or path variables, and other framework errors.
+     *
+     * @param ex The ResponseStatusException.
+     * @return ResponseEntity containing error details.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public final ResponseEntity<ErrorDto> handleResponseStatusException(final ResponseStatusException ex) {
+        ErrorDto errorDetails = new ErrorDto(ex.getStatusCode().value(), ex.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(errorDetails, ex.getStatusCode());
+    }
+
+    /**
+     * Handles general exceptions.
+     *
+     * @param ex The Exception.
+     * @return ResponseEntity containing error details.
+     */
+    @ExceptionHandler(Exception.class)
+    public final ResponseEntity<ErrorDto> handleAllExceptions(final Exception ex) {
+        ErrorDto errorDetails = new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                             ex.getMessage(),
+                                             LocalDateTime.now());
+        return new ResponseEntity<>(errorDetails, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
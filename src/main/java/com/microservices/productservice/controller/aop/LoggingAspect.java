@@ -3,7 +3,6 @@ package com.microservices.productservice.controller.aop;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
@@ -13,6 +12,11 @@ import java.util.Locale;
 
 /**
  * Aspect for logging method executions in the ProductService controllers.
+ * In asynchronous mode each served request is handed to the {@link RequestLogPipeline}, which samples it and
+ * writes a summary of its arguments and result off the request thread. Otherwise entry and exit are logged in
+ * full on the request thread, only when debug logging is enabled, and cost a single level check.
+ * Request latency is not measured here: Spring MVC records it into the http.server.requests timers, whose
+ * percentiles are listed by the latency actuator endpoint.
  *
  * @author priyanshu
  * @version 1.0
@@ -25,6 +29,7 @@ import java.util.Locale;
 public class LoggingAspect {
 
     private final MessageSource messageSource;
+    private final RequestLogPipeline requestLogPipeline;
 
     /**
      * Pointcut definition for all methods in the ProductService controllers.
@@ -34,28 +39,33 @@ public class LoggingAspect {
     }
 
     /**
-     * Advice to log method entry and input arguments before execution.
+     * Advice to log method entry and input arguments before execution, outside asynchronous mode.
      *
      * @param joinPoint The JoinPoint representing the method execution.
      */
     @Before("controller()")
     public void logRequestData(JoinPoint joinPoint) {
-        log.debug("Entering in {} : {}()", joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
-        if (log.isDebugEnabled()) {
+        if (!requestLogPipeline.isAsync() && log.isDebugEnabled()) {
+            log.debug("Entering in {} : {}()", joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
             log.debug("Method arguments : {}", Arrays.toString(joinPoint.getArgs()));
         }
     }
 
     /**
-     * Advice to log method exit and return value after successful execution.
+     * Advice to log method exit and return value after successful execution, or to submit the served request
+     * to the request log pipeline in asynchronous mode.
      *
      * @param joinPoint The JoinPoint representing the method execution.
      * @param result    The return value of the method.
      */
     @AfterReturning(value = "controller()", returning = "result")
     public void logResponseData(JoinPoint joinPoint, Object result) {
-        log.debug("Method return value : {}", result);
-        log.debug("Exiting from {} : {}()", joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
+        if (requestLogPipeline.isAsync()) {
+            requestLogPipeline.submit(joinPoint.getSignature().getName(), joinPoint.getArgs(), result);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Method return value : {}", result);
+            log.debug("Exiting from {} : {}()", joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
+        }
     }
 
     /**
@@ -73,20 +83,4 @@ public class LoggingAspect {
                         messageSource.getMessage(e.getMessage(), null, Locale.getDefault()) :
                         "NULL");
     }
-
-    /**
-     * Advice to log method execution time.
-     *
-     * @param pjp The ProceedingJoinPoint representing the method execution.
-     * @return The return value of the method.
-     * @throws Throwable If an exception occurs during method execution.
-     */
-    @Around(value = "controller()")
-    public Object trackTime(ProceedingJoinPoint pjp) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        Object obj = pjp.proceed();
-        long endTime = System.currentTimeMillis();
-        log.debug("{} {} took {} ms to execute", pjp.getSignature().getDeclaringTypeName(), pjp.getSignature().getName(), (endTime - startTime));
-        return obj;
-    }
 }
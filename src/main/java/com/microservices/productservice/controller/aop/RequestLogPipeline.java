@@ -0,0 +1,200 @@
+package com.microservices.productservice.controller.aop;
+
+import com.microservices.productservice.config.RequestLogProperties;
+import com.microservices.productservice.utility.PayloadSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous, sampled log of the requests served by the ProductService controllers.
+ * A request thread decides whether the request is sampled and, if so, summarizes its arguments and result with
+ * {@link PayloadSummary} into a few ids and sizes, which it offers to a bounded ring buffer; the buffer never holds
+ * on to the payloads themselves. A single background thread writes the buffered summaries at INFO.
+ * When the buffer is full the request is dropped rather than waited for, so logging never slows a request down.
+ * The logged, dropped and skipped requests are counted in product.request-log.events.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+public class RequestLogPipeline implements MeterBinder, DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1000;
+
+    private final Double samplingRate;
+    private final Map<String, Double> samplingRates;
+    private final BlockingQueue<Entry> buffer;
+    private final LongAdder logged = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * The thread writing the buffered requests, or null if requests are not logged asynchronously.
+     */
+    private final Thread writer;
+
+    /**
+     * Constructs the pipeline with the given settings and, in asynchronous mode, starts its writer thread.
+     *
+     * @param properties The request log settings.
+     */
+    public RequestLogPipeline(RequestLogProperties properties) {
+        this.samplingRate = properties.getSamplingRate();
+        this.samplingRates = Map.copyOf(properties.getSamplingRates());
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferSize()));
+        if (properties.isAsync()) {
+            writer = new Thread(this::drain, "request-log");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            writer = null;
+        }
+    }
+
+    /**
+     * Tells whether requests are logged by this pipeline rather than on the request thread.
+     *
+     * @return true in asynchronous mode.
+     */
+    public boolean isAsync() {
+        return writer != null;
+    }
+
+    /**
+     * Samples a served request and, if it is kept, hands the summary of its payloads to the writer thread without
+     * blocking; a payload that fails to summarize counts as dropped. Does nothing outside asynchronous mode.
+     *
+     * @param endpoint  The name of the controller method.
+     * @param arguments The arguments of the controller method.
+     * @param result    The value returned by the controller method.
+     */
+    public void submit(String endpoint, Object[] arguments, Object result) {
+        if (writer == null || !log.isInfoEnabled()) {
+            return;
+        }
+        if (!sampled(endpoint)) {
+            skipped.increment();
+            return;
+        }
+        Entry entry;
+        try {
+            entry = new Entry(endpoint, PayloadSummary.summarize(arguments), PayloadSummary.summarize(result));
+        } catch (RuntimeException e) {
+            dropped.increment();
+            return;
+        }
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Binds the request counts and the buffer occupancy to the given meter registry.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        FunctionCounter.builder("product.request-log.events", logged, LongAdder::sum)
+                .tag("result", "logged")
+                .register(registry);
+        FunctionCounter.builder("product.request-log.events", dropped, LongAdder::sum)
+                .tag("result", "dropped")
+                .register(registry);
+        FunctionCounter.builder("product.request-log.events", skipped, LongAdder::sum)
+                .tag("result", "skipped")
+                .register(registry);
+        Gauge.builder("product.request-log.buffer.size", buffer, BlockingQueue::size)
+                .register(registry);
+    }
+
+    /**
+     * Stops the writer thread once the requests already buffered are written.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * Number of requests written so far.
+     *
+     * @return The logged requests.
+     */
+    public long logged() {
+        return logged.sum();
+    }
+
+    /**
+     * Number of sampled requests dropped so far because the buffer was full.
+     *
+     * @return The dropped requests.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of requests left out so far by sampling.
+     *
+     * @return The skipped requests.
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    private boolean sampled(String endpoint) {
+        double rate = samplingRates.getOrDefault(endpoint, samplingRate);
+        return rate >= 1.0 || rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                Entry entry = buffer.take();
+                write(entry.endpoint(), entry.arguments(), entry.result());
+            }
+        } catch (InterruptedException e) {
+            Entry entry;
+            while ((entry = buffer.poll()) != null) {
+                write(entry.endpoint(), entry.arguments(), entry.result());
+            }
+        }
+    }
+
+    /**
+     * Writes one request.
+     *
+     * @param endpoint  The name of the controller method.
+     * @param arguments The summary of the arguments of the controller method.
+     * @param result    The summary of the value returned by the controller method.
+     */
+    void write(String endpoint, String arguments, String result) {
+        log.info("{} {} returned {}", endpoint, arguments, result);
+        logged.increment();
+    }
+
+    /**
+     * A sampled request waiting in the buffer, holding only the summaries of its payloads.
+     */
+    private record Entry(String endpoint, String arguments, String result) {
+    }
+}
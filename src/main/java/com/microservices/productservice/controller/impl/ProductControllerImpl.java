@@ -1,14 +1,34 @@
 package com.microservices.productservice.controller.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.productservice.controller.ProductController;
+import com.microservices.productservice.dto.BulkDeleteResultDto;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.CatalogRevisionDto;
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.PriceAdjustmentResultDto;
 import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.ProductLookupDto;
+import com.microservices.productservice.dto.ProductPageDto;
+import com.microservices.productservice.dto.validation.ProductDtoValidator;
 import com.microservices.productservice.service.ProductService;
+import com.microservices.productservice.utility.EntityTags;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the {@link ProductController} interface.
@@ -20,40 +40,126 @@ import java.util.List;
  */
 @AllArgsConstructor
 @RestController
+@Profile("!reactive")
 public class ProductControllerImpl implements ProductController {
 
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final ProductDtoValidator productDtoValidator;
 
     /**
-     * Retrieves all products.
+     * Validates ProductDto request bodies with the hand-written {@link ProductDtoValidator} instead of
+     * Bean Validation; the groups given to {@code @Validated} are passed to it as hints.
      *
-     * @return A ResponseEntity containing a list of ProductDto.
+     * @param binder The binder of a request body or parameter.
+     */
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        if (binder.getTarget() instanceof ProductDto) {
+            binder.setValidator(productDtoValidator);
+        }
+    }
+
+    /**
+     * Retrieves all products, tagged with the catalog revision.
+     *
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing a list of ProductDto, or 304 if the catalog has not changed.
+     */
+    @Override
+    public ResponseEntity<List<ProductDto>> getAllProducts(WebRequest webRequest) {
+        return withCatalogRevision(webRequest, productService::getAllProducts);
+    }
+
+    /**
+     * Retrieves all products sorted by price, tagged with the catalog revision.
+     *
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing a sorted list of ProductDto, or 304 if the catalog has not changed.
      */
     @Override
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
-        return new ResponseEntity<>(productService.getAllProducts(), HttpStatus.OK);
+    public ResponseEntity<List<ProductDto>> getAllProductsSortedByPrice(WebRequest webRequest) {
+        return withCatalogRevision(webRequest, productService::getAllProductsSortedByPrice);
     }
 
     /**
-     * Retrieves all products sorted by price.
+     * Streams all products as newline-delimited JSON, one product per line.
      *
-     * @return A ResponseEntity containing a sorted list of ProductDto.
+     * @return A ResponseEntity containing a StreamingResponseBody that writes the products.
      */
     @Override
-    public ResponseEntity<List<ProductDto>> getAllProductsSortedByPrice() {
-        return new ResponseEntity<>(productService.getAllProductsSortedByPrice(), HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> productService.streamAllProducts(productDto -> writeLine(outputStream, productDto)));
     }
 
     /**
-     * Retrieves products within the specified price range.
+     * Streams all products sorted by price as newline-delimited JSON, one product per line.
      *
-     * @param lowerLimit The lower limit of the price range.
-     * @param upperLimit The upper limit of the price range.
-     * @return A ResponseEntity containing a list of ProductDto within the given price range.
+     * @return A ResponseEntity containing a StreamingResponseBody that writes the products.
      */
     @Override
-    public ResponseEntity<List<ProductDto>> getProductsByPriceRange(Double lowerLimit, Double upperLimit) {
-        return new ResponseEntity<>(productService.getProductsByPriceRange(lowerLimit, upperLimit), HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> streamAllProductsSortedByPrice() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> productService.streamAllProductsSortedByPrice(
+                        productDto -> writeLine(outputStream, productDto)));
+    }
+
+    /**
+     * Retrieves products within the specified price range, tagged with the catalog revision.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing a list of ProductDto within the given price range, or 304 if the catalog
+     *         has not changed.
+     */
+    @Override
+    public ResponseEntity<List<ProductDto>> getProductsByPriceRange(Long lowerLimit, Long upperLimit,
+                                                                    WebRequest webRequest) {
+        return withCatalogRevision(webRequest, () -> productService.getProductsByPriceRange(lowerLimit, upperLimit));
+    }
+
+    /**
+     * Retrieves one page of products ordered by productId.
+     *
+     * @param pageSize The requested number of products.
+     * @param cursor   The cursor returned with the previous page, absent for the first page.
+     * @return A ResponseEntity containing a ProductPageDto.
+     */
+    @Override
+    public ResponseEntity<ProductPageDto> getProductsPage(int pageSize, String cursor) {
+        return new ResponseEntity<>(productService.getProductsPage(cursor, pageSize), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves one page of products sorted by price.
+     *
+     * @param pageSize The requested number of products.
+     * @param cursor   The cursor returned with the previous page, absent for the first page.
+     * @return A ResponseEntity containing a ProductPageDto.
+     */
+    @Override
+    public ResponseEntity<ProductPageDto> getProductsSortedByPricePage(int pageSize, String cursor) {
+        return new ResponseEntity<>(productService.getProductsSortedByPricePage(cursor, pageSize), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves one page of products within the specified price range.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @param pageSize   The requested number of products.
+     * @param cursor     The cursor returned with the previous page, absent for the first page.
+     * @return A ResponseEntity containing a ProductPageDto.
+     */
+    @Override
+    public ResponseEntity<ProductPageDto> getProductsByPriceRangePage(Long lowerLimit, Long upperLimit,
+                                                                      int pageSize, String cursor) {
+        return new ResponseEntity<>(productService.getProductsByPriceRangePage(lowerLimit, upperLimit, cursor, pageSize),
+                                    HttpStatus.OK);
     }
 
     /**
@@ -67,15 +173,76 @@ public class ProductControllerImpl implements ProductController {
         return new ResponseEntity<>(productService.createProduct(productDto), HttpStatus.CREATED);
     }
 
+    /**
+     * Creates products in bulk.
+     *
+     * @param productDtos The Dtos containing information for creating the products.
+     * @return A ResponseEntity containing one BulkProductResultDto per requested product,
+     *         with status 201 if all of them were created and 207 otherwise.
+     */
+    @Override
+    public ResponseEntity<List<BulkProductResultDto>> createProducts(List<ProductDto> productDtos) {
+        List<BulkProductResultDto> results = productService.createProducts(productDtos);
+        boolean allCreated = results.stream().allMatch(result -> result.getStatusCode() == HttpStatus.CREATED.value());
+        return new ResponseEntity<>(results, allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+    }
+
     /**
      * Retrieves a product by its unique identifier.
      *
-     * @param productId The unique identifier of the product.
-     * @return A ResponseEntity containing the ProductDto for the specified productId.
+     * @param productId  The unique identifier of the product.
+     * @param webRequest The request, checked against If-None-Match.
+     * @return A ResponseEntity containing the ProductDto for the specified productId and its ETag,
+     *         or 304 if the product has not changed.
+     */
+    @Override
+    public ResponseEntity<ProductDto> getProductById(Long productId, WebRequest webRequest) {
+        ProductDto productDto = productService.getProductById(productId);
+        if (webRequest.checkNotModified(EntityTags.of(productDto.getVersion()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(productDto);
+    }
+
+    /**
+     * Retrieves many products by their unique identifiers in one call.
+     *
+     * @param productIds The unique identifiers of the products.
+     * @return A ResponseEntity containing the products found and the missing ids.
+     */
+    @Override
+    public ResponseEntity<ProductLookupDto> lookupProducts(List<Long> productIds) {
+        return new ResponseEntity<>(productService.lookupProducts(productIds), HttpStatus.OK);
+    }
+
+    /**
+     * Searches products by name, best matches first, tagged with the catalog revision.
+     *
+     * @param q          The search text; every term of it must occur in a matching product name.
+     * @param lowerLimit The optional lower limit of the price range, in cents.
+     * @param upperLimit The optional upper limit of the price range, in cents.
+     * @param limit      The requested number of products.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing the matching ProductDto ranked by relevance, or 304 if the catalog has
+     *         not changed.
+     */
+    @Override
+    public ResponseEntity<List<ProductDto>> searchProducts(String q, Long lowerLimit, Long upperLimit, int limit,
+                                                           WebRequest webRequest) {
+        return withCatalogRevision(webRequest, () -> productService.searchProducts(q, lowerLimit, upperLimit, limit));
+    }
+
+    /**
+     * Completes a prefix into product names, tagged with the catalog revision.
+     *
+     * @param prefix     The typed text.
+     * @param limit      The requested number of names.
+     * @param webRequest The request, checked against If-None-Match before any lookup.
+     * @return A ResponseEntity containing the normalized product names, or 304 if the catalog has not changed.
      */
     @Override
-    public ResponseEntity<ProductDto> getProductById(Long productId) {
-        return new ResponseEntity<>(productService.getProductById(productId), HttpStatus.OK);
+    public ResponseEntity<List<String>> autocompleteProductNames(String prefix, int limit, WebRequest webRequest) {
+        return withCatalogRevision(webRequest, () -> productService.autocompleteProductNames(prefix, limit));
     }
 
     /**
@@ -89,26 +256,97 @@ public class ProductControllerImpl implements ProductController {
         return new ResponseEntity<>(productService.deleteProductById(productId), HttpStatus.OK);
     }
 
+    /**
+     * Deletes many products by their unique identifiers in one call.
+     *
+     * @param productIds The unique identifiers of the products to be deleted.
+     * @return A ResponseEntity containing the number of requested and deleted products.
+     */
+    @Override
+    public ResponseEntity<BulkDeleteResultDto> deleteProducts(List<Long> productIds) {
+        return new ResponseEntity<>(productService.deleteProducts(productIds), HttpStatus.OK);
+    }
+
+    /**
+     * Changes the price of every product in a price range or id set by a percentage or an absolute amount.
+     *
+     * @param priceAdjustmentDto The Dto describing the price change and the selected products.
+     * @return A ResponseEntity containing the number of products whose price was changed.
+     */
+    @Override
+    public ResponseEntity<PriceAdjustmentResultDto> adjustPrices(PriceAdjustmentDto priceAdjustmentDto) {
+        return new ResponseEntity<>(productService.adjustPrices(priceAdjustmentDto), HttpStatus.OK);
+    }
+
     /**
      * Updates a product by its unique identifier.
      *
      * @param productDto The Dto containing information for updating the product.
-     * @return A ResponseEntity containing the updated ProductResponseDto.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductResponseDto and its ETag.
      */
     @Override
-    public ResponseEntity<ProductDto> updateProduct(ProductDto productDto) {
-        return new ResponseEntity<>(productService.updateProduct(productDto), HttpStatus.OK);
+    public ResponseEntity<ProductDto> updateProduct(ProductDto productDto, String ifMatch) {
+        Long expectedVersion = EntityTags.parseVersion(ifMatch);
+        return withEntityTag(expectedVersion == null ? productService.updateProduct(productDto)
+                                                     : productService.updateProduct(productDto, expectedVersion));
     }
 
     /**
      * Partially updates product fields of a product identified by the given unique identifier.
      *
      * @param productDto The Dto containing information for updating the product.
-     * @return A ResponseEntity containing the updated ProductDto.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductDto and its ETag.
      */
     @Override
-    public ResponseEntity<ProductDto> updateProductFields(ProductDto productDto) {
-        return new ResponseEntity<>(productService.updateProductFields(productDto), HttpStatus.OK);
+    public ResponseEntity<ProductDto> updateProductFields(ProductDto productDto, String ifMatch) {
+        Long expectedVersion = EntityTags.parseVersion(ifMatch);
+        return withEntityTag(expectedVersion == null ? productService.updateProductFields(productDto)
+                                                     : productService.updateProductFields(productDto, expectedVersion));
+    }
+
+    /**
+     * Answers a listing with 304 if the client already holds the current catalog revision, without looking up or
+     * serializing any product; otherwise returns the listing tagged with the revision. Only If-None-Match is
+     * evaluated: the revision is per instance, and no modification date would be comparable across instances.
+     *
+     * @param webRequest The request carrying the conditional headers.
+     * @param products   Supplies the listing when the client's copy is stale.
+     * @param <T>        The type of the listing.
+     * @return A ResponseEntity containing the listing, or an empty 304 response.
+     */
+    private <T> ResponseEntity<T> withCatalogRevision(WebRequest webRequest, Supplier<T> products) {
+        CatalogRevisionDto revision = productService.getCatalogRevision();
+        if (webRequest.checkNotModified(revision.getEntityTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(products.get());
+    }
+
+    /**
+     * Wraps a product in a 200 response tagged with the ETag of its version.
+     *
+     * @param productDto The product to return.
+     * @return A ResponseEntity containing the product and its ETag.
+     */
+    private ResponseEntity<ProductDto> withEntityTag(ProductDto productDto) {
+        return ResponseEntity.ok().eTag(EntityTags.of(productDto.getVersion())).body(productDto);
+    }
+
+    /**
+     * Writes one product as a single line of JSON.
+     *
+     * @param outputStream The response body stream.
+     * @param productDto   The product to be written.
+     */
+    private void writeLine(OutputStream outputStream, ProductDto productDto) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(productDto));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 }
@@ -0,0 +1,146 @@
+package com.microservices.productservice.controller.impl;
+
+import com.microservices.productservice.controller.ReactiveProductController;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.validation.ProductDtoValidator;
+import com.microservices.productservice.service.ReactiveProductService;
+import com.microservices.productservice.utility.EntityTags;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of the {@link ReactiveProductController} interface, active in the reactive profile.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@AllArgsConstructor
+@RestController
+@Profile("reactive")
+public class ReactiveProductControllerImpl implements ReactiveProductController {
+
+    private final ReactiveProductService reactiveProductService;
+    private final ProductDtoValidator productDtoValidator;
+
+    /**
+     * Validates ProductDto request bodies with the hand-written {@link ProductDtoValidator}, as the servlet
+     * controller does.
+     *
+     * @param binder The binder of a request body or parameter.
+     */
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        if (binder.getTarget() instanceof ProductDto) {
+            binder.setValidator(productDtoValidator);
+        }
+    }
+
+    /**
+     * Streams all products ordered by productId.
+     *
+     * @return The products.
+     */
+    @Override
+    public Flux<ProductDto> getAllProducts() {
+        return reactiveProductService.getAllProducts();
+    }
+
+    /**
+     * Streams all products sorted by price.
+     *
+     * @return The products sorted by price.
+     */
+    @Override
+    public Flux<ProductDto> getAllProductsSortedByPrice() {
+        return reactiveProductService.getAllProductsSortedByPrice();
+    }
+
+    /**
+     * Streams the products within the specified price range, sorted by price.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @return The products within the price range.
+     */
+    @Override
+    public Flux<ProductDto> getProductsByPriceRange(Long lowerLimit, Long upperLimit) {
+        return reactiveProductService.getProductsByPriceRange(lowerLimit, upperLimit);
+    }
+
+    /**
+     * Creates a new product.
+     *
+     * @param productDto The Dto containing information for creating a new product.
+     * @return A ResponseEntity containing the created ProductDto.
+     */
+    @Override
+    public Mono<ResponseEntity<ProductDto>> createProduct(ProductDto productDto) {
+        return reactiveProductService.createProduct(productDto)
+                .map(createdProductDto -> new ResponseEntity<>(createdProductDto, HttpStatus.CREATED));
+    }
+
+    /**
+     * Retrieves a product by its unique identifier.
+     *
+     * @param productId The unique identifier of the product.
+     * @param exchange  The exchange, checked against If-None-Match.
+     * @return A ResponseEntity containing the ProductDto and its ETag, or an empty 304 response.
+     */
+    @Override
+    public Mono<ResponseEntity<ProductDto>> getProductById(Long productId, ServerWebExchange exchange) {
+        return reactiveProductService.getProductById(productId)
+                .map(productDto -> exchange.checkNotModified(EntityTags.of(productDto.getVersion()))
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).<ProductDto>build()
+                        : ResponseEntity.ok(productDto));
+    }
+
+    /**
+     * Deletes a product by its unique identifier.
+     *
+     * @param productId The unique identifier of the product to be deleted.
+     * @return A ResponseEntity containing the deleted ProductDto.
+     */
+    @Override
+    public Mono<ResponseEntity<ProductDto>> deleteProductById(Long productId) {
+        return reactiveProductService.deleteProductById(productId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Updates a product by its unique identifier.
+     *
+     * @param productDto The Dto containing information for updating the product.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductDto and its ETag.
+     */
+    @Override
+    public Mono<ResponseEntity<ProductDto>> updateProduct(ProductDto productDto, String ifMatch) {
+        return reactiveProductService.updateProduct(productDto, EntityTags.parseVersion(ifMatch))
+                .map(ReactiveProductControllerImpl::withEntityTag);
+    }
+
+    /**
+     * Partially updates product fields of a product identified by the given unique identifier.
+     *
+     * @param productDto The Dto containing information for updating the product.
+     * @param ifMatch    The optional If-Match header.
+     * @return A ResponseEntity containing the updated ProductDto and its ETag.
+     */
+    @Override
+    public Mono<ResponseEntity<ProductDto>> updateProductFields(ProductDto productDto, String ifMatch) {
+        return reactiveProductService.updateProductFields(productDto, EntityTags.parseVersion(ifMatch))
+                .map(ReactiveProductControllerImpl::withEntityTag);
+    }
+
+    private static ResponseEntity<ProductDto> withEntityTag(ProductDto productDto) {
+        return ResponseEntity.ok().eTag(EntityTags.of(productDto.getVersion())).body(productDto);
+    }
+}
@@ -0,0 +1,69 @@
+package com.microservices.productservice.controller.metrics;
+
+import com.microservices.productservice.dto.EndpointLatencyDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint, exposed at /actuator/latency, listing the p50, p99 and p999 latency of every endpoint and
+ * response status. The figures come from the http.server.requests timers that Spring MVC records for each
+ * request with a monotonic clock. Each timer keeps a rotating HdrHistogram whose writers never lock. The
+ * percentiles are those set in management.metrics.distribution.percentiles; a percentile that is not set is null.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    private static final Comparator<EndpointLatencyDto> ORDER = Comparator.comparing(EndpointLatencyDto::getUri)
+                                                                          .thenComparing(EndpointLatencyDto::getMethod)
+                                                                          .thenComparing(EndpointLatencyDto::getStatus);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Lists the latency of every endpoint and response status, ordered by URI, method and status.
+     *
+     * @return The latency of each endpoint and response status.
+     */
+    @ReadOperation
+    public List<EndpointLatencyDto> latencies() {
+        return meterRegistry.find(HTTP_SERVER_REQUESTS).timers().stream()
+                .map(LatencyEndpoint::toEndpointLatencyDto)
+                .sorted(ORDER)
+                .toList();
+    }
+
+    private static EndpointLatencyDto toEndpointLatencyDto(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        return new EndpointLatencyDto(timer.getId().getTag("method"), timer.getId().getTag("uri"),
+                                      timer.getId().getTag("status"), snapshot.count(),
+                                      percentile(snapshot, 0.5), percentile(snapshot, 0.99),
+                                      percentile(snapshot, 0.999), snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    private static Double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of deleting many products by their ids.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkDeleteResultDto {
+
+    /**
+     * Number of distinct ids requested.
+     */
+    private int requestedCount;
+
+    /**
+     * Number of products deleted; requested ids that matched no product are not counted.
+     */
+    private int deletedCount;
+}
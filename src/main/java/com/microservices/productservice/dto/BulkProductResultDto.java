@@ -0,0 +1,40 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of one product of a bulk creation request.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkProductResultDto {
+
+    /**
+     * Position of the product in the request.
+     */
+    private int index;
+
+    /**
+     * HTTP status code of the product: 201 if created, 400 if invalid, 500 if its chunk failed.
+     */
+    private int statusCode;
+
+    /**
+     * The created product, or null if the product was not created.
+     */
+    private ProductDto product;
+
+    /**
+     * Messages explaining why the product was not created, empty if it was created.
+     */
+    private List<String> errors;
+}
@@ -0,0 +1,30 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data Transfer Object (DTO) representing the revision of the product catalog held by this instance.
+ * Every create, update or delete made through this instance, and every periodic refresh of the catalog, replaces
+ * it with a newer revision. It carries no modification time: the clocks and refresh times of the instances
+ * differ, so a date could not tell whether another instance's listing is current, and listings are only
+ * validated against the entity tag.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogRevisionDto {
+
+    /**
+     * Number of writes and refreshes applied to the catalog since this instance started.
+     */
+    private final long revision;
+
+    /**
+     * Strong entity tag identifying this revision on this instance.
+     */
+    private final String entityTag;
+}
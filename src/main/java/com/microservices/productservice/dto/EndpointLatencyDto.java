@@ -0,0 +1,59 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the latency of one endpoint for one response status,
+ * as recorded over the recent time window of its histogram.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EndpointLatencyDto {
+
+    /**
+     * HTTP method of the endpoint.
+     */
+    private String method;
+
+    /**
+     * URI template of the endpoint.
+     */
+    private String uri;
+
+    /**
+     * HTTP status of the responses.
+     */
+    private String status;
+
+    /**
+     * Number of responses since the application started.
+     */
+    private long count;
+
+    /**
+     * Median latency, in milliseconds.
+     */
+    private Double p50;
+
+    /**
+     * 99th percentile latency, in milliseconds.
+     */
+    private Double p99;
+
+    /**
+     * 99.9th percentile latency, in milliseconds.
+     */
+    private Double p999;
+
+    /**
+     * Highest latency, in milliseconds.
+     */
+    private double max;
+}
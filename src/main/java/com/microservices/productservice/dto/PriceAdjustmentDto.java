@@ -0,0 +1,62 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a price change applied to many products at once.
+ * The products are selected either by a price range or by their ids, never both.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceAdjustmentDto {
+
+    /**
+     * How the amount is applied to each price.
+     */
+    private Type type;
+
+    /**
+     * The percentage, or the absolute amount in whole cents, added to each price; negative values lower the prices.
+     */
+    private double amount;
+
+    /**
+     * The lower limit of the price range of the selected products, in cents.
+     */
+    private Long lowerLimit;
+
+    /**
+     * The upper limit of the price range of the selected products, in cents.
+     */
+    private Long upperLimit;
+
+    /**
+     * The unique identifiers of the selected products.
+     */
+    private List<Long> productIds;
+
+    /**
+     * Kinds of price change.
+     */
+    public enum Type {
+
+        /**
+         * Changes each price by a percentage of itself.
+         */
+        PERCENTAGE,
+
+        /**
+         * Adds the same amount to each price.
+         */
+        ABSOLUTE
+    }
+}
@@ -0,0 +1,24 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of a bulk price adjustment.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceAdjustmentResultDto {
+
+    /**
+     * Number of products whose price was changed; selected products whose new price would break the price
+     * rules are left unchanged and not counted.
+     */
+    private int affectedCount;
+}
@@ -1,6 +1,6 @@
 package com.microservices.productservice.dto;
 
-import com.microservices.productservice.dto.annotation.PricePattern;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.microservices.productservice.dto.group.OnCreate;
 import com.microservices.productservice.dto.group.OnUpdate;
 import jakarta.validation.constraints.*;
@@ -31,14 +31,30 @@ public class ProductDto {
      */
     @NotBlank(groups = {OnCreate.class}, message = PRODUCT_NAME_NOT_BLANK)
     @Pattern(groups = {OnCreate.class, OnUpdate.class}, regexp = "^[a-zA-Z ]*$", message = PRODUCT_NAME_ALPHA)
-    @Size(groups = {OnCreate.class}, min=2, message = PRODUCT_NAME_MIN_SIZE)
-    @Size(groups = {OnCreate.class, OnUpdate.class}, max=100, message = PRODUCT_NAME_MAX_SIZE)
+    @Size(groups = {OnCreate.class}, min = PRODUCT_NAME_MINIMUM_LENGTH, message = PRODUCT_NAME_MIN_SIZE)
+    @Size(groups = {OnCreate.class, OnUpdate.class}, max = PRODUCT_NAME_MAXIMUM_LENGTH, message = PRODUCT_NAME_MAX_SIZE)
     private String productName;
     /**
-     * Price of the product.
+     * Price of the product in cents; fractional amounts are rejected when the request is read.
      */
-    @Min(groups = {OnCreate.class}, value = 100, message = PRODUCT_PRICE_MIN_VALUE)
-    @Max(groups = {OnCreate.class, OnUpdate.class}, value = 100000, message = PRODUCT_PRICE_MAX_VALUE)
-    @PricePattern(groups = {OnCreate.class, OnUpdate.class}, message = PRODUCT_PRICE_PRICE_PATTERN)
-    private double productPrice;
+    @Min(groups = {OnCreate.class}, value = PRODUCT_PRICE_MINIMUM, message = PRODUCT_PRICE_MIN_VALUE)
+    @Max(groups = {OnCreate.class, OnUpdate.class}, value = PRODUCT_PRICE_MAXIMUM, message = PRODUCT_PRICE_MAX_VALUE)
+    private long productPrice;
+
+    /**
+     * Version of the product, also returned as its ETag; ignored in requests, which use If-Match instead.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
+    /**
+     * Constructs a ProductDto without a version.
+     *
+     * @param productId    Unique identifier of the product.
+     * @param productName  Name of the product.
+     * @param productPrice Price of the product in cents.
+     */
+    public ProductDto(long productId, String productName, long productPrice) {
+        this(productId, productName, productPrice, 0L);
+    }
 }
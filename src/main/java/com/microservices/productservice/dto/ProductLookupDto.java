@@ -0,0 +1,30 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the result of looking up many products by their ids.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductLookupDto {
+
+    /**
+     * Products found, in the order their ids were first requested.
+     */
+    private List<ProductDto> products;
+
+    /**
+     * Requested ids that do not match any product, in the order they were first requested.
+     */
+    private List<Long> missingIds;
+}
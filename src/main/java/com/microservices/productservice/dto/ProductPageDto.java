@@ -0,0 +1,30 @@
+package com.microservices.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing one page of products.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductPageDto {
+
+    /**
+     * Products on this page.
+     */
+    private List<ProductDto> products;
+
+    /**
+     * Opaque token to pass as the cursor of the next request, or null if this is the last page.
+     */
+    private String nextCursor;
+}
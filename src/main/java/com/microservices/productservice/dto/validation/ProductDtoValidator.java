@@ -0,0 +1,161 @@
+package com.microservices.productservice.dto.validation;
+
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.group.OnCreate;
+import com.microservices.productservice.dto.group.OnUpdate;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static com.microservices.productservice.utility.ValidationConstant.*;
+
+/**
+ * Validator checking the constraints declared on {@link ProductDto} for the OnCreate and OnUpdate groups
+ * without Bean Validation. The checks are written out by hand: no reflection, no regular expression and no
+ * boxing, and a valid product allocates nothing. The messages are resolved once, when the validator is created.
+ * The constraint annotations on ProductDto stay the declared rules and must be kept in step with this class.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Component
+public class ProductDtoValidator implements SmartValidator {
+
+    private static final int NAME_BLANK = 0;
+    private static final int NAME_NOT_ALPHA = 1;
+    private static final int NAME_TOO_SHORT = 2;
+    private static final int NAME_TOO_LONG = 3;
+    private static final int PRICE_TOO_LOW = 4;
+    private static final int PRICE_TOO_HIGH = 5;
+
+    private static final String PRODUCT_NAME = "productName";
+    private static final String PRODUCT_PRICE = "productPrice";
+
+    private static final String[] FIELDS = {PRODUCT_NAME, PRODUCT_NAME, PRODUCT_NAME, PRODUCT_NAME,
+                                            PRODUCT_PRICE, PRODUCT_PRICE};
+    private static final String[] CODES = {"NotBlank", "Pattern", "Size", "Size", "Min", "Max"};
+    private static final String[] MESSAGE_KEYS = {PRODUCT_NAME_NOT_BLANK, PRODUCT_NAME_ALPHA, PRODUCT_NAME_MIN_SIZE,
+                                                  PRODUCT_NAME_MAX_SIZE, PRODUCT_PRICE_MIN_VALUE,
+                                                  PRODUCT_PRICE_MAX_VALUE};
+
+    private final String[] messages = new String[MESSAGE_KEYS.length];
+
+    /**
+     * Creates the validator and resolves its messages.
+     *
+     * @param messageSource The source of the validation messages; a message it does not know is reported by its key.
+     */
+    public ProductDtoValidator(MessageSource messageSource) {
+        for (int i = 0; i < MESSAGE_KEYS.length; i++) {
+            String code = MESSAGE_KEYS[i].substring(1, MESSAGE_KEYS[i].length() - 1);
+            messages[i] = messageSource.getMessage(code, null, MESSAGE_KEYS[i], Locale.getDefault());
+        }
+    }
+
+    @Override
+    public boolean supports(@NotNull Class<?> clazz) {
+        return ProductDto.class == clazz;
+    }
+
+    /**
+     * Validates a product for the Default group, which has no constraint on ProductDto.
+     *
+     * @param target The ProductDto to be validated.
+     * @param errors The errors of the target.
+     */
+    @Override
+    public void validate(@NotNull Object target, @NotNull Errors errors) {
+        validate(target, errors, (Object[]) null);
+    }
+
+    /**
+     * Validates a product for the groups given as hints, as {@code @Validated} does, and rejects the fields of
+     * every violated constraint.
+     *
+     * @param target          The ProductDto to be validated.
+     * @param errors          The errors of the target.
+     * @param validationHints The validation groups.
+     */
+    @Override
+    public void validate(@NotNull Object target, @NotNull Errors errors, Object... validationHints) {
+        int violations = violations((ProductDto) target, contains(validationHints, OnCreate.class),
+                                    contains(validationHints, OnUpdate.class));
+        for (int constraint = 0; violations != 0; constraint++, violations >>>= 1) {
+            if ((violations & 1) != 0) {
+                errors.rejectValue(FIELDS[constraint], CODES[constraint], messages[constraint]);
+            }
+        }
+    }
+
+    /**
+     * Validates a product for one group.
+     *
+     * @param productDto The product to be validated.
+     * @param group      The validation group, OnCreate or OnUpdate.
+     * @return The sorted messages of the violated constraints; an empty list, allocated once, if the product is valid.
+     */
+    public List<String> validate(ProductDto productDto, Class<?> group) {
+        int violations = violations(productDto, group == OnCreate.class, group == OnUpdate.class);
+        if (violations == 0) {
+            return Collections.emptyList();
+        }
+        List<String> errors = new ArrayList<>(Integer.bitCount(violations));
+        for (int constraint = 0; violations != 0; constraint++, violations >>>= 1) {
+            if ((violations & 1) != 0) {
+                errors.add(messages[constraint]);
+            }
+        }
+        Collections.sort(errors);
+        return errors;
+    }
+
+    /**
+     * Checks the constraints of the given groups and returns one bit per violated constraint.
+     */
+    private static int violations(ProductDto productDto, boolean onCreate, boolean onUpdate) {
+        if (!onCreate && !onUpdate) {
+            return 0;
+        }
+        int violations = 0;
+        String productName = productDto.getProductName();
+        if (productName == null) {
+            violations |= onCreate ? 1 << NAME_BLANK : 0;
+        } else {
+            int length = productName.length();
+            boolean blank = true;
+            boolean alpha = true;
+            for (int i = 0; i < length; i++) {
+                char c = productName.charAt(i);
+                blank &= c <= ' ';
+                alpha &= (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == ' ';
+            }
+            violations |= onCreate && blank ? 1 << NAME_BLANK : 0;
+            violations |= alpha ? 0 : 1 << NAME_NOT_ALPHA;
+            violations |= onCreate && length < PRODUCT_NAME_MINIMUM_LENGTH ? 1 << NAME_TOO_SHORT : 0;
+            violations |= length > PRODUCT_NAME_MAXIMUM_LENGTH ? 1 << NAME_TOO_LONG : 0;
+        }
+        long productPrice = productDto.getProductPrice();
+        violations |= onCreate && productPrice < PRODUCT_PRICE_MINIMUM ? 1 << PRICE_TOO_LOW : 0;
+        violations |= productPrice > PRODUCT_PRICE_MAXIMUM ? 1 << PRICE_TOO_HIGH : 0;
+        return violations;
+    }
+
+    private static boolean contains(Object[] validationHints, Class<?> group) {
+        if (validationHints != null) {
+            for (Object hint : validationHints) {
+                if (hint == group) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -37,7 +38,29 @@ public class Product {
     private String productName;
 
     /**
-     * Price of the product.
+     * Price of the product in cents, stored as an exact integer so that prices compare, sort and index as BIGINT.
+     * Tables created when prices were stored in units are converted by the manual upgrade script
+     * db/upgrade/product_price_in_cents.sql.
      */
-    private double productPrice;
+    private long productPrice;
+
+    /**
+     * Version of the product, incremented by every update and used for optimistic locking.
+     * Rows created before the column existed start at version 0.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * Constructs a product that has not been updated yet.
+     *
+     * @param productId    Unique identifier of the product.
+     * @param productName  Name of the product.
+     * @param productPrice Price of the product in cents.
+     */
+    public Product(long productId, String productName, long productPrice) {
+        this(productId, productName, productPrice, 0L);
+    }
 }
@@ -0,0 +1,82 @@
+package com.microservices.productservice.exception;
+
+import com.microservices.productservice.dto.ErrorDto;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable catalog of the error responses of the ProductService, read once at startup from
+ * errorcode.properties and messages.properties. Every error key of errorcode.properties must have a numeric
+ * code and a message, otherwise the application fails to start.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Component
+public class ErrorCatalog {
+
+    private final Map<String, ErrorDto> templates;
+
+    /**
+     * Reads the error codes and messages from the classpath.
+     *
+     * @throws IllegalStateException if an error key has a non-numeric code or no message.
+     */
+    public ErrorCatalog() {
+        this(load("errorcode.properties"), load("messages.properties"));
+    }
+
+    /**
+     * Builds the catalog from the given error codes and messages.
+     *
+     * @param errorCodes The numeric code of each error key.
+     * @param messages   The message of each error key.
+     * @throws IllegalStateException if an error key has a non-numeric code or no message.
+     */
+    ErrorCatalog(Properties errorCodes, Properties messages) {
+        Map<String, ErrorDto> entries = new HashMap<>();
+        for (String key : errorCodes.stringPropertyNames()) {
+            String message = messages.getProperty(key);
+            if (message == null) {
+                throw new IllegalStateException("No message for error " + key);
+            }
+            try {
+                entries.put(key, new ErrorDto(Integer.valueOf(errorCodes.getProperty(key).trim()), message, null));
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Invalid code for error " + key, e);
+            }
+        }
+        this.templates = Map.copyOf(entries);
+    }
+
+    /**
+     * Returns a new error response for the given exception, timestamped now.
+     * An exception whose key is not in the catalog is answered with its HTTP status and key.
+     *
+     * @param ex The ProductServiceException.
+     * @return The error details.
+     */
+    public ErrorDto toErrorDto(ProductServiceException ex) {
+        ErrorDto template = templates.get(ex.getMessage());
+        return template == null
+                ? new ErrorDto(ex.getHttpStatus().value(), ex.getMessage(), LocalDateTime.now())
+                : new ErrorDto(template.getStatusCode(), template.getMessage(), LocalDateTime.now());
+    }
+
+    private static Properties load(String resource) {
+        try {
+            return PropertiesLoaderUtils.loadProperties(new ClassPathResource(resource));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+    }
+}
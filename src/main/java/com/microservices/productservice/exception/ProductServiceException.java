@@ -5,6 +5,8 @@ import org.springframework.http.HttpStatus;
 
 /**
  * Exception class for ProductService-related errors.
+ * It is thrown for every expected miss, such as an empty list or an unknown product, and answered from the
+ * ErrorCatalog, so it records no stack trace and allows no suppressed exceptions.
  *
  * @author priyanshu
  * @version 1.0
@@ -25,7 +27,7 @@ public class ProductServiceException extends RuntimeException {
      * @param httpStatus The HTTP status associated with the exception.
      */
     public ProductServiceException(String message, HttpStatus httpStatus) {
-        super(message);
+        super(message, null, false, false);
         this.httpStatus = httpStatus;
     }
 }
@@ -1,11 +1,18 @@
 package com.microservices.productservice.repository;
 
 import com.microservices.productservice.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Spring Data JPA repository for the Product entity.
@@ -15,7 +22,7 @@ import java.util.List;
  * @since 31/01/2024
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     /**
      * Retrieves all products sorted by price in ascending order.
@@ -28,10 +35,57 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     /**
      * Retrieves products within the specified price range.
      *
-     * @param lowerLimit The lower limit of the price range.
-     * @param upperLimit The upper limit of the price range.
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
      * @return A list of products within the given price range.
      */
     @Query("SELECT p FROM Product p WHERE productPrice BETWEEN ?1 AND ?2")
-    List<Product> findByPriceRange(Double lowerLimit, Double upperLimit);
+    List<Product> findByPriceRange(long lowerLimit, long upperLimit);
+
+    /**
+     * Retrieves the page of products that follows the given productId, ordered by productId.
+     *
+     * @param lastProductId The productId of the last product on the previous page.
+     * @param pageable      The number of products to be returned.
+     * @return A list of products ordered by productId.
+     */
+    @Query("SELECT p FROM Product p WHERE p.productId > ?1 ORDER BY p.productId ASC")
+    List<Product> findPageAfter(long lastProductId, Pageable pageable);
+
+    /**
+     * Retrieves the page of products that follows the given (productPrice, productId) position,
+     * ordered by price, then by productId. The leading inequality on productPrice lets the query
+     * seek into price_index instead of skipping rows with OFFSET.
+     *
+     * @param lastPrice     The price of the last product on the previous page.
+     * @param lastProductId The productId of the last product on the previous page.
+     * @param upperLimit    The upper limit of the price range, in cents.
+     * @param pageable      The number of products to be returned.
+     * @return A list of products sorted by price.
+     */
+    @Query("SELECT p FROM Product p WHERE p.productPrice >= ?1 AND p.productPrice <= ?3 "
+            + "AND (p.productPrice > ?1 OR p.productId > ?2) ORDER BY p.productPrice ASC, p.productId ASC")
+    List<Product> findPageSortedByPriceAfter(long lastPrice, long lastProductId, long upperLimit, Pageable pageable);
+
+    /**
+     * Streams all products ordered by productId over a forward-only cursor.
+     * Rows are fetched from the database in batches of the fetch size while the stream is consumed;
+     * the stream must be consumed and closed inside a transaction.
+     *
+     * @return A stream of products ordered by productId.
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM Product p ORDER BY p.productId ASC")
+    Stream<Product> streamAll();
+
+    /**
+     * Streams all products sorted by price in ascending order over a forward-only cursor.
+     * Rows are fetched from the database in batches of the fetch size while the stream is consumed;
+     * the stream must be consumed and closed inside a transaction.
+     *
+     * @return A stream of products sorted by price.
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM Product p ORDER BY p.productPrice ASC, p.productId ASC")
+    Stream<Product> streamAllSortedByPrice();
 }
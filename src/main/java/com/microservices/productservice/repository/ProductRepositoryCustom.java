@@ -0,0 +1,95 @@
+package com.microservices.productservice.repository;
+
+import com.microservices.productservice.entity.Product;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom repository operations for the Product entity that bypass the persistence context.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * Inserts products with JDBC batches and assigns the generated productId to each of them.
+     * Must be called inside a transaction so that the batches are committed together.
+     *
+     * @param products  The products to be inserted.
+     * @param batchSize The number of rows sent to the database in one batch.
+     */
+    void insertAll(List<Product> products, int batchSize);
+
+    /**
+     * Updates only the supplied columns of a product with a single UPDATE statement and increments its version.
+     *
+     * @param productId       The unique identifier of the product.
+     * @param productName     The new name, or null to keep the current one.
+     * @param productPrice    The new price in cents, or zero or less to keep the current one.
+     * @param expectedVersion The version the product must have to be updated, or null to update any version.
+     * @return The number of updated rows, 0 if the product does not exist or has another version.
+     */
+    int updateFields(long productId, String productName, long productPrice, Long expectedVersion);
+
+    /**
+     * Deletes a product with a single DELETE statement, provided it still has the expected version.
+     *
+     * @param productId       The unique identifier of the product.
+     * @param expectedVersion The version the product must have to be deleted.
+     * @return The number of deleted rows, 0 if the product does not exist or has another version.
+     */
+    int deleteIfVersionMatches(long productId, long expectedVersion);
+
+    /**
+     * Locks, reads and deletes a product in one transaction.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The product as it was before deletion, or empty if it does not exist.
+     */
+    Optional<Product> deleteAndGet(long productId);
+
+    /**
+     * Deletes the products with the given ids with set-based DELETE statements in one transaction.
+     *
+     * @param productIds The unique identifiers of the products, without duplicates.
+     * @param chunkSize  The largest number of ids in the IN list of one statement.
+     * @return The number of deleted rows.
+     */
+    int deleteAllByIds(List<Long> productIds, int chunkSize);
+
+    /**
+     * Sets the price of every product within a price range to ROUND(price * factor) + offset, leaving out
+     * products whose new price would fall outside the allowed bounds. The products are updated with one
+     * set-based UPDATE per range of chunkSize productIds, each committed on its own.
+     *
+     * @param lowerLimit   The lower limit of the price range of the selected products.
+     * @param upperLimit   The upper limit of the price range of the selected products.
+     * @param factor       The factor applied to each price.
+     * @param offset       The amount in cents added to each price after the factor.
+     * @param minimumPrice The lowest allowed new price, in cents.
+     * @param maximumPrice The highest allowed new price, in cents.
+     * @param chunkSize    The width of the productId range updated by one statement.
+     * @return The number of updated rows.
+     */
+    int adjustPricesInRange(long lowerLimit, long upperLimit, double factor, long offset,
+                            long minimumPrice, long maximumPrice, int chunkSize);
+
+    /**
+     * Sets the price of the products with the given ids to ROUND(price * factor) + offset, leaving out
+     * products whose new price would fall outside the allowed bounds. The products are updated with one
+     * set-based UPDATE per chunkSize ids, each committed on its own.
+     *
+     * @param productIds   The unique identifiers of the selected products, without duplicates.
+     * @param factor       The factor applied to each price.
+     * @param offset       The amount in cents added to each price after the factor.
+     * @param minimumPrice The lowest allowed new price, in cents.
+     * @param maximumPrice The highest allowed new price, in cents.
+     * @param chunkSize    The largest number of ids in the IN list of one statement.
+     * @return The number of updated rows.
+     */
+    int adjustPricesByIds(List<Long> productIds, double factor, long offset,
+                          long minimumPrice, long maximumPrice, int chunkSize);
+}
@@ -0,0 +1,266 @@
+package com.microservices.productservice.repository;
+
+import com.microservices.productservice.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of {@link ProductRepositoryCustom}.
+ * Hibernate cannot batch inserts of entities whose identifier is generated by an IDENTITY column,
+ * so bulk inserts are issued directly through JDBC batches instead.
+ * Partial updates are issued as a single UPDATE of the supplied columns; the statement text of every combination
+ * of columns is built once, so each shape is prepared and cached by the driver like any other fixed statement.
+ * Deletes are issued as plain DELETE statements, so removing a product never loads it through the persistence context.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO product (product_name, product_price, version) VALUES (?, ?, 0)";
+
+    private static final String SELECT_FOR_UPDATE_SQL =
+            "SELECT product_id, product_name, product_price, version FROM product WHERE product_id = ? FOR UPDATE";
+
+    private static final String DELETE_SQL = "DELETE FROM product WHERE product_id = ?";
+
+    private static final String DELETE_IF_VERSION_MATCHES_SQL = "DELETE FROM product WHERE product_id = ? AND version = ?";
+
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = (resultSet, rowNum) -> new Product(
+            resultSet.getLong("product_id"), resultSet.getString("product_name"),
+            resultSet.getLong("product_price"), resultSet.getLong("version"));
+
+    private static final String PRODUCT_ID_RANGE_SQL =
+            "SELECT MIN(product_id), MAX(product_id) FROM product WHERE product_price BETWEEN ? AND ?";
+
+    private static final String ADJUST_PRICES_SQL =
+            "UPDATE product SET product_price = ROUND(product_price * CAST(? AS DECIMAL(19, 9))) + ?, "
+                    + "version = version + 1 WHERE ROUND(product_price * CAST(? AS DECIMAL(19, 9))) + ? BETWEEN ? AND ? AND ";
+
+    private static final String ADJUST_PRICES_IN_RANGE_SQL =
+            ADJUST_PRICES_SQL + "product_id BETWEEN ? AND ? AND product_price BETWEEN ? AND ?";
+
+    private static final int NAME_COLUMN = 1;
+    private static final int PRICE_COLUMN = 2;
+    private static final int VERSION_CONDITION = 4;
+
+    /**
+     * UPDATE statements indexed by the combination of NAME_COLUMN, PRICE_COLUMN and VERSION_CONDITION they contain.
+     */
+    private static final String[] UPDATE_SQL = new String[8];
+
+    static {
+        for (int shape = 0; shape < UPDATE_SQL.length; shape++) {
+            StringBuilder sql = new StringBuilder("UPDATE product SET ");
+            if ((shape & NAME_COLUMN) != 0) {
+                sql.append("product_name = ?, ");
+            }
+            if ((shape & PRICE_COLUMN) != 0) {
+                sql.append("product_price = ?, ");
+            }
+            sql.append("version = version + 1 WHERE product_id = ?");
+            if ((shape & VERSION_CONDITION) != 0) {
+                sql.append(" AND version = ?");
+            }
+            UPDATE_SQL[shape] = sql.toString();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts products with JDBC batches and assigns the generated productId to each of them.
+     *
+     * @param products  The products to be inserted.
+     * @param batchSize The number of rows sent to the database in one batch.
+     */
+    @Override
+    public void insertAll(List<Product> products, int batchSize) {
+        for (int from = 0; from < products.size(); from += batchSize) {
+            List<Product> batch = products.subList(from, Math.min(from + batchSize, products.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                                     new ProductBatchSetter(batch), keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setProductId(((Number) keys.get(i).values().iterator().next()).longValue());
+            }
+        }
+    }
+
+    /**
+     * Updates only the supplied columns of a product with a single UPDATE statement and increments its version.
+     *
+     * @param productId       The unique identifier of the product.
+     * @param productName     The new name, or null to keep the current one.
+     * @param productPrice    The new price in cents, or zero or less to keep the current one.
+     * @param expectedVersion The version the product must have to be updated, or null to update any version.
+     * @return The number of updated rows, 0 if the product does not exist or has another version.
+     */
+    @Override
+    public int updateFields(long productId, String productName, long productPrice, Long expectedVersion) {
+        int shape = (productName != null ? NAME_COLUMN : 0)
+                | (productPrice > 0 ? PRICE_COLUMN : 0)
+                | (expectedVersion != null ? VERSION_CONDITION : 0);
+        return jdbcTemplate.update(UPDATE_SQL[shape], preparedStatement -> {
+            int index = 1;
+            if ((shape & NAME_COLUMN) != 0) {
+                preparedStatement.setString(index++, productName);
+            }
+            if ((shape & PRICE_COLUMN) != 0) {
+                preparedStatement.setLong(index++, productPrice);
+            }
+            preparedStatement.setLong(index++, productId);
+            if (expectedVersion != null) {
+                preparedStatement.setLong(index, expectedVersion);
+            }
+        });
+    }
+
+    /**
+     * Deletes a product with a single DELETE statement, provided it still has the expected version.
+     *
+     * @param productId       The unique identifier of the product.
+     * @param expectedVersion The version the product must have to be deleted.
+     * @return The number of deleted rows, 0 if the product does not exist or has another version.
+     */
+    @Override
+    public int deleteIfVersionMatches(long productId, long expectedVersion) {
+        return jdbcTemplate.update(DELETE_IF_VERSION_MATCHES_SQL, productId, expectedVersion);
+    }
+
+    /**
+     * Locks, reads and deletes a product in one transaction, so the returned product is exactly the deleted row.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The product as it was before deletion, or empty if it does not exist.
+     */
+    @Override
+    @Transactional
+    public Optional<Product> deleteAndGet(long productId) {
+        List<Product> products = jdbcTemplate.query(SELECT_FOR_UPDATE_SQL, PRODUCT_ROW_MAPPER, productId);
+        if (products.isEmpty()) {
+            return Optional.empty();
+        }
+        jdbcTemplate.update(DELETE_SQL, productId);
+        return Optional.of(products.get(0));
+    }
+
+    /**
+     * Deletes the products with the given ids with set-based DELETE statements in one transaction.
+     *
+     * @param productIds The unique identifiers of the products, without duplicates.
+     * @param chunkSize  The largest number of ids in the IN list of one statement.
+     * @return The number of deleted rows.
+     */
+    @Override
+    @Transactional
+    public int deleteAllByIds(List<Long> productIds, int chunkSize) {
+        int deleted = 0;
+        for (int from = 0; from < productIds.size(); from += chunkSize) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + chunkSize, productIds.size()));
+            deleted += jdbcTemplate.update("DELETE FROM product WHERE product_id IN (" + placeholders(chunk.size()) + ")",
+                                           chunk.toArray());
+        }
+        return deleted;
+    }
+
+    /**
+     * Adjusts the prices of the products within a price range with one UPDATE per range of chunkSize productIds,
+     * so that no statement locks more than chunkSize rows. Each statement commits on its own, so a failure leaves
+     * the chunks before it committed.
+     *
+     * @param lowerLimit   The lower limit of the price range of the selected products.
+     * @param upperLimit   The upper limit of the price range of the selected products.
+     * @param factor       The factor applied to each price.
+     * @param offset       The amount in cents added to each price after the factor.
+     * @param minimumPrice The lowest allowed new price, in cents.
+     * @param maximumPrice The highest allowed new price, in cents.
+     * @param chunkSize    The width of the productId range updated by one statement.
+     * @return The number of updated rows.
+     */
+    @Override
+    public int adjustPricesInRange(long lowerLimit, long upperLimit, double factor, long offset,
+                                   long minimumPrice, long maximumPrice, int chunkSize) {
+        long[] idRange = jdbcTemplate.queryForObject(PRODUCT_ID_RANGE_SQL,
+                (resultSet, rowNum) -> new long[]{resultSet.getLong(1), resultSet.getLong(2)}, lowerLimit, upperLimit);
+        if (idRange == null || idRange[1] == 0) {
+            return 0;
+        }
+        int updated = 0;
+        for (long fromId = idRange[0]; fromId <= idRange[1]; fromId += chunkSize) {
+            updated += jdbcTemplate.update(ADJUST_PRICES_IN_RANGE_SQL, factor, offset, factor, offset,
+                                           minimumPrice, maximumPrice, fromId, fromId + chunkSize - 1,
+                                           lowerLimit, upperLimit);
+        }
+        return updated;
+    }
+
+    /**
+     * Adjusts the prices of the products with the given ids with one UPDATE per chunkSize ids. Each statement
+     * commits on its own, so a failure leaves the chunks before it committed.
+     *
+     * @param productIds   The unique identifiers of the selected products, without duplicates.
+     * @param factor       The factor applied to each price.
+     * @param offset       The amount in cents added to each price after the factor.
+     * @param minimumPrice The lowest allowed new price, in cents.
+     * @param maximumPrice The highest allowed new price, in cents.
+     * @param chunkSize    The largest number of ids in the IN list of one statement.
+     * @return The number of updated rows.
+     */
+    @Override
+    public int adjustPricesByIds(List<Long> productIds, double factor, long offset,
+                                 long minimumPrice, long maximumPrice, int chunkSize) {
+        int updated = 0;
+        for (int from = 0; from < productIds.size(); from += chunkSize) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + chunkSize, productIds.size()));
+            List<Object> arguments = new ArrayList<>(chunk.size() + 6);
+            Collections.addAll(arguments, factor, offset, factor, offset, minimumPrice, maximumPrice);
+            arguments.addAll(chunk);
+            updated += jdbcTemplate.update(ADJUST_PRICES_SQL + "product_id IN (" + placeholders(chunk.size()) + ")",
+                                           arguments.toArray());
+        }
+        return updated;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Binds the name and price of each product of a batch.
+     */
+    @RequiredArgsConstructor
+    private static final class ProductBatchSetter implements BatchPreparedStatementSetter {
+
+        private final List<Product> batch;
+
+        @Override
+        public void setValues(@NotNull PreparedStatement preparedStatement, int i) throws SQLException {
+            preparedStatement.setString(1, batch.get(i).getProductName());
+            preparedStatement.setLong(2, batch.get(i).getProductPrice());
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batch.size();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.microservices.productservice.repository;
+
+import com.microservices.productservice.entity.Product;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking repository for the product table, used by the reactive profile through R2DBC.
+ * Statements are written out like those of {@link ProductRepositoryCustomImpl}, so both stacks read and write
+ * the same rows the same way: every update increments the version, and conditional statements compare it.
+ * Listings are emitted as rows arrive and fetched in chunks, so a slow subscriber holds back the query.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String SELECT_SQL = "SELECT product_id, product_name, product_price, version FROM product";
+
+    private static final String FIND_ALL_SQL = SELECT_SQL + " ORDER BY product_id";
+
+    private static final String FIND_ALL_SORTED_BY_PRICE_SQL = SELECT_SQL + " ORDER BY product_price, product_id";
+
+    private static final String FIND_BY_PRICE_RANGE_SQL =
+            SELECT_SQL + " WHERE product_price BETWEEN :lowerLimit AND :upperLimit ORDER BY product_price, product_id";
+
+    private static final String FIND_BY_ID_SQL = SELECT_SQL + " WHERE product_id = :productId";
+
+    private static final String FIND_BY_ID_FOR_UPDATE_SQL = FIND_BY_ID_SQL + " FOR UPDATE";
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM product WHERE product_id = :productId";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product (product_name, product_price, version) VALUES (:productName, :productPrice, 0)";
+
+    private static final String DELETE_SQL = "DELETE FROM product WHERE product_id = :productId";
+
+    private static final int NAME_COLUMN = 1;
+    private static final int PRICE_COLUMN = 2;
+    private static final int VERSION_CONDITION = 4;
+
+    /**
+     * UPDATE statements indexed by the combination of NAME_COLUMN, PRICE_COLUMN and VERSION_CONDITION they apply.
+     */
+    private static final String[] UPDATE_SQL = new String[8];
+
+    static {
+        for (int shape = 0; shape < UPDATE_SQL.length; shape++) {
+            UPDATE_SQL[shape] = "UPDATE product SET "
+                    + ((shape & NAME_COLUMN) != 0 ? "product_name = :productName, " : "")
+                    + ((shape & PRICE_COLUMN) != 0 ? "product_price = :productPrice, " : "")
+                    + "version = version + 1 WHERE product_id = :productId"
+                    + ((shape & VERSION_CONDITION) != 0 ? " AND version = :version" : "");
+        }
+    }
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Streams all products ordered by productId.
+     *
+     * @return The products, emitted as they are read.
+     */
+    public Flux<Product> findAll() {
+        return databaseClient.sql(FIND_ALL_SQL)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * Streams all products sorted by price in ascending order.
+     *
+     * @return The products, emitted as they are read.
+     */
+    public Flux<Product> findAllSortedByPrice() {
+        return databaseClient.sql(FIND_ALL_SORTED_BY_PRICE_SQL)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * Streams the products within the specified price range, sorted by price.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @return The products, emitted as they are read.
+     */
+    public Flux<Product> findByPriceRange(long lowerLimit, long upperLimit) {
+        return databaseClient.sql(FIND_BY_PRICE_RANGE_SQL)
+                .bind("lowerLimit", lowerLimit)
+                .bind("upperLimit", upperLimit)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * Reads a product by its unique identifier.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The product, or empty if it does not exist.
+     */
+    public Mono<Product> findById(long productId) {
+        return databaseClient.sql(FIND_BY_ID_SQL)
+                .bind("productId", productId)
+                .map(ReactiveProductRepository::toProduct)
+                .one();
+    }
+
+    /**
+     * Reads a product by its unique identifier and locks its row until the current transaction ends.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The product, or empty if it does not exist.
+     */
+    public Mono<Product> findByIdForUpdate(long productId) {
+        return databaseClient.sql(FIND_BY_ID_FOR_UPDATE_SQL)
+                .bind("productId", productId)
+                .map(ReactiveProductRepository::toProduct)
+                .one();
+    }
+
+    /**
+     * Tells whether a product exists.
+     *
+     * @param productId The unique identifier of the product.
+     * @return True if the product exists.
+     */
+    public Mono<Boolean> existsById(long productId) {
+        return databaseClient.sql(EXISTS_SQL)
+                .bind("productId", productId)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    /**
+     * Inserts a new product at version 0.
+     *
+     * @param product The product to be inserted; its identifier and version are ignored.
+     * @return The generated identifier of the product.
+     */
+    public Mono<Long> insert(Product product) {
+        return databaseClient.sql(INSERT_SQL)
+                .bind("productName", product.getProductName())
+                .bind("productPrice", product.getProductPrice())
+                .filter(statement -> statement.returnGeneratedValues("product_id"))
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Updates only the supplied columns of a product with a single UPDATE statement and increments its version.
+     *
+     * @param productId       The unique identifier of the product.
+     * @param productName     The new name, or null to keep the current one.
+     * @param productPrice    The new price in cents, or zero or less to keep the current one.
+     * @param expectedVersion The version the product must have to be updated, or null to update any version.
+     * @return The number of updated rows, 0 if the product does not exist or has another version.
+     */
+    public Mono<Long> updateFields(long productId, String productName, long productPrice, Long expectedVersion) {
+        int shape = (productName != null ? NAME_COLUMN : 0)
+                | (productPrice > 0 ? PRICE_COLUMN : 0)
+                | (expectedVersion != null ? VERSION_CONDITION : 0);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPDATE_SQL[shape]).bind("productId", productId);
+        if (productName != null) {
+            spec = spec.bind("productName", productName);
+        }
+        if (productPrice > 0) {
+            spec = spec.bind("productPrice", productPrice);
+        }
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * Deletes a product with a single DELETE statement.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The number of deleted rows.
+     */
+    public Mono<Long> deleteById(long productId) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("productId", productId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static Product toProduct(Readable row) {
+        return new Product(row.get("product_id", Long.class), row.get("product_name", String.class),
+                           row.get("product_price", Long.class), row.get("version", Long.class));
+    }
+}
@@ -1,9 +1,17 @@
 package com.microservices.productservice.service;
 
+import com.microservices.productservice.dto.BulkDeleteResultDto;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.CatalogRevisionDto;
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.PriceAdjustmentResultDto;
 import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.ProductLookupDto;
+import com.microservices.productservice.dto.ProductPageDto;
 import com.microservices.productservice.exception.ProductServiceException;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing products.
@@ -33,12 +41,61 @@ public interface ProductService {
     /**
      * Retrieves products within the specified price range.
      *
-     * @param lowerLimit The lower limit of the price range.
-     * @param upperLimit The upper limit of the price range.
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
      * @return A list of ProductDto within the given price range.
      * @throws ProductServiceException if the product list is empty.
      */
-    List<ProductDto> getProductsByPriceRange(Double lowerLimit, Double upperLimit) throws ProductServiceException;
+    List<ProductDto> getProductsByPriceRange(long lowerLimit, long upperLimit) throws ProductServiceException;
+
+    /**
+     * Streams all products ordered by productId to the given consumer, one product at a time,
+     * without holding the whole catalog in memory.
+     *
+     * @param productConsumer The consumer that receives each product as it is read.
+     */
+    void streamAllProducts(Consumer<ProductDto> productConsumer);
+
+    /**
+     * Streams all products sorted by price to the given consumer, one product at a time,
+     * without holding the whole catalog in memory.
+     *
+     * @param productConsumer The consumer that receives each product as it is read.
+     */
+    void streamAllProductsSortedByPrice(Consumer<ProductDto> productConsumer);
+
+    /**
+     * Retrieves one page of products ordered by productId.
+     *
+     * @param cursor   The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The requested number of products, capped to the maximum page size.
+     * @return A ProductPageDto containing the products and the cursor of the next page.
+     * @throws ProductServiceException if the cursor is invalid or the page is empty.
+     */
+    ProductPageDto getProductsPage(String cursor, int pageSize) throws ProductServiceException;
+
+    /**
+     * Retrieves one page of products sorted by price.
+     *
+     * @param cursor   The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The requested number of products, capped to the maximum page size.
+     * @return A ProductPageDto containing the products and the cursor of the next page.
+     * @throws ProductServiceException if the cursor is invalid or the page is empty.
+     */
+    ProductPageDto getProductsSortedByPricePage(String cursor, int pageSize) throws ProductServiceException;
+
+    /**
+     * Retrieves one page of products within the specified price range, sorted by price.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @param cursor     The cursor returned with the previous page, or null for the first page.
+     * @param pageSize   The requested number of products, capped to the maximum page size.
+     * @return A ProductPageDto containing the products and the cursor of the next page.
+     * @throws ProductServiceException if the cursor is invalid or the page is empty.
+     */
+    ProductPageDto getProductsByPriceRangePage(long lowerLimit, long upperLimit, String cursor, int pageSize)
+            throws ProductServiceException;
 
     /**
      * Creates a new product.
@@ -48,6 +105,15 @@ public interface ProductService {
      */
     ProductDto createProduct(ProductDto productDto);
 
+    /**
+     * Creates the valid products of a bulk request; invalid products are reported without being created.
+     *
+     * @param productDtos The Dtos containing information for creating the products.
+     * @return One result per requested product, in request order.
+     * @throws ProductServiceException if the request is empty, too large or has empty entries.
+     */
+    List<BulkProductResultDto> createProducts(List<ProductDto> productDtos) throws ProductServiceException;
+
     /**
      * Retrieves a product by its unique identifier.
      *
@@ -57,6 +123,39 @@ public interface ProductService {
      */
     ProductDto getProductById(Long productId) throws ProductServiceException;
 
+    /**
+     * Retrieves many products by their unique identifiers in one call.
+     * Ids that do not match any product are reported as missing instead of failing the lookup.
+     *
+     * @param productIds The unique identifiers of the products.
+     * @return A ProductLookupDto containing the products found and the missing ids.
+     * @throws ProductServiceException if the request has more ids than the maximum bulk size.
+     */
+    ProductLookupDto lookupProducts(List<Long> productIds);
+
+    /**
+     * Searches products by name, best matches first, optionally within a price range.
+     *
+     * @param query      The search text; every term of it must occur in a matching product name.
+     * @param lowerLimit The lower limit of the price range, in cents, or null for no lower limit.
+     * @param upperLimit The upper limit of the price range, in cents, or null for no upper limit.
+     * @param limit      The requested number of products, capped to the maximum page size.
+     * @return A list of ProductDto ranked by relevance.
+     * @throws ProductServiceException if the query has no terms, no product matches or search is unavailable.
+     */
+    List<ProductDto> searchProducts(String query, Long lowerLimit, Long upperLimit, int limit)
+            throws ProductServiceException;
+
+    /**
+     * Completes a prefix into the product names starting with it, the names of most products first.
+     *
+     * @param prefix The typed text; case and repeated whitespace are ignored.
+     * @param limit  The requested number of names, capped to the completions kept per prefix.
+     * @return A list of normalized product names.
+     * @throws ProductServiceException if the prefix is blank, no name starts with it or autocomplete is unavailable.
+     */
+    List<String> autocompleteProductNames(String prefix, int limit) throws ProductServiceException;
+
     /**
      * Deletes a product by its unique identifier.
      *
@@ -66,6 +165,24 @@ public interface ProductService {
      */
     ProductDto deleteProductById(Long productId) throws ProductServiceException;
 
+    /**
+     * Deletes many products by their unique identifiers in one call.
+     *
+     * @param productIds The unique identifiers of the products to be deleted.
+     * @return A BulkDeleteResultDto with the number of requested and deleted products.
+     * @throws ProductServiceException if the request is empty, too large or has empty entries.
+     */
+    BulkDeleteResultDto deleteProducts(List<Long> productIds) throws ProductServiceException;
+
+    /**
+     * Changes the price of every product in a price range or id set at once.
+     *
+     * @param priceAdjustmentDto The Dto describing the price change and the selected products.
+     * @return A PriceAdjustmentResultDto with the number of products whose price was changed.
+     * @throws ProductServiceException if the adjustment has no amount or no valid product selection.
+     */
+    PriceAdjustmentResultDto adjustPrices(PriceAdjustmentDto priceAdjustmentDto) throws ProductServiceException;
+
     /**
      * Updates a product by its unique identifier.
      *
@@ -75,13 +192,40 @@ public interface ProductService {
      */
     ProductDto updateProduct(ProductDto productDto) throws ProductServiceException;
 
+    /**
+     * Updates a product by its unique identifier, provided it still has the expected version.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match.
+     * @return The updated ProductDto carrying its new version.
+     * @throws ProductServiceException if the product is not found or its version differs.
+     */
+    ProductDto updateProduct(ProductDto productDto, long expectedVersion) throws ProductServiceException;
+
     /**
      * Partially updates specific fields of a product identified by the given unique identifier.
      *
      * @param productDto The Dto containing information for updating the product.
      * @return The updated ProductDto.
-     * @throws ProductServiceException if the product is not found.
+     * @throws ProductServiceException if the patch supplies no field or the product is not found.
      */
     ProductDto updateProductFields(ProductDto productDto) throws ProductServiceException;
-}
 
+    /**
+     * Partially updates specific fields of a product, provided it still has the expected version.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match.
+     * @return The updated ProductDto carrying its new version.
+     * @throws ProductServiceException if the patch supplies no field, or the product is not found or its version
+     *                                 differs.
+     */
+    ProductDto updateProductFields(ProductDto productDto, long expectedVersion) throws ProductServiceException;
+
+    /**
+     * Returns the current revision of the product catalog, which changes on every create, update or delete.
+     *
+     * @return The CatalogRevisionDto of the catalog.
+     */
+    CatalogRevisionDto getCatalogRevision();
+}
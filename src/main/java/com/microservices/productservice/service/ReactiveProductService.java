@@ -0,0 +1,82 @@
+package com.microservices.productservice.service;
+
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.exception.ProductServiceException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link ProductService}, used by the reactive profile.
+ * Failures are signalled as a {@link ProductServiceException} with the same keys and statuses as ProductService.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public interface ReactiveProductService {
+
+    /**
+     * Streams all products ordered by productId.
+     *
+     * @return The products, or a ProductServiceException if there are none.
+     */
+    Flux<ProductDto> getAllProducts();
+
+    /**
+     * Streams all products sorted by price.
+     *
+     * @return The products, or a ProductServiceException if there are none.
+     */
+    Flux<ProductDto> getAllProductsSortedByPrice();
+
+    /**
+     * Streams the products within the specified price range, sorted by price.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @return The products, or a ProductServiceException if there are none.
+     */
+    Flux<ProductDto> getProductsByPriceRange(long lowerLimit, long upperLimit);
+
+    /**
+     * Creates a new product.
+     *
+     * @param productDto The Dto containing information for creating a new product.
+     * @return The created ProductDto.
+     */
+    Mono<ProductDto> createProduct(ProductDto productDto);
+
+    /**
+     * Retrieves a product by its unique identifier.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The product, or a ProductServiceException if it is not found.
+     */
+    Mono<ProductDto> getProductById(long productId);
+
+    /**
+     * Deletes a product by its unique identifier.
+     *
+     * @param productId The unique identifier of the product to be deleted.
+     * @return The deleted product, or a ProductServiceException if it is not found.
+     */
+    Mono<ProductDto> deleteProductById(long productId);
+
+    /**
+     * Updates a product, provided it still has the expected version if one is given.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match, or null.
+     * @return The updated product, or a ProductServiceException if it is not found or its version differs.
+     */
+    Mono<ProductDto> updateProduct(ProductDto productDto, Long expectedVersion);
+
+    /**
+     * Partially updates the supplied fields of a product, provided it still has the expected version if one is given.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match, or null.
+     * @return The updated product, or a ProductServiceException if it is not found or its version differs.
+     */
+    Mono<ProductDto> updateProductFields(ProductDto productDto, Long expectedVersion);
+}
@@ -0,0 +1,192 @@
+package com.microservices.productservice.service.batch;
+
+import com.microservices.productservice.config.BatchLoaderProperties;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.repository.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges concurrent loads of different products into batches resolved by a single IN query.
+ * A load requested while no other batch is open or loading is dispatched at once, by its primary key, so an
+ * uncontended caller never waits. Otherwise the first caller of a batch keeps it open for a short window, or
+ * until it reaches the maximum batch size, then loads every id collected meanwhile and completes all the
+ * callers waiting on the batch; under contention each load thus waits up to the window for the query it shares.
+ * No extra threads are involved: each batch is loaded on the thread of its first caller.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ProductBatchLoader implements MeterBinder {
+
+    private final ProductRepository productRepository;
+    private final BatchLoaderProperties properties;
+    private final Object lock = new Object();
+
+    /**
+     * The batch currently accepting ids, or null if none is open. Guarded by lock.
+     */
+    private Batch openBatch;
+
+    /**
+     * Number of batches open or loading. Guarded by lock.
+     */
+    private int activeBatches;
+
+    /**
+     * Distribution of the number of ids loaded per batch, or null until bound to a registry.
+     */
+    private volatile DistributionSummary batchSizes;
+
+    /**
+     * Constructs the loader with the given settings.
+     *
+     * @param productRepository The repository the batches are loaded from.
+     * @param properties        The batching settings.
+     */
+    public ProductBatchLoader(ProductRepository productRepository, BatchLoaderProperties properties) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Loads a product, at once if no other load is in progress, otherwise sharing the query with the loads of
+     * other products requested within the same window.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The product, or empty if it does not exist.
+     */
+    public Optional<Product> load(long productId) {
+        if (!properties.isEnabled()) {
+            return productRepository.findById(productId);
+        }
+        Batch batch;
+        CompletableFuture<Product> result;
+        boolean firstCaller = false;
+        boolean uncontended = false;
+        synchronized (lock) {
+            if (openBatch == null) {
+                batch = new Batch();
+                firstCaller = true;
+                uncontended = activeBatches == 0;
+                if (!uncontended) {
+                    openBatch = batch;
+                }
+                activeBatches++;
+            } else {
+                batch = openBatch;
+            }
+            result = batch.waiters.computeIfAbsent(productId, id -> new CompletableFuture<>());
+            if (openBatch == batch && batch.waiters.size() >= properties.getMaximumBatchSize()) {
+                openBatch = null;
+                batch.full.countDown();
+            }
+        }
+        if (firstCaller) {
+            if (!uncontended) {
+                awaitWindow(batch);
+                synchronized (lock) {
+                    if (openBatch == batch) {
+                        openBatch = null;
+                    }
+                }
+            }
+            try {
+                execute(batch);
+            } finally {
+                synchronized (lock) {
+                    activeBatches--;
+                }
+            }
+        }
+        try {
+            return Optional.ofNullable(result.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Binds the batch-size distribution to the given meter registry.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        batchSizes = DistributionSummary.builder("product.batch-loader.batch.size")
+                .description("Number of product ids resolved by one batched query")
+                .baseUnit("products")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(registry);
+    }
+
+    private void awaitWindow(Batch batch) {
+        try {
+            batch.full.await(properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Loads every id of a closed batch and completes its waiters. Waiters of missing products receive null.
+     * A batch of a single id is loaded by its primary key alone.
+     */
+    private void execute(Batch batch) {
+        DistributionSummary summary = batchSizes;
+        if (summary != null) {
+            summary.record(batch.waiters.size());
+        }
+        try {
+            Map<Long, Product> loaded = new HashMap<>(batch.waiters.size());
+            if (batch.waiters.size() == 1) {
+                long productId = batch.waiters.keySet().iterator().next();
+                productRepository.findById(productId).ifPresent(product -> loaded.put(productId, product));
+            } else {
+                log.debug("Loading a batch of {} products", batch.waiters.size());
+                List<Long> productIds = new ArrayList<>(batch.waiters.keySet());
+                for (Product product : productRepository.findAllById(productIds)) {
+                    loaded.put(product.getProductId(), product);
+                }
+            }
+            batch.waiters.forEach((productId, waiter) -> waiter.complete(loaded.get(productId)));
+        } catch (RuntimeException e) {
+            batch.waiters.values().forEach(waiter -> waiter.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Ids collected during one window and the callers waiting for them.
+     */
+    private static final class Batch {
+
+        /**
+         * Waiters keyed by productId; modified under the loader lock until the batch is closed.
+         */
+        private final Map<Long, CompletableFuture<Product>> waiters = new HashMap<>();
+
+        /**
+         * Released when the batch reaches the maximum size, so that it is loaded before the window ends.
+         */
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.microservices.productservice.service.bulk;
+
+import com.microservices.productservice.config.BulkInsertProperties;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.group.OnCreate;
+import com.microservices.productservice.dto.validation.ProductDtoValidator;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.exception.ProductServiceException;
+import com.microservices.productservice.repository.ProductRepository;
+import com.microservices.productservice.service.mapper.ProductMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static com.microservices.productservice.utility.ExceptionConstant.BULK_CHUNK_FAILED;
+import static com.microservices.productservice.utility.ExceptionConstant.INVALID_BULK_REQUEST;
+
+/**
+ * Validates and inserts the products of a bulk creation request.
+ * Valid products are inserted in chunks, each chunk in its own transaction and sent to the database
+ * in JDBC batches, so that one failing chunk does not roll back the products already committed.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class BulkProductWriter {
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductDtoValidator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageSource messageSource;
+    private final BulkInsertProperties properties;
+
+    /**
+     * Validates the products with the OnCreate group and inserts the valid ones.
+     *
+     * @param productDtos      The products to be created.
+     * @param onChunkCommitted Called with the products of each chunk once the chunk is committed.
+     * @return One result per requested product, in request order.
+     * @throws ProductServiceException if the request is empty, too large or has empty entries.
+     */
+    public List<BulkProductResultDto> createAll(List<ProductDto> productDtos, Consumer<List<Product>> onChunkCommitted) {
+        if (productDtos == null || productDtos.isEmpty() || productDtos.size() > properties.getMaximumSize()
+                || productDtos.stream().anyMatch(Objects::isNull)) {
+            throw new ProductServiceException(INVALID_BULK_REQUEST, HttpStatus.BAD_REQUEST);
+        }
+        BulkProductResultDto[] results = new BulkProductResultDto[productDtos.size()];
+        List<Integer> chunkIndexes = new ArrayList<>(properties.getChunkSize());
+        List<Product> chunk = new ArrayList<>(properties.getChunkSize());
+        for (int index = 0; index < productDtos.size(); index++) {
+            ProductDto productDto = productDtos.get(index);
+            List<String> errors = validator.validate(productDto, OnCreate.class);
+            if (!errors.isEmpty()) {
+                results[index] = new BulkProductResultDto(index, HttpStatus.BAD_REQUEST.value(), null, errors);
+                continue;
+            }
+            chunkIndexes.add(index);
+            chunk.add(productMapper.productDtoToProduct(productDto));
+            if (chunk.size() == properties.getChunkSize()) {
+                insertChunk(chunk, chunkIndexes, results, onChunkCommitted);
+                chunk = new ArrayList<>(properties.getChunkSize());
+                chunkIndexes.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, chunkIndexes, results, onChunkCommitted);
+        }
+        return List.of(results);
+    }
+
+    private void insertChunk(List<Product> chunk, List<Integer> chunkIndexes, BulkProductResultDto[] results,
+                             Consumer<List<Product>> onChunkCommitted) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> productRepository.insertAll(chunk, properties.getBatchSize()));
+        } catch (RuntimeException e) {
+            log.error("Failed to insert a chunk of {} products: {}", chunk.size(), e.getMessage());
+            List<String> errors = Collections.singletonList(
+                    messageSource.getMessage(BULK_CHUNK_FAILED, null, Locale.getDefault()));
+            for (int index : chunkIndexes) {
+                results[index] = new BulkProductResultDto(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, errors);
+            }
+            return;
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunkIndexes.get(i);
+            results[index] = new BulkProductResultDto(index, HttpStatus.CREATED.value(),
+                                                      productMapper.productToProductDto(chunk.get(i)),
+                                                      Collections.emptyList());
+        }
+        onChunkCommitted.accept(chunk);
+    }
+}
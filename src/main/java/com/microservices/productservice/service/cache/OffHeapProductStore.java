@@ -0,0 +1,430 @@
+package com.microservices.productservice.service.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.microservices.productservice.config.ProductCacheProperties;
+import com.microservices.productservice.entity.Product;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional second-tier product cache that keeps serialized products in direct memory, outside the GC-managed heap.
+ * Products are stored in fixed-size slots carved out of lazily reserved direct buffer slabs and indexed by productId.
+ * When the memory budget is exhausted, slots are reclaimed with the CLOCK (second-chance) policy.
+ * Each slot records when its product was loaded, and products older than the expiry of the on-heap cache are
+ * treated as missing, so this tier never serves a product longer than the on-heap cache would.
+ * Invalidations advance a generation per stripe of productIds; a product read from the database before an
+ * invalidation of its productId is not stored afterwards, so a load racing with an update cannot leave the
+ * pre-update product behind.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+public class OffHeapProductStore implements MeterBinder {
+
+    /**
+     * Size in bytes of one product slot.
+     */
+    static final int SLOT_SIZE = 136;
+
+    private static final int ID_OFFSET = 0;
+    private static final int PRICE_OFFSET = 8;
+    private static final int VERSION_OFFSET = 16;
+    private static final int LOADED_AT_OFFSET = 24;
+    private static final int NAME_LENGTH_OFFSET = 32;
+    private static final int NAME_OFFSET = 34;
+
+    /**
+     * Maximum encoded length of a product name that fits in a slot; longer names are not stored.
+     */
+    static final int MAX_NAME_BYTES = SLOT_SIZE - NAME_OFFSET;
+
+    private static final int NO_SLOT = -1;
+    private static final short NULL_NAME = -1;
+
+    /**
+     * Number of invalidation generations is 2 to this power; productIds sharing a stripe share a generation.
+     */
+    private static final int GENERATION_STRIPE_BITS = 10;
+    private static final int GENERATION_STRIPES = 1 << GENERATION_STRIPE_BITS;
+
+    private final boolean enabled;
+    private final Ticker ticker;
+    private final long timeToLiveNanos;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final int slotsPerSlab;
+    private final int capacity;
+    private final ByteBuffer[] slabs;
+    private final byte[] referenced;
+    private final int[] freeSlots;
+    private final SlotIndex index;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private int freeCount;
+    private int nextUnusedSlot;
+    private int clockHand;
+    private int size;
+
+    /**
+     * Constructs the store with the given settings. Nothing is reserved when the store is disabled.
+     *
+     * @param properties The cache settings.
+     */
+    @Autowired
+    public OffHeapProductStore(ProductCacheProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    /**
+     * Constructs the store with the given settings, reading the age of stored products from the given ticker.
+     *
+     * @param properties The cache settings.
+     * @param ticker     The source of nanosecond time.
+     */
+    OffHeapProductStore(ProductCacheProperties properties, Ticker ticker) {
+        ProductCacheProperties.OffHeap offHeap = properties.getOffHeap();
+        this.ticker = ticker;
+        this.timeToLiveNanos = properties.getExpireAfterWrite().toNanos();
+        this.slotsPerSlab = (int) Math.max(1, Math.min(Integer.MAX_VALUE / SLOT_SIZE,
+                                                       offHeap.getSlabSize().toBytes() / SLOT_SIZE));
+        long slabCount = offHeap.isEnabled() ? offHeap.getMaximumMemory().toBytes() / ((long) slotsPerSlab * SLOT_SIZE) : 0;
+        this.capacity = Math.toIntExact(slabCount * slotsPerSlab);
+        this.enabled = capacity > 0;
+        if (offHeap.isEnabled() && !enabled) {
+            log.warn("Off-heap product cache disabled: maximum memory {} is smaller than one slab of {}",
+                     offHeap.getMaximumMemory(), offHeap.getSlabSize());
+        }
+        this.slabs = new ByteBuffer[(int) slabCount];
+        this.referenced = new byte[capacity];
+        this.freeSlots = new int[capacity];
+        this.index = new SlotIndex(capacity);
+    }
+
+    /**
+     * Indicates whether the store holds products at all.
+     *
+     * @return True if the store is enabled and has a non-empty memory budget.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retrieves a product from direct memory.
+     *
+     * @param productId The unique identifier of the product.
+     * @return A new Product populated from the stored slot, or null if the product is not stored or was loaded
+     *         longer ago than the expiry of the on-heap cache.
+     */
+    public Product get(long productId) {
+        if (!enabled) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int slot = index.get(productId);
+            if (slot == NO_SLOT || isExpired(slot)) {
+                misses.increment();
+                return null;
+            }
+            referenced[slot] = 1;
+            hits.increment();
+            return read(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the invalidation generation of a productId, to be read before the product is loaded from the
+     * database and passed to {@link #put(Product, long)} once it is loaded.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The current generation of the productId.
+     */
+    public long generation(long productId) {
+        return generations.get(stripe(productId));
+    }
+
+    /**
+     * Stores or replaces a product in direct memory, evicting another product if the budget is exhausted.
+     *
+     * @param product The product to be stored.
+     */
+    public void put(Product product) {
+        put(product, generation(product.getProductId()));
+    }
+
+    /**
+     * Stores or replaces a product loaded from the database, unless its productId was invalidated since the
+     * given generation was read, in which case the product may predate a committed update and is discarded.
+     *
+     * @param product    The product to be stored.
+     * @param generation The generation of the productId read before the product was loaded.
+     */
+    public void put(Product product, long generation) {
+        if (!enabled) {
+            return;
+        }
+        byte[] name = product.getProductName() == null ? null : product.getProductName().getBytes(StandardCharsets.UTF_8);
+        if (name != null && name.length > MAX_NAME_BYTES) {
+            invalidate(product.getProductId());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (generation(product.getProductId()) != generation) {
+                return;
+            }
+            int slot = index.get(product.getProductId());
+            if (slot == NO_SLOT) {
+                slot = allocateSlot();
+                index.put(product.getProductId(), slot);
+                size++;
+            }
+            write(slot, product, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a product from direct memory and returns its slot to the free list. The generation of the productId
+     * advances even if the product is not stored, so that a load already in progress does not store it.
+     *
+     * @param productId The unique identifier of the product.
+     */
+    public void invalidate(long productId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            generations.incrementAndGet(stripe(productId));
+            int slot = index.remove(productId);
+            if (slot != NO_SLOT) {
+                referenced[slot] = 0;
+                freeSlots[freeCount++] = slot;
+                size--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every product from direct memory and returns all their slots to the free list.
+     */
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+                generations.incrementAndGet(stripe);
+            }
+            for (int slot = 0; slot < nextUnusedSlot; slot++) {
+                long productId = slab(slot).getLong(offset(slot) + ID_OFFSET);
+                if (index.get(productId) == slot) {
+                    index.remove(productId);
+                    referenced[slot] = 0;
+                    freeSlots[freeCount++] = slot;
+                    size--;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of products currently stored.
+     *
+     * @return The number of stored products.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Binds the hit, miss, eviction, size and reserved memory figures to the given meter registry.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        FunctionCounter.builder("product.cache.offheap.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("product.cache.offheap.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("product.cache.offheap.evictions", evictions, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("product.cache.offheap.size", this, OffHeapProductStore::size)
+                .register(registry);
+        Gauge.builder("product.cache.offheap.memory.reserved", this, OffHeapProductStore::reservedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private double reservedBytes() {
+        long reservedSlabs = (nextUnusedSlot + slotsPerSlab - 1L) / slotsPerSlab;
+        return (double) reservedSlabs * slotsPerSlab * SLOT_SIZE;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (nextUnusedSlot < capacity) {
+            int slot = nextUnusedSlot++;
+            int slab = slot / slotsPerSlab;
+            if (slabs[slab] == null) {
+                slabs[slab] = ByteBuffer.allocateDirect(slotsPerSlab * SLOT_SIZE);
+            }
+            return slot;
+        }
+        return evict();
+    }
+
+    private int evict() {
+        while (true) {
+            int slot = clockHand;
+            clockHand = (clockHand + 1) % capacity;
+            if (referenced[slot] != 0) {
+                referenced[slot] = 0;
+                continue;
+            }
+            index.remove(slab(slot).getLong(offset(slot) + ID_OFFSET));
+            evictions.increment();
+            size--;
+            return slot;
+        }
+    }
+
+    private boolean isExpired(int slot) {
+        return ticker.read() - slab(slot).getLong(offset(slot) + LOADED_AT_OFFSET) > timeToLiveNanos;
+    }
+
+    private static int stripe(long productId) {
+        return (int) ((productId * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - GENERATION_STRIPE_BITS));
+    }
+
+    private Product read(int slot) {
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        String name = null;
+        short length = slab.getShort(offset + NAME_LENGTH_OFFSET);
+        if (length != NULL_NAME) {
+            byte[] bytes = new byte[length];
+            slab.get(offset + NAME_OFFSET, bytes);
+            name = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new Product(slab.getLong(offset + ID_OFFSET), name, slab.getLong(offset + PRICE_OFFSET),
+                           slab.getLong(offset + VERSION_OFFSET));
+    }
+
+    private void write(int slot, Product product, byte[] name) {
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        slab.putLong(offset + ID_OFFSET, product.getProductId());
+        slab.putLong(offset + PRICE_OFFSET, product.getProductPrice());
+        slab.putLong(offset + VERSION_OFFSET, product.getVersion());
+        slab.putLong(offset + LOADED_AT_OFFSET, ticker.read());
+        if (name == null) {
+            slab.putShort(offset + NAME_LENGTH_OFFSET, NULL_NAME);
+        } else {
+            slab.putShort(offset + NAME_LENGTH_OFFSET, (short) name.length);
+            slab.put(offset + NAME_OFFSET, name);
+        }
+    }
+
+    private ByteBuffer slab(int slot) {
+        return slabs[slot / slotsPerSlab];
+    }
+
+    private int offset(int slot) {
+        return (slot % slotsPerSlab) * SLOT_SIZE;
+    }
+
+    /**
+     * Open-addressing map from productId to slot number, kept in primitive arrays so the index
+     * does not allocate an object per stored product.
+     */
+    private static final class SlotIndex {
+
+        private final long[] keys;
+        private final int[] slots;
+        private final int mask;
+
+        SlotIndex(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+            this.keys = new long[tableSize];
+            this.slots = new int[tableSize];
+            this.mask = tableSize - 1;
+            Arrays.fill(slots, NO_SLOT);
+        }
+
+        int get(long key) {
+            for (int i = home(key); slots[i] != NO_SLOT; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return slots[i];
+                }
+            }
+            return NO_SLOT;
+        }
+
+        void put(long key, int slot) {
+            int i = home(key);
+            while (slots[i] != NO_SLOT && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            slots[i] = slot;
+        }
+
+        int remove(long key) {
+            int gap = home(key);
+            while (slots[gap] != NO_SLOT && keys[gap] != key) {
+                gap = (gap + 1) & mask;
+            }
+            int removed = slots[gap];
+            if (removed == NO_SLOT) {
+                return NO_SLOT;
+            }
+            for (int i = (gap + 1) & mask; slots[i] != NO_SLOT; i = (i + 1) & mask) {
+                if (((i - home(keys[i])) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    slots[gap] = slots[i];
+                    gap = i;
+                }
+            }
+            slots[gap] = NO_SLOT;
+            return removed;
+        }
+
+        private int home(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
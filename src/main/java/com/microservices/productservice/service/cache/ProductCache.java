@@ -0,0 +1,240 @@
+package com.microservices.productservice.service.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.microservices.productservice.config.ProductCacheProperties;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.repository.ProductRepository;
+import com.microservices.productservice.service.batch.ProductBatchLoader;
+import com.microservices.productservice.service.mapper.ProductMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bounded, read-through cache of products keyed by their unique identifier.
+ * Uses a frequency-aware (W-TinyLFU) eviction policy, refreshes hot entries ahead of their expiry
+ * and publishes its hit, miss and eviction counters as "cache.*" metrics tagged with cache=products.
+ * Misses are served from the {@link OffHeapProductStore} second tier before falling back to the database,
+ * where concurrent misses of different products are merged by the {@link ProductBatchLoader}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ProductCache implements MeterBinder {
+
+    /**
+     * Name under which the cache metrics are published.
+     */
+    public static final String CACHE_NAME = "products";
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final OffHeapProductStore offHeapProductStore;
+    private final ProductBatchLoader productBatchLoader;
+    private final int batchLoadSize;
+    private final long maximumSize;
+    private final LoadingCache<Long, ProductDto> cache;
+
+    /**
+     * Constructs the cache with the given settings.
+     *
+     * @param productRepository   The repository used to load missing products.
+     * @param productMapper       The mapper used to populate ProductDto from loaded products.
+     * @param offHeapProductStore The second-tier store consulted before the database.
+     * @param productBatchLoader  The loader that merges concurrent single-product misses into batches.
+     * @param properties          The cache settings.
+     */
+    public ProductCache(ProductRepository productRepository,
+                        ProductMapper productMapper,
+                        OffHeapProductStore offHeapProductStore,
+                        ProductBatchLoader productBatchLoader,
+                        ProductCacheProperties properties) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.offHeapProductStore = offHeapProductStore;
+        this.productBatchLoader = productBatchLoader;
+        this.batchLoadSize = properties.getBatchLoadSize();
+        this.maximumSize = properties.getMaximumSize();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .refreshAfterWrite(properties.getRefreshAfterWrite())
+                .recordStats()
+                .build(new ProductLoader());
+    }
+
+    /**
+     * Retrieves a product from the cache, loading it from the database on a miss.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The ProductDto for the specified productId, or empty if the product does not exist.
+     */
+    public Optional<ProductDto> get(Long productId) {
+        return Optional.ofNullable(cache.get(productId));
+    }
+
+    /**
+     * Retrieves a product only if it is already cached, without loading it.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The cached ProductDto, or empty if the product is not cached.
+     */
+    public Optional<ProductDto> getIfPresent(Long productId) {
+        return Optional.ofNullable(cache.getIfPresent(productId));
+    }
+
+    /**
+     * Retrieves many products from the cache, loading all the missing ones together with chunked IN queries.
+     * More products than the cache holds are read through: the missing ones are loaded without being cached,
+     * so that one lookup does not evict the whole working set.
+     *
+     * @param productIds The unique identifiers of the products, without duplicates.
+     * @return The ProductDto of each existing product keyed by productId; ids of missing products are absent.
+     */
+    public Map<Long, ProductDto> getAll(Collection<Long> productIds) {
+        if (productIds.size() <= maximumSize) {
+            return cache.getAll(productIds);
+        }
+        log.debug("Reading {} products through the cache without populating it", productIds.size());
+        Map<Long, ProductDto> found = new HashMap<>(cache.getAllPresent(productIds));
+        List<Long> missing = productIds.stream().filter(productId -> !found.containsKey(productId)).toList();
+        for (int from = 0; from < missing.size(); from += batchLoadSize) {
+            for (Product product : productRepository.findAllById(missing.subList(from, Math.min(from + batchLoadSize,
+                                                                                                 missing.size())))) {
+                found.put(product.getProductId(), productMapper.productToProductDto(product));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Discards the cached entry of a product so that the next read loads it from the database.
+     *
+     * @param productId The unique identifier of the product.
+     */
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+        offHeapProductStore.invalidate(productId);
+    }
+
+    /**
+     * Discards the cached entries of many products.
+     *
+     * @param productIds The unique identifiers of the products.
+     */
+    public void invalidateAll(Collection<Long> productIds) {
+        cache.invalidateAll(productIds);
+        productIds.forEach(offHeapProductStore::invalidate);
+    }
+
+    /**
+     * Discards every cached product, in both tiers.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        offHeapProductStore.invalidateAll();
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, load and eviction counters.
+     *
+     * @return The cache statistics.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Binds the cache statistics to the given meter registry.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Loads products on a miss from the second tier, then the database, and reloads refreshed entries
+     * straight from the database so that the second tier never prolongs a stale product.
+     * The generation of each productId is read before the database, so that a product invalidated while it
+     * is being loaded is not mirrored into the second tier.
+     */
+    private class ProductLoader implements CacheLoader<Long, ProductDto> {
+
+        @Override
+        public ProductDto load(@NotNull Long productId) {
+            Product product = offHeapProductStore.get(productId);
+            return product != null ? productMapper.productToProductDto(product) : loadFromDatabase(productId);
+        }
+
+        @Override
+        public Map<Long, ProductDto> loadAll(@NotNull Set<? extends Long> productIds) {
+            Map<Long, ProductDto> loaded = new HashMap<>(productIds.size());
+            List<Long> missing = new ArrayList<>();
+            for (Long productId : productIds) {
+                Product product = offHeapProductStore.get(productId);
+                if (product != null) {
+                    loaded.put(productId, productMapper.productToProductDto(product));
+                } else {
+                    missing.add(productId);
+                }
+            }
+            for (int from = 0; from < missing.size(); from += batchLoadSize) {
+                List<Long> chunk = missing.subList(from, Math.min(from + batchLoadSize, missing.size()));
+                log.debug("Loading {} products into the cache", chunk.size());
+                Map<Long, Long> generations = new HashMap<>(chunk.size());
+                chunk.forEach(productId -> generations.put(productId, offHeapProductStore.generation(productId)));
+                for (Product product : productRepository.findAllById(chunk)) {
+                    offHeapProductStore.put(product, generations.get(product.getProductId()));
+                    loaded.put(product.getProductId(), productMapper.productToProductDto(product));
+                }
+            }
+            return loaded;
+        }
+
+        @Override
+        public ProductDto reload(@NotNull Long productId, @NotNull ProductDto oldValue) {
+            return loadFromDatabase(productId);
+        }
+
+        /**
+         * Loads a product from the database and mirrors it into the second tier.
+         * Returning null leaves the key absent from the cache.
+         *
+         * @param productId The unique identifier of the product.
+         * @return The ProductDto for the specified productId, or null if the product does not exist.
+         */
+        private ProductDto loadFromDatabase(Long productId) {
+            log.debug("Loading product {} into the cache", productId);
+            long generation = offHeapProductStore.generation(productId);
+            Product product = productBatchLoader.load(productId).orElse(null);
+            if (product == null) {
+                offHeapProductStore.invalidate(productId);
+                return null;
+            }
+            offHeapProductStore.put(product, generation);
+            return productMapper.productToProductDto(product);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.microservices.productservice.service.coalescing;
+
+import com.microservices.productservice.dto.ProductDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of the product listings read from the database, so that a burst of identical listings
+ * arriving while the price index is not loaded reaches the database once. Reads of a product by id are not
+ * coalesced here: the product cache already makes concurrent misses on one id wait for a single load.
+ * Publishes "product.reads" counters tagged with the operation and whether the call was executed or coalesced.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Component
+public class ProductReadCoalescer implements MeterBinder {
+
+    private static final Boolean ALL_PRODUCTS = Boolean.TRUE;
+
+    private final SingleFlight<Boolean, List<ProductDto>> allProducts = new SingleFlight<>();
+    private final SingleFlight<Boolean, List<ProductDto>> productsSortedByPrice = new SingleFlight<>();
+    private final SingleFlight<List<Long>, List<ProductDto>> productsByPriceRange = new SingleFlight<>();
+
+    /**
+     * Runs or joins the load of all products.
+     *
+     * @param loader The load of the products.
+     * @return The loaded list of ProductDto.
+     */
+    public List<ProductDto> allProducts(Supplier<List<ProductDto>> loader) {
+        return allProducts.execute(ALL_PRODUCTS, loader);
+    }
+
+    /**
+     * Runs or joins the load of all products sorted by price.
+     *
+     * @param loader The load of the products.
+     * @return The loaded list of ProductDto.
+     */
+    public List<ProductDto> productsSortedByPrice(Supplier<List<ProductDto>> loader) {
+        return productsSortedByPrice.execute(ALL_PRODUCTS, loader);
+    }
+
+    /**
+     * Runs or joins the load of the products within a price range.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @param loader     The load of the products.
+     * @return The loaded list of ProductDto.
+     */
+    public List<ProductDto> productsByPriceRange(long lowerLimit, long upperLimit,
+                                                 Supplier<List<ProductDto>> loader) {
+        return productsByPriceRange.execute(List.of(lowerLimit, upperLimit), loader);
+    }
+
+    /**
+     * Binds the executed and coalesced call counters of each operation to the given meter registry.
+     *
+     * @param registry The meter registry.
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        bind(registry, "getAllProducts", allProducts);
+        bind(registry, "getAllProductsSortedByPrice", productsSortedByPrice);
+        bind(registry, "getProductsByPriceRange", productsByPriceRange);
+    }
+
+    private static void bind(MeterRegistry registry, String operation, SingleFlight<?, ?> singleFlight) {
+        FunctionCounter.builder("product.reads", singleFlight, SingleFlight::executed)
+                .tag("operation", operation)
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("product.reads", singleFlight, SingleFlight::coalesced)
+                .tag("operation", operation)
+                .tag("result", "coalesced")
+                .register(registry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.microservices.productservice.service.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls: while a call for a key is in flight, further calls for the same key
+ * wait for it and receive its result or exception instead of running the load again.
+ * Nothing is retained once the call completes, so a later call for the key runs a fresh load.
+ *
+ * @param <K> The type of the keys identifying identical calls.
+ * @param <V> The type of the loaded values.
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the load for the key, or joins the load already in flight for it.
+     *
+     * @param key    The key identifying identical calls.
+     * @param loader The load to be run if no call for the key is in flight.
+     * @return The value loaded by this call or by the call it joined.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        executed.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Returns the number of calls that ran their own load.
+     *
+     * @return The number of executed calls.
+     */
+    public long executed() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns the number of calls that joined a load already in flight.
+     *
+     * @return The number of coalesced calls.
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+}
@@ -1,19 +1,57 @@
 package com.microservices.productservice.service.impl;
 
+import com.microservices.productservice.config.BulkInsertProperties;
+import com.microservices.productservice.config.PaginationProperties;
+import com.microservices.productservice.dto.BulkDeleteResultDto;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.CatalogRevisionDto;
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.PriceAdjustmentResultDto;
 import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.ProductLookupDto;
+import com.microservices.productservice.dto.ProductPageDto;
 import com.microservices.productservice.entity.Product;
 import com.microservices.productservice.exception.ProductServiceException;
 import com.microservices.productservice.repository.ProductRepository;
 import com.microservices.productservice.service.ProductService;
+import com.microservices.productservice.service.bulk.BulkProductWriter;
+import com.microservices.productservice.service.cache.ProductCache;
+import com.microservices.productservice.service.coalescing.ProductReadCoalescer;
+import com.microservices.productservice.service.index.CatalogIndex;
+import com.microservices.productservice.service.index.CatalogIndexRefresher;
+import com.microservices.productservice.service.index.CatalogRefreshedEvent;
+import com.microservices.productservice.service.index.PriceAdjustment;
+import com.microservices.productservice.service.index.PriceIndex;
+import com.microservices.productservice.service.index.ProductNameTrie;
+import com.microservices.productservice.service.index.ProductSearchIndex;
 import com.microservices.productservice.service.mapper.ProductMapper;
+import com.microservices.productservice.service.pagination.KeysetCursor;
+import com.microservices.productservice.utility.EntityTags;
+import com.microservices.productservice.utility.PayloadSummary;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.microservices.productservice.utility.ExceptionConstant.*;
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MAXIMUM;
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MINIMUM;
 
 /**
  * Implementation of the {@link ProductService} interface.
@@ -26,10 +64,37 @@ import static com.microservices.productservice.utility.ExceptionConstant.*;
 @RequiredArgsConstructor
 @Slf4j
 @Service
+@Profile("!reactive")
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final PriceIndex priceIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductNameTrie productNameTrie;
+    private final CatalogIndexRefresher catalogIndexRefresher;
+    private final PaginationProperties paginationProperties;
+    private final EntityManager entityManager;
+    private final BulkProductWriter bulkProductWriter;
+    private final ProductReadCoalescer productReadCoalescer;
+    private final BulkInsertProperties bulkInsertProperties;
+
+    /**
+     * Time this instance started counting catalog revisions, which keeps its entity tags distinct from
+     * those of other instances and of earlier runs, so a tag issued by one instance is never answered with 304
+     * by another.
+     */
+    private final long catalogEpoch = System.currentTimeMillis();
+
+    /**
+     * The current catalog revision, replaced after every committed write made through this instance and after
+     * every periodic refresh of the catalog. The revision is counted per instance: a write made through another
+     * instance is only reflected at the next refresh, so with several instances a listing may be answered with 304
+     * for up to product.catalog-index.refresh-interval after it changed.
+     */
+    private final AtomicReference<CatalogRevisionDto> catalogRevision = new AtomicReference<>(
+            new CatalogRevisionDto(0, EntityTags.ofCatalog(catalogEpoch, 0)));
 
     /**
      * Retrieves all products.
@@ -40,13 +105,10 @@ public class ProductServiceImpl implements ProductService {
     public List<ProductDto> getAllProducts() {
         log.debug("Entering in ProductServiceImpl : getAllProducts()");
         log.info("Getting all products");
-        List<Product> productList = productRepository.findAll();
-        if (productList.isEmpty()) {
-            log.error(GET_ALL_PRODUCTS_NO_CONTENT);
-            throw new ProductServiceException(GET_ALL_PRODUCTS_NO_CONTENT, HttpStatus.NO_CONTENT);
-        }
+        List<ProductDto> productDtoList = productReadCoalescer.allProducts(
+                () -> toProductDtoList(productRepository.findAll(), GET_ALL_PRODUCTS_NO_CONTENT));
         log.debug("Exiting from ProductServiceImpl : getAllProducts()");
-        return productMapper.productListToProductDtoList(productList);
+        return productDtoList;
     }
 
     /**
@@ -58,33 +120,136 @@ public class ProductServiceImpl implements ProductService {
     public List<ProductDto> getAllProductsSortedByPrice() {
         log.debug("Entering in ProductServiceImpl : getAllProductsSortedByPrice()");
         log.info("Getting all products sorted by price");
-        List<Product> productList = productRepository.findAllSortedByPrice();
-        if (productList.isEmpty()) {
-            log.error(GET_ALL_PRODUCTS_SORTED_BY_PRICE_NO_CONTENT);
-            throw new ProductServiceException(GET_ALL_PRODUCTS_SORTED_BY_PRICE_NO_CONTENT, HttpStatus.NO_CONTENT);
-        }
+        List<ProductDto> productDtoList = priceIndex.isLoaded()
+                ? toProductDtoList(priceIndex.findAllSortedByPrice(), GET_ALL_PRODUCTS_SORTED_BY_PRICE_NO_CONTENT)
+                : productReadCoalescer.productsSortedByPrice(() -> toProductDtoList(
+                        productRepository.findAllSortedByPrice(), GET_ALL_PRODUCTS_SORTED_BY_PRICE_NO_CONTENT));
         log.debug("Exiting from ProductServiceImpl : getAllProductsSortedByPrice()");
-        return productMapper.productListToProductDtoList(productList);
+        return productDtoList;
     }
 
     /**
      * Retrieves products within the specified price range.
      *
-     * @param lowerLimit The lower limit of the price range.
-     * @param upperLimit The upper limit of the price range.
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
      * @return A list of ProductDto within the given price range.
      */
     @Override
-    public List<ProductDto> getProductsByPriceRange(Double lowerLimit, Double upperLimit) {
+    public List<ProductDto> getProductsByPriceRange(long lowerLimit, long upperLimit) {
         log.debug("Entering in ProductServiceImpl : getProductsByPriceRange()");
         log.info("Getting products by price range: {} - {}", lowerLimit, upperLimit);
-        List<Product> productList = productRepository.findByPriceRange(lowerLimit, upperLimit);
+        List<ProductDto> productDtoList = priceIndex.isLoaded()
+                ? toProductDtoList(priceIndex.findByPriceRange(lowerLimit, upperLimit),
+                                   GET_PRODUCTS_BY_PRICE_RANGE_NO_CONTENT)
+                : productReadCoalescer.productsByPriceRange(lowerLimit, upperLimit, () -> toProductDtoList(
+                        productRepository.findByPriceRange(lowerLimit, upperLimit),
+                        GET_PRODUCTS_BY_PRICE_RANGE_NO_CONTENT));
+        log.debug("Exiting from ProductServiceImpl : getProductsByPriceRange()");
+        return productDtoList;
+    }
+
+    /**
+     * Streams all products ordered by productId to the given consumer, one product at a time.
+     *
+     * @param productConsumer The consumer that receives each product as it is read.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllProducts(Consumer<ProductDto> productConsumer) {
+        log.debug("Entering in ProductServiceImpl : streamAllProducts()");
+        log.info("Streaming all products");
+        long count = stream(productRepository.streamAll(), productConsumer);
+        log.debug("Exiting from ProductServiceImpl : streamAllProducts() after {} products", count);
+    }
+
+    /**
+     * Streams all products sorted by price to the given consumer, one product at a time.
+     *
+     * @param productConsumer The consumer that receives each product as it is read.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllProductsSortedByPrice(Consumer<ProductDto> productConsumer) {
+        log.debug("Entering in ProductServiceImpl : streamAllProductsSortedByPrice()");
+        log.info("Streaming all products sorted by price");
+        long count = stream(productRepository.streamAllSortedByPrice(), productConsumer);
+        log.debug("Exiting from ProductServiceImpl : streamAllProductsSortedByPrice() after {} products", count);
+    }
+
+    /**
+     * Retrieves one page of products ordered by productId.
+     *
+     * @param cursor   The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The requested number of products, capped to the maximum page size.
+     * @return A ProductPageDto containing the products and the cursor of the next page.
+     */
+    @Override
+    public ProductPageDto getProductsPage(String cursor, int pageSize) {
+        log.debug("Entering in ProductServiceImpl : getProductsPage()");
+        log.info("Getting products page of size {} after cursor {}", pageSize, cursor);
+        KeysetCursor after = cursor == null ? KeysetCursor.first(KeysetCursor.Order.PRODUCT_ID, 0)
+                                            : KeysetCursor.decode(cursor, KeysetCursor.Order.PRODUCT_ID);
+        int limit = paginationProperties.cap(pageSize);
+        List<Product> productList = productRepository.findPageAfter(after.getProductId(), PageRequest.ofSize(limit + 1));
+        if (productList.isEmpty()) {
+            log.error(GET_ALL_PRODUCTS_NO_CONTENT);
+            throw new ProductServiceException(GET_ALL_PRODUCTS_NO_CONTENT, HttpStatus.NO_CONTENT);
+        }
+        log.debug("Exiting from ProductServiceImpl : getProductsPage()");
+        return toPage(productList, limit, KeysetCursor.Order.PRODUCT_ID);
+    }
+
+    /**
+     * Retrieves one page of products sorted by price.
+     *
+     * @param cursor   The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The requested number of products, capped to the maximum page size.
+     * @return A ProductPageDto containing the products and the cursor of the next page.
+     */
+    @Override
+    public ProductPageDto getProductsSortedByPricePage(String cursor, int pageSize) {
+        log.debug("Entering in ProductServiceImpl : getProductsSortedByPricePage()");
+        log.info("Getting products sorted by price page of size {} after cursor {}", pageSize, cursor);
+        KeysetCursor after = cursor == null ? KeysetCursor.first(KeysetCursor.Order.PRICE, Long.MIN_VALUE)
+                                            : KeysetCursor.decode(cursor, KeysetCursor.Order.PRICE);
+        int limit = paginationProperties.cap(pageSize);
+        List<Product> productList = productRepository.findPageSortedByPriceAfter(after.getProductPrice(),
+                after.getProductId(), Long.MAX_VALUE, PageRequest.ofSize(limit + 1));
+        if (productList.isEmpty()) {
+            log.error(GET_ALL_PRODUCTS_SORTED_BY_PRICE_NO_CONTENT);
+            throw new ProductServiceException(GET_ALL_PRODUCTS_SORTED_BY_PRICE_NO_CONTENT, HttpStatus.NO_CONTENT);
+        }
+        log.debug("Exiting from ProductServiceImpl : getProductsSortedByPricePage()");
+        return toPage(productList, limit, KeysetCursor.Order.PRICE);
+    }
+
+    /**
+     * Retrieves one page of products within the specified price range, sorted by price.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @param cursor     The cursor returned with the previous page, or null for the first page.
+     * @param pageSize   The requested number of products, capped to the maximum page size.
+     * @return A ProductPageDto containing the products and the cursor of the next page.
+     */
+    @Override
+    public ProductPageDto getProductsByPriceRangePage(long lowerLimit, long upperLimit, String cursor, int pageSize) {
+        log.debug("Entering in ProductServiceImpl : getProductsByPriceRangePage()");
+        log.info("Getting products by price range: {} - {} page of size {} after cursor {}",
+                 lowerLimit, upperLimit, pageSize, cursor);
+        KeysetCursor after = cursor == null ? KeysetCursor.first(KeysetCursor.Order.PRICE, lowerLimit)
+                                            : KeysetCursor.decode(cursor, KeysetCursor.Order.PRICE);
+        int limit = paginationProperties.cap(pageSize);
+        List<Product> productList = productRepository.findPageSortedByPriceAfter(
+                Math.max(after.getProductPrice(), lowerLimit), after.getProductId(), upperLimit,
+                PageRequest.ofSize(limit + 1));
         if (productList.isEmpty()) {
             log.error(GET_PRODUCTS_BY_PRICE_RANGE_NO_CONTENT);
             throw new ProductServiceException(GET_PRODUCTS_BY_PRICE_RANGE_NO_CONTENT, HttpStatus.NO_CONTENT);
         }
-        log.debug("Exiting from ProductServiceImpl : getProductsByPriceRange()");
-        return productMapper.productListToProductDtoList(productList);
+        log.debug("Exiting from ProductServiceImpl : getProductsByPriceRangePage()");
+        return toPage(productList, limit, KeysetCursor.Order.PRICE);
     }
 
     /**
@@ -96,13 +261,34 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public ProductDto createProduct(ProductDto productDto) {
         log.debug("Entering in ProductServiceImpl : createProduct()");
-        log.info("Creating product: {}", productDto);
+        log.info("Creating product: {}", PayloadSummary.of(productDto));
         Product product = productMapper.productDtoToProduct(productDto);
         Product savedProduct = productRepository.save(product);
+        onProductSaved(savedProduct);
         log.debug("Exiting from ProductServiceImpl : createProduct()");
         return productMapper.productToProductDto(savedProduct);
     }
 
+    /**
+     * Creates the valid products of a bulk request; invalid products are reported without being created.
+     *
+     * @param productDtos The Dtos containing information for creating the products.
+     * @return One result per requested product, in request order.
+     */
+    @Override
+    public List<BulkProductResultDto> createProducts(List<ProductDto> productDtos) {
+        log.debug("Entering in ProductServiceImpl : createProducts()");
+        log.info("Creating {} products in bulk", productDtos == null ? 0 : productDtos.size());
+        List<BulkProductResultDto> results = bulkProductWriter.createAll(productDtos, products -> {
+            priceIndex.insertAll(products);
+            productSearchIndex.insertAll(products);
+            productNameTrie.insertAll(products);
+            bumpCatalogRevision();
+        });
+        log.debug("Exiting from ProductServiceImpl : createProducts()");
+        return results;
+    }
+
     /**
      * Retrieves a product by its unique identifier.
      *
@@ -114,14 +300,123 @@ public class ProductServiceImpl implements ProductService {
     public ProductDto getProductById(Long productId) {
         log.debug("Entering in ProductServiceImpl : getProductById()");
         log.info("Getting product by id: {}", productId);
-        Product product = productRepository.findById(productId)
+        ProductDto productDto = productCache.get(productId)
                 .orElseThrow(() -> new ProductServiceException(GET_PRODUCT_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
         log.debug("Exiting from ProductServiceImpl : getProductById()");
-        return productMapper.productToProductDto(product);
+        return productDto;
+    }
+
+    /**
+     * Retrieves many products by their unique identifiers in one call.
+     *
+     * @param productIds The unique identifiers of the products.
+     * @return A ProductLookupDto containing the products found and the missing ids.
+     * @throws ProductServiceException if the request has more ids than the maximum bulk size.
+     */
+    @Override
+    public ProductLookupDto lookupProducts(List<Long> productIds) {
+        log.debug("Entering in ProductServiceImpl : lookupProducts()");
+        if (productIds != null && productIds.size() > bulkInsertProperties.getMaximumSize()) {
+            log.error(INVALID_LOOKUP_REQUEST);
+            throw new ProductServiceException(INVALID_LOOKUP_REQUEST, HttpStatus.BAD_REQUEST);
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>();
+        if (productIds != null) {
+            productIds.stream().filter(Objects::nonNull).forEach(uniqueIds::add);
+        }
+        log.info("Looking up {} products", uniqueIds.size());
+        Map<Long, ProductDto> found = productCache.getAll(uniqueIds);
+        List<ProductDto> products = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long productId : uniqueIds) {
+            ProductDto productDto = found.get(productId);
+            if (productDto != null) {
+                products.add(productDto);
+            } else {
+                missingIds.add(productId);
+            }
+        }
+        log.debug("Exiting from ProductServiceImpl : lookupProducts()");
+        return new ProductLookupDto(products, missingIds);
+    }
+
+    /**
+     * Searches products by name in the in-memory search index, best matches first, optionally within a price range.
+     *
+     * @param query      The search text; every term of it must occur in a matching product name.
+     * @param lowerLimit The lower limit of the price range, in cents, or null for no lower limit.
+     * @param upperLimit The upper limit of the price range, in cents, or null for no upper limit.
+     * @param limit      The requested number of products, capped to the maximum page size.
+     * @return A list of ProductDto ranked by relevance.
+     * @throws ProductServiceException if the query has no terms, no product matches or the index is not loaded.
+     */
+    @Override
+    public List<ProductDto> searchProducts(String query, Long lowerLimit, Long upperLimit, int limit) {
+        log.debug("Entering in ProductServiceImpl : searchProducts()");
+        log.info("Searching products for '{}' in price range: {} - {}", query, lowerLimit, upperLimit);
+        if (ProductSearchIndex.tokenize(query).isEmpty()) {
+            log.error(INVALID_SEARCH_QUERY);
+            throw new ProductServiceException(INVALID_SEARCH_QUERY, HttpStatus.BAD_REQUEST);
+        }
+        if (!productSearchIndex.isLoaded()) {
+            log.error(SEARCH_UNAVAILABLE);
+            throw new ProductServiceException(SEARCH_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        List<Product> productList = productSearchIndex.search(query,
+                                                              lowerLimit != null ? lowerLimit : Long.MIN_VALUE,
+                                                              upperLimit != null ? upperLimit : Long.MAX_VALUE,
+                                                              paginationProperties.cap(limit));
+        if (productList.isEmpty()) {
+            log.error(SEARCH_PRODUCTS_NO_CONTENT);
+            throw new ProductServiceException(SEARCH_PRODUCTS_NO_CONTENT, HttpStatus.NO_CONTENT);
+        }
+        log.debug("Exiting from ProductServiceImpl : searchProducts()");
+        return productMapper.productListToProductDtoList(productList);
+    }
+
+    /**
+     * Completes a prefix into product names from the in-memory trie, whose nodes keep their best completions,
+     * so the lookup costs the same however many names start with the prefix.
+     *
+     * @param prefix The typed text; case and repeated whitespace are ignored.
+     * @param limit  The requested number of names, capped to the completions kept per prefix.
+     * @return A list of normalized product names, the names of most products first.
+     * @throws ProductServiceException if the prefix is blank, no name starts with it or the trie is not loaded.
+     */
+    @Override
+    public List<String> autocompleteProductNames(String prefix, int limit) {
+        log.debug("Entering in ProductServiceImpl : autocompleteProductNames()");
+        if (ProductNameTrie.normalize(prefix).isEmpty()) {
+            log.error(INVALID_AUTOCOMPLETE_PREFIX);
+            throw new ProductServiceException(INVALID_AUTOCOMPLETE_PREFIX, HttpStatus.BAD_REQUEST);
+        }
+        if (!productNameTrie.isLoaded()) {
+            log.error(AUTOCOMPLETE_UNAVAILABLE);
+            throw new ProductServiceException(AUTOCOMPLETE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        List<String> completions = productNameTrie.complete(prefix, Math.max(1, limit));
+        if (completions.isEmpty()) {
+            log.error(AUTOCOMPLETE_NO_CONTENT);
+            throw new ProductServiceException(AUTOCOMPLETE_NO_CONTENT, HttpStatus.NO_CONTENT);
+        }
+        log.debug("Exiting from ProductServiceImpl : autocompleteProductNames()");
+        return completions;
+    }
+
+    /**
+     * Returns the current revision of the product catalog, which changes on every create, update or delete.
+     *
+     * @return The CatalogRevisionDto of the catalog.
+     */
+    @Override
+    public CatalogRevisionDto getCatalogRevision() {
+        return catalogRevision.get();
     }
 
     /**
      * Deletes a product by its unique identifier.
+     * When the product is cached, a single DELETE conditioned on the cached version removes it and proves the
+     * cached product is the deleted row; otherwise the row is locked, read and deleted in one transaction.
      *
      * @param productId The unique identifier of the product to be deleted.
      * @return The deleted ProductDto.
@@ -131,11 +426,102 @@ public class ProductServiceImpl implements ProductService {
     public ProductDto deleteProductById(Long productId) {
         log.debug("Entering in ProductServiceImpl : deleteProductById()");
         log.info("Deleting product by id: {}", productId);
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductServiceException(DELETE_PRODUCT_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
-        productRepository.deleteById(productId);
+        ProductDto cachedProductDto = productCache.getIfPresent(productId).orElse(null);
+        ProductDto deletedProductDto;
+        if (cachedProductDto != null
+                && productRepository.deleteIfVersionMatches(productId, cachedProductDto.getVersion()) == 1) {
+            deletedProductDto = cachedProductDto;
+        } else {
+            Product product = productRepository.deleteAndGet(productId)
+                    .orElseThrow(() -> new ProductServiceException(DELETE_PRODUCT_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
+            deletedProductDto = productMapper.productToProductDto(product);
+        }
+        onProductDeleted(productId, deletedProductDto.getVersion());
         log.debug("Exiting from ProductServiceImpl : deleteProductById()");
-        return productMapper.productToProductDto(product);
+        return deletedProductDto;
+    }
+
+    /**
+     * Deletes many products by their unique identifiers with set-based DELETE statements in one transaction,
+     * then removes them from the cache and the in-memory indexes at once.
+     *
+     * @param productIds The unique identifiers of the products to be deleted.
+     * @return A BulkDeleteResultDto with the number of requested and deleted products.
+     * @throws ProductServiceException if the request is empty, too large or has empty entries.
+     */
+    @Override
+    public BulkDeleteResultDto deleteProducts(List<Long> productIds) {
+        log.debug("Entering in ProductServiceImpl : deleteProducts()");
+        if (productIds == null || productIds.isEmpty() || productIds.size() > bulkInsertProperties.getMaximumSize()
+                || productIds.stream().anyMatch(Objects::isNull)) {
+            log.error(INVALID_BULK_DELETE_REQUEST);
+            throw new ProductServiceException(INVALID_BULK_DELETE_REQUEST, HttpStatus.BAD_REQUEST);
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>(productIds);
+        log.info("Deleting {} products in bulk", uniqueIds.size());
+        int deletedCount = productRepository.deleteAllByIds(new ArrayList<>(uniqueIds), bulkInsertProperties.getChunkSize());
+        productCache.invalidateAll(uniqueIds);
+        priceIndex.removeAll(uniqueIds);
+        productSearchIndex.removeAll(uniqueIds);
+        productNameTrie.removeAll(uniqueIds);
+        if (deletedCount > 0) {
+            bumpCatalogRevision();
+        }
+        log.debug("Exiting from ProductServiceImpl : deleteProducts()");
+        return new BulkDeleteResultDto(uniqueIds.size(), deletedCount);
+    }
+
+    /**
+     * Changes the price of every product in a price range or id set with set-based UPDATEs, keeping each new
+     * price rounded to whole cents and within the bounds of ProductDto. Products whose new price would break
+     * those rules are left unchanged. The affected products are then dropped from the cache in bulk and the
+     * same change is applied to the in-memory indexes. If an UPDATE fails, the chunks before it stay committed,
+     * so the selected products are dropped from the cache and the indexes rebuilt before the failure is rethrown.
+     *
+     * @param priceAdjustmentDto The Dto describing the price change and the selected products.
+     * @return A PriceAdjustmentResultDto with the number of products whose price was changed.
+     * @throws ProductServiceException if the adjustment has no amount or no valid product selection.
+     */
+    @Override
+    public PriceAdjustmentResultDto adjustPrices(PriceAdjustmentDto priceAdjustmentDto) {
+        log.debug("Entering in ProductServiceImpl : adjustPrices()");
+        log.info("Adjusting prices: {}", PayloadSummary.of(priceAdjustmentDto));
+        if (!isValid(priceAdjustmentDto)) {
+            log.error(INVALID_PRICE_ADJUSTMENT);
+            throw new ProductServiceException(INVALID_PRICE_ADJUSTMENT, HttpStatus.BAD_REQUEST);
+        }
+        boolean percentage = priceAdjustmentDto.getType() == PriceAdjustmentDto.Type.PERCENTAGE;
+        double factor = percentage ? 1 + priceAdjustmentDto.getAmount() / 100 : 1;
+        long offset = percentage ? 0 : (long) priceAdjustmentDto.getAmount();
+        Set<Long> uniqueIds = priceAdjustmentDto.getProductIds() == null ? null
+                : new LinkedHashSet<>(priceAdjustmentDto.getProductIds());
+        int affectedCount;
+        try {
+            affectedCount = uniqueIds != null
+                    ? productRepository.adjustPricesByIds(new ArrayList<>(uniqueIds), factor, offset,
+                            PRODUCT_PRICE_MINIMUM, PRODUCT_PRICE_MAXIMUM, bulkInsertProperties.getChunkSize())
+                    : productRepository.adjustPricesInRange(priceAdjustmentDto.getLowerLimit(),
+                            priceAdjustmentDto.getUpperLimit(), factor, offset, PRODUCT_PRICE_MINIMUM,
+                            PRODUCT_PRICE_MAXIMUM, bulkInsertProperties.getChunkSize());
+        } catch (RuntimeException e) {
+            log.error("Price adjustment failed, the chunks already committed are kept: {}", e.getMessage());
+            onPriceAdjustmentInterrupted(uniqueIds);
+            throw e;
+        }
+        PriceAdjustment adjustment;
+        if (uniqueIds != null) {
+            productCache.invalidateAll(uniqueIds);
+            adjustment = PriceAdjustment.ofIds(uniqueIds, factor, offset, PRODUCT_PRICE_MINIMUM, PRODUCT_PRICE_MAXIMUM);
+        } else {
+            productCache.invalidateAll();
+            adjustment = PriceAdjustment.inRange(priceAdjustmentDto.getLowerLimit(), priceAdjustmentDto.getUpperLimit(),
+                    factor, offset, PRODUCT_PRICE_MINIMUM, PRODUCT_PRICE_MAXIMUM);
+        }
+        if (affectedCount > 0) {
+            onPricesAdjusted(adjustment, affectedCount);
+        }
+        log.debug("Exiting from ProductServiceImpl : adjustPrices()");
+        return new PriceAdjustmentResultDto(affectedCount);
     }
 
     /**
@@ -147,13 +533,37 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public ProductDto updateProduct(ProductDto productDto) {
         log.debug("Entering in ProductServiceImpl : updateProduct()");
-        log.info("Updating product: {}", productDto);
+        log.info("Updating product: {}", PayloadSummary.of(productDto));
         Product existingProduct = productRepository.findById(productDto.getProductId())
                 .orElseThrow(() -> new ProductServiceException(UPDATE_PRODUCT_NOT_FOUND, HttpStatus.NOT_FOUND));
         Product product = productMapper.productDtoToProduct(productDto);
         product.setProductId(existingProduct.getProductId());
+        product.setVersion(existingProduct.getVersion());
 
-        Product updatedProduct = productRepository.save(product);
+        Product updatedProduct = save(product, UPDATE_PRODUCT_CONFLICT);
+        onProductSaved(updatedProduct);
+
+        log.debug("Exiting from ProductServiceImpl : updateProduct()");
+        return productMapper.productToProductDto(updatedProduct);
+    }
+
+    /**
+     * Updates a product by its unique identifier, provided it still has the expected version.
+     * The product is written with a single conditional UPDATE; it is read only to explain a failed update.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match.
+     * @return The updated ProductDto carrying its new version.
+     * @throws ProductServiceException if the product is not found or its version differs.
+     */
+    @Override
+    public ProductDto updateProduct(ProductDto productDto, long expectedVersion) {
+        log.debug("Entering in ProductServiceImpl : updateProduct()");
+        log.info("Updating product: {} if at version {}", PayloadSummary.of(productDto), expectedVersion);
+        updateIfVersionMatches(productDto, expectedVersion, UPDATE_PRODUCT_NOT_FOUND, UPDATE_PRODUCT_VERSION_MISMATCH);
+        Product updatedProduct = new Product(productDto.getProductId(), productDto.getProductName(),
+                                             productDto.getProductPrice(), expectedVersion + 1);
+        onProductSaved(updatedProduct);
 
         log.debug("Exiting from ProductServiceImpl : updateProduct()");
         return productMapper.productToProductDto(updatedProduct);
@@ -161,23 +571,320 @@ public class ProductServiceImpl implements ProductService {
 
     /**
      * Partially updates specific fields of a product identified by the given unique identifier.
+     * Only the supplied columns are written, with a single UPDATE. When the product is cached, the UPDATE is
+     * conditioned on the cached version, so a successful update proves the other cached columns are current
+     * and the result is built without reading the row back.
      *
      * @param productDto The Dto containing information for updating the product.
      * @return The updated ProductDto.
-     * @throws ProductServiceException if the product is not found.
+     * @throws ProductServiceException if the patch supplies no field or the product is not found.
      */
     @Override
     public ProductDto updateProductFields(ProductDto productDto) {
         log.debug("Entering in ProductServiceImpl : updateProductFields()");
-        log.info("Updating product fields: {}", productDto);
+        log.info("Updating product fields: {}", PayloadSummary.of(productDto));
+        requireFields(productDto);
+        ProductDto cachedProductDto = productCache.getIfPresent(productDto.getProductId()).orElse(null);
+        Product updatedProduct;
+        if (cachedProductDto != null && updateFields(productDto, cachedProductDto.getVersion()) == 1) {
+            updatedProduct = patch(cachedProductDto, productDto);
+        } else {
+            if (updateFields(productDto, null) == 0) {
+                log.error(UPDATE_PRODUCT_FIELDS_NOT_FOUND);
+                throw new ProductServiceException(UPDATE_PRODUCT_FIELDS_NOT_FOUND, HttpStatus.NOT_FOUND);
+            }
+            updatedProduct = productRepository.findById(productDto.getProductId())
+                    .orElseThrow(() -> new ProductServiceException(UPDATE_PRODUCT_FIELDS_NOT_FOUND, HttpStatus.NOT_FOUND));
+        }
+        onProductSaved(updatedProduct);
 
-        Product existingProduct = productRepository.findById(productDto.getProductId())
-                .orElseThrow(() -> new ProductServiceException(UPDATE_PRODUCT_FIELDS_NOT_FOUND, HttpStatus.NOT_FOUND));
+        log.debug("Exiting from ProductServiceImpl : updateProductFields()");
+        return productMapper.productToProductDto(updatedProduct);
+    }
 
-        Product product = productMapper.convertProductDtoToProduct(existingProduct, productDto);
-        Product updatedProduct = productRepository.save(product);
+    /**
+     * Partially updates specific fields of a product, provided it still has the expected version.
+     * Only the supplied columns are written, with a single UPDATE; the row is read back only when the product
+     * is not cached at the expected version.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match.
+     * @return The updated ProductDto carrying its new version.
+     * @throws ProductServiceException if the patch supplies no field, or the product is not found or its version
+     *                                 differs.
+     */
+    @Override
+    public ProductDto updateProductFields(ProductDto productDto, long expectedVersion) {
+        log.debug("Entering in ProductServiceImpl : updateProductFields()");
+        log.info("Updating product fields: {} if at version {}", PayloadSummary.of(productDto), expectedVersion);
+        requireFields(productDto);
+        ProductDto cachedProductDto = productCache.getIfPresent(productDto.getProductId()).orElse(null);
+        updateIfVersionMatches(productDto, expectedVersion, UPDATE_PRODUCT_FIELDS_NOT_FOUND,
+                               UPDATE_PRODUCT_FIELDS_VERSION_MISMATCH);
+        Product updatedProduct;
+        if (cachedProductDto != null && cachedProductDto.getVersion() == expectedVersion) {
+            updatedProduct = patch(cachedProductDto, productDto);
+        } else {
+            updatedProduct = productRepository.findById(productDto.getProductId())
+                    .orElseThrow(() -> new ProductServiceException(UPDATE_PRODUCT_FIELDS_NOT_FOUND, HttpStatus.NOT_FOUND));
+        }
+        onProductSaved(updatedProduct);
 
         log.debug("Exiting from ProductServiceImpl : updateProductFields()");
         return productMapper.productToProductDto(updatedProduct);
     }
+
+    /**
+     * Saves a product whose version was read beforehand, reporting a concurrent update as a conflict.
+     *
+     * @param product     The product to be saved.
+     * @param conflictKey The exception key used if the product was updated since it was read.
+     * @return The saved product.
+     */
+    private Product save(Product product, String conflictKey) {
+        try {
+            return productRepository.save(product);
+        } catch (OptimisticLockingFailureException e) {
+            log.error(conflictKey);
+            throw new ProductServiceException(conflictKey, HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Runs the conditional UPDATE of a product and explains why no row was updated, if none was.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the product must have.
+     * @param notFoundKey     The exception key used if the product does not exist.
+     * @param mismatchKey     The exception key used if the product has another version.
+     */
+    private void updateIfVersionMatches(ProductDto productDto, long expectedVersion, String notFoundKey,
+                                        String mismatchKey) {
+        if (updateFields(productDto, expectedVersion) == 0) {
+            boolean exists = productRepository.existsById(productDto.getProductId());
+            log.error(exists ? mismatchKey : notFoundKey);
+            throw exists ? new ProductServiceException(mismatchKey, HttpStatus.PRECONDITION_FAILED)
+                         : new ProductServiceException(notFoundKey, HttpStatus.NOT_FOUND);
+        }
+    }
+
+    /**
+     * Checks that a price adjustment has a type, a non-zero amount that cannot make prices negative by itself
+     * and is in whole cents when absolute, and exactly one valid selection: a price range or a bounded list of ids.
+     *
+     * @param priceAdjustmentDto The Dto describing the price change and the selected products.
+     * @return True if the adjustment can be applied.
+     */
+    private boolean isValid(PriceAdjustmentDto priceAdjustmentDto) {
+        if (priceAdjustmentDto == null || priceAdjustmentDto.getType() == null || priceAdjustmentDto.getAmount() == 0
+                || (priceAdjustmentDto.getType() == PriceAdjustmentDto.Type.PERCENTAGE
+                    && priceAdjustmentDto.getAmount() <= -100)
+                || (priceAdjustmentDto.getType() == PriceAdjustmentDto.Type.ABSOLUTE
+                    && (priceAdjustmentDto.getAmount() != Math.rint(priceAdjustmentDto.getAmount())
+                        || Math.abs(priceAdjustmentDto.getAmount()) > PRODUCT_PRICE_MAXIMUM))) {
+            return false;
+        }
+        List<Long> productIds = priceAdjustmentDto.getProductIds();
+        boolean hasRange = priceAdjustmentDto.getLowerLimit() != null || priceAdjustmentDto.getUpperLimit() != null;
+        if (productIds != null) {
+            return !hasRange && !productIds.isEmpty() && productIds.size() <= bulkInsertProperties.getMaximumSize()
+                    && productIds.stream().noneMatch(Objects::isNull);
+        }
+        return priceAdjustmentDto.getLowerLimit() != null && priceAdjustmentDto.getUpperLimit() != null
+                && priceAdjustmentDto.getLowerLimit() <= priceAdjustmentDto.getUpperLimit();
+    }
+
+    /**
+     * Rejects a patch that supplies neither a name nor a price, which would only bump the version of the row.
+     *
+     * @param productDto The Dto containing the supplied fields.
+     * @throws ProductServiceException if no field is supplied.
+     */
+    private void requireFields(ProductDto productDto) {
+        if (productDto.getProductName() == null && productDto.getProductPrice() <= 0) {
+            log.error(EMPTY_PRODUCT_PATCH);
+            throw new ProductServiceException(EMPTY_PRODUCT_PATCH, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Writes the supplied fields of a product with a single UPDATE.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the product must have, or null to update any version.
+     * @return The number of updated rows.
+     */
+    private int updateFields(ProductDto productDto, Long expectedVersion) {
+        return productRepository.updateFields(productDto.getProductId(), productDto.getProductName(),
+                                              productDto.getProductPrice(), expectedVersion);
+    }
+
+    /**
+     * Applies the supplied fields of a patch to the product it was applied to, giving the row as now stored.
+     *
+     * @param current The product as it was before the update.
+     * @param patch   The Dto containing the supplied fields.
+     * @return The updated product, one version after the current one.
+     */
+    private Product patch(ProductDto current, ProductDto patch) {
+        return new Product(current.getProductId(),
+                           patch.getProductName() != null ? patch.getProductName() : current.getProductName(),
+                           patch.getProductPrice() > 0 ? patch.getProductPrice() : current.getProductPrice(),
+                           current.getVersion() + 1);
+    }
+
+    /**
+     * Hands each streamed product to the consumer and detaches it right away, so the persistence context
+     * stays empty however many rows the cursor returns.
+     *
+     * @param products        The stream of products, closed once consumed.
+     * @param productConsumer The consumer that receives each product.
+     * @return The number of products streamed.
+     */
+    private long stream(Stream<Product> products, Consumer<ProductDto> productConsumer) {
+        long count = 0;
+        try (products) {
+            for (Product product : (Iterable<Product>) products::iterator) {
+                productConsumer.accept(productMapper.productToProductDto(product));
+                entityManager.detach(product);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Maps a listing to Dtos, answering an empty listing with no content.
+     *
+     * @param productList      The products of the listing.
+     * @param noContentMessage The message key of the error raised for an empty listing.
+     * @return A list of ProductDto.
+     * @throws ProductServiceException if the listing is empty.
+     */
+    private List<ProductDto> toProductDtoList(List<Product> productList, String noContentMessage) {
+        if (productList.isEmpty()) {
+            log.error(noContentMessage);
+            throw new ProductServiceException(noContentMessage, HttpStatus.NO_CONTENT);
+        }
+        return productMapper.productListToProductDtoList(productList);
+    }
+
+    /**
+     * Builds a page from products fetched with one extra row; the extra row only signals that a next page exists.
+     *
+     * @param productList The fetched products, at most limit + 1 of them.
+     * @param limit       The page size.
+     * @param order       The ordering of the listing.
+     * @return The ProductPageDto with the cursor of the next page, or a null cursor on the last page.
+     */
+    private ProductPageDto toPage(List<Product> productList, int limit, KeysetCursor.Order order) {
+        if (productList.size() <= limit) {
+            return new ProductPageDto(productMapper.productListToProductDtoList(productList), null);
+        }
+        List<Product> page = productList.subList(0, limit);
+        String nextCursor = KeysetCursor.after(order, page.get(limit - 1)).encode();
+        return new ProductPageDto(productMapper.productListToProductDtoList(page), nextCursor);
+    }
+
+    /**
+     * Brings the in-memory views of the catalog up to date after a product was created or updated.
+     *
+     * @param product The saved product.
+     */
+    private void onProductSaved(Product product) {
+        productCache.invalidate(product.getProductId());
+        priceIndex.upsert(product);
+        productSearchIndex.upsert(product);
+        productNameTrie.upsert(product);
+        bumpCatalogRevision();
+    }
+
+    /**
+     * Removes a deleted product from the in-memory views of the catalog. The views keep the version of the
+     * deletion for a while, so that an older update of the product applied after it does not bring it back.
+     *
+     * @param productId The unique identifier of the deleted product.
+     * @param version   The last version of the deleted product.
+     */
+    private void onProductDeleted(Long productId, long version) {
+        productCache.invalidate(productId);
+        priceIndex.remove(productId, version);
+        productSearchIndex.remove(productId, version);
+        productNameTrie.remove(productId, version);
+        bumpCatalogRevision();
+    }
+
+    /**
+     * Applies a committed bulk price change to the in-memory indexes. An index that did not adjust as many
+     * products as the database, because it missed or raced with another write, is discarded, so that listings
+     * fall back to the database, and rebuilt in the background; the discarded indexes share one scan, and a
+     * failed rebuild leaves them discarded until the next refresh. An index that is not loaded is still given
+     * the change, which discards the rebuild it may have in progress, as that rebuild cannot tell which scanned
+     * prices the change already applies to.
+     * The product names are unchanged, so the autocomplete trie is not affected.
+     *
+     * @param adjustment    The price change.
+     * @param affectedCount The number of products whose price was changed in the database.
+     */
+    private void onPricesAdjusted(PriceAdjustment adjustment, int affectedCount) {
+        List<CatalogIndex> unloaded = new ArrayList<>();
+        if (priceIndex.adjustPrices(adjustment) != affectedCount && priceIndex.isLoaded()) {
+            log.warn("Price index disagreed with the database on a price adjustment, rebuilding it");
+            priceIndex.unload();
+            unloaded.add(priceIndex);
+        }
+        if (productSearchIndex.adjustPrices(adjustment) != affectedCount && productSearchIndex.isLoaded()) {
+            log.warn("Search index disagreed with the database on a price adjustment, rebuilding it");
+            productSearchIndex.unload();
+            unloaded.add(productSearchIndex);
+        }
+        if (!unloaded.isEmpty()) {
+            catalogIndexRefresher.rebuildLater(unloaded);
+        }
+        bumpCatalogRevision();
+    }
+
+    /**
+     * Discards the views of the products selected by a price adjustment that failed part way. Each chunk commits
+     * on its own to keep row locks short, so the chunks before the failure are committed, and which products
+     * they changed is unknown: the selected products are dropped from the cache and the price-ordered indexes
+     * are discarded and rebuilt in the background.
+     *
+     * @param productIds The selected products, or null for a price range.
+     */
+    private void onPriceAdjustmentInterrupted(Set<Long> productIds) {
+        if (productIds != null) {
+            productCache.invalidateAll(productIds);
+        } else {
+            productCache.invalidateAll();
+        }
+        priceIndex.unload();
+        productSearchIndex.unload();
+        catalogIndexRefresher.rebuildLater(List.of(priceIndex, productSearchIndex));
+        bumpCatalogRevision();
+    }
+
+    /**
+     * Publishes a new catalog revision after a periodic refresh, which picks up the writes made by other
+     * instances into the in-memory indexes, while listings served from the database may already show them.
+     *
+     * @param event The refresh that completed.
+     */
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        log.debug("Catalog refreshed with {} products scanned, advancing the catalog revision",
+                  event.getScannedProducts());
+        bumpCatalogRevision();
+    }
+
+    /**
+     * Publishes a new catalog revision. It is called only once the write is committed and the in-memory views
+     * are updated, so a client never caches stale products under the new revision.
+     */
+    private void bumpCatalogRevision() {
+        catalogRevision.updateAndGet(current -> {
+            long revision = current.getRevision() + 1;
+            return new CatalogRevisionDto(revision, EntityTags.ofCatalog(catalogEpoch, revision));
+        });
+    }
 }
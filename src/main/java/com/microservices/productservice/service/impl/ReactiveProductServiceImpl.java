@@ -0,0 +1,202 @@
+package com.microservices.productservice.service.impl;
+
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.exception.ProductServiceException;
+import com.microservices.productservice.repository.ReactiveProductRepository;
+import com.microservices.productservice.service.ReactiveProductService;
+import com.microservices.productservice.service.mapper.ProductMapper;
+import com.microservices.productservice.utility.PayloadSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.microservices.productservice.utility.ExceptionConstant.*;
+
+/**
+ * Implementation of the {@link ReactiveProductService} interface, active in the reactive profile.
+ * Every call reads and writes the product table through the {@link ReactiveProductRepository}; the product cache
+ * and price index of the servlet stack are not used, so no call ever blocks its event-loop thread.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductServiceImpl implements ReactiveProductService {
+
+    private final ReactiveProductRepository reactiveProductRepository;
+    private final ProductMapper productMapper;
+
+    /**
+     * Streams all products ordered by productId.
+     *
+     * @return The products, or a ProductServiceException if there are none.
+     */
+    @Override
+    public Flux<ProductDto> getAllProducts() {
+        log.info("Getting all products");
+        return reactiveProductRepository.findAll()
+                .map(productMapper::productToProductDto)
+                .switchIfEmpty(Flux.error(() -> new ProductServiceException(GET_ALL_PRODUCTS_NO_CONTENT,
+                                                                            HttpStatus.NO_CONTENT)));
+    }
+
+    /**
+     * Streams all products sorted by price.
+     *
+     * @return The products, or a ProductServiceException if there are none.
+     */
+    @Override
+    public Flux<ProductDto> getAllProductsSortedByPrice() {
+        log.info("Getting all products sorted by price");
+        return reactiveProductRepository.findAllSortedByPrice()
+                .map(productMapper::productToProductDto)
+                .switchIfEmpty(Flux.error(() -> new ProductServiceException(GET_ALL_PRODUCTS_SORTED_BY_PRICE_NO_CONTENT,
+                                                                            HttpStatus.NO_CONTENT)));
+    }
+
+    /**
+     * Streams the products within the specified price range, sorted by price.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @return The products, or a ProductServiceException if there are none.
+     */
+    @Override
+    public Flux<ProductDto> getProductsByPriceRange(long lowerLimit, long upperLimit) {
+        log.info("Getting products by price range: {} - {}", lowerLimit, upperLimit);
+        return reactiveProductRepository.findByPriceRange(lowerLimit, upperLimit)
+                .map(productMapper::productToProductDto)
+                .switchIfEmpty(Flux.error(() -> new ProductServiceException(GET_PRODUCTS_BY_PRICE_RANGE_NO_CONTENT,
+                                                                            HttpStatus.NO_CONTENT)));
+    }
+
+    /**
+     * Creates a new product.
+     *
+     * @param productDto The Dto containing information for creating a new product.
+     * @return The created ProductDto.
+     */
+    @Override
+    public Mono<ProductDto> createProduct(ProductDto productDto) {
+        log.info("Creating product: {}", PayloadSummary.of(productDto));
+        Product product = productMapper.productDtoToProduct(productDto);
+        return reactiveProductRepository.insert(product)
+                .map(productId -> productMapper.productToProductDto(
+                        new Product(productId, product.getProductName(), product.getProductPrice())));
+    }
+
+    /**
+     * Retrieves a product by its unique identifier.
+     *
+     * @param productId The unique identifier of the product.
+     * @return The product, or a ProductServiceException if it is not found.
+     */
+    @Override
+    public Mono<ProductDto> getProductById(long productId) {
+        log.info("Getting product by id: {}", productId);
+        return reactiveProductRepository.findById(productId)
+                .map(productMapper::productToProductDto)
+                .switchIfEmpty(notFound(GET_PRODUCT_BY_ID_NOT_FOUND));
+    }
+
+    /**
+     * Deletes a product by its unique identifier; the row is locked, read and deleted in one transaction.
+     *
+     * @param productId The unique identifier of the product to be deleted.
+     * @return The deleted product, or a ProductServiceException if it is not found.
+     */
+    @Override
+    @Transactional
+    public Mono<ProductDto> deleteProductById(long productId) {
+        log.info("Deleting product by id: {}", productId);
+        return reactiveProductRepository.findByIdForUpdate(productId)
+                .flatMap(product -> reactiveProductRepository.deleteById(productId)
+                        .thenReturn(productMapper.productToProductDto(product)))
+                .switchIfEmpty(notFound(DELETE_PRODUCT_BY_ID_NOT_FOUND));
+    }
+
+    /**
+     * Updates a product with a single UPDATE conditioned on its version: the expected version if one is given,
+     * otherwise the version just read, so that a concurrent update is reported as a conflict.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match, or null.
+     * @return The updated product, or a ProductServiceException if it is not found or its version differs.
+     */
+    @Override
+    public Mono<ProductDto> updateProduct(ProductDto productDto, Long expectedVersion) {
+        log.info("Updating product: {} if at version {}", PayloadSummary.of(productDto), expectedVersion);
+        long productId = productDto.getProductId();
+        Mono<Long> updatedVersion;
+        if (expectedVersion != null) {
+            updatedVersion = updateIfVersionMatches(productDto, expectedVersion, UPDATE_PRODUCT_NOT_FOUND,
+                                                    UPDATE_PRODUCT_VERSION_MISMATCH);
+        } else {
+            updatedVersion = reactiveProductRepository.findById(productId)
+                    .switchIfEmpty(notFound(UPDATE_PRODUCT_NOT_FOUND))
+                    .flatMap(existingProduct -> reactiveProductRepository.updateFields(
+                                    productId, productDto.getProductName(), productDto.getProductPrice(),
+                                    existingProduct.getVersion())
+                            .flatMap(updated -> updated == 0
+                                    ? Mono.error(new ProductServiceException(UPDATE_PRODUCT_CONFLICT, HttpStatus.CONFLICT))
+                                    : Mono.just(existingProduct.getVersion() + 1)));
+        }
+        return updatedVersion.map(version -> productMapper.productToProductDto(
+                new Product(productId, productDto.getProductName(), productDto.getProductPrice(), version)));
+    }
+
+    /**
+     * Partially updates the supplied fields of a product with a single UPDATE, then reads the product back
+     * in the same transaction.
+     *
+     * @param productDto      The Dto containing information for updating the product.
+     * @param expectedVersion The version the client last read, taken from If-Match, or null.
+     * @return The updated product, or a ProductServiceException if it is not found or its version differs.
+     */
+    @Override
+    @Transactional
+    public Mono<ProductDto> updateProductFields(ProductDto productDto, Long expectedVersion) {
+        log.info("Updating product fields: {} if at version {}", PayloadSummary.of(productDto), expectedVersion);
+        long productId = productDto.getProductId();
+        Mono<Long> updated = expectedVersion != null
+                ? updateIfVersionMatches(productDto, expectedVersion, UPDATE_PRODUCT_FIELDS_NOT_FOUND,
+                                         UPDATE_PRODUCT_FIELDS_VERSION_MISMATCH)
+                : reactiveProductRepository.updateFields(productId, productDto.getProductName(),
+                                                         productDto.getProductPrice(), null)
+                        .filter(count -> count > 0)
+                        .switchIfEmpty(notFound(UPDATE_PRODUCT_FIELDS_NOT_FOUND));
+        return updated.then(reactiveProductRepository.findById(productId))
+                .map(productMapper::productToProductDto)
+                .switchIfEmpty(notFound(UPDATE_PRODUCT_FIELDS_NOT_FOUND));
+    }
+
+    /**
+     * Runs the conditional UPDATE of a product and explains why no row was updated, if none was.
+     *
+     * @return The new version of the product.
+     */
+    private Mono<Long> updateIfVersionMatches(ProductDto productDto, long expectedVersion, String notFoundKey,
+                                              String mismatchKey) {
+        return reactiveProductRepository.updateFields(productDto.getProductId(), productDto.getProductName(),
+                                                      productDto.getProductPrice(), expectedVersion)
+                .flatMap(updated -> updated > 0 ? Mono.just(expectedVersion + 1)
+                        : reactiveProductRepository.existsById(productDto.getProductId())
+                                .flatMap(exists -> Mono.error(exists
+                                        ? new ProductServiceException(mismatchKey, HttpStatus.PRECONDITION_FAILED)
+                                        : new ProductServiceException(notFoundKey, HttpStatus.NOT_FOUND))));
+    }
+
+    private static <T> Mono<T> notFound(String key) {
+        return Mono.error(() -> new ProductServiceException(key, HttpStatus.NOT_FOUND));
+    }
+}
@@ -0,0 +1,56 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.entity.Product;
+
+/**
+ * An in-memory view of the catalog, rebuilt by the {@link CatalogIndexRefresher} from a scan of the product table
+ * shared with the other views and kept up to date by the writes of this instance in between.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public interface CatalogIndex {
+
+    /**
+     * Indicates whether the view is enabled; a disabled view is never built.
+     *
+     * @return True if the view is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts a rebuild of the view, recording the writes applied to the view from now on.
+     *
+     * @return The rebuild, to be fed with every product of the catalog.
+     */
+    Rebuild startRebuild();
+
+    /**
+     * A rebuild in progress.
+     */
+    interface Rebuild {
+
+        /**
+         * Adds a product read from the database. The product is detached from the persistence context right after,
+         * so the rebuild may keep it only as a plain value.
+         *
+         * @param product The product read from the database.
+         */
+        void add(Product product);
+
+        /**
+         * Replays the writes applied to the view since the rebuild started onto the rebuilt view and publishes it,
+         * unless the view was discarded or received a change that cannot be replayed meanwhile, in which case the
+         * rebuilt view is discarded.
+         *
+         * @return True if the rebuilt view was published.
+         */
+        boolean publish();
+
+        /**
+         * Abandons the rebuild, which then stops recording the writes applied to the view.
+         */
+        void discard();
+    }
+}
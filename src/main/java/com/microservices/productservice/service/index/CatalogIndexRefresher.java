@@ -0,0 +1,223 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.CatalogIndexProperties;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the in-memory views of the catalog from the database when the application starts and periodically
+ * afterwards. All the views are fed from a single scan of the product table over the forward-only cursor of
+ * {@link ProductRepository#streamAll()}, and every product is detached as soon as the views have read it, so the
+ * table is read once per rebuild and never held in the persistence context.
+ * The writes applied to a view during the scan are replayed onto its rebuild; only a view that was discarded or
+ * received a price adjustment while not loaded discards its rebuild, and only such views are scanned again.
+ * Views discarded by a write are rebuilt on a dedicated background thread, so the write does not wait for the
+ * scan; requests made while a rebuild is queued are merged into it.
+ * Each periodic refresh and background rebuild ends with a {@link CatalogRefreshedEvent}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class CatalogIndexRefresher implements DisposableBean {
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogIndexProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<CatalogIndex> catalogIndexes;
+    private final Executor rebuildExecutor;
+
+    /**
+     * Views awaiting a background rebuild, in order of request. Guarded by itself.
+     */
+    private final Set<CatalogIndex> queued = new LinkedHashSet<>();
+
+    /**
+     * Constructs the refresher of the given views, rebuilding discarded views on a dedicated background thread.
+     *
+     * @param productRepository   The repository the views are rebuilt from.
+     * @param entityManager       The entity manager the scanned products are detached from.
+     * @param transactionTemplate The template running each scan in its own transaction.
+     * @param properties          The rebuild settings.
+     * @param eventPublisher      The publisher of the {@link CatalogRefreshedEvent}.
+     * @param catalogIndexes      The views to be rebuilt.
+     */
+    @Autowired
+    public CatalogIndexRefresher(ProductRepository productRepository, EntityManager entityManager,
+                                 TransactionTemplate transactionTemplate, CatalogIndexProperties properties,
+                                 ApplicationEventPublisher eventPublisher, List<CatalogIndex> catalogIndexes) {
+        this(productRepository, entityManager, transactionTemplate, properties, eventPublisher, catalogIndexes,
+             Executors.newSingleThreadExecutor(runnable -> {
+                 Thread thread = new Thread(runnable, "catalog-index-rebuild");
+                 thread.setDaemon(true);
+                 return thread;
+             }));
+    }
+
+    /**
+     * Constructs the refresher of the given views, rebuilding discarded views with the given executor.
+     *
+     * @param productRepository   The repository the views are rebuilt from.
+     * @param entityManager       The entity manager the scanned products are detached from.
+     * @param transactionTemplate The template running each scan in its own transaction.
+     * @param properties          The rebuild settings.
+     * @param eventPublisher      The publisher of the {@link CatalogRefreshedEvent}.
+     * @param catalogIndexes      The views to be rebuilt.
+     * @param rebuildExecutor     The executor running the background rebuilds.
+     */
+    CatalogIndexRefresher(ProductRepository productRepository, EntityManager entityManager,
+                          TransactionTemplate transactionTemplate, CatalogIndexProperties properties,
+                          ApplicationEventPublisher eventPublisher, List<CatalogIndex> catalogIndexes,
+                          Executor rebuildExecutor) {
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.catalogIndexes = catalogIndexes;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    /**
+     * Stops the background rebuilds when the application shuts down.
+     */
+    @Override
+    public void destroy() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Rebuilds every enabled view from one scan of the product table, then publishes a
+     * {@link CatalogRefreshedEvent}, even if no view was rebuilt, since listings read from the database may
+     * have changed as well.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${product.catalog-index.refresh-interval:PT5M}",
+               initialDelayString = "${product.catalog-index.refresh-interval:PT5M}")
+    public void rebuild() {
+        eventPublisher.publishEvent(new CatalogRefreshedEvent(rebuild(catalogIndexes)));
+    }
+
+    /**
+     * Rebuilds the given views from one scan of the product table. Each scan runs in its own transaction, so
+     * that a view scanned again reads the change that invalidated its rebuild.
+     *
+     * @param indexes The views to be rebuilt; disabled ones are skipped.
+     * @return The number of products read by the last scan, or -1 if no view needed a scan or the scan failed.
+     */
+    public long rebuild(List<? extends CatalogIndex> indexes) {
+        List<CatalogIndex> pending = new ArrayList<>();
+        for (CatalogIndex index : indexes) {
+            if (index.isEnabled()) {
+                pending.add(index);
+            }
+        }
+        long scanned = -1;
+        for (int attempt = 1; attempt <= properties.getMaximumRebuildAttempts() && !pending.isEmpty(); attempt++) {
+            List<CatalogIndex.Rebuild> rebuilds = pending.stream().map(CatalogIndex::startRebuild).toList();
+            try {
+                scanned = transactionTemplate.execute(status -> scan(rebuilds));
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild the catalog indexes: {}", e.getMessage());
+                rebuilds.forEach(CatalogIndex.Rebuild::discard);
+                return -1;
+            }
+            List<CatalogIndex> invalidated = new ArrayList<>();
+            for (int i = 0; i < rebuilds.size(); i++) {
+                if (!rebuilds.get(i).publish()) {
+                    invalidated.add(pending.get(i));
+                }
+            }
+            log.debug("Scanned {} products for {} catalog indexes, {} invalidated during the scan", scanned,
+                      pending.size(), invalidated.size());
+            pending = invalidated;
+        }
+        for (CatalogIndex index : pending) {
+            log.warn("{} rebuild abandoned after {} attempts invalidated during the scan",
+                     index.getClass().getSimpleName(), properties.getMaximumRebuildAttempts());
+        }
+        return scanned;
+    }
+
+    /**
+     * Rebuilds the given views on the background thread and returns at once. Views already awaiting a rebuild
+     * are rebuilt once; the rebuild ends with a {@link CatalogRefreshedEvent}.
+     *
+     * @param indexes The views to be rebuilt; disabled ones are skipped.
+     */
+    public void rebuildLater(List<? extends CatalogIndex> indexes) {
+        synchronized (queued) {
+            boolean idle = queued.isEmpty();
+            queued.addAll(indexes);
+            if (!idle) {
+                return;
+            }
+            try {
+                rebuildExecutor.execute(this::rebuildQueued);
+            } catch (RejectedExecutionException e) {
+                log.warn("Catalog index rebuild not scheduled, left to the periodic refresh: {}", e.getMessage());
+                queued.clear();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the views awaiting a background rebuild. Views queued from now on are left to the next task.
+     */
+    private void rebuildQueued() {
+        List<CatalogIndex> indexes;
+        synchronized (queued) {
+            indexes = new ArrayList<>(queued);
+            queued.clear();
+        }
+        eventPublisher.publishEvent(new CatalogRefreshedEvent(rebuild(indexes)));
+    }
+
+    /**
+     * Feeds every product of the catalog to each rebuild, detaching it right after.
+     *
+     * @param rebuilds The rebuilds in progress.
+     * @return The number of products scanned.
+     */
+    private long scan(List<CatalogIndex.Rebuild> rebuilds) {
+        long count = 0;
+        try (Stream<Product> products = productRepository.streamAll()) {
+            for (Product product : (Iterable<Product>) products::iterator) {
+                for (CatalogIndex.Rebuild rebuild : rebuilds) {
+                    rebuild.add(product);
+                }
+                entityManager.detach(product);
+                count++;
+            }
+        }
+        return count;
+    }
+}
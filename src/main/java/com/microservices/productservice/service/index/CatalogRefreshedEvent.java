@@ -0,0 +1,22 @@
+package com.microservices.productservice.service.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the {@link CatalogIndexRefresher} after each periodic refresh from the database, the point at which
+ * this instance picks up the writes made by other instances.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogRefreshedEvent {
+
+    /**
+     * Number of products read by the refresh, or -1 if no index needed a scan or the scan failed.
+     */
+    private final long scannedProducts;
+}
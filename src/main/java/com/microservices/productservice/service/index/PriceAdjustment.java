@@ -0,0 +1,105 @@
+package com.microservices.productservice.service.index;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Set;
+
+/**
+ * A price change applied to many products at once, computed in memory exactly as the UPDATE of
+ * ProductRepositoryCustomImpl computes it in the database: ROUND(price * CAST(factor AS DECIMAL(19, 9))) + offset,
+ * applied only to the selected products whose new price stays within the allowed bounds.
+ * The in-memory indexes use it to adjust their own products instead of reading the whole catalog again.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PriceAdjustment {
+
+    private static final int FACTOR_SCALE = 9;
+
+    /**
+     * The selected productIds, or null when the products are selected by their price.
+     */
+    private final Set<Long> productIds;
+    private final long lowerLimit;
+    private final long upperLimit;
+    private final BigDecimal factor;
+    private final long offset;
+    private final long minimumPrice;
+    private final long maximumPrice;
+
+    /**
+     * Describes a price change of the products with the given ids.
+     *
+     * @param productIds   The unique identifiers of the selected products.
+     * @param factor       The factor applied to each price.
+     * @param offset       The amount in cents added to each price after the factor.
+     * @param minimumPrice The lowest allowed new price, in cents.
+     * @param maximumPrice The highest allowed new price, in cents.
+     * @return The price adjustment.
+     */
+    public static PriceAdjustment ofIds(Set<Long> productIds, double factor, long offset,
+                                        long minimumPrice, long maximumPrice) {
+        return new PriceAdjustment(productIds, Long.MIN_VALUE, Long.MAX_VALUE, scaled(factor), offset,
+                                   minimumPrice, maximumPrice);
+    }
+
+    /**
+     * Describes a price change of the products priced within the given range, both limits included.
+     *
+     * @param lowerLimit   The lower limit of the price range of the selected products, in cents.
+     * @param upperLimit   The upper limit of the price range of the selected products, in cents.
+     * @param factor       The factor applied to each price.
+     * @param offset       The amount in cents added to each price after the factor.
+     * @param minimumPrice The lowest allowed new price, in cents.
+     * @param maximumPrice The highest allowed new price, in cents.
+     * @return The price adjustment.
+     */
+    public static PriceAdjustment inRange(long lowerLimit, long upperLimit, double factor, long offset,
+                                          long minimumPrice, long maximumPrice) {
+        return new PriceAdjustment(null, lowerLimit, upperLimit, scaled(factor), offset, minimumPrice, maximumPrice);
+    }
+
+    /**
+     * Returns the lowest current price a selected product can have.
+     *
+     * @return The lower limit of the price range, in cents.
+     */
+    long lowerLimit() {
+        return lowerLimit;
+    }
+
+    /**
+     * Returns the highest current price a selected product can have.
+     *
+     * @return The upper limit of the price range, in cents.
+     */
+    long upperLimit() {
+        return upperLimit;
+    }
+
+    /**
+     * Computes the new price of a product.
+     *
+     * @param productId The unique identifier of the product.
+     * @param price     The current price of the product, in cents.
+     * @return The new price in cents, or -1 if the product is not selected or its new price would be out of bounds.
+     */
+    long adjustedPrice(long productId, long price) {
+        if (price < lowerLimit || price > upperLimit || (productIds != null && !productIds.contains(productId))) {
+            return -1;
+        }
+        long adjustedPrice = BigDecimal.valueOf(price).multiply(factor).setScale(0, RoundingMode.HALF_UP)
+                                       .longValue() + offset;
+        return adjustedPrice >= minimumPrice && adjustedPrice <= maximumPrice ? adjustedPrice : -1;
+    }
+
+    private static BigDecimal scaled(double factor) {
+        return BigDecimal.valueOf(factor).setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+    }
+}
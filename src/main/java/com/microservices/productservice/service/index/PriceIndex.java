@@ -0,0 +1,439 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.PriceIndexProperties;
+import com.microservices.productservice.entity.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of all products sorted by price, then by productId.
+ * The products are held in parallel arrays that are never modified once published: every write copies
+ * the arrays and publishes the copy through a volatile reference, so readers never take a lock.
+ * Writes arrive after their commit and in no particular order, so an entry is only ever replaced by a later
+ * version of its product, and a deleted product is not brought back by an older update; see
+ * {@link VersionedWrites}. The index is rebuilt from the database by the {@link CatalogIndexRefresher}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class PriceIndex implements CatalogIndex {
+
+    private final PriceIndexProperties properties;
+
+    /**
+     * The currently published snapshot, or null until the first rebuild completes.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Tombstones and rebuild journals of the writes applied to the index. Guarded by this.
+     */
+    private final VersionedWrites writes = new VersionedWrites();
+
+    /**
+     * Constructs an empty index; it answers queries only after a rebuild has been published.
+     *
+     * @param properties The index settings.
+     */
+    public PriceIndex(PriceIndexProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Indicates whether sorted and price range queries are answered from memory.
+     *
+     * @return True if the index is enabled.
+     */
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Indicates whether the index has been built and can answer queries.
+     *
+     * @return True if the index is loaded.
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Starts a rebuild that collects the scanned products and sorts them by price once the scan is complete.
+     * The writes applied meanwhile are replayed onto the rebuilt index before it is published.
+     *
+     * @return The rebuild.
+     */
+    @Override
+    public synchronized Rebuild startRebuild() {
+        VersionedWrites.Journal journal = writes.open();
+        List<Product> products = new ArrayList<>();
+        return new Rebuild() {
+
+            @Override
+            public void add(Product product) {
+                products.add(product);
+            }
+
+            @Override
+            public boolean publish() {
+                Snapshot rebuilt = Snapshot.of(products);
+                synchronized (PriceIndex.this) {
+                    writes.close(journal);
+                    if (!journal.isValid()) {
+                        return false;
+                    }
+                    rebuilt = applied(rebuilt, journal.upserts(), journal.deletions());
+                    snapshot = rebuilt;
+                }
+                log.info("Price index rebuilt with {} products", rebuilt.size());
+                return true;
+            }
+
+            @Override
+            public void discard() {
+                synchronized (PriceIndex.this) {
+                    writes.close(journal);
+                }
+            }
+        };
+    }
+
+    /**
+     * Inserts a product into the index, replacing any previous entry with the same productId, unless that entry
+     * has the same or a later version or the product was deleted since.
+     *
+     * @param product The product that was created or updated.
+     */
+    public void upsert(Product product) {
+        insertAll(List.of(product));
+    }
+
+    /**
+     * Inserts products into the index with a single copy of the index, each under the same conditions as
+     * {@link #upsert(Product)}.
+     *
+     * @param products The products that were created or updated.
+     */
+    public synchronized void insertAll(List<Product> products) {
+        products.forEach(writes::recordUpsert);
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = applied(current, products, Map.of());
+        }
+    }
+
+    /**
+     * Removes a product from the index, unless its entry has a later version, and drops the updates of the
+     * product older than the deletion that are applied after it.
+     *
+     * @param productId The unique identifier of the deleted product.
+     * @param version   The last version of the deleted product.
+     */
+    public void remove(long productId, long version) {
+        delete(Map.of(productId, version));
+    }
+
+    /**
+     * Removes many products from the index with a single copy of the index, whatever their versions.
+     *
+     * @param productIds The unique identifiers of the deleted products.
+     */
+    public void removeAll(Set<Long> productIds) {
+        Map<Long, Long> deletions = new HashMap<>(productIds.size() * 2);
+        productIds.forEach(productId -> deletions.put(productId, VersionedWrites.ANY_VERSION));
+        delete(deletions);
+    }
+
+    /**
+     * Applies a bulk price change, already committed to the database, to the products in the index, with a
+     * single copy of the index. Each adjusted product gets the next version, as the UPDATE gives it.
+     * The change cannot be replayed onto a rebuild that started while the index was not loaded, so such a
+     * rebuild is discarded.
+     *
+     * @param adjustment The price change.
+     * @return The number of products whose price was adjusted, or 0 if the index is not loaded.
+     */
+    public synchronized int adjustPrices(PriceAdjustment adjustment) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            writes.invalidate();
+            return 0;
+        }
+        List<Product> adjusted = current.adjustedProducts(adjustment);
+        if (!adjusted.isEmpty()) {
+            adjusted.forEach(writes::recordUpsert);
+            Set<Long> adjustedIds = new HashSet<>(adjusted.size() * 2);
+            adjusted.forEach(product -> adjustedIds.add(product.getProductId()));
+            snapshot = current.removeAll(adjustedIds).merge(Snapshot.of(adjusted));
+        }
+        return adjusted.size();
+    }
+
+    /**
+     * Discards the index so that reads fall back to the database until the next rebuild is published; the
+     * rebuilds in progress are discarded too.
+     */
+    public synchronized void unload() {
+        writes.invalidate();
+        snapshot = null;
+    }
+
+    /**
+     * Retrieves all products sorted by price in ascending order.
+     *
+     * @return A list of products sorted by price.
+     * @throws IllegalStateException if the index is not loaded.
+     */
+    public List<Product> findAllSortedByPrice() {
+        Snapshot current = loadedSnapshot();
+        return current.toProducts(0, current.size());
+    }
+
+    /**
+     * Retrieves products within the specified price range, both limits included.
+     *
+     * @param lowerLimit The lower limit of the price range, in cents.
+     * @param upperLimit The upper limit of the price range, in cents.
+     * @return A list of products within the given price range, sorted by price.
+     * @throws IllegalStateException if the index is not loaded.
+     */
+    public List<Product> findByPriceRange(long lowerLimit, long upperLimit) {
+        Snapshot current = loadedSnapshot();
+        int from = current.firstAtLeast(lowerLimit);
+        int to = current.firstAbove(upperLimit);
+        return from < to ? current.toProducts(from, to) : new ArrayList<>();
+    }
+
+    private synchronized void delete(Map<Long, Long> deletions) {
+        deletions.forEach(writes::recordDeletion);
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = applied(current, List.of(), deletions);
+        }
+    }
+
+    /**
+     * Applies writes to a snapshot with a single copy of it. A product replaces the entry with the same
+     * productId only if it has a later version and was not deleted since; a deletion removes the entry only if
+     * the entry has the same or an earlier version.
+     *
+     * @param current   The snapshot.
+     * @param upserts   The created or updated products.
+     * @param deletions The last versions of the deleted products, by productId.
+     * @return The changed snapshot, or the snapshot itself if no write applies.
+     */
+    private Snapshot applied(Snapshot current, Collection<Product> upserts, Map<Long, Long> deletions) {
+        Set<Long> writtenIds = new HashSet<>((upserts.size() + deletions.size()) * 2);
+        upserts.forEach(product -> writtenIds.add(product.getProductId()));
+        writtenIds.addAll(deletions.keySet());
+        Map<Long, Long> indexedVersions = current.versionsOf(writtenIds);
+        Set<Long> removedIds = new HashSet<>();
+        List<Product> inserted = new ArrayList<>();
+        for (Product product : upserts) {
+            Long indexedVersion = indexedVersions.get(product.getProductId());
+            if ((indexedVersion == null || indexedVersion < product.getVersion())
+                    && !writes.isDeleted(product.getProductId(), product.getVersion())) {
+                inserted.add(product);
+                if (indexedVersion != null) {
+                    removedIds.add(product.getProductId());
+                }
+            }
+        }
+        deletions.forEach((productId, version) -> {
+            Long indexedVersion = indexedVersions.get(productId);
+            if (indexedVersion != null && indexedVersion <= version) {
+                removedIds.add(productId);
+            }
+        });
+        Snapshot changed = removedIds.isEmpty() ? current : current.removeAll(removedIds);
+        return inserted.isEmpty() ? changed : changed.merge(Snapshot.of(inserted));
+    }
+
+    private Snapshot loadedSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Price index is not loaded");
+        }
+        return current;
+    }
+
+    /**
+     * Immutable set of parallel arrays sorted by price, then by productId.
+     */
+    private static final class Snapshot {
+
+        private static final Comparator<Product> ORDER = Comparator.comparingLong(Product::getProductPrice)
+                                                                   .thenComparingLong(Product::getProductId);
+
+        private final long[] prices;
+        private final long[] productIds;
+        private final String[] productNames;
+        private final long[] versions;
+
+        private Snapshot(long[] prices, long[] productIds, String[] productNames, long[] versions) {
+            this.prices = prices;
+            this.productIds = productIds;
+            this.productNames = productNames;
+            this.versions = versions;
+        }
+
+        static Snapshot of(Collection<Product> products) {
+            Product[] sorted = products.toArray(new Product[0]);
+            Arrays.sort(sorted, ORDER);
+            long[] prices = new long[sorted.length];
+            long[] productIds = new long[sorted.length];
+            String[] productNames = new String[sorted.length];
+            long[] versions = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                prices[i] = sorted[i].getProductPrice();
+                productIds[i] = sorted[i].getProductId();
+                productNames[i] = sorted[i].getProductName();
+                versions[i] = sorted[i].getVersion();
+            }
+            return new Snapshot(prices, productIds, productNames, versions);
+        }
+
+        int size() {
+            return prices.length;
+        }
+
+        /**
+         * Binary search for the first position whose price is greater than or equal to the given price.
+         */
+        int firstAtLeast(long price) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Binary search for the first position whose price is greater than the given price.
+         */
+        int firstAbove(long price) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] <= price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Merges two snapshots whose productIds do not overlap into a new sorted snapshot.
+         */
+        Snapshot merge(Snapshot other) {
+            int size = prices.length + other.prices.length;
+            long[] newPrices = new long[size];
+            long[] newProductIds = new long[size];
+            String[] newProductNames = new String[size];
+            long[] newVersions = new long[size];
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < size; k++) {
+                boolean takeOther = i == prices.length
+                        || (j < other.prices.length && (other.prices[j] < prices[i]
+                        || (other.prices[j] == prices[i] && other.productIds[j] < productIds[i])));
+                Snapshot source = takeOther ? other : this;
+                int position = takeOther ? j++ : i++;
+                newPrices[k] = source.prices[position];
+                newProductIds[k] = source.productIds[position];
+                newProductNames[k] = source.productNames[position];
+                newVersions[k] = source.versions[position];
+            }
+            return new Snapshot(newPrices, newProductIds, newProductNames, newVersions);
+        }
+
+        /**
+         * Returns the versions of the given products found in the snapshot, by productId.
+         */
+        Map<Long, Long> versionsOf(Set<Long> wantedIds) {
+            Map<Long, Long> found = new HashMap<>(wantedIds.size() * 2);
+            for (int i = 0; i < productIds.length && found.size() < wantedIds.size(); i++) {
+                if (wantedIds.contains(productIds[i])) {
+                    found.put(productIds[i], versions[i]);
+                }
+            }
+            return found;
+        }
+
+        Snapshot removeAll(Set<Long> removedIds) {
+            int size = 0;
+            for (long productId : productIds) {
+                if (!removedIds.contains(productId)) {
+                    size++;
+                }
+            }
+            if (size == productIds.length) {
+                return this;
+            }
+            long[] newPrices = new long[size];
+            long[] newProductIds = new long[size];
+            String[] newProductNames = new String[size];
+            long[] newVersions = new long[size];
+            int k = 0;
+            for (int i = 0; i < productIds.length; i++) {
+                if (!removedIds.contains(productIds[i])) {
+                    newPrices[k] = prices[i];
+                    newProductIds[k] = productIds[i];
+                    newProductNames[k] = productNames[i];
+                    newVersions[k] = versions[i];
+                    k++;
+                }
+            }
+            return new Snapshot(newPrices, newProductIds, newProductNames, newVersions);
+        }
+
+        /**
+         * Returns the products changed by a price change, with their new price and version. Only the products
+         * priced within the range of the adjustment are examined.
+         */
+        List<Product> adjustedProducts(PriceAdjustment adjustment) {
+            int to = firstAbove(adjustment.upperLimit());
+            List<Product> adjusted = new ArrayList<>();
+            for (int i = firstAtLeast(adjustment.lowerLimit()); i < to; i++) {
+                long adjustedPrice = adjustment.adjustedPrice(productIds[i], prices[i]);
+                if (adjustedPrice >= 0) {
+                    adjusted.add(new Product(productIds[i], productNames[i], adjustedPrice, versions[i] + 1));
+                }
+            }
+            return adjusted;
+        }
+
+        List<Product> toProducts(int from, int to) {
+            List<Product> products = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                products.add(new Product(productIds[i], productNames[i], prices[i], versions[i]));
+            }
+            return products;
+        }
+    }
+}
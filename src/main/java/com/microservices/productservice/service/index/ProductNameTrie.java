@@ -0,0 +1,670 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.AutocompleteProperties;
+import com.microservices.productservice.entity.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory trie of normalized product names, answering prefix autocomplete requests.
+ * Names are lower-cased and their whitespace collapsed to single spaces. The trie is a radix tree: a chain of
+ * single-child nodes is a single node, children are held in sorted arrays, and edge labels are not stored at all,
+ * since the path of a node is a prefix of the names completing it; a node only keeps the length of its path.
+ * Every node keeps its best completions precomputed, ranked by the number of products carrying the name and then
+ * alphabetically, so a lookup walks down the prefix and never visits the subtree below it.
+ * Nodes are immutable: a write copies the nodes on the path of the changed name, recomputing their completions
+ * from those of their children, and publishes the new root through a volatile reference, so lookups never take a
+ * lock. As in {@link PriceIndex}, writes are applied in version order and the trie is rebuilt from the database
+ * by the {@link CatalogIndexRefresher}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ProductNameTrie implements CatalogIndex {
+
+    private final AutocompleteProperties properties;
+
+    /**
+     * The root of the currently published trie, or null until the first rebuild completes.
+     */
+    private volatile Node root;
+
+    /**
+     * Normalized name and version of every product in the trie, needed to take a product out when it is renamed
+     * or deleted. Guarded by this.
+     */
+    private ProductNames productNames;
+
+    /**
+     * Tombstones and rebuild journals of the writes applied to the trie. Guarded by this.
+     */
+    private final VersionedWrites writes = new VersionedWrites();
+
+    /**
+     * Constructs an empty trie; it answers lookups only after a rebuild has been published.
+     *
+     * @param properties The trie settings.
+     */
+    public ProductNameTrie(AutocompleteProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Normalizes a text the way product names are indexed: lower-cased, with leading and trailing whitespace
+     * removed and every other run of whitespace replaced by a single space.
+     *
+     * @param text The text, possibly null.
+     * @return The normalized text, empty if the text is null or blank.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (Character.isWhitespace(character)) {
+                pendingSpace = !normalized.isEmpty();
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(character);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indicates whether product name autocomplete is available.
+     *
+     * @return True if the trie is enabled.
+     */
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Indicates whether the trie has been built and can answer lookups.
+     *
+     * @return True if the trie is loaded.
+     */
+    public boolean isLoaded() {
+        return root != null;
+    }
+
+    /**
+     * Starts a rebuild that counts the normalized names as the products are scanned, keeping only the names,
+     * and builds the trie from the distinct names once the scan is complete. The writes applied meanwhile are
+     * replayed onto the rebuilt trie before it is published.
+     *
+     * @return The rebuild.
+     */
+    @Override
+    public synchronized Rebuild startRebuild() {
+        VersionedWrites.Journal journal = writes.open();
+        ProductNames rebuiltNames = new ProductNames(0);
+        Map<String, NameCount> nameCounts = new HashMap<>();
+        return new Rebuild() {
+
+            @Override
+            public void add(Product product) {
+                String name = normalize(product.getProductName());
+                if (!name.isEmpty()) {
+                    NameCount nameCount = nameCounts.computeIfAbsent(name, NameCount::new);
+                    nameCount.count++;
+                    name = nameCount.name;
+                }
+                rebuiltNames.put(product.getProductId(), name, product.getVersion());
+            }
+
+            @Override
+            public boolean publish() {
+                NameCount[] sorted = nameCounts.values().toArray(new NameCount[0]);
+                Arrays.sort(sorted);
+                Node rebuilt = build(sorted, 0, sorted.length, 0, 0, properties.getMaximumCompletions());
+                synchronized (ProductNameTrie.this) {
+                    writes.close(journal);
+                    if (!journal.isValid()) {
+                        return false;
+                    }
+                    root = applied(rebuilt, rebuiltNames, journal.upserts(), journal.deletions());
+                    productNames = rebuiltNames;
+                }
+                log.info("Autocomplete trie rebuilt with {} products and {} names", rebuiltNames.size, sorted.length);
+                return true;
+            }
+
+            @Override
+            public void discard() {
+                synchronized (ProductNameTrie.this) {
+                    writes.close(journal);
+                }
+            }
+        };
+    }
+
+    /**
+     * Inserts a product into the trie, replacing the name of any previous entry with the same productId, unless
+     * that entry has the same or a later version or the product was deleted since.
+     *
+     * @param product The product that was created or updated.
+     */
+    public void upsert(Product product) {
+        insertAll(List.of(product));
+    }
+
+    /**
+     * Inserts products into the trie and publishes the result once, each under the same conditions as
+     * {@link #upsert(Product)}.
+     *
+     * @param products The products that were created or updated.
+     */
+    public synchronized void insertAll(List<Product> products) {
+        products.forEach(writes::recordUpsert);
+        Node current = root;
+        if (current != null) {
+            root = applied(current, productNames, products, Map.of());
+        }
+    }
+
+    /**
+     * Removes a product from the trie, unless its entry has a later version, and drops the updates of the
+     * product older than the deletion that are applied after it.
+     *
+     * @param productId The unique identifier of the deleted product.
+     * @param version   The last version of the deleted product.
+     */
+    public void remove(long productId, long version) {
+        delete(Map.of(productId, version));
+    }
+
+    /**
+     * Removes many products from the trie and publishes the result once, whatever their versions.
+     *
+     * @param productIds The unique identifiers of the deleted products.
+     */
+    public void removeAll(Set<Long> productIds) {
+        Map<Long, Long> deletions = new HashMap<>(productIds.size() * 2);
+        productIds.forEach(productId -> deletions.put(productId, VersionedWrites.ANY_VERSION));
+        delete(deletions);
+    }
+
+    /**
+     * Completes a prefix into the normalized product names starting with it, names carried by more products
+     * first and equally common names in alphabetical order. The prefix is normalized like the names, except that
+     * trailing whitespace is kept as a single space, so that a finished word only completes into longer names.
+     *
+     * @param prefix The typed text.
+     * @param limit  The largest number of completions returned, itself limited by the completions kept per node.
+     * @return The best completions, or an empty list if the prefix is blank or no name starts with it.
+     * @throws IllegalStateException if the trie is not loaded.
+     */
+    public List<String> complete(String prefix, int limit) {
+        Node node = root;
+        if (node == null) {
+            throw new IllegalStateException("Autocomplete trie is not loaded");
+        }
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            key += ' ';
+        }
+        int depth = 0;
+        while (depth < key.length()) {
+            int position = Arrays.binarySearch(node.keys, key.charAt(depth));
+            if (position < 0) {
+                return List.of();
+            }
+            node = node.children[position];
+            int compared = Math.min(node.end, key.length()) - depth - 1;
+            if (!node.path().regionMatches(depth + 1, key, depth + 1, compared)) {
+                return List.of();
+            }
+            depth = node.end;
+        }
+        int size = Math.min(limit, node.completionCount());
+        List<String> completions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            completions.add(node.completion(i).name);
+        }
+        return completions;
+    }
+
+    private synchronized void delete(Map<Long, Long> deletions) {
+        deletions.forEach(writes::recordDeletion);
+        Node current = root;
+        if (current != null) {
+            root = applied(current, productNames, List.of(), deletions);
+        }
+    }
+
+    /**
+     * Applies writes to a trie and to the names of its products, which are changed in place. A product renames
+     * the entry with the same productId only if it has a later version and was not deleted since; a deletion
+     * removes the entry only if the entry has the same or an earlier version.
+     *
+     * @param current   The root of the trie.
+     * @param names     The names and versions of the products in the trie.
+     * @param upserts   The created or updated products.
+     * @param deletions The last versions of the deleted products, by productId.
+     * @return The root of the changed trie.
+     */
+    private Node applied(Node current, ProductNames names, Collection<Product> upserts, Map<Long, Long> deletions) {
+        int maximumCompletions = properties.getMaximumCompletions();
+        for (Product product : upserts) {
+            long productId = product.getProductId();
+            if (names.version(productId) >= product.getVersion()
+                    || writes.isDeleted(productId, product.getVersion())) {
+                continue;
+            }
+            String name = normalize(product.getProductName());
+            String previous = names.get(productId);
+            if (name.equals(previous)) {
+                names.put(productId, previous, product.getVersion());
+                continue;
+            }
+            if (previous != null && !previous.isEmpty()) {
+                current = add(current, previous, -1, maximumCompletions);
+            }
+            if (!name.isEmpty()) {
+                current = add(current, name, 1, maximumCompletions);
+                name = terminal(current, name).name;
+            }
+            names.put(productId, name, product.getVersion());
+        }
+        for (Map.Entry<Long, Long> deletion : deletions.entrySet()) {
+            long version = names.version(deletion.getKey());
+            if (version >= 0 && version <= deletion.getValue()) {
+                String previous = names.remove(deletion.getKey());
+                if (!previous.isEmpty()) {
+                    current = add(current, previous, -1, maximumCompletions);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Builds the subtree of a range of sorted distinct names sharing their first end characters.
+     *
+     * @param names              The distinct names with their counts, sorted by name.
+     * @param from               The first name of the range, included.
+     * @param to                 The last name of the range, excluded.
+     * @param start              The path length of the parent node.
+     * @param end                The path length of the node built.
+     * @param maximumCompletions The number of completions kept per node.
+     * @return The root node of the subtree.
+     */
+    private static Node build(NameCount[] names, int from, int to, int start, int end, int maximumCompletions) {
+        String name = null;
+        int count = 0;
+        if (from < to && names[from].name.length() == end) {
+            name = names[from].name;
+            count = names[from].count;
+            from++;
+        }
+        List<Node> children = new ArrayList<>();
+        while (from < to) {
+            char key = names[from].name.charAt(end);
+            int groupEnd = from + 1;
+            while (groupEnd < to && names[groupEnd].name.charAt(end) == key) {
+                groupEnd++;
+            }
+            int childEnd = commonPrefixLength(names[from].name, names[groupEnd - 1].name, end + 1);
+            children.add(build(names, from, groupEnd, end, childEnd, maximumCompletions));
+            from = groupEnd;
+        }
+        return new Node(end, name, count, children.toArray(Node.NONE), maximumCompletions);
+    }
+
+    /**
+     * Returns a copy of a subtree in which the count of a name is changed, copying only the nodes on its path.
+     * A count that drops to zero removes the name, and nodes left with a single child and no name of their own
+     * are replaced by that child.
+     *
+     * @param node               The root of the subtree, whose path is a prefix of the name.
+     * @param name               The normalized name.
+     * @param delta              The change of the count, negative for a removal.
+     * @param maximumCompletions The number of completions kept per node.
+     * @return The root of the changed subtree, null if it became empty, or the node itself if nothing changed.
+     */
+    private static Node add(Node node, String name, int delta, int maximumCompletions) {
+        if (node.end == name.length()) {
+            if (node.count == 0 && delta < 0) {
+                return node;
+            }
+            int count = Math.max(0, node.count + delta);
+            return count == 0 ? withChildren(node.end, null, 0, node.children, maximumCompletions)
+                              : new Node(node.end, node.count > 0 ? node.name : name, count, node.children,
+                                         maximumCompletions);
+        }
+        int position = Arrays.binarySearch(node.keys, name.charAt(node.end));
+        Node child = position >= 0 ? node.children[position] : null;
+        Node replacement;
+        if (child == null) {
+            if (delta < 0) {
+                return node;
+            }
+            replacement = new Node(name.length(), name, delta, Node.NONE, maximumCompletions);
+            return withChildren(node.end, node.name, node.count, insert(node.children, -position - 1, replacement),
+                                maximumCompletions);
+        }
+        String path = child.path();
+        int common = commonPrefixLength(path, name, node.end + 1);
+        if (common >= child.end) {
+            replacement = add(child, name, delta, maximumCompletions);
+        } else if (delta < 0) {
+            return node;
+        } else if (common == name.length()) {
+            replacement = new Node(common, name, delta, new Node[]{child}, maximumCompletions);
+        } else {
+            Node leaf = new Node(name.length(), name, delta, Node.NONE, maximumCompletions);
+            Node[] children = path.charAt(common) < name.charAt(common) ? new Node[]{child, leaf}
+                                                                        : new Node[]{leaf, child};
+            replacement = new Node(common, null, 0, children, maximumCompletions);
+        }
+        if (replacement == child) {
+            return node;
+        }
+        Node[] children;
+        if (replacement == null) {
+            children = new Node[node.children.length - 1];
+            System.arraycopy(node.children, 0, children, 0, position);
+            System.arraycopy(node.children, position + 1, children, position, children.length - position);
+        } else {
+            children = node.children.clone();
+            children[position] = replacement;
+        }
+        return withChildren(node.end, node.name, node.count, children, maximumCompletions);
+    }
+
+    /**
+     * Creates a node, or skips it when it is not the root, carries no name and has at most one child.
+     */
+    private static Node withChildren(int end, String name, int count, Node[] children, int maximumCompletions) {
+        if (end > 0 && count == 0 && children.length <= 1) {
+            return children.length == 0 ? null : children[0];
+        }
+        return new Node(end, name, count, children, maximumCompletions);
+    }
+
+    private static Node[] insert(Node[] nodes, int position, Node node) {
+        Node[] inserted = new Node[nodes.length + 1];
+        System.arraycopy(nodes, 0, inserted, 0, position);
+        inserted[position] = node;
+        System.arraycopy(nodes, position, inserted, position + 1, nodes.length - position);
+        return inserted;
+    }
+
+    /**
+     * Finds the node of a name known to be in the trie.
+     *
+     * @param root The root of the trie.
+     * @param name The normalized name.
+     * @return The node ending the path of the name.
+     */
+    private static Node terminal(Node root, String name) {
+        Node node = root;
+        while (node.end < name.length()) {
+            node = node.children[Arrays.binarySearch(node.keys, name.charAt(node.end))];
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String first, String second, int from) {
+        int limit = Math.min(first.length(), second.length());
+        int length = from;
+        while (length < limit && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * An immutable node of the trie. Its completions are the nodes of the best names in its subtree, a node
+     * without children being its own single completion.
+     */
+    private static final class Node {
+
+        private static final Node[] NONE = new Node[0];
+
+        /**
+         * Length of the path from the root to this node.
+         */
+        private final int end;
+
+        /**
+         * First character of the path below this node of every child, in ascending order.
+         */
+        private final char[] keys;
+
+        private final Node[] children;
+
+        /**
+         * The normalized name whose path ends at this node, or null if no product carries it.
+         */
+        private final String name;
+
+        /**
+         * Number of products carrying the name.
+         */
+        private final int count;
+
+        /**
+         * The best completions, or null for a node without children.
+         */
+        private final Node[] completions;
+
+        Node(int end, String name, int count, Node[] children, int maximumCompletions) {
+            this.end = end;
+            this.name = name;
+            this.count = count;
+            this.children = children;
+            keys = new char[children.length];
+            for (int i = 0; i < children.length; i++) {
+                keys[i] = children[i].path().charAt(end);
+            }
+            completions = children.length == 0 && count > 0 ? null : rank(maximumCompletions);
+        }
+
+        /**
+         * Returns a name having the path of this node as a prefix.
+         */
+        String path() {
+            return completion(0).name;
+        }
+
+        int completionCount() {
+            return completions == null ? 1 : completions.length;
+        }
+
+        Node completion(int index) {
+            return completions == null ? this : completions[index];
+        }
+
+        /**
+         * Merges the completions of the children, already ranked, with the name of this node.
+         */
+        private Node[] rank(int maximumCompletions) {
+            int[] positions = new int[children.length];
+            Node[] ranked = new Node[maximumCompletions];
+            int size = 0;
+            boolean named = count > 0;
+            while (size < maximumCompletions) {
+                Node best = named ? this : null;
+                int bestChild = -1;
+                for (int i = 0; i < children.length; i++) {
+                    if (positions[i] < children[i].completionCount()) {
+                        Node candidate = children[i].completion(positions[i]);
+                        if (best == null || candidate.outranks(best)) {
+                            best = candidate;
+                            bestChild = i;
+                        }
+                    }
+                }
+                if (best == null) {
+                    break;
+                }
+                if (bestChild < 0) {
+                    named = false;
+                } else {
+                    positions[bestChild]++;
+                }
+                ranked[size++] = best;
+            }
+            return size == ranked.length ? ranked : Arrays.copyOf(ranked, size);
+        }
+
+        private boolean outranks(Node other) {
+            return count != other.count ? count > other.count : name.compareTo(other.name) < 0;
+        }
+    }
+
+    /**
+     * A distinct name and the number of products carrying it, counted during a rebuild.
+     */
+    private static final class NameCount implements Comparable<NameCount> {
+
+        private final String name;
+        private int count;
+
+        NameCount(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int compareTo(NameCount other) {
+            return name.compareTo(other.name);
+        }
+    }
+
+    /**
+     * Map from productId to normalized name and version with open addressing and linear probing, which keeps
+     * primitive keys in a single array instead of a boxed key and an entry object per product. A product without
+     * a name is kept with an empty name, for its version.
+     */
+    private static final class ProductNames {
+
+        private long[] productIds;
+
+        /**
+         * Names by slot, null for a free slot.
+         */
+        private String[] names;
+
+        private long[] versions;
+
+        private int size;
+
+        ProductNames(int expectedSize) {
+            int capacity = 16;
+            while (capacity < 2L * expectedSize) {
+                capacity <<= 1;
+            }
+            productIds = new long[capacity];
+            names = new String[capacity];
+            versions = new long[capacity];
+        }
+
+        String get(long productId) {
+            return names[find(productId)];
+        }
+
+        /**
+         * Returns the version of a product, or -1 if the product is not in the map.
+         */
+        long version(long productId) {
+            int slot = find(productId);
+            return names[slot] != null ? versions[slot] : -1;
+        }
+
+        void put(long productId, String name, long version) {
+            int slot = find(productId);
+            if (names[slot] == null) {
+                productIds[slot] = productId;
+                size++;
+            }
+            names[slot] = name;
+            versions[slot] = version;
+            if (2 * size > names.length) {
+                grow();
+            }
+        }
+
+        /**
+         * Removes an entry by shifting the following entries of its probe sequence back, so that no tombstones
+         * are left behind.
+         */
+        String remove(long productId) {
+            int free = find(productId);
+            String name = names[free];
+            if (name == null) {
+                return null;
+            }
+            int mask = names.length - 1;
+            for (int next = (free + 1) & mask; names[next] != null; next = (next + 1) & mask) {
+                int home = home(productIds[next]);
+                if (((next - home) & mask) >= ((next - free) & mask)) {
+                    productIds[free] = productIds[next];
+                    names[free] = names[next];
+                    versions[free] = versions[next];
+                    free = next;
+                }
+            }
+            names[free] = null;
+            size--;
+            return name;
+        }
+
+        /**
+         * Returns the slot holding a productId, or the free slot where it would be inserted.
+         */
+        private int find(long productId) {
+            int mask = names.length - 1;
+            int slot = home(productId);
+            while (names[slot] != null && productIds[slot] != productId) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private int home(long productId) {
+            return Long.hashCode(productId * 0x9E3779B97F4A7C15L) & (names.length - 1);
+        }
+
+        private void grow() {
+            long[] oldProductIds = productIds;
+            String[] oldNames = names;
+            long[] oldVersions = versions;
+            productIds = new long[oldNames.length * 2];
+            names = new String[oldNames.length * 2];
+            versions = new long[oldNames.length * 2];
+            size = 0;
+            for (int i = 0; i < oldNames.length; i++) {
+                if (oldNames[i] != null) {
+                    put(oldProductIds[i], oldNames[i], oldVersions[i]);
+                }
+            }
+        }
+    }
+}
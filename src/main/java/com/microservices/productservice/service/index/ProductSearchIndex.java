@@ -0,0 +1,1098 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.SearchIndexProperties;
+import com.microservices.productservice.entity.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * In-memory inverted index of product names, answering ranked full-text searches.
+ * Names are split into lower-case terms of letters and digits. Each term maps to the documents of the products
+ * containing it, compressed as variable-length gaps between ascending document numbers, or as a bitmap for terms
+ * common enough that the bitmap is about as small.
+ * Products written after the postings were built are kept in a short pending list, with a map from each term to
+ * the pending products containing it, and their older entries are masked. Once the list outgrows its limit,
+ * everything is merged into new postings by a background task, so that no write waits for the merge; the writes
+ * applied meanwhile are replayed onto the merged snapshot before it is published.
+ * As in {@link PriceIndex}, every write publishes a new immutable snapshot through a volatile reference, so
+ * searches never take a lock, writes are applied in version order, and the index is rebuilt from the database by
+ * the {@link CatalogIndexRefresher}.
+ * A product matches when its name contains every term of the query; matches are ranked by BM25.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ProductSearchIndex implements CatalogIndex, DisposableBean {
+
+    private final SearchIndexProperties properties;
+    private final Executor compactionExecutor;
+
+    /**
+     * The currently published snapshot, or null until the first rebuild completes.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Tombstones and rebuild journals of the writes applied to the index. Guarded by this.
+     */
+    private final VersionedWrites writes = new VersionedWrites();
+
+    /**
+     * Whether a merge of the pending list is scheduled or running. Guarded by this.
+     */
+    private boolean compacting;
+
+    /**
+     * Constructs an empty index; it answers searches only after a rebuild has been published. The pending list
+     * is merged on a dedicated background thread.
+     *
+     * @param properties The index settings.
+     */
+    @Autowired
+    public ProductSearchIndex(SearchIndexProperties properties) {
+        this(properties, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-compaction");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Constructs an empty index whose pending list is merged by the given executor.
+     *
+     * @param properties         The index settings.
+     * @param compactionExecutor The executor running the merges of the pending list.
+     */
+    ProductSearchIndex(SearchIndexProperties properties, Executor compactionExecutor) {
+        this.properties = properties;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    /**
+     * Splits a text into lower-case terms, each a run of letters or digits.
+     *
+     * @param text The text, possibly null.
+     * @return The terms in order of appearance, repeated terms included.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean termCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (termCharacter && start < 0) {
+                start = i;
+            } else if (!termCharacter && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Indicates whether product name search is available.
+     *
+     * @return True if the index is enabled.
+     */
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Indicates whether the index has been built and can answer searches.
+     *
+     * @return True if the index is loaded.
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Starts a rebuild that collects the scanned products and compresses their postings once the scan is complete.
+     * The writes applied meanwhile are replayed onto the rebuilt index before it is published.
+     *
+     * @return The rebuild.
+     */
+    @Override
+    public synchronized Rebuild startRebuild() {
+        VersionedWrites.Journal journal = writes.open();
+        List<Product> products = new ArrayList<>();
+        return new Rebuild() {
+
+            @Override
+            public void add(Product product) {
+                products.add(product);
+            }
+
+            @Override
+            public boolean publish() {
+                Snapshot rebuilt = Snapshot.of(products);
+                synchronized (ProductSearchIndex.this) {
+                    writes.close(journal);
+                    if (!journal.isValid()) {
+                        return false;
+                    }
+                    rebuilt = applied(rebuilt, journal.upserts(), journal.deletions());
+                    snapshot = rebuilt;
+                    compactBeyondLimit();
+                }
+                log.info("Search index rebuilt with {} products and {} terms", rebuilt.size(),
+                         rebuilt.segment.terms.length);
+                return true;
+            }
+
+            @Override
+            public void discard() {
+                synchronized (ProductSearchIndex.this) {
+                    writes.close(journal);
+                }
+            }
+        };
+    }
+
+    /**
+     * Inserts a product into the index, replacing any previous entry with the same productId, unless that entry
+     * has the same or a later version or the product was deleted since.
+     *
+     * @param product The product that was created or updated.
+     */
+    public void upsert(Product product) {
+        insertAll(List.of(product));
+    }
+
+    /**
+     * Inserts products into the index with a single copy of the pending list, each under the same conditions
+     * as {@link #upsert(Product)}.
+     *
+     * @param products The products that were created or updated.
+     */
+    public synchronized void insertAll(List<Product> products) {
+        products.forEach(writes::recordUpsert);
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = applied(current, products, Map.of());
+            compactBeyondLimit();
+        }
+    }
+
+    /**
+     * Removes a product from the index, unless its entry has a later version, and drops the updates of the
+     * product older than the deletion that are applied after it.
+     *
+     * @param productId The unique identifier of the deleted product.
+     * @param version   The last version of the deleted product.
+     */
+    public void remove(long productId, long version) {
+        delete(Map.of(productId, version));
+    }
+
+    /**
+     * Removes many products from the index with a single copy of the index, whatever their versions.
+     *
+     * @param productIds The unique identifiers of the deleted products.
+     */
+    public void removeAll(Set<Long> productIds) {
+        Map<Long, Long> deletions = new HashMap<>(productIds.size() * 2);
+        productIds.forEach(productId -> deletions.put(productId, VersionedWrites.ANY_VERSION));
+        delete(deletions);
+    }
+
+    /**
+     * Applies a bulk price change, already committed to the database, to the products in the index, with a
+     * single copy of the pending list. Each adjusted product gets the next version, as the UPDATE gives it.
+     * The change cannot be replayed onto a rebuild that started while the index was not loaded, so such a
+     * rebuild is discarded.
+     *
+     * @param adjustment The price change.
+     * @return The number of products whose price was adjusted, or 0 if the index is not loaded.
+     */
+    public synchronized int adjustPrices(PriceAdjustment adjustment) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            writes.invalidate();
+            return 0;
+        }
+        List<Product> adjusted = current.adjustedProducts(adjustment);
+        if (!adjusted.isEmpty()) {
+            adjusted.forEach(writes::recordUpsert);
+            snapshot = current.withProducts(adjusted);
+            compactBeyondLimit();
+        }
+        return adjusted.size();
+    }
+
+    /**
+     * Discards the index so that searches are refused until the next rebuild is published; the rebuilds in
+     * progress are discarded too.
+     */
+    public synchronized void unload() {
+        writes.invalidate();
+        snapshot = null;
+    }
+
+    /**
+     * Finds the products whose name contains every term of the query and whose price is within the range,
+     * best ranked first; equally ranked products are ordered by productId.
+     *
+     * @param query      The search text.
+     * @param lowerLimit The lower limit of the price range, in cents, included.
+     * @param upperLimit The upper limit of the price range, in cents, included.
+     * @param limit      The largest number of products returned.
+     * @return The best ranked matching products, or an empty list if the query has no terms.
+     * @throws IllegalStateException if the index is not loaded.
+     */
+    public List<Product> search(String query, long lowerLimit, long upperLimit, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Search index is not loaded");
+        }
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0 || lowerLimit > upperLimit) {
+            return new ArrayList<>();
+        }
+        return current.search(terms, lowerLimit, upperLimit, limit);
+    }
+
+    /**
+     * Stops the background thread merging the pending list.
+     */
+    @Override
+    public void destroy() {
+        if (compactionExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Schedules a merge of the pending list into a new segment if the list outgrew its limit and no merge is
+     * scheduled yet. Called with this held.
+     */
+    private void compactBeyondLimit() {
+        Snapshot current = snapshot;
+        if (compacting || current == null || current.pending.length <= properties.getMaximumPendingProducts()) {
+            return;
+        }
+        compacting = true;
+        try {
+            compactionExecutor.execute(this::compact);
+        } catch (RejectedExecutionException e) {
+            compacting = false;
+            log.warn("Search index merge of {} pending products rejected: {}", current.pending.length, e.getMessage());
+        }
+    }
+
+    /**
+     * Merges the segment and the pending list of the current snapshot into a new segment without holding this,
+     * then replays the writes applied meanwhile onto it and publishes it, unless the index was rebuilt or
+     * discarded in between.
+     */
+    private void compact() {
+        Snapshot base;
+        VersionedWrites.Journal journal;
+        synchronized (this) {
+            base = snapshot;
+            if (base == null) {
+                compacting = false;
+                return;
+            }
+            journal = writes.open();
+        }
+        Snapshot compacted = null;
+        try {
+            compacted = base.compacted();
+        } finally {
+            synchronized (this) {
+                writes.close(journal);
+                compacting = false;
+                Snapshot current = snapshot;
+                if (compacted != null && journal.isValid() && current != null && current.segment == base.segment) {
+                    snapshot = applied(compacted, journal.upserts(), journal.deletions());
+                    log.debug("Search index merged {} pending products into a segment of {} products",
+                              base.pending.length, compacted.size());
+                    compactBeyondLimit();
+                }
+            }
+        }
+    }
+
+    private synchronized void delete(Map<Long, Long> deletions) {
+        deletions.forEach(writes::recordDeletion);
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = applied(current, List.of(), deletions);
+        }
+    }
+
+    /**
+     * Applies writes to a snapshot. A product replaces the entry with the same productId only if it has a later
+     * version and was not deleted since; a deletion removes the entry only if the entry has the same or an
+     * earlier version.
+     *
+     * @param current   The snapshot.
+     * @param upserts   The created or updated products.
+     * @param deletions The last versions of the deleted products, by productId.
+     * @return The changed snapshot, or the snapshot itself if no write applies.
+     */
+    private Snapshot applied(Snapshot current, Collection<Product> upserts, Map<Long, Long> deletions) {
+        Set<Long> removedIds = new HashSet<>();
+        deletions.forEach((productId, version) -> {
+            long indexedVersion = current.versionOf(productId);
+            if (indexedVersion >= 0 && indexedVersion <= version) {
+                removedIds.add(productId);
+            }
+        });
+        Snapshot changed = removedIds.isEmpty() ? current : current.withoutProducts(removedIds);
+        List<Product> inserted = new ArrayList<>();
+        for (Product product : upserts) {
+            if (changed.versionOf(product.getProductId()) < product.getVersion()
+                    && !writes.isDeleted(product.getProductId(), product.getVersion())) {
+                inserted.add(product);
+            }
+        }
+        return inserted.isEmpty() ? changed : changed.withProducts(inserted);
+    }
+
+    /**
+     * Immutable view of the index: the compressed segment, the segment documents masked by later writes, the
+     * products written since the segment was built, with the total length of their names, and the pending
+     * products containing each term. The arrays of the term map are shared between snapshots and never modified.
+     */
+    private static final class Snapshot {
+
+        private static final Pending[] NO_PENDING = new Pending[0];
+
+        private final Segment segment;
+        private final BitSet masked;
+        private final int maskedCount;
+        private final Pending[] pending;
+        private final long pendingLength;
+        private final Map<String, Pending[]> pendingPostings;
+
+        private Snapshot(Segment segment, BitSet masked, int maskedCount, Pending[] pending, long pendingLength,
+                         Map<String, Pending[]> pendingPostings) {
+            this.segment = segment;
+            this.masked = masked;
+            this.maskedCount = maskedCount;
+            this.pending = pending;
+            this.pendingLength = pendingLength;
+            this.pendingPostings = pendingPostings;
+        }
+
+        static Snapshot of(Collection<Product> products) {
+            return new Snapshot(Segment.of(products), new BitSet(), 0, NO_PENDING, 0, Map.of());
+        }
+
+        int size() {
+            return segment.size() - maskedCount + pending.length;
+        }
+
+        /**
+         * Returns the version of a product in the snapshot, or -1 if the product is not in it.
+         */
+        long versionOf(long productId) {
+            int low = 0;
+            int high = pending.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long pendingId = pending[mid].product.getProductId();
+                if (pendingId < productId) {
+                    low = mid + 1;
+                } else if (pendingId > productId) {
+                    high = mid - 1;
+                } else {
+                    return pending[mid].product.getVersion();
+                }
+            }
+            int document = segment.documentOf(productId);
+            return document >= 0 && !masked.get(document) ? segment.versions[document] : -1;
+        }
+
+        /**
+         * Masks the segment entries of the given products and merges them into the pending list, sorted by
+         * productId; a pending entry with the same productId is replaced.
+         */
+        Snapshot withProducts(List<Product> products) {
+            TreeMap<Long, Pending> added = new TreeMap<>();
+            for (Product product : products) {
+                added.put(product.getProductId(), new Pending(product));
+            }
+            BitSet newMasked = masked;
+            int newMaskedCount = maskedCount;
+            for (long productId : added.keySet()) {
+                int document = segment.documentOf(productId);
+                if (document >= 0 && !newMasked.get(document)) {
+                    if (newMasked == masked) {
+                        newMasked = (BitSet) masked.clone();
+                    }
+                    newMasked.set(document);
+                    newMaskedCount++;
+                }
+            }
+            Pending[] merged = new Pending[pending.length + added.size()];
+            List<Pending> replaced = new ArrayList<>();
+            long newPendingLength = pendingLength;
+            int size = 0;
+            int i = 0;
+            for (Pending entry : added.values()) {
+                long productId = entry.product.getProductId();
+                while (i < pending.length && pending[i].product.getProductId() < productId) {
+                    merged[size++] = pending[i++];
+                }
+                if (i < pending.length && pending[i].product.getProductId() == productId) {
+                    replaced.add(pending[i]);
+                    newPendingLength -= pending[i++].terms.size();
+                }
+                merged[size++] = entry;
+                newPendingLength += entry.terms.size();
+            }
+            while (i < pending.length) {
+                merged[size++] = pending[i++];
+            }
+            return new Snapshot(segment, newMasked, newMaskedCount, Arrays.copyOf(merged, size), newPendingLength,
+                                postingsWith(replaced, added.values()));
+        }
+
+        /**
+         * Masks the segment entries of the given products and drops them from the pending list.
+         */
+        Snapshot withoutProducts(Set<Long> productIds) {
+            BitSet newMasked = masked;
+            int newMaskedCount = maskedCount;
+            for (long productId : productIds) {
+                int document = segment.documentOf(productId);
+                if (document >= 0 && !newMasked.get(document)) {
+                    if (newMasked == masked) {
+                        newMasked = (BitSet) masked.clone();
+                    }
+                    newMasked.set(document);
+                    newMaskedCount++;
+                }
+            }
+            List<Pending> removed = new ArrayList<>();
+            long newPendingLength = pendingLength;
+            for (Pending entry : pending) {
+                if (productIds.contains(entry.product.getProductId())) {
+                    removed.add(entry);
+                    newPendingLength -= entry.terms.size();
+                }
+            }
+            if (newMasked == masked && removed.isEmpty()) {
+                return this;
+            }
+            Pending[] remaining = removed.isEmpty() ? pending : Arrays.stream(pending)
+                    .filter(entry -> !productIds.contains(entry.product.getProductId()))
+                    .toArray(Pending[]::new);
+            return new Snapshot(segment, newMasked, newMaskedCount, remaining, newPendingLength,
+                                postingsWith(removed, List.of()));
+        }
+
+        /**
+         * Returns the term map of the pending products once some are removed and others added, copying the map
+         * and only the arrays of the terms of the changed products.
+         */
+        private Map<String, Pending[]> postingsWith(List<Pending> removed, Collection<Pending> added) {
+            if (removed.isEmpty() && added.isEmpty()) {
+                return pendingPostings;
+            }
+            Map<String, List<Pending>> changes = new HashMap<>();
+            for (Pending entry : removed) {
+                for (String term : new LinkedHashSet<>(entry.terms)) {
+                    changes.computeIfAbsent(term, key -> new ArrayList<>());
+                }
+            }
+            for (Pending entry : added) {
+                for (String term : new LinkedHashSet<>(entry.terms)) {
+                    changes.computeIfAbsent(term, key -> new ArrayList<>()).add(entry);
+                }
+            }
+            Set<Pending> removedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            removedEntries.addAll(removed);
+            Map<String, Pending[]> postings = new HashMap<>(pendingPostings);
+            changes.forEach((term, additions) -> {
+                List<Pending> entries = new ArrayList<>(additions);
+                for (Pending entry : pendingPostings.getOrDefault(term, NO_PENDING)) {
+                    if (!removedEntries.contains(entry)) {
+                        entries.add(entry);
+                    }
+                }
+                if (entries.isEmpty()) {
+                    postings.remove(term);
+                } else {
+                    postings.put(term, entries.toArray(NO_PENDING));
+                }
+            });
+            return postings;
+        }
+
+        /**
+         * Returns the live products changed by a price change, with their new price and version.
+         */
+        List<Product> adjustedProducts(PriceAdjustment adjustment) {
+            List<Product> adjusted = new ArrayList<>();
+            for (int document = 0; document < segment.size(); document++) {
+                long adjustedPrice = adjustment.adjustedPrice(segment.productIds[document], segment.prices[document]);
+                if (adjustedPrice >= 0 && !masked.get(document)) {
+                    adjusted.add(new Product(segment.productIds[document], segment.productNames[document],
+                                             adjustedPrice, segment.versions[document] + 1));
+                }
+            }
+            for (Pending entry : pending) {
+                Product product = entry.product;
+                long adjustedPrice = adjustment.adjustedPrice(product.getProductId(), product.getProductPrice());
+                if (adjustedPrice >= 0) {
+                    adjusted.add(new Product(product.getProductId(), product.getProductName(), adjustedPrice,
+                                             product.getVersion() + 1));
+                }
+            }
+            return adjusted;
+        }
+
+        /**
+         * Merges the live segment entries and the pending list into a new segment.
+         */
+        Snapshot compacted() {
+            List<Product> products = new ArrayList<>(size());
+            for (int document = 0; document < segment.size(); document++) {
+                if (!masked.get(document)) {
+                    products.add(segment.product(document));
+                }
+            }
+            for (Pending entry : pending) {
+                products.add(entry.product);
+            }
+            return of(products);
+        }
+
+        List<Product> search(List<String> terms, long lowerLimit, long upperLimit, int limit) {
+            int termCount = terms.size();
+            int[] termOrdinals = new int[termCount];
+            int[] documentFrequencies = new int[termCount];
+            boolean inSegment = true;
+            for (int t = 0; t < termCount; t++) {
+                termOrdinals[t] = segment.termOrdinal(terms.get(t));
+                if (termOrdinals[t] < 0) {
+                    inSegment = false;
+                } else {
+                    documentFrequencies[t] = segment.documentFrequencies[termOrdinals[t]];
+                }
+            }
+
+            Pending[][] termEntries = new Pending[termCount][];
+            int rarest = 0;
+            for (int t = 0; t < termCount; t++) {
+                termEntries[t] = pendingPostings.getOrDefault(terms.get(t), NO_PENDING);
+                documentFrequencies[t] += termEntries[t].length;
+                if (termEntries[t].length < termEntries[rarest].length) {
+                    rarest = t;
+                }
+            }
+
+            long totalLength = segment.totalLength + pendingLength;
+            int documentCount = Math.max(1, size());
+            double averageLength = Math.max(1.0, (double) totalLength / Math.max(1, segment.size() + pending.length));
+            double[] weights = new double[termCount];
+            for (int t = 0; t < termCount; t++) {
+                weights[t] = Bm25.inverseDocumentFrequency(Math.min(documentFrequencies[t], documentCount),
+                                                           documentCount);
+            }
+
+            TopHits hits = new TopHits(limit);
+            if (inSegment) {
+                segment.collect(termOrdinals, weights, masked, lowerLimit, upperLimit, averageLength, hits);
+            }
+            candidates:
+            for (Pending entry : termEntries[rarest]) {
+                long price = entry.product.getProductPrice();
+                if (price < lowerLimit || price > upperLimit) {
+                    continue;
+                }
+                double score = 0;
+                for (int t = 0; t < termCount; t++) {
+                    int frequency = entry.frequency(terms.get(t));
+                    if (frequency == 0) {
+                        continue candidates;
+                    }
+                    score += weights[t] * Bm25.termScore(frequency, entry.terms.size(), averageLength);
+                }
+                if (hits.isCompetitive(score, entry.product.getProductId())) {
+                    hits.add(score, entry.product);
+                }
+            }
+            return hits.toProducts();
+        }
+    }
+
+    /**
+     * Products sorted by productId, numbered from zero in that order, with the posting lists of their name terms.
+     * A term found in at least one name in thirty-two is stored as a bitmap of the documents, which
+     * is then at most four times the size of the sparse form and is probed in constant time. Any other term is stored
+     * as the gaps between its ascending documents, written as variable-length integers of seven bits a byte in
+     * a postings array shared by all sparse terms. Names rarely repeat a term, so the documents that do are kept
+     * apart with their counts and every other document counts the term once.
+     */
+    private static final class Segment {
+
+        private static final int DENSE_DIVISOR = 32;
+        private static final int MAXIMUM_LENGTH = 255;
+
+        private final long[] productIds;
+        private final String[] productNames;
+        private final long[] prices;
+        private final long[] versions;
+        private final byte[] lengths;
+        private final long totalLength;
+        private final String[] terms;
+        private final int[] documentFrequencies;
+        private final int[] postingStarts;
+        private final byte[] postings;
+        private final long[][] bitmaps;
+        private final int[][] repeatDocuments;
+        private final int[][] repeatFrequencies;
+
+        private Segment(long[] productIds, String[] productNames, long[] prices, long[] versions, byte[] lengths,
+                        long totalLength, String[] terms, int[] documentFrequencies, int[] postingStarts,
+                        byte[] postings, long[][] bitmaps, int[][] repeatDocuments, int[][] repeatFrequencies) {
+            this.productIds = productIds;
+            this.productNames = productNames;
+            this.prices = prices;
+            this.versions = versions;
+            this.lengths = lengths;
+            this.totalLength = totalLength;
+            this.terms = terms;
+            this.documentFrequencies = documentFrequencies;
+            this.postingStarts = postingStarts;
+            this.postings = postings;
+            this.bitmaps = bitmaps;
+            this.repeatDocuments = repeatDocuments;
+            this.repeatFrequencies = repeatFrequencies;
+        }
+
+        static Segment of(Collection<Product> products) {
+            Product[] sorted = products.toArray(new Product[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(Product::getProductId));
+            int size = sorted.length;
+            long[] productIds = new long[size];
+            String[] productNames = new String[size];
+            long[] prices = new long[size];
+            long[] versions = new long[size];
+            byte[] lengths = new byte[size];
+            long totalLength = 0;
+            Map<String, PostingBuilder> builders = new HashMap<>();
+            for (int document = 0; document < size; document++) {
+                productIds[document] = sorted[document].getProductId();
+                productNames[document] = sorted[document].getProductName();
+                prices[document] = sorted[document].getProductPrice();
+                versions[document] = sorted[document].getVersion();
+                List<String> documentTerms = tokenize(productNames[document]);
+                int length = Math.min(documentTerms.size(), MAXIMUM_LENGTH);
+                lengths[document] = (byte) length;
+                totalLength += length;
+                for (int i = 0; i < documentTerms.size(); i++) {
+                    String term = documentTerms.get(i);
+                    if (documentTerms.indexOf(term) == i) {
+                        int frequency = 1;
+                        for (int j = i + 1; j < documentTerms.size(); j++) {
+                            if (documentTerms.get(j).equals(term)) {
+                                frequency++;
+                            }
+                        }
+                        builders.computeIfAbsent(term, key -> new PostingBuilder()).add(document, frequency);
+                    }
+                }
+            }
+
+            String[] terms = builders.keySet().toArray(new String[0]);
+            Arrays.sort(terms);
+            int[] documentFrequencies = new int[terms.length];
+            int[] postingStarts = new int[terms.length + 1];
+            long[][] bitmaps = new long[terms.length][];
+            int[][] repeatDocuments = new int[terms.length][];
+            int[][] repeatFrequencies = new int[terms.length][];
+            VarIntWriter writer = new VarIntWriter();
+            for (int t = 0; t < terms.length; t++) {
+                PostingBuilder builder = builders.get(terms[t]);
+                documentFrequencies[t] = builder.size;
+                if ((long) builder.size * DENSE_DIVISOR >= size) {
+                    long[] bitmap = new long[(size + 63) >>> 6];
+                    for (int i = 0; i < builder.size; i++) {
+                        bitmap[builder.documents[i] >>> 6] |= 1L << builder.documents[i];
+                    }
+                    bitmaps[t] = bitmap;
+                } else {
+                    int previous = -1;
+                    for (int i = 0; i < builder.size; i++) {
+                        writer.write(builder.documents[i] - previous);
+                        previous = builder.documents[i];
+                    }
+                }
+                postingStarts[t + 1] = writer.size;
+                if (builder.repeatCount > 0) {
+                    repeatDocuments[t] = Arrays.copyOf(builder.repeatDocuments, builder.repeatCount);
+                    repeatFrequencies[t] = Arrays.copyOf(builder.repeatFrequencies, builder.repeatCount);
+                }
+            }
+            return new Segment(productIds, productNames, prices, versions, lengths, totalLength, terms,
+                               documentFrequencies, postingStarts, Arrays.copyOf(writer.bytes, writer.size), bitmaps,
+                               repeatDocuments, repeatFrequencies);
+        }
+
+        int size() {
+            return productIds.length;
+        }
+
+        int documentOf(long productId) {
+            return Arrays.binarySearch(productIds, productId);
+        }
+
+        int termOrdinal(String term) {
+            return Arrays.binarySearch(terms, term);
+        }
+
+        Product product(int document) {
+            return new Product(productIds[document], productNames[document], prices[document], versions[document]);
+        }
+
+        int frequency(int termOrdinal, int document) {
+            int[] documents = repeatDocuments[termOrdinal];
+            if (documents == null) {
+                return 1;
+            }
+            int position = Arrays.binarySearch(documents, document);
+            return position >= 0 ? repeatFrequencies[termOrdinal][position] : 1;
+        }
+
+        /**
+         * Intersects the posting lists of the terms and offers every unmasked document within the price range to
+         * the hits. The rarest sparse term is walked and the others are probed: a dense term by its bitmap, a sparse
+         * one by skipping ahead in its list. When every term is dense, their bitmaps are intersected word by word.
+         */
+        void collect(int[] termOrdinals, double[] weights, BitSet masked, long lowerLimit, long upperLimit,
+                     double averageLength, TopHits hits) {
+            Integer[] order = new Integer[termOrdinals.length];
+            for (int t = 0; t < order.length; t++) {
+                order[t] = t;
+            }
+            Arrays.sort(order, Comparator.comparingInt(t -> documentFrequencies[termOrdinals[t]]));
+            int[] ordinals = new int[order.length];
+            double[] orderedWeights = new double[order.length];
+            for (int c = 0; c < order.length; c++) {
+                ordinals[c] = termOrdinals[order[c]];
+                orderedWeights[c] = weights[order[c]];
+            }
+            double[] singleScores = Bm25.singleOccurrenceScores(MAXIMUM_LENGTH, averageLength);
+
+            if (bitmaps[ordinals[0]] != null) {
+                long[] intersection = bitmaps[ordinals[0]].clone();
+                for (int c = 1; c < ordinals.length; c++) {
+                    long[] bitmap = bitmaps[ordinals[c]];
+                    for (int w = 0; w < intersection.length; w++) {
+                        intersection[w] &= bitmap[w];
+                    }
+                }
+                for (int w = 0; w < intersection.length; w++) {
+                    long word = intersection[w];
+                    while (word != 0) {
+                        int document = (w << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        offer(document, ordinals, orderedWeights, masked, lowerLimit, upperLimit, averageLength,
+                              singleScores, hits);
+                    }
+                }
+                return;
+            }
+
+            PostingCursor[] cursors = new PostingCursor[ordinals.length];
+            for (int c = 0; c < ordinals.length; c++) {
+                if (bitmaps[ordinals[c]] == null) {
+                    cursors[c] = new PostingCursor(postings, postingStarts[ordinals[c]],
+                                                   postingStarts[ordinals[c] + 1]);
+                }
+            }
+            PostingCursor lead = cursors[0];
+            candidates:
+            while (lead.next()) {
+                int document = lead.document;
+                for (int c = 1; c < ordinals.length; c++) {
+                    long[] bitmap = bitmaps[ordinals[c]];
+                    if (bitmap != null) {
+                        if ((bitmap[document >>> 6] & 1L << document) == 0) {
+                            continue candidates;
+                        }
+                    } else {
+                        if (!cursors[c].advance(document)) {
+                            return;
+                        }
+                        if (cursors[c].document != document) {
+                            continue candidates;
+                        }
+                    }
+                }
+                offer(document, ordinals, orderedWeights, masked, lowerLimit, upperLimit, averageLength,
+                      singleScores, hits);
+            }
+        }
+
+        /**
+         * Scores a matching document and adds it to the hits if it ranks among them and is within the price range.
+         * Documents come in ascending productId order and the hits hold only earlier ones, so a document must
+         * outscore the worst hit. The price is read last, as most matches of a common term are outranked once
+         * the hits are full.
+         */
+        private void offer(int document, int[] ordinals, double[] weights, BitSet masked, long lowerLimit,
+                           long upperLimit, double averageLength, double[] singleScores, TopHits hits) {
+            if (masked.get(document)) {
+                return;
+            }
+            int length = lengths[document] & 0xFF;
+            double score = 0;
+            for (int c = 0; c < ordinals.length; c++) {
+                int frequency = frequency(ordinals[c], document);
+                score += weights[c] * (frequency == 1 ? singleScores[length]
+                                                      : Bm25.termScore(frequency, length, averageLength));
+            }
+            if (hits.isOutscoredBy(score)
+                    && prices[document] >= lowerLimit && prices[document] <= upperLimit) {
+                hits.add(score, product(document));
+            }
+        }
+    }
+
+    /**
+     * Growable list of the documents of one term, filled while the documents are numbered in ascending order.
+     */
+    private static final class PostingBuilder {
+
+        private int[] documents = new int[4];
+        private int size;
+        private int[] repeatDocuments;
+        private int[] repeatFrequencies;
+        private int repeatCount;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+            if (frequency > 1) {
+                if (repeatDocuments == null) {
+                    repeatDocuments = new int[4];
+                    repeatFrequencies = new int[4];
+                } else if (repeatCount == repeatDocuments.length) {
+                    repeatDocuments = Arrays.copyOf(repeatDocuments, repeatCount * 2);
+                    repeatFrequencies = Arrays.copyOf(repeatFrequencies, repeatCount * 2);
+                }
+                repeatDocuments[repeatCount] = document;
+                repeatFrequencies[repeatCount++] = frequency;
+            }
+        }
+    }
+
+    /**
+     * Growable byte array of variable-length integers of seven bits a byte, the low bits first.
+     */
+    private static final class VarIntWriter {
+
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        void write(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+    }
+
+    /**
+     * Forward-only reader of one sparse posting list.
+     */
+    private static final class PostingCursor {
+
+        private final byte[] postings;
+        private final int end;
+        private int position;
+        private int document = -1;
+
+        PostingCursor(byte[] postings, int start, int end) {
+            this.postings = postings;
+            this.position = start;
+            this.end = end;
+        }
+
+        boolean next() {
+            if (position >= end) {
+                document = Integer.MAX_VALUE;
+                return false;
+            }
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = postings[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            document += value;
+            return true;
+        }
+
+        /**
+         * Moves to the first document at or after the target.
+         *
+         * @return False if the list has no such document.
+         */
+        boolean advance(int target) {
+            while (document < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A product written since the segment was built, with the terms of its name.
+     */
+    private static final class Pending {
+
+        private final Product product;
+        private final List<String> terms;
+
+        Pending(Product product) {
+            this.product = new Product(product.getProductId(), product.getProductName(), product.getProductPrice(),
+                                       product.getVersion());
+            this.terms = tokenize(product.getProductName());
+        }
+
+        int frequency(String term) {
+            int frequency = 0;
+            for (String documentTerm : terms) {
+                if (documentTerm.equals(term)) {
+                    frequency++;
+                }
+            }
+            return frequency;
+        }
+    }
+
+    /**
+     * Okapi BM25 scoring with the usual parameters; names are short, so term frequency saturates quickly.
+     */
+    private static final class Bm25 {
+
+        private static final double K1 = 1.2;
+        private static final double B = 0.75;
+
+        static double inverseDocumentFrequency(int documentFrequency, int documentCount) {
+            return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        static double termScore(int frequency, int length, double averageLength) {
+            return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+        }
+
+        /**
+         * Tabulates the score of a term found once in a name, by name length.
+         */
+        static double[] singleOccurrenceScores(int maximumLength, double averageLength) {
+            double[] scores = new double[maximumLength + 1];
+            for (int length = 0; length <= maximumLength; length++) {
+                scores[length] = termScore(1, length, averageLength);
+            }
+            return scores;
+        }
+    }
+
+    /**
+     * Bounded heap keeping the best ranked hits; the worst kept hit is at its head.
+     */
+    private static final class TopHits {
+
+        private static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+                .thenComparing(Comparator.comparingLong(Hit::productId).reversed());
+
+        private final int limit;
+        private final PriorityQueue<Hit> queue;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.queue = new PriorityQueue<>(Math.min(limit, 1024) + 1, WORST_FIRST);
+        }
+
+        boolean isCompetitive(double score, long productId) {
+            if (queue.size() < limit) {
+                return true;
+            }
+            Hit worst = queue.peek();
+            return score > worst.score() || (score == worst.score() && productId < worst.productId());
+        }
+
+        /**
+         * Indicates whether a hit with a larger productId than every kept hit would be kept.
+         */
+        boolean isOutscoredBy(double score) {
+            return queue.size() < limit || score > queue.peek().score();
+        }
+
+        void add(double score, Product product) {
+            queue.add(new Hit(score, product));
+            if (queue.size() > limit) {
+                queue.poll();
+            }
+        }
+
+        List<Product> toProducts() {
+            Hit[] ranked = queue.toArray(new Hit[0]);
+            Arrays.sort(ranked, WORST_FIRST.reversed());
+            List<Product> products = new ArrayList<>(ranked.length);
+            for (Hit hit : ranked) {
+                products.add(hit.product());
+            }
+            return products;
+        }
+    }
+
+    private record Hit(double score, Product product) {
+
+        long productId() {
+            return product.getProductId();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.entity.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Versions of the writes applied to a catalog index, which arrive after their commit and in no particular order.
+ * A deleted product leaves a tombstone carrying its last version for a short while, so that an update of the
+ * product applied after its deletion is recognized as older and dropped. Ids are never reused, so a tombstone only
+ * has to outlive the writes in flight when the product was deleted.
+ * Every rebuild in progress gets a journal of the writes applied since it started, keeping the latest version of
+ * each product, which is replayed onto the rebuilt view before it is published. A change that cannot be replayed,
+ * such as discarding the view, invalidates the journals instead.
+ * Not thread-safe: the owning index guards it with its own monitor.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+final class VersionedWrites {
+
+    /**
+     * Version of a deletion whose version is unknown, newer than any update of the product.
+     */
+    static final long ANY_VERSION = Long.MAX_VALUE;
+
+    private static final long TOMBSTONE_LIFETIME_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Tombstones by productId, in order of deletion, hence of expiry.
+     */
+    private final LinkedHashMap<Long, Tombstone> tombstones = new LinkedHashMap<>();
+
+    private final List<Journal> journals = new ArrayList<>();
+
+    /**
+     * Opens the journal of a rebuild starting now.
+     *
+     * @return The journal, recording every write from now on until it is closed.
+     */
+    Journal open() {
+        Journal journal = new Journal();
+        journals.add(journal);
+        return journal;
+    }
+
+    /**
+     * Stops recording writes into a journal.
+     *
+     * @param journal The journal of a rebuild that is published or abandoned.
+     */
+    void close(Journal journal) {
+        journals.remove(journal);
+    }
+
+    /**
+     * Invalidates every open journal, after a change that cannot be replayed.
+     */
+    void invalidate() {
+        for (Journal journal : journals) {
+            journal.valid = false;
+        }
+    }
+
+    /**
+     * Indicates whether a product was deleted at or after the given version.
+     *
+     * @param productId The unique identifier of the product.
+     * @param version   The version of a write of the product.
+     * @return True if the write is older than the deletion of the product and must be dropped.
+     */
+    boolean isDeleted(long productId, long version) {
+        expireTombstones();
+        Tombstone tombstone = tombstones.get(productId);
+        return tombstone != null && tombstone.version >= version;
+    }
+
+    /**
+     * Records a created or updated product into the open journals.
+     *
+     * @param product The product as written.
+     */
+    void recordUpsert(Product product) {
+        for (Journal journal : journals) {
+            journal.upsert(product);
+        }
+    }
+
+    /**
+     * Records a deletion: leaves a tombstone and records it into the open journals.
+     *
+     * @param productId The unique identifier of the deleted product.
+     * @param version   The last version of the product, or {@link #ANY_VERSION} if unknown.
+     */
+    void recordDeletion(long productId, long version) {
+        expireTombstones();
+        Tombstone previous = tombstones.remove(productId);
+        tombstones.put(productId, new Tombstone(Math.max(version, previous == null ? version : previous.version),
+                                                System.nanoTime() + TOMBSTONE_LIFETIME_NANOS));
+        for (Journal journal : journals) {
+            journal.delete(productId, version);
+        }
+    }
+
+    private void expireTombstones() {
+        long now = System.nanoTime();
+        Iterator<Tombstone> iterator = tombstones.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt - now < 0) {
+            iterator.remove();
+        }
+    }
+
+    private record Tombstone(long version, long expiresAt) {
+    }
+
+    /**
+     * The writes applied to an index since a rebuild started, the latest version of each product only; a
+     * deletion wins over an update of the same version.
+     */
+    static final class Journal {
+
+        private final Map<Long, Product> upserts = new HashMap<>();
+        private final Map<Long, Long> deletions = new HashMap<>();
+        private boolean valid = true;
+
+        /**
+         * Indicates whether every write since the rebuild started can be replayed.
+         *
+         * @return False if the journal was invalidated.
+         */
+        boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * Returns the created or updated products not deleted since, each at its latest version.
+         *
+         * @return The products.
+         */
+        Collection<Product> upserts() {
+            return upserts.values();
+        }
+
+        /**
+         * Returns the deleted products with their last versions.
+         *
+         * @return The versions by productId.
+         */
+        Map<Long, Long> deletions() {
+            return deletions;
+        }
+
+        private void upsert(Product product) {
+            long productId = product.getProductId();
+            Long deleted = deletions.get(productId);
+            Product recorded = upserts.get(productId);
+            if ((deleted == null || deleted < product.getVersion())
+                    && (recorded == null || recorded.getVersion() < product.getVersion())) {
+                upserts.put(productId, new Product(productId, product.getProductName(), product.getProductPrice(),
+                                                   product.getVersion()));
+            }
+        }
+
+        private void delete(long productId, long version) {
+            Product recorded = upserts.get(productId);
+            if (recorded != null && recorded.getVersion() <= version) {
+                upserts.remove(productId);
+            }
+            deletions.merge(productId, version, Math::max);
+        }
+    }
+}
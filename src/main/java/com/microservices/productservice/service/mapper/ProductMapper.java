@@ -22,6 +22,7 @@ public interface ProductMapper {
      * @return The populated Product entity.
      */
     @Mapping(target = "productId", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product productDtoToProduct(ProductDto productDto);
 
     /**
@@ -49,6 +50,7 @@ public interface ProductMapper {
     @BeanMapping(nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS,
                  nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "productPrice" , expression = "java(updatePrice(product, productDto))")
+    @Mapping(target = "version", ignore = true)
     Product convertProductDtoToProduct(@MappingTarget Product product, ProductDto productDto);
 
     /**
@@ -58,8 +60,8 @@ public interface ProductMapper {
      * @param productDto  The source ProductDto.
      * @return The updated quantity.
      */
-    default double updatePrice(Product product, ProductDto productDto) {
-        return (productDto.getProductPrice() > 0.0) ? productDto.getProductPrice() : product.getProductPrice();
+    default long updatePrice(Product product, ProductDto productDto) {
+        return (productDto.getProductPrice() > 0) ? productDto.getProductPrice() : product.getProductPrice();
     }
 
 }
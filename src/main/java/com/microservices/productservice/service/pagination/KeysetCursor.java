@@ -0,0 +1,101 @@
+package com.microservices.productservice.service.pagination;
+
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.exception.ProductServiceException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import static com.microservices.productservice.utility.ExceptionConstant.INVALID_PAGE_CURSOR;
+
+/**
+ * Position of the last product on a page, used as the keyset predicate of the following page.
+ * Clients only ever see the encoded, opaque form of a cursor.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final int ENCODED_LENGTH = Byte.BYTES + Long.BYTES + Long.BYTES;
+
+    /**
+     * Ordering of the listing a cursor belongs to.
+     */
+    public enum Order {
+        /**
+         * Products ordered by productId.
+         */
+        PRODUCT_ID,
+        /**
+         * Products ordered by productPrice, then by productId.
+         */
+        PRICE
+    }
+
+    private final Order order;
+    private final long productPrice;
+    private final long productId;
+
+    /**
+     * Creates the cursor positioned before the first product of a listing.
+     *
+     * @param order        The ordering of the listing.
+     * @param productPrice The lowest price of the listing in cents; ignored for listings ordered by productId.
+     * @return The cursor of the first page.
+     */
+    public static KeysetCursor first(Order order, long productPrice) {
+        return new KeysetCursor(order, productPrice, Long.MIN_VALUE);
+    }
+
+    /**
+     * Creates the cursor positioned after the given product.
+     *
+     * @param order   The ordering of the listing.
+     * @param product The last product of the current page.
+     * @return The cursor of the next page.
+     */
+    public static KeysetCursor after(Order order, Product product) {
+        return new KeysetCursor(order, product.getProductPrice(), product.getProductId());
+    }
+
+    /**
+     * Decodes a cursor token issued for a listing with the given ordering.
+     *
+     * @param token The opaque cursor token.
+     * @param order The ordering of the listing being paged.
+     * @return The decoded cursor.
+     * @throws ProductServiceException if the token is malformed or was issued for a different ordering.
+     */
+    public static KeysetCursor decode(String token, Order order) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            if (buffer.remaining() != ENCODED_LENGTH || buffer.get() != order.ordinal()) {
+                throw new ProductServiceException(INVALID_PAGE_CURSOR, HttpStatus.BAD_REQUEST);
+            }
+            return new KeysetCursor(order, buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new ProductServiceException(INVALID_PAGE_CURSOR, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Encodes the cursor into its opaque, URL-safe token.
+     *
+     * @return The cursor token.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .put((byte) order.ordinal())
+                .putLong(productPrice)
+                .putLong(productId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,70 @@
+package com.microservices.productservice.utility;
+
+/**
+ * Utility class converting product versions and catalog revisions to and from HTTP entity tags.
+ * A product at version 3 is tagged "3" (quoted); weak tags are never matched, as If-Match requires strong comparison.
+ * A catalog revision is tagged with the instance start time and the revision, e.g. "c1706659200000.42" (quoted),
+ * so that it never collides with a product version. Catalog revisions are counted per instance, so a catalog tag
+ * is only valid on the instance that issued it.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public class EntityTags {
+
+    /**
+     * Version returned for an If-Match header that cannot match any product.
+     */
+    public static final long NO_MATCH = -1L;
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private EntityTags() {
+    }
+
+    /**
+     * Returns the strong entity tag of the given product version.
+     *
+     * @param version The version of the product.
+     * @return The quoted entity tag.
+     */
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the strong entity tag of a catalog revision.
+     *
+     * @param epoch    The time this instance started counting revisions, in milliseconds since the epoch.
+     * @param revision The catalog revision.
+     * @return The quoted entity tag.
+     */
+    public static String ofCatalog(long epoch, long revision) {
+        return "\"c" + epoch + "." + revision + "\"";
+    }
+
+    /**
+     * Parses the version expected by an If-Match header.
+     *
+     * @param ifMatch The If-Match header value, possibly null.
+     * @return The expected version, null if the update is unconditional, or {@link #NO_MATCH} if the header
+     *         holds a weak, malformed or unknown entity tag.
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return NO_MATCH;
+        }
+        try {
+            long version = Long.parseLong(tag.substring(1, tag.length() - 1));
+            return version >= 0 ? version : NO_MATCH;
+        } catch (NumberFormatException e) {
+            return NO_MATCH;
+        }
+    }
+}
@@ -44,6 +44,70 @@ public class ExceptionConstant {
      * Exception key for indicating that a product is unavailable while executing updateProductFields method.
      */
     public static final String UPDATE_PRODUCT_FIELDS_NOT_FOUND = "error.productunavailable.updateproductfields";
+    /**
+     * Exception key for indicating that a patch supplies neither a name nor a price while executing updateProductFields method.
+     */
+    public static final String EMPTY_PRODUCT_PATCH = "error.emptypatch.updateproductfields";
+    /**
+     * Exception key for indicating that the product version differs from If-Match while executing updateProduct method.
+     */
+    public static final String UPDATE_PRODUCT_VERSION_MISMATCH = "error.versionmismatch.updateproduct";
+    /**
+     * Exception key for indicating that the product version differs from If-Match while executing updateProductFields method.
+     */
+    public static final String UPDATE_PRODUCT_FIELDS_VERSION_MISMATCH = "error.versionmismatch.updateproductfields";
+    /**
+     * Exception key for indicating that the product was modified concurrently while executing updateProduct method.
+     */
+    public static final String UPDATE_PRODUCT_CONFLICT = "error.versionconflict.updateproduct";
+    /**
+     * Exception key for indicating that a page cursor cannot be decoded while executing a paged listing method.
+     */
+    public static final String INVALID_PAGE_CURSOR = "error.invalidpagecursor.getproductspage";
+    /**
+     * Exception key for indicating that a bulk request is empty, too large or has empty entries while executing createProducts method.
+     */
+    public static final String INVALID_BULK_REQUEST = "error.invalidbulkrequest.createproducts";
+    /**
+     * Exception key for indicating that the chunk of a product could not be inserted while executing createProducts method.
+     */
+    public static final String BULK_CHUNK_FAILED = "error.bulkchunkfailed.createproducts";
+    /**
+     * Exception key for indicating that a bulk request is empty, too large or has empty entries while executing deleteProducts method.
+     */
+    public static final String INVALID_BULK_DELETE_REQUEST = "error.invalidbulkrequest.deleteproducts";
+    /**
+     * Exception key for indicating that a lookup request has more ids than the maximum bulk size while executing lookupProducts method.
+     */
+    public static final String INVALID_LOOKUP_REQUEST = "error.invalidlookuprequest.lookupproducts";
+    /**
+     * Exception key for indicating that a price adjustment has no amount or no valid product selection while executing adjustPrices method.
+     */
+    public static final String INVALID_PRICE_ADJUSTMENT = "error.invalidpriceadjustment.adjustprices";
+    /**
+     * Exception key for indicating that no product matches the query while executing searchProducts method.
+     */
+    public static final String SEARCH_PRODUCTS_NO_CONTENT = "error.emptyproductlist.searchproducts";
+    /**
+     * Exception key for indicating that the query has no terms while executing searchProducts method.
+     */
+    public static final String INVALID_SEARCH_QUERY = "error.invalidsearchquery.searchproducts";
+    /**
+     * Exception key for indicating that the search index is disabled or not yet built while executing searchProducts method.
+     */
+    public static final String SEARCH_UNAVAILABLE = "error.searchunavailable.searchproducts";
+    /**
+     * Exception key for indicating that no product name starts with the prefix while executing autocompleteProductNames method.
+     */
+    public static final String AUTOCOMPLETE_NO_CONTENT = "error.emptysuggestionlist.autocompleteproductnames";
+    /**
+     * Exception key for indicating that the prefix is blank while executing autocompleteProductNames method.
+     */
+    public static final String INVALID_AUTOCOMPLETE_PREFIX = "error.invalidprefix.autocompleteproductnames";
+    /**
+     * Exception key for indicating that the autocomplete trie is disabled or not yet built while executing autocompleteProductNames method.
+     */
+    public static final String AUTOCOMPLETE_UNAVAILABLE = "error.autocompleteunavailable.autocompleteproductnames";
 
 
 }
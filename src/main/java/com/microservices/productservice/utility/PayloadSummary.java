@@ -0,0 +1,123 @@
+package com.microservices.productservice.utility;
+
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.ProductPageDto;
+import com.microservices.productservice.entity.Product;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Short, bounded description of a logged payload. Products are described by their id, collections by their size
+ * and long strings are truncated, so that logging a payload never pays for the toString of a DTO or of a list.
+ * The description is rendered only when the summary itself is formatted, i.e. when the log line is written.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 31/01/2024
+ */
+public final class PayloadSummary {
+
+    static final int MAXIMUM_STRING_LENGTH = 64;
+
+    private final Object payload;
+
+    private PayloadSummary(Object payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Wraps a payload so that it is summarized, instead of printed in full, when formatted by a logger.
+     *
+     * @param payload The payload, possibly null.
+     * @return The summary of the payload.
+     */
+    public static PayloadSummary of(Object payload) {
+        return new PayloadSummary(payload);
+    }
+
+    /**
+     * Describes a payload in a few dozen characters at most, whatever its size.
+     *
+     * @param payload The payload, possibly null.
+     * @return The description of the payload.
+     */
+    public static String summarize(Object payload) {
+        StringBuilder builder = new StringBuilder(MAXIMUM_STRING_LENGTH);
+        append(builder, payload);
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summarize(payload);
+    }
+
+    private static void append(StringBuilder builder, Object payload) {
+        if (payload == null || payload instanceof Number || payload instanceof Boolean || payload instanceof Enum<?>) {
+            builder.append(payload);
+        } else if (payload instanceof ProductDto productDto) {
+            builder.append("ProductDto(productId=").append(productDto.getProductId()).append(')');
+        } else if (payload instanceof Product product) {
+            builder.append("Product(productId=").append(product.getProductId())
+                   .append(", version=").append(product.getVersion()).append(')');
+        } else if (payload instanceof ProductPageDto productPageDto) {
+            builder.append("ProductPageDto(products=");
+            append(builder, productPageDto.getProducts());
+            builder.append(')');
+        } else if (payload instanceof PriceAdjustmentDto priceAdjustmentDto) {
+            builder.append("PriceAdjustmentDto(type=").append(priceAdjustmentDto.getType()).append(", productIds=");
+            append(builder, priceAdjustmentDto.getProductIds());
+            builder.append(')');
+        } else if (payload instanceof ResponseEntity<?> responseEntity) {
+            builder.append("ResponseEntity(status=").append(responseEntity.getStatusCode().value()).append(", body=");
+            append(builder, responseEntity.getBody());
+            builder.append(')');
+        } else if (payload instanceof CharSequence text) {
+            appendText(builder, text);
+        } else if (payload instanceof Collection<?> collection) {
+            builder.append(payload instanceof List<?> ? "List" : payload instanceof Set<?> ? "Set" : "Collection")
+                   .append("(size=").append(collection.size()).append(')');
+        } else if (payload instanceof Map<?, ?> map) {
+            builder.append("Map(size=").append(map.size()).append(')');
+        } else if (payload instanceof Object[] arguments) {
+            appendArguments(builder, arguments);
+        } else if (payload.getClass().isArray()) {
+            builder.append(payload.getClass().getComponentType().getSimpleName())
+                   .append("[](length=").append(Array.getLength(payload)).append(')');
+        } else {
+            builder.append(payload.getClass().getSimpleName());
+        }
+    }
+
+    private static void appendText(StringBuilder builder, CharSequence text) {
+        if (text.length() <= MAXIMUM_STRING_LENGTH) {
+            builder.append(text);
+        } else {
+            builder.append(text, 0, MAXIMUM_STRING_LENGTH).append("...(length=").append(text.length()).append(')');
+        }
+    }
+
+    /**
+     * Summarizes each element of a short array such as the arguments of a method; nested arrays are only counted.
+     */
+    private static void appendArguments(StringBuilder builder, Object[] arguments) {
+        builder.append('[');
+        for (int i = 0; i < arguments.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            if (arguments[i] instanceof Object[] nested) {
+                builder.append("Object[](length=").append(nested.length).append(')');
+            } else {
+                append(builder, arguments[i]);
+            }
+        }
+        builder.append(']');
+    }
+}
@@ -36,6 +36,26 @@ public class ValidationConstant {
      */
     public static final String PRODUCT_NAME_MAX_SIZE = "{validation.productname.maximumsize}";
 
+    /**
+     * Shortest name a product may have.
+     */
+    public static final int PRODUCT_NAME_MINIMUM_LENGTH = 2;
+
+    /**
+     * Longest name a product may have.
+     */
+    public static final int PRODUCT_NAME_MAXIMUM_LENGTH = 100;
+
+    /**
+     * Lowest price a product may have, in cents.
+     */
+    public static final long PRODUCT_PRICE_MINIMUM = 10_000;
+
+    /**
+     * Highest price a product may have, in cents.
+     */
+    public static final long PRODUCT_PRICE_MAXIMUM = 10_000_000;
+
     /**
      * Validation message key indicating the minimum value requirement for a product price.
      */
@@ -45,10 +65,5 @@ public class ValidationConstant {
      * Validation message key indicating the maximum value allowed for a product price.
      */
     public static final String PRODUCT_PRICE_MAX_VALUE = "{validation.productprice.maximumvalue}";
-
-    /**
-     * Validation message key indicating the required price pattern for a product price.
-     */
-    public static final String PRODUCT_PRICE_PRICE_PATTERN = "{validation.productprice.pricepattern}";
 }
 
@@ -0,0 +1,15 @@
+-- Manual upgrade script, run by hand by the operator: the service has no migration tool, and this file is kept
+-- outside db/migration so that none added later picks it up and applies it to a table that is already converted.
+--
+-- Converts a product table created before prices were stored in cents and before products were versioned.
+-- product_price was a DOUBLE number of units and becomes a BIGINT number of cents; version starts at 0 for every
+-- existing product. ddl-auto=update changes neither column type, so run this once, with the service stopped,
+-- before deploying the version that stores prices in cents. It is not idempotent: running it again multiplies
+-- every price by 100 once more. Check that product_price is still a DOUBLE column before running it.
+-- On a table the service has already started against, version exists: drop the ADD COLUMN clause.
+
+UPDATE product SET product_price = ROUND(product_price * 100);
+
+ALTER TABLE product
+    MODIFY product_price BIGINT NOT NULL,
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
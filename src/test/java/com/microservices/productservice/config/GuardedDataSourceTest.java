@@ -0,0 +1,57 @@
+package com.microservices.productservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GuardedDataSourceTest {
+
+    private final DataSource targetDataSource = mock(DataSource.class);
+    private final GuardedDataSource guardedDataSource =
+            new GuardedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+
+    @Test
+    @DisplayName("GUARDED DATA SOURCE - NO PERMIT LEFT")
+    void GetConnection_PermitsExhausted_ExceptionThrown() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(mock(Connection.class));
+
+        Connection connection = guardedDataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, guardedDataSource::getConnection);
+        connection.close();
+        assertNotNull(guardedDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("GUARDED DATA SOURCE - PERMIT RETURNED ONCE")
+    void Close_CalledTwice_SinglePermitReturned() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+
+        Connection connection = guardedDataSource.getConnection();
+        connection.close();
+        connection.close();
+        guardedDataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, guardedDataSource::getConnection);
+        verify(target, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("GUARDED DATA SOURCE - FAILED BORROW RETURNS PERMIT")
+    void GetConnection_PoolFailure_PermitReturned() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool down"))
+                                              .thenReturn(mock(Connection.class));
+
+        assertThrows(SQLException.class, guardedDataSource::getConnection);
+        assertNotNull(guardedDataSource.getConnection());
+    }
+}
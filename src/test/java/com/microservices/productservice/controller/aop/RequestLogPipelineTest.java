@@ -0,0 +1,157 @@
+package com.microservices.productservice.controller.aop;
+
+import com.microservices.productservice.config.RequestLogProperties;
+import com.microservices.productservice.dto.ProductDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogPipelineTest {
+
+    private RequestLogPipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("REQUEST LOG - FULL BUFFER DROPS REQUESTS")
+    void Submit_BufferFull_RequestDropped() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pipeline = new RequestLogPipeline(newProperties(true, 1, 1.0, Map.of())) {
+            @Override
+            void write(String endpoint, String arguments, String result) {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(endpoint, arguments, result);
+            }
+        };
+
+        pipeline.submit("createProduct", new Object[]{new ProductDto()}, null);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        pipeline.submit("getProductById", new Object[]{PRODUCT_ID_1}, new ProductDto());
+        pipeline.submit("getProductById", new Object[]{PRODUCT_ID_1}, new ProductDto());
+        release.countDown();
+        pipeline.destroy();
+
+        assertEquals(2, pipeline.logged());
+        assertEquals(1, pipeline.dropped());
+    }
+
+    @Test
+    @DisplayName("REQUEST LOG - PAYLOADS SUMMARIZED ON SUBMIT")
+    void Submit_PayloadChangedAfterSubmit_SummaryOfSubmittedPayloadWritten() throws InterruptedException {
+        List<String> written = new CopyOnWriteArrayList<>();
+        pipeline = new RequestLogPipeline(newProperties(true, 16, 1.0, Map.of())) {
+            @Override
+            void write(String endpoint, String arguments, String result) {
+                written.add(endpoint + " " + arguments + " returned " + result);
+                super.write(endpoint, arguments, result);
+            }
+        };
+        ProductDto productDto = new ProductDto(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1);
+        List<ProductDto> productDtos = new ArrayList<>(List.of(productDto));
+
+        pipeline.submit("createProducts", new Object[]{productDtos}, productDto);
+        productDto.setProductId(PRODUCT_ID_2);
+        productDtos.add(new ProductDto());
+        pipeline.destroy();
+
+        assertEquals(List.of("createProducts [List(size=1)] returned ProductDto(productId=" + PRODUCT_ID_1 + ")"),
+                     written);
+    }
+
+    @Test
+    @DisplayName("REQUEST LOG - UNRENDERABLE PAYLOAD DROPPED")
+    void Submit_PayloadFailsToSummarize_RequestDropped() throws InterruptedException {
+        pipeline = newPipeline(true, 16, 1.0, Map.of());
+
+        pipeline.submit("createProduct", new Object[]{new FailingText()}, null);
+        pipeline.destroy();
+
+        assertEquals(0, pipeline.logged());
+        assertEquals(1, pipeline.dropped());
+    }
+
+    @Test
+    @DisplayName("REQUEST LOG - PER ENDPOINT SAMPLING")
+    void Submit_EndpointSampledOut_RequestSkipped() throws InterruptedException {
+        pipeline = newPipeline(true, 16, 1.0, Map.of("getAllProducts", 0.0));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pipeline.bindTo(registry);
+
+        pipeline.submit("getAllProducts", new Object[0], List.of(new ProductDto()));
+        pipeline.submit("createProduct", new Object[]{new ProductDto()}, new ProductDto());
+        pipeline.destroy();
+
+        assertEquals(1, pipeline.skipped());
+        assertEquals(1, pipeline.logged());
+        assertEquals(1.0, registry.get("product.request-log.events").tag("result", "skipped").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("REQUEST LOG - SYNCHRONOUS MODE IGNORES SUBMISSIONS")
+    void Submit_NotAsync_NothingLogged() {
+        pipeline = newPipeline(false, 16, 1.0, Map.of());
+
+        pipeline.submit("createProduct", new Object[]{new ProductDto()}, new ProductDto());
+
+        assertFalse(pipeline.isAsync());
+        assertEquals(0, pipeline.logged() + pipeline.dropped() + pipeline.skipped());
+    }
+
+    private static RequestLogPipeline newPipeline(boolean async, int bufferSize, double samplingRate,
+                                                  Map<String, Double> samplingRates) {
+        return new RequestLogPipeline(newProperties(async, bufferSize, samplingRate, samplingRates));
+    }
+
+    private static RequestLogProperties newProperties(boolean async, int bufferSize, double samplingRate,
+                                                      Map<String, Double> samplingRates) {
+        RequestLogProperties properties = new RequestLogProperties();
+        properties.setAsync(async);
+        properties.setBufferSize(bufferSize);
+        properties.setSamplingRate(samplingRate);
+        properties.setSamplingRates(samplingRates);
+        return properties;
+    }
+
+    /**
+     * Text that fails to summarize.
+     */
+    private static final class FailingText implements CharSequence {
+
+        @Override
+        public int length() {
+            throw new IllegalStateException("unrenderable");
+        }
+
+        @Override
+        public char charAt(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return "";
+        }
+    }
+}
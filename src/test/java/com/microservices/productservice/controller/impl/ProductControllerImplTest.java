@@ -2,12 +2,22 @@ package com.microservices.productservice.controller.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microservices.productservice.dto.BulkDeleteResultDto;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.CatalogRevisionDto;
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.PriceAdjustmentResultDto;
 import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.ProductLookupDto;
+import com.microservices.productservice.dto.ProductPageDto;
 import com.microservices.productservice.exception.ProductServiceException;
 import com.microservices.productservice.service.impl.ProductServiceImpl;
+import com.microservices.productservice.utility.EntityTags;
 import com.microservices.productservice.utility.ErrorCodeConstant;
 import com.microservices.productservice.utility.ProductDetailsConstant;
 import com.microservices.productservice.utility.UrlConstant;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -17,6 +27,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -26,11 +37,13 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.microservices.productservice.utility.ErrorMessageConstant.*;
 import static com.microservices.productservice.utility.ExceptionConstant.*;
 import static com.microservices.productservice.utility.ValidationMessageConstant.*;
 import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,6 +58,13 @@ class ProductControllerImplTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private final CatalogRevisionDto catalogRevision = new CatalogRevisionDto(5L, "\"c1706659200000.5\"");
+
+    @BeforeEach
+    void setUp() {
+        when(productService.getCatalogRevision()).thenReturn(catalogRevision);
+    }
+
     @Test
     @DisplayName("GET ALL PRODUCTS - SUCCESS")
     void GetAllProducts_ReturnProductList() throws Exception {
@@ -97,6 +117,75 @@ class ProductControllerImplTest {
         verifyProductServiceMethodCalledOnce("getProductsByPriceRange");
     }
 
+    @Test
+    @DisplayName("STREAM ALL PRODUCTS - NDJSON")
+    void StreamAllProducts_AcceptNdjson_ReturnOneProductPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ProductDto> productConsumer = invocation.getArgument(0);
+            ProductDetailsConstant.expectedProductListDto.forEach(productConsumer);
+            return null;
+        }).when(productService).streamAllProducts(any());
+
+        MvcResult mvcResult = mockMvc.perform(get(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted()).andReturn();
+        mvcResult = mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON)).andReturn();
+
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertEquals(ProductDetailsConstant.expectedProductListDto.size(), lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JSONAssert.assertEquals(objectMapper.writeValueAsString(ProductDetailsConstant.expectedProductListDto.get(i)),
+                                    lines[i], false);
+        }
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    @DisplayName("GET ALL PRODUCTS SORTED BY PRICE - ANY ACCEPT RETURNS JSON LIST")
+    void GetAllProductsSortedByPrice_AcceptAny_ReturnProductList() throws Exception {
+        when(productService.getAllProductsSortedByPrice()).thenReturn(ProductDetailsConstant.expectedProductListDto);
+
+        mockMvc.perform(get(UrlConstant.SORTED_PRODUCTS_URL).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        verify(productService, never()).streamAllProductsSortedByPrice(any());
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS PAGE - SUCCESS")
+    void GetProductsPage_ReturnProductPage() throws Exception {
+        ProductPageDto expectedPage = new ProductPageDto(ProductDetailsConstant.singletonProductListDto, "cursor");
+        when(productService.getProductsPage(null, 1)).thenReturn(expectedPage);
+
+        RequestBuilder requestBuilder = get(UrlConstant.GENERIC_PRODUCTS_URL).param("pageSize", "1")
+                .accept(MediaType.APPLICATION_JSON);
+
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
+
+        String expectedResponse = objectMapper.writeValueAsString(expectedPage);
+        String actualResponse = mvcResult.getResponse().getContentAsString();
+
+        JSONAssert.assertEquals(expectedResponse, actualResponse, false);
+        verify(productService, times(1)).getProductsPage(null, 1);
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS IN SPECIFIED PRICE RANGE PAGE - INVALID CURSOR")
+    void GetProductsByPriceRangePage_InvalidCursor_ReturnBadRequest() throws Exception {
+        when(productService.getProductsByPriceRangePage(ProductDetailsConstant.PRODUCT_PRICE_LOWER_LIMIT,
+                ProductDetailsConstant.PRODUCT_PRICE_UPPER_LIMIT, "invalid", 10))
+                .thenThrow(new ProductServiceException(INVALID_PAGE_CURSOR, HttpStatus.BAD_REQUEST));
+
+        RequestBuilder requestBuilder = get(UrlConstant.RANGED_PRODUCTS_URL, ProductDetailsConstant.PRODUCT_PRICE_LOWER_LIMIT,
+                ProductDetailsConstant.PRODUCT_PRICE_UPPER_LIMIT).param("pageSize", "10").param("cursor", "invalid")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder).andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("CREATE PRODUCT - SUCCESS")
     void CreateProduct_ReturnCreatedProduct() throws Exception {
@@ -118,6 +207,122 @@ class ProductControllerImplTest {
     }
 
 
+    @Test
+    @DisplayName("CREATE PRODUCTS IN BULK - PARTIAL SUCCESS")
+    void CreateProducts_SomeProductsInvalid_ReturnMultiStatus() throws Exception {
+        List<BulkProductResultDto> expectedResults = List.of(
+                new BulkProductResultDto(0, HttpStatus.CREATED.value(), ProductDetailsConstant.expectedProductDto,
+                                         Collections.emptyList()),
+                new BulkProductResultDto(1, HttpStatus.BAD_REQUEST.value(), null, List.of("invalid")));
+        when(productService.createProducts(anyList())).thenReturn(expectedResults);
+
+        RequestBuilder requestBuilder = post(UrlConstant.GENERIC_PRODUCTS_URL + "/bulk").accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ProductDetailsConstant.expectedProductListDto))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andExpect(status().isMultiStatus()).andReturn();
+
+        JSONAssert.assertEquals(objectMapper.writeValueAsString(expectedResults),
+                                mvcResult.getResponse().getContentAsString(), false);
+        verify(productService, times(1)).createProducts(ProductDetailsConstant.expectedProductListDto);
+    }
+
+    @Test
+    @DisplayName("CREATE PRODUCTS IN BULK - ALL CREATED")
+    void CreateProducts_AllProductsCreated_ReturnCreated() throws Exception {
+        when(productService.createProducts(anyList())).thenReturn(List.of(
+                new BulkProductResultDto(0, HttpStatus.CREATED.value(), ProductDetailsConstant.expectedProductDto,
+                                         Collections.emptyList())));
+
+        RequestBuilder requestBuilder = post(UrlConstant.GENERIC_PRODUCTS_URL + "/bulk").accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ProductDetailsConstant.singletonProductListDto))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("LOOKUP PRODUCTS - SUCCESS")
+    void LookupProducts_ReturnFoundAndMissing() throws Exception {
+        List<Long> productIds = List.of(ProductDetailsConstant.PRODUCT_ID_1, ProductDetailsConstant.NON_EXISTENT_PRODUCT_ID);
+        ProductLookupDto expectedLookup = new ProductLookupDto(ProductDetailsConstant.singletonProductListDto,
+                                                               List.of(ProductDetailsConstant.NON_EXISTENT_PRODUCT_ID));
+        when(productService.lookupProducts(productIds)).thenReturn(expectedLookup);
+
+        RequestBuilder requestBuilder = post(UrlConstant.GENERIC_PRODUCTS_URL + "/lookup").accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productIds))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
+
+        JSONAssert.assertEquals(objectMapper.writeValueAsString(expectedLookup),
+                                mvcResult.getResponse().getContentAsString(), false);
+        verify(productService, times(1)).lookupProducts(productIds);
+    }
+
+    @Test
+    @DisplayName("SEARCH PRODUCTS - SUCCESS")
+    void SearchProducts_ReturnMatchingProducts() throws Exception {
+        when(productService.searchProducts(ProductDetailsConstant.PRODUCT_NAME_1, null,
+                ProductDetailsConstant.PRODUCT_PRICE_UPPER_LIMIT, 20)).thenReturn(ProductDetailsConstant.singletonProductListDto);
+
+        RequestBuilder requestBuilder = get(UrlConstant.GENERIC_PRODUCTS_URL + "/search")
+                .param("q", ProductDetailsConstant.PRODUCT_NAME_1)
+                .param("upperLimit", String.valueOf(ProductDetailsConstant.PRODUCT_PRICE_UPPER_LIMIT))
+                .accept(MediaType.APPLICATION_JSON);
+
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
+
+        JSONAssert.assertEquals(objectMapper.writeValueAsString(ProductDetailsConstant.singletonProductListDto),
+                                mvcResult.getResponse().getContentAsString(), false);
+        verify(productService, times(1)).searchProducts(ProductDetailsConstant.PRODUCT_NAME_1, null,
+                                                        ProductDetailsConstant.PRODUCT_PRICE_UPPER_LIMIT, 20);
+    }
+
+    @Test
+    @DisplayName("SEARCH PRODUCTS - SEARCH UNAVAILABLE")
+    void SearchProducts_IndexNotLoaded_ReturnServiceUnavailable() throws Exception {
+        when(productService.searchProducts(ProductDetailsConstant.PRODUCT_NAME_1, null, null, 20))
+                .thenThrow(new ProductServiceException(SEARCH_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE));
+
+        RequestBuilder requestBuilder = get(UrlConstant.GENERIC_PRODUCTS_URL + "/search")
+                .param("q", ProductDetailsConstant.PRODUCT_NAME_1).accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder).andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE PRODUCT NAMES - SUCCESS")
+    void AutocompleteProductNames_ReturnCompletions() throws Exception {
+        List<String> completions = List.of(ProductDetailsConstant.PRODUCT_NAME_1.toLowerCase());
+        when(productService.autocompleteProductNames("La", 5)).thenReturn(completions);
+
+        RequestBuilder requestBuilder = get(UrlConstant.GENERIC_PRODUCTS_URL + "/autocomplete")
+                .param("prefix", "La").param("limit", "5").accept(MediaType.APPLICATION_JSON);
+
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogRevision.getEntityTag()))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
+
+        JSONAssert.assertEquals(objectMapper.writeValueAsString(completions),
+                                mvcResult.getResponse().getContentAsString(), false);
+        verify(productService, times(1)).autocompleteProductNames("La", 5);
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE PRODUCT NAMES - BLANK PREFIX")
+    void AutocompleteProductNames_BlankPrefix_ReturnBadRequest() throws Exception {
+        when(productService.autocompleteProductNames(" ", 10))
+                .thenThrow(new ProductServiceException(INVALID_AUTOCOMPLETE_PREFIX, HttpStatus.BAD_REQUEST));
+
+        RequestBuilder requestBuilder = get(UrlConstant.GENERIC_PRODUCTS_URL + "/autocomplete")
+                .param("prefix", " ").accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder).andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET PRODUCT BY ID - SUCCESS")
     void GetProductById_ReturnFetchedProduct() throws Exception {
@@ -152,6 +357,40 @@ class ProductControllerImplTest {
         verifyProductServiceMethodCalledOnce("deleteProductById");
     }
 
+    @Test
+    @DisplayName("DELETE PRODUCTS - SUCCESS")
+    void DeleteProducts_ReturnDeletedCount() throws Exception {
+        List<Long> productIds = List.of(ProductDetailsConstant.PRODUCT_ID_1, ProductDetailsConstant.NON_EXISTENT_PRODUCT_ID);
+        when(productService.deleteProducts(productIds)).thenReturn(new BulkDeleteResultDto(2, 1));
+
+        mockMvc.perform(post(UrlConstant.GENERIC_PRODUCTS_URL + "/bulk/delete").accept(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(productIds))
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(2))
+                .andExpect(jsonPath("$.deletedCount").value(1));
+
+        verify(productService, times(1)).deleteProducts(productIds);
+    }
+
+    @Test
+    @DisplayName("ADJUST PRICES - SUCCESS")
+    void AdjustPrices_ReturnAffectedCount() throws Exception {
+        PriceAdjustmentDto adjustment = new PriceAdjustmentDto();
+        adjustment.setType(PriceAdjustmentDto.Type.PERCENTAGE);
+        adjustment.setAmount(10);
+        adjustment.setProductIds(List.of(ProductDetailsConstant.PRODUCT_ID_1));
+        when(productService.adjustPrices(any(PriceAdjustmentDto.class))).thenReturn(new PriceAdjustmentResultDto(1));
+
+        mockMvc.perform(post(UrlConstant.GENERIC_PRODUCTS_URL + "/price/adjust").accept(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(adjustment))
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedCount").value(1));
+
+        verify(productService, times(1)).adjustPrices(adjustment);
+    }
+
     @Test
     @DisplayName("UPDATE PRODUCT - SUCCESS")
     void UpdateProduct_ReturnUpdatedProduct() throws Exception {
@@ -190,6 +429,109 @@ class ProductControllerImplTest {
         verifyProductServiceMethodCalledOnce("updateProductFields");
     }
 
+    @Test
+    @DisplayName("GET PRODUCT BY ID - ETAG OF PRODUCT VERSION")
+    void GetProductById_ReturnEntityTag() throws Exception {
+        ProductDto versionedProductDto = new ProductDto(ProductDetailsConstant.PRODUCT_ID_1,
+                                                        ProductDetailsConstant.PRODUCT_NAME_1,
+                                                        ProductDetailsConstant.PRODUCT_PRICE_1, 3L);
+        when(productService.getProductById(ProductDetailsConstant.PRODUCT_ID_1)).thenReturn(versionedProductDto);
+
+        mockMvc.perform(get(UrlConstant.SPECIFIC_PRODUCT_URL, ProductDetailsConstant.PRODUCT_ID_1)
+                                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    @DisplayName("GET ALL PRODUCTS - TAGGED WITH CATALOG REVISION")
+    void GetAllProducts_ReturnCatalogRevisionHeaders() throws Exception {
+        when(productService.getAllProducts()).thenReturn(ProductDetailsConstant.expectedProductListDto);
+
+        mockMvc.perform(get(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogRevision.getEntityTag()))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("GET ALL PRODUCTS - IF-MODIFIED-SINCE IGNORED")
+    void GetAllProducts_IfModifiedSinceOnly_ReturnProducts() throws Exception {
+        when(productService.getAllProducts()).thenReturn(ProductDetailsConstant.expectedProductListDto);
+
+        mockMvc.perform(get(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Jan 2100 00:00:00 GMT"))
+                .andExpect(status().isOk());
+
+        verify(productService, times(1)).getAllProducts();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"getAllProducts",
+                            "getAllProductsSortedByPrice"})
+    @DisplayName("GET PRODUCTS - CATALOG NOT MODIFIED")
+    void GetProducts_CurrentCatalogRevision_NotModifiedWithoutLookup(String methodName) throws Exception {
+        String url = methodName.equals("getAllProducts") ? UrlConstant.GENERIC_PRODUCTS_URL
+                                                         : UrlConstant.SORTED_PRODUCTS_URL;
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, catalogRevision.getEntityTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(productService, never()).getAllProducts();
+        verify(productService, never()).getAllProductsSortedByPrice();
+    }
+
+    @Test
+    @DisplayName("GET PRODUCT BY ID - PRODUCT NOT MODIFIED")
+    void GetProductById_CurrentVersion_NotModified() throws Exception {
+        ProductDto versionedProductDto = new ProductDto(ProductDetailsConstant.PRODUCT_ID_1,
+                                                        ProductDetailsConstant.PRODUCT_NAME_1,
+                                                        ProductDetailsConstant.PRODUCT_PRICE_1, 3L);
+        when(productService.getProductById(ProductDetailsConstant.PRODUCT_ID_1)).thenReturn(versionedProductDto);
+
+        mockMvc.perform(get(UrlConstant.SPECIFIC_PRODUCT_URL, ProductDetailsConstant.PRODUCT_ID_1)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT - IF-MATCH FORWARDED AS EXPECTED VERSION")
+    void UpdateProduct_IfMatch_ConditionalUpdate() throws Exception {
+        ProductDto versionedProductDto = new ProductDto(ProductDetailsConstant.PRODUCT_ID_1,
+                                                        ProductDetailsConstant.UPDATED_PRODUCT_NAME_1,
+                                                        ProductDetailsConstant.UPDATED_PRODUCT_PRICE_1, 4L);
+        when(productService.updateProduct(any(ProductDto.class), eq(3L))).thenReturn(versionedProductDto);
+
+        mockMvc.perform(MockMvcRequestBuilders.put(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                                .content(objectMapper.writeValueAsString(ProductDetailsConstant.updatedProductDto))
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(productService, times(1)).updateProduct(any(ProductDto.class), eq(3L));
+        verify(productService, never()).updateProduct(any(ProductDto.class));
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT FIELDS - VERSION MISMATCH")
+    void UpdateProductFields_WeakIfMatch_PreconditionFailed() throws Exception {
+        when(productService.updateProductFields(any(ProductDto.class), eq(EntityTags.NO_MATCH)))
+                .thenThrow(new ProductServiceException(UPDATE_PRODUCT_FIELDS_VERSION_MISMATCH, HttpStatus.PRECONDITION_FAILED));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                                .content(objectMapper.writeValueAsString(ProductDetailsConstant.updatedProductFieldsDto))
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(productService, times(1)).updateProductFields(any(ProductDto.class), eq(EntityTags.NO_MATCH));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"getAllProducts",
                             "getAllProductsSortedByPrice",
@@ -383,17 +725,19 @@ class ProductControllerImplTest {
     @ValueSource(strings = {"createProduct",
                             "updateProduct",
                             "updateProductFields"})
-    @DisplayName("VALIDATE PRODUCT - INVALID PRODUCT PRICE PATTERN")
-    void ValidateProduct_InvalidProductPricePattern_ReturnBadRequest(String methodName) throws Exception {
-        ProductDto productDto = new ProductDto(ProductDetailsConstant.PRODUCT_ID_1, ProductDetailsConstant.PRODUCT_NAME_1, ProductDetailsConstant.INVALID_PRODUCT_PRICE);
-        RequestBuilder requestBuilder = getRequestBuilderForProductValidation(methodName, productDto);
+    @DisplayName("VALIDATE PRODUCT - FRACTIONAL PRODUCT PRICE")
+    void ValidateProduct_FractionalProductPrice_ReturnBadRequest(String methodName) throws Exception {
+        ObjectNode productJson = objectMapper.valueToTree(ProductDetailsConstant.productDto);
+        productJson.put("productPrice", ProductDetailsConstant.INVALID_PRODUCT_PRICE);
+        RequestBuilder requestBuilder = getRequestBuilderForProductValidation(methodName, productJson.toString());
 
         mockMvc.perform(requestBuilder)
                 .andExpect(status().isBadRequest())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].message").value(PRODUCT_PRICE_PRICE_PATTERN_MESSAGE))
+                .andExpect(jsonPath("$.statusCode").value(400))
                 .andReturn();
 
+        verifyNoInteractions(productService);
     }
 
     private List<ProductDto> invokeMethodWithProductList(String methodName) {
@@ -515,18 +859,22 @@ class ProductControllerImplTest {
     }
 
     private RequestBuilder getRequestBuilderForProductValidation(String methodName, ProductDto productDto) throws JsonProcessingException {
+        return getRequestBuilderForProductValidation(methodName, objectMapper.writeValueAsString(productDto));
+    }
+
+    private RequestBuilder getRequestBuilderForProductValidation(String methodName, String content) {
         return switch (methodName) {
             case "createProduct" ->
                     MockMvcRequestBuilders.post(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(productDto))
+                            .content(content)
                             .contentType(MediaType.APPLICATION_JSON);
             case "updateProduct" ->
                     MockMvcRequestBuilders.put(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(productDto))
+                            .content(content)
                             .contentType(MediaType.APPLICATION_JSON);
             case "updateProductFields" ->
                     MockMvcRequestBuilders.patch(UrlConstant.GENERIC_PRODUCTS_URL).accept(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(productDto))
+                            .content(content)
                             .contentType(MediaType.APPLICATION_JSON);
 
             default -> throw new IllegalArgumentException("Unsupported method: " + methodName);
@@ -579,8 +927,8 @@ class ProductControllerImplTest {
             case "getAllProductsSortedByPrice" ->
                     verify(productService, times(1)).getAllProductsSortedByPrice();
             case "getProductsByPriceRange" ->
-                    verify(productService, times(1)).getProductsByPriceRange(anyDouble(),
-                                                                                                    anyDouble());
+                    verify(productService, times(1)).getProductsByPriceRange(anyLong(),
+                                                                                                    anyLong());
             case "createProduct" ->
                     verify(productService, times(1)).createProduct(any(ProductDto.class));
             case "getProductById" ->
@@ -0,0 +1,145 @@
+package com.microservices.productservice.controller.impl;
+
+import com.microservices.productservice.dto.ErrorDto;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.utility.EntityTags;
+import com.microservices.productservice.utility.UrlConstant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import static com.microservices.productservice.utility.ErrorCodeConstant.DELETE_PRODUCT_BY_ID_ERROR_CODE;
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static com.microservices.productservice.utility.ValidationMessageConstant.PRODUCT_NAME_ALPHA_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-products;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("reactive")
+class ReactiveProductControllerImplTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("CREATE TABLE IF NOT EXISTS product (product_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                                   + "product_name VARCHAR(255), product_price BIGINT NOT NULL, "
+                                   + "version BIGINT NOT NULL DEFAULT 0)")
+                .then()
+                .then(databaseClient.sql("DELETE FROM product").then())
+                .block();
+    }
+
+    @Test
+    @DisplayName("REACTIVE - CREATE AND GET PRODUCT BY ID")
+    void CreateProduct_ThenGetById_ReturnProductWithEntityTag() {
+        ProductDto createdProductDto = create(PRODUCT_NAME_1, PRODUCT_PRICE_1);
+
+        webTestClient.get().uri(UrlConstant.GENERIC_PRODUCTS_URL + "/" + createdProductDto.getProductId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, EntityTags.of(0))
+                .expectBody(ProductDto.class).isEqualTo(createdProductDto);
+        webTestClient.get().uri(UrlConstant.GENERIC_PRODUCTS_URL + "/" + createdProductDto.getProductId())
+                .header(HttpHeaders.IF_NONE_MATCH, EntityTags.of(0))
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    @DisplayName("REACTIVE - LIST STREAMED AS NDJSON")
+    void GetAllProductsSortedByPrice_Ndjson_StreamProducts() {
+        create(PRODUCT_NAME_1, PRODUCT_PRICE_1 + 2);
+        create(PRODUCT_NAME_1, PRODUCT_PRICE_1);
+        create(PRODUCT_NAME_1, PRODUCT_PRICE_1 + 1);
+
+        StepVerifier.create(webTestClient.get().uri(UrlConstant.SORTED_PRODUCTS_URL)
+                                    .accept(MediaType.APPLICATION_NDJSON)
+                                    .exchange()
+                                    .expectStatus().isOk()
+                                    .returnResult(ProductDto.class)
+                                    .getResponseBody()
+                                    .map(ProductDto::getProductPrice))
+                .expectNext(PRODUCT_PRICE_1, PRODUCT_PRICE_1 + 1, PRODUCT_PRICE_1 + 2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("REACTIVE - EMPTY LIST")
+    void GetAllProducts_NoProducts_NoContent() {
+        webTestClient.get().uri(UrlConstant.GENERIC_PRODUCTS_URL)
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    @DisplayName("REACTIVE - UPDATE WITH STALE IF-MATCH")
+    void UpdateProductFields_StaleIfMatch_PreconditionFailed() {
+        ProductDto createdProductDto = create(PRODUCT_NAME_1, PRODUCT_PRICE_1);
+        ProductDto patch = new ProductDto(createdProductDto.getProductId(), UPDATED_PRODUCT_NAME_1, 0);
+
+        webTestClient.patch().uri(UrlConstant.GENERIC_PRODUCTS_URL)
+                .header(HttpHeaders.IF_MATCH, EntityTags.of(0))
+                .bodyValue(patch)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, EntityTags.of(1))
+                .expectBody(ProductDto.class)
+                .value(productDto -> assertEquals(PRODUCT_PRICE_1, productDto.getProductPrice()));
+        webTestClient.patch().uri(UrlConstant.GENERIC_PRODUCTS_URL)
+                .header(HttpHeaders.IF_MATCH, EntityTags.of(0))
+                .bodyValue(patch)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    @DisplayName("REACTIVE - DELETE PRODUCT BY ID")
+    void DeleteProductById_ThenDeleteAgain_NotFound() {
+        ProductDto createdProductDto = create(PRODUCT_NAME_1, PRODUCT_PRICE_1);
+        String url = UrlConstant.GENERIC_PRODUCTS_URL + "/" + createdProductDto.getProductId();
+
+        webTestClient.delete().uri(url).exchange()
+                .expectStatus().isOk()
+                .expectBody(ProductDto.class).isEqualTo(createdProductDto);
+        webTestClient.delete().uri(url).exchange()
+                .expectStatus().isNotFound()
+                .expectBody(ErrorDto.class)
+                .value(errorDto -> assertEquals(DELETE_PRODUCT_BY_ID_ERROR_CODE, errorDto.getStatusCode()));
+    }
+
+    @Test
+    @DisplayName("REACTIVE - INVALID PRODUCT")
+    void CreateProduct_InvalidName_BadRequest() {
+        webTestClient.post().uri(UrlConstant.GENERIC_PRODUCTS_URL)
+                .bodyValue(new ProductDto(0, INVALID_PRODUCT_NAME, PRODUCT_PRICE_1))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBodyList(ErrorDto.class)
+                .value(errors -> assertEquals(PRODUCT_NAME_ALPHA_MESSAGE, errors.get(0).getMessage()));
+    }
+
+    private ProductDto create(String productName, long productPrice) {
+        ProductDto createdProductDto = webTestClient.post().uri(UrlConstant.GENERIC_PRODUCTS_URL)
+                .bodyValue(new ProductDto(0, productName, productPrice))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ProductDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(createdProductDto);
+        return createdProductDto;
+    }
+}
@@ -0,0 +1,60 @@
+package com.microservices.productservice.controller.metrics;
+
+import com.microservices.productservice.dto.EndpointLatencyDto;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.microservices.productservice.controller.metrics.LatencyEndpoint.HTTP_SERVER_REQUESTS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyEndpointTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LatencyEndpoint latencyEndpoint = new LatencyEndpoint(meterRegistry);
+
+    @Test
+    @DisplayName("LATENCY ENDPOINT - PERCENTILES PER ENDPOINT AND STATUS")
+    void Latencies_RecordedRequests_ReturnPercentiles() {
+        Timer found = timer("/products/{productId}", "200", 0.5, 0.99, 0.999);
+        Timer missed = timer("/products/{productId}", "404", 0.5, 0.99, 0.999);
+        for (int millis = 1; millis <= 1000; millis++) {
+            found.record(Duration.ofMillis(millis));
+        }
+        missed.record(Duration.ofMillis(3));
+
+        List<EndpointLatencyDto> latencies = latencyEndpoint.latencies();
+
+        assertEquals(List.of("200", "404"), latencies.stream().map(EndpointLatencyDto::getStatus).toList());
+        EndpointLatencyDto foundLatency = latencies.get(0);
+        assertEquals("GET", foundLatency.getMethod());
+        assertEquals(1000, foundLatency.getCount());
+        assertEquals(500, foundLatency.getP50(), 25);
+        assertEquals(990, foundLatency.getP99(), 25);
+        assertEquals(999, foundLatency.getP999(), 25);
+        assertEquals(1000, foundLatency.getMax(), 1);
+    }
+
+    @Test
+    @DisplayName("LATENCY ENDPOINT - PERCENTILE NOT CONFIGURED")
+    void Latencies_NoPercentiles_ReturnNullPercentiles() {
+        timer("/products", "200").record(Duration.ofMillis(5));
+
+        EndpointLatencyDto latency = latencyEndpoint.latencies().get(0);
+
+        assertEquals(1, latency.getCount());
+        assertNull(latency.getP50());
+        assertEquals(5, latency.getMax(), 1);
+    }
+
+    private Timer timer(String uri, String status, double... percentiles) {
+        return Timer.builder(HTTP_SERVER_REQUESTS)
+                .tags("method", "GET", "uri", uri, "status", status)
+                .publishPercentiles(percentiles)
+                .register(meterRegistry);
+    }
+}
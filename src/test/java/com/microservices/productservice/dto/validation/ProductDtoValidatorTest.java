@@ -0,0 +1,77 @@
+package com.microservices.productservice.dto.validation;
+
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.group.OnCreate;
+import com.microservices.productservice.dto.group.OnUpdate;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static com.microservices.productservice.utility.ValidationConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductDtoValidatorTest {
+
+    private static final List<String> PRODUCT_NAMES = Arrays.asList(null, "", "   ", "\t", "A", "Ab", "1", "A123",
+                                                                     PRODUCT_NAME_1, "Gaming Laptop", "a".repeat(100),
+                                                                     "a".repeat(101), "1".repeat(101));
+    private static final long[] PRODUCT_PRICES = {0, PRODUCT_PRICE_MINIMUM - 1, PRODUCT_PRICE_MINIMUM, PRODUCT_PRICE_1,
+                                                  PRODUCT_PRICE_MAXIMUM, PRODUCT_PRICE_MAXIMUM + 1};
+
+    private final Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final ProductDtoValidator productDtoValidator = new ProductDtoValidator(new StaticMessageSource());
+
+    @Test
+    @DisplayName("PRODUCT DTO VALIDATOR - SAME VIOLATIONS AS BEAN VALIDATION")
+    void Validate_EveryGroup_MatchBeanValidation() {
+        for (Class<?> group : List.of(OnCreate.class, OnUpdate.class)) {
+            for (String productName : PRODUCT_NAMES) {
+                for (long productPrice : PRODUCT_PRICES) {
+                    ProductDto productDto = new ProductDto(PRODUCT_ID_1, productName, productPrice);
+                    List<String> expected = beanValidator.validate(productDto, group).stream()
+                            .map(ConstraintViolation::getMessageTemplate)
+                            .sorted()
+                            .toList();
+
+                    assertEquals(expected, productDtoValidator.validate(productDto, group),
+                                 () -> group.getSimpleName() + " " + productDto);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("PRODUCT DTO VALIDATOR - FIELD ERRORS FOR VALIDATION HINTS")
+    void Validate_OnUpdateHint_RejectFields() {
+        ProductDto productDto = new ProductDto(PRODUCT_ID_1, INVALID_PRODUCT_NAME, PRODUCT_PRICE_MAXIMUM + 1);
+        Errors errors = new BeanPropertyBindingResult(productDto, "productDto");
+
+        productDtoValidator.validate(productDto, errors, OnUpdate.class);
+
+        assertEquals(List.of("productName", "productPrice"),
+                     errors.getFieldErrors().stream().map(FieldError::getField).toList());
+        assertEquals(List.of(PRODUCT_NAME_ALPHA, PRODUCT_PRICE_MAX_VALUE),
+                     errors.getFieldErrors().stream().map(FieldError::getDefaultMessage).toList());
+    }
+
+    @Test
+    @DisplayName("PRODUCT DTO VALIDATOR - NO GROUP")
+    void Validate_DefaultGroup_NoErrors() {
+        ProductDto productDto = new ProductDto(PRODUCT_ID_1, BLANK_PRODUCT_NAME, 0);
+        Errors errors = new BeanPropertyBindingResult(productDto, "productDto");
+
+        productDtoValidator.validate(productDto, errors);
+
+        assertFalse(errors.hasErrors());
+    }
+}
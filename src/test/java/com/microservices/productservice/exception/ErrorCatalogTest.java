@@ -0,0 +1,63 @@
+package com.microservices.productservice.exception;
+
+import com.microservices.productservice.dto.ErrorDto;
+import com.microservices.productservice.utility.ExceptionConstant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Properties;
+
+import static com.microservices.productservice.utility.ErrorCodeConstant.GET_PRODUCT_BY_ID_ERROR_CODE;
+import static com.microservices.productservice.utility.ErrorMessageConstant.GET_PRODUCT_BY_ID_ERROR_MESSAGE;
+import static com.microservices.productservice.utility.ExceptionConstant.GET_PRODUCT_BY_ID_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorCatalogTest {
+
+    private final ErrorCatalog errorCatalog = new ErrorCatalog();
+
+    @Test
+    @DisplayName("ERROR CATALOG - PRELOADED ERROR RESPONSE")
+    void ToErrorDto_KnownKey_ReturnCodeAndMessage() {
+        ErrorDto errorDto = errorCatalog.toErrorDto(new ProductServiceException(GET_PRODUCT_BY_ID_NOT_FOUND,
+                                                                                HttpStatus.NOT_FOUND));
+
+        assertEquals(GET_PRODUCT_BY_ID_ERROR_CODE, errorDto.getStatusCode());
+        assertEquals(GET_PRODUCT_BY_ID_ERROR_MESSAGE, errorDto.getMessage());
+        assertNotNull(errorDto.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("ERROR CATALOG - EVERY EXCEPTION KEY CATALOGED")
+    void ToErrorDto_EveryExceptionConstant_FoundInCatalog() throws IllegalAccessException {
+        for (Field field : ExceptionConstant.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                String key = (String) field.get(null);
+                ErrorDto errorDto = errorCatalog.toErrorDto(new ProductServiceException(key, HttpStatus.I_AM_A_TEAPOT));
+
+                assertNotEquals(HttpStatus.I_AM_A_TEAPOT.value(), errorDto.getStatusCode(), key);
+                assertNotEquals(key, errorDto.getMessage(), key);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ERROR CATALOG - MISSING MESSAGE FAILS")
+    void New_CodeWithoutMessage_ExceptionThrown() {
+        Properties errorCodes = new Properties();
+        errorCodes.setProperty(GET_PRODUCT_BY_ID_NOT_FOUND, "405");
+
+        assertThrows(IllegalStateException.class, () -> new ErrorCatalog(errorCodes, new Properties()));
+    }
+
+    @Test
+    @DisplayName("PRODUCT SERVICE EXCEPTION - NO STACK TRACE")
+    void New_ProductServiceException_Stackless() {
+        ProductServiceException exception = new ProductServiceException(GET_PRODUCT_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND);
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
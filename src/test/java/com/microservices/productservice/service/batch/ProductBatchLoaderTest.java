@@ -0,0 +1,151 @@
+package com.microservices.productservice.service.batch;
+
+import com.microservices.productservice.config.BatchLoaderProperties;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.repository.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class ProductBatchLoaderTest {
+
+    private static final long IN_FLIGHT_PRODUCT_ID = 100L;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("BATCH LOADER - CONCURRENT LOADS MERGED")
+    void Load_ConcurrentCalls_SingleInQuery() throws Exception {
+        ProductBatchLoader loader = newLoader(Duration.ofMillis(500), 4);
+        when(productRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Product> products = new ArrayList<>();
+            for (Long productId : invocation.<Iterable<Long>>getArgument(0)) {
+                if (!NON_EXISTENT_PRODUCT_ID.equals(productId)) {
+                    products.add(new Product(productId, PRODUCT_NAME_1, PRODUCT_PRICE_1));
+                }
+            }
+            return products;
+        });
+        Future<Optional<Product>> inFlight = startBlockingLoad(loader);
+
+        List<Future<Optional<Product>>> results = new ArrayList<>();
+        for (long productId : List.of(1L, 2L, 3L, NON_EXISTENT_PRODUCT_ID)) {
+            results.add(executor.submit(() -> loader.load(productId)));
+        }
+
+        assertEquals(1L, results.get(0).get().orElseThrow().getProductId());
+        assertEquals(2L, results.get(1).get().orElseThrow().getProductId());
+        assertEquals(3L, results.get(2).get().orElseThrow().getProductId());
+        assertTrue(results.get(3).get().isEmpty());
+        released.countDown();
+        assertEquals(Optional.of(product), inFlight.get());
+        verify(productRepository, times(1)).findAllById(anyIterable());
+        verify(productRepository, times(1)).findById(anyLong());
+        DistributionSummary batchSizes = registry.get("product.batch-loader.batch.size").summary();
+        assertEquals(2, batchSizes.count());
+        assertEquals(5, batchSizes.totalAmount());
+    }
+
+    @Test
+    @DisplayName("BATCH LOADER - FULL BATCH LOADED BEFORE WINDOW ENDS")
+    void Load_MaximumBatchSizeReached_LoadedImmediately() throws Exception {
+        ProductBatchLoader loader = newLoader(Duration.ofMinutes(1), 2);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        startBlockingLoad(loader);
+
+        Future<Optional<Product>> first = executor.submit(() -> loader.load(PRODUCT_ID_1));
+        Future<Optional<Product>> second = executor.submit(() -> loader.load(PRODUCT_ID_2));
+
+        assertEquals(Optional.of(product), first.get());
+        assertTrue(second.get().isEmpty());
+    }
+
+    @Test
+    @DisplayName("BATCH LOADER - UNCONTENDED LOAD DISPATCHED AT ONCE")
+    void Load_SingleCall_FindByIdWithoutWindow() {
+        ProductBatchLoader loader = newLoader(Duration.ofMinutes(1), 4);
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+
+        assertEquals(Optional.of(product), loader.load(PRODUCT_ID_1));
+        verify(productRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("BATCH LOADER - FAILURE PROPAGATED TO EVERY CALLER")
+    void Load_QueryFails_ExceptionThrown() {
+        ProductBatchLoader loader = newLoader(Duration.ofMillis(200), 2);
+        when(productRepository.findAllById(anyIterable())).thenThrow(new DataAccessResourceFailureException("down"));
+        startBlockingLoad(loader);
+
+        List<Future<Optional<Product>>> results = LongStream.of(PRODUCT_ID_1, PRODUCT_ID_2)
+                .mapToObj(productId -> executor.submit(() -> loader.load(productId)))
+                .toList();
+
+        for (Future<Optional<Product>> result : results) {
+            Exception exception = assertThrows(Exception.class, result::get);
+            assertInstanceOf(DataAccessResourceFailureException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("BATCH LOADER - DISABLED")
+    void Load_Disabled_FindById() {
+        BatchLoaderProperties properties = new BatchLoaderProperties();
+        properties.setEnabled(false);
+        ProductBatchLoader loader = new ProductBatchLoader(productRepository, properties);
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+
+        assertEquals(Optional.of(product), loader.load(PRODUCT_ID_1));
+    }
+
+    /**
+     * Starts a load that holds its query until released, so that the loads requested meanwhile are batched.
+     */
+    private Future<Optional<Product>> startBlockingLoad(ProductBatchLoader loader) throws InterruptedException {
+        when(productRepository.findById(IN_FLIGHT_PRODUCT_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            released.await();
+            return Optional.of(product);
+        });
+        Future<Optional<Product>> inFlight = executor.submit(() -> loader.load(IN_FLIGHT_PRODUCT_ID));
+        loading.await();
+        return inFlight;
+    }
+
+    private ProductBatchLoader newLoader(Duration window, int maximumBatchSize) {
+        BatchLoaderProperties properties = new BatchLoaderProperties();
+        properties.setWindow(window);
+        properties.setMaximumBatchSize(maximumBatchSize);
+        ProductBatchLoader loader = new ProductBatchLoader(productRepository, properties);
+        loader.bindTo(registry);
+        return loader;
+    }
+}
@@ -0,0 +1,115 @@
+package com.microservices.productservice.service.bulk;
+
+import com.microservices.productservice.config.BulkInsertProperties;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.validation.ProductDtoValidator;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.exception.ProductServiceException;
+import com.microservices.productservice.repository.ProductRepository;
+import com.microservices.productservice.service.mapper.ProductMapper;
+import com.microservices.productservice.service.mapper.ProductMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static com.microservices.productservice.utility.ExceptionConstant.BULK_CHUNK_FAILED;
+import static com.microservices.productservice.utility.ExceptionConstant.INVALID_BULK_REQUEST;
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BulkProductWriterTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductMapper productMapper = new ProductMapperImpl();
+    private final List<List<Product>> committedChunks = new ArrayList<>();
+    private BulkProductWriter bulkProductWriter;
+
+    @BeforeEach
+    void setUp() {
+        BulkInsertProperties properties = new BulkInsertProperties();
+        properties.setChunkSize(2);
+        properties.setMaximumSize(4);
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage(BULK_CHUNK_FAILED, Locale.getDefault(), "chunk failed");
+        bulkProductWriter = new BulkProductWriter(productRepository, productMapper,
+                                                  new ProductDtoValidator(messageSource),
+                                                  new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                                                  messageSource, properties);
+        doAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            products.forEach(product -> product.setProductId(product.getProductName().length()));
+            return null;
+        }).when(productRepository).insertAll(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("BULK CREATE - INVALID PRODUCTS REPORTED")
+    void CreateAll_InvalidProduct_ReportedWithoutInsert() {
+        List<ProductDto> productDtos = List.of(new ProductDto(0, PRODUCT_NAME_1, PRODUCT_PRICE_1),
+                                               new ProductDto(0, BLANK_PRODUCT_NAME, PRODUCT_PRICE_1),
+                                               new ProductDto(0, PRODUCT_NAME_2, PRODUCT_PRICE_2));
+
+        List<BulkProductResultDto> results = bulkProductWriter.createAll(productDtos, committedChunks::add);
+
+        assertEquals(List.of(201, 400, 201), results.stream().map(BulkProductResultDto::getStatusCode).toList());
+        assertEquals(List.of(0, 1, 2), results.stream().map(BulkProductResultDto::getIndex).toList());
+        assertNull(results.get(1).getProduct());
+        assertFalse(results.get(1).getErrors().isEmpty());
+        assertEquals(PRODUCT_NAME_1.length(), results.get(0).getProduct().getProductId());
+        assertEquals(1, committedChunks.size());
+        assertEquals(2, committedChunks.get(0).size());
+    }
+
+    @Test
+    @DisplayName("BULK CREATE - ONE TRANSACTION PER CHUNK")
+    void CreateAll_MoreProductsThanChunkSize_InsertEachChunk() {
+        List<ProductDto> productDtos = Collections.nCopies(3, new ProductDto(0, PRODUCT_NAME_1, PRODUCT_PRICE_1));
+
+        bulkProductWriter.createAll(productDtos, committedChunks::add);
+
+        assertEquals(List.of(2, 1), committedChunks.stream().map(List::size).toList());
+        verify(productRepository, times(2)).insertAll(anyList(), eq(new BulkInsertProperties().getBatchSize()));
+    }
+
+    @Test
+    @DisplayName("BULK CREATE - FAILED CHUNK DOES NOT AFFECT OTHERS")
+    void CreateAll_ChunkFails_ReportChunkProductsOnly() {
+        doThrow(new DataIntegrityViolationException("duplicate"))
+                .doNothing()
+                .when(productRepository).insertAll(anyList(), anyInt());
+        List<ProductDto> productDtos = Collections.nCopies(3, new ProductDto(0, PRODUCT_NAME_1, PRODUCT_PRICE_1));
+
+        List<BulkProductResultDto> results = bulkProductWriter.createAll(productDtos, committedChunks::add);
+
+        assertEquals(List.of(500, 500, 201), results.stream().map(BulkProductResultDto::getStatusCode).toList());
+        assertEquals(List.of("chunk failed"), results.get(0).getErrors());
+        assertEquals(1, committedChunks.size());
+    }
+
+    @Test
+    @DisplayName("BULK CREATE - INVALID REQUEST")
+    void CreateAll_EmptyOrTooLargeRequest_ExceptionThrown() {
+        List<ProductDto> tooLarge = Collections.nCopies(5, productDto);
+        List<ProductDto> withEmptyEntry = new ArrayList<>(Collections.singletonList(null));
+
+        for (List<ProductDto> productDtos : List.of(List.<ProductDto>of(), tooLarge, withEmptyEntry)) {
+            ProductServiceException exception = assertThrows(ProductServiceException.class,
+                    () -> bulkProductWriter.createAll(productDtos, committedChunks::add));
+            assertEquals(INVALID_BULK_REQUEST, exception.getMessage());
+        }
+        verifyNoInteractions(productRepository);
+    }
+}
@@ -0,0 +1,166 @@
+package com.microservices.productservice.service.cache;
+
+import com.microservices.productservice.config.ProductCacheProperties;
+import com.microservices.productservice.entity.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapProductStoreTest {
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - PUT AND GET")
+    void Put_ThenGet_ReturnStoredProduct() {
+        OffHeapProductStore store = newStore(4);
+
+        store.put(product);
+
+        assertEquals(product, store.get(PRODUCT_ID_1));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - REPLACE EXISTING PRODUCT")
+    void Put_ExistingProduct_ReplaceStoredProduct() {
+        OffHeapProductStore store = newStore(4);
+
+        store.put(product);
+        store.put(updatedProduct);
+
+        assertEquals(updatedProduct, store.get(PRODUCT_ID_1));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - VERSION KEPT")
+    void Put_VersionedProduct_ReturnSameVersion() {
+        OffHeapProductStore store = newStore(4);
+
+        store.put(new Product(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1, 7L));
+
+        assertEquals(7L, store.get(PRODUCT_ID_1).getVersion());
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - INVALIDATE")
+    void Invalidate_StoredProduct_ReturnNull() {
+        OffHeapProductStore store = newStore(4);
+
+        store.put(product);
+        store.invalidate(PRODUCT_ID_1);
+
+        assertNull(store.get(PRODUCT_ID_1));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - INVALIDATE ALL")
+    void InvalidateAll_StoredProducts_SlotsReused() {
+        OffHeapProductStore store = newStore(2);
+        store.put(new Product(1L, PRODUCT_NAME_2, PRODUCT_PRICE_2));
+        store.put(new Product(2L, PRODUCT_NAME_2, PRODUCT_PRICE_2));
+
+        store.invalidateAll();
+        store.put(new Product(3L, PRODUCT_NAME_2, PRODUCT_PRICE_2));
+
+        assertNull(store.get(1L));
+        assertNull(store.get(2L));
+        assertNotNull(store.get(3L));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - EXPIRED PRODUCT MISSED")
+    void Get_OlderThanExpireAfterWrite_ReturnNull() {
+        AtomicLong nanos = new AtomicLong();
+        ProductCacheProperties properties = newProperties(4);
+        properties.setExpireAfterWrite(Duration.ofMinutes(10));
+        OffHeapProductStore store = new OffHeapProductStore(properties, nanos::get);
+
+        store.put(product);
+        nanos.set(Duration.ofMinutes(10).toNanos());
+        assertEquals(product, store.get(PRODUCT_ID_1));
+
+        nanos.incrementAndGet();
+        assertNull(store.get(PRODUCT_ID_1));
+
+        store.put(product);
+        assertEquals(product, store.get(PRODUCT_ID_1));
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - PUT AFTER INVALIDATION DISCARDED")
+    void Put_InvalidatedSinceGenerationRead_ProductNotStored() {
+        OffHeapProductStore store = newStore(4);
+        store.put(product);
+
+        long generation = store.generation(PRODUCT_ID_1);
+        store.invalidate(PRODUCT_ID_1);
+        store.put(product, generation);
+        assertNull(store.get(PRODUCT_ID_1));
+
+        generation = store.generation(PRODUCT_ID_1);
+        store.invalidateAll();
+        store.put(product, generation);
+        assertNull(store.get(PRODUCT_ID_1));
+
+        store.put(updatedProduct, store.generation(PRODUCT_ID_1));
+        assertEquals(updatedProduct, store.get(PRODUCT_ID_1));
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - CLOCK EVICTION KEEPS REFERENCED PRODUCTS")
+    void Put_BudgetExhausted_EvictUnreferencedProduct() {
+        OffHeapProductStore store = newStore(4);
+        for (long productId = 1; productId <= 4; productId++) {
+            store.put(new Product(productId, PRODUCT_NAME_2, PRODUCT_PRICE_2));
+        }
+
+        store.get(1L);
+        store.put(new Product(5L, PRODUCT_NAME_2, PRODUCT_PRICE_2));
+
+        assertNotNull(store.get(1L));
+        assertNull(store.get(2L));
+        assertNotNull(store.get(5L));
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - NAME TOO LONG FOR SLOT")
+    void Put_NameTooLong_ProductNotStored() {
+        OffHeapProductStore store = newStore(4);
+
+        store.put(new Product(PRODUCT_ID_1, "A".repeat(OffHeapProductStore.MAX_NAME_BYTES + 1), PRODUCT_PRICE_1));
+
+        assertNull(store.get(PRODUCT_ID_1));
+    }
+
+    @Test
+    @DisplayName("OFF-HEAP STORE - DISABLED")
+    void Put_StoreDisabled_ReturnNull() {
+        OffHeapProductStore store = new OffHeapProductStore(new ProductCacheProperties());
+
+        store.put(product);
+
+        assertFalse(store.isEnabled());
+        assertNull(store.get(PRODUCT_ID_1));
+    }
+
+    private OffHeapProductStore newStore(int slots) {
+        return new OffHeapProductStore(newProperties(slots));
+    }
+
+    private ProductCacheProperties newProperties(int slots) {
+        ProductCacheProperties properties = new ProductCacheProperties();
+        properties.getOffHeap().setEnabled(true);
+        properties.getOffHeap().setSlabSize(DataSize.ofBytes(2L * OffHeapProductStore.SLOT_SIZE));
+        properties.getOffHeap().setMaximumMemory(DataSize.ofBytes((long) slots * OffHeapProductStore.SLOT_SIZE));
+        return properties;
+    }
+}
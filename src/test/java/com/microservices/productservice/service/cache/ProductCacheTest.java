@@ -0,0 +1,86 @@
+package com.microservices.productservice.service.cache;
+
+import com.microservices.productservice.config.ProductCacheProperties;
+import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.repository.ProductRepository;
+import com.microservices.productservice.service.batch.ProductBatchLoader;
+import com.microservices.productservice.service.mapper.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductCacheTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductMapper productMapper = mock(ProductMapper.class);
+    private final ProductBatchLoader productBatchLoader = mock(ProductBatchLoader.class);
+    private OffHeapProductStore offHeapProductStore;
+    private ProductCache productCache;
+
+    @BeforeEach
+    void setUp() {
+        ProductCacheProperties properties = new ProductCacheProperties();
+        properties.getOffHeap().setEnabled(true);
+        properties.getOffHeap().setSlabSize(DataSize.ofBytes(4L * OffHeapProductStore.SLOT_SIZE));
+        properties.getOffHeap().setMaximumMemory(DataSize.ofBytes(4L * OffHeapProductStore.SLOT_SIZE));
+        offHeapProductStore = new OffHeapProductStore(properties);
+        productCache = new ProductCache(productRepository, productMapper, offHeapProductStore, productBatchLoader,
+                                        properties);
+        when(productMapper.productToProductDto(any())).thenReturn(expectedProductDto);
+    }
+
+    @Test
+    @DisplayName("PRODUCT CACHE - LOADED PRODUCTS MIRRORED INTO SECOND TIER")
+    void GetAll_Miss_StoreLoadedProductOffHeap() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+
+        Map<Long, ProductDto> loaded = productCache.getAll(List.of(PRODUCT_ID_1));
+
+        assertEquals(Map.of(PRODUCT_ID_1, expectedProductDto), loaded);
+        assertEquals(product, offHeapProductStore.get(PRODUCT_ID_1));
+    }
+
+    @Test
+    @DisplayName("PRODUCT CACHE - INVALIDATION DURING LOAD KEEPS LOADED PRODUCT OUT OF SECOND TIER")
+    void GetAll_InvalidatedDuringLoad_ProductNotStoredOffHeap() {
+        when(productRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            productCache.invalidate(PRODUCT_ID_1);
+            return List.of(product);
+        });
+
+        productCache.getAll(List.of(PRODUCT_ID_1));
+
+        assertNull(offHeapProductStore.get(PRODUCT_ID_1));
+    }
+
+    @Test
+    @DisplayName("PRODUCT CACHE - MORE PRODUCTS THAN THE CACHE HOLDS READ THROUGH")
+    void GetAll_MoreIdsThanMaximumSize_ProductsNotCached() {
+        ProductCacheProperties properties = new ProductCacheProperties();
+        properties.setMaximumSize(1);
+        properties.setBatchLoadSize(1);
+        productCache = new ProductCache(productRepository, productMapper, offHeapProductStore, productBatchLoader,
+                                        properties);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product), List.of());
+
+        Map<Long, ProductDto> loaded = productCache.getAll(List.of(PRODUCT_ID_1, PRODUCT_ID_2));
+
+        assertEquals(Map.of(PRODUCT_ID_1, expectedProductDto), loaded);
+        assertTrue(productCache.getIfPresent(PRODUCT_ID_1).isEmpty());
+        assertNull(offHeapProductStore.get(PRODUCT_ID_1));
+        verify(productRepository, times(2)).findAllById(anyIterable());
+    }
+}
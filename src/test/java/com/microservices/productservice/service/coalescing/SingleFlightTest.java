@@ -0,0 +1,109 @@
+package com.microservices.productservice.service.coalescing;
+
+import com.microservices.productservice.exception.ProductServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.microservices.productservice.utility.ExceptionConstant.GET_PRODUCT_BY_ID_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 4;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("SINGLE FLIGHT - CONCURRENT IDENTICAL CALLS SHARE ONE LOAD")
+    void Execute_ConcurrentIdenticalCalls_LoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitCallers(() -> {
+            loads.incrementAndGet();
+            await(release);
+            return "product";
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("product", result.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.executed());
+        assertEquals(CALLERS - 1, singleFlight.coalesced());
+    }
+
+    @Test
+    @DisplayName("SINGLE FLIGHT - EXCEPTION SHARED WITH COALESCED CALLS")
+    void Execute_LoadFails_EveryCallerReceivesException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitCallers(() -> {
+            await(release);
+            throw new ProductServiceException(GET_PRODUCT_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND);
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(ProductServiceException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("SINGLE FLIGHT - SEQUENTIAL CALLS LOAD AGAIN")
+    void Execute_SequentialCalls_LoadEachTime() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute(1L, () -> "product" + loads.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "product" + loads.incrementAndGet());
+
+        assertEquals("product2", second);
+        assertEquals(0, singleFlight.coalesced());
+    }
+
+    private List<Future<String>> submitCallers(Supplier<String> loader) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, loader)));
+        }
+        return results;
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
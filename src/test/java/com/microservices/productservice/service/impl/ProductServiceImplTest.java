@@ -1,23 +1,65 @@
 package com.microservices.productservice.service.impl;
 
+import com.microservices.productservice.config.BatchLoaderProperties;
+import com.microservices.productservice.config.AutocompleteProperties;
+import com.microservices.productservice.config.BulkInsertProperties;
+import com.microservices.productservice.config.CatalogIndexProperties;
+import com.microservices.productservice.config.PaginationProperties;
+import com.microservices.productservice.config.PriceIndexProperties;
+import com.microservices.productservice.config.ProductCacheProperties;
+import com.microservices.productservice.config.SearchIndexProperties;
+import com.microservices.productservice.dto.BulkDeleteResultDto;
+import com.microservices.productservice.dto.BulkProductResultDto;
+import com.microservices.productservice.dto.CatalogRevisionDto;
+import com.microservices.productservice.dto.PriceAdjustmentDto;
+import com.microservices.productservice.dto.PriceAdjustmentResultDto;
 import com.microservices.productservice.dto.ProductDto;
+import com.microservices.productservice.dto.ProductLookupDto;
+import com.microservices.productservice.dto.ProductPageDto;
 import com.microservices.productservice.entity.Product;
 import com.microservices.productservice.exception.ProductServiceException;
 import com.microservices.productservice.repository.ProductRepository;
+import com.microservices.productservice.service.batch.ProductBatchLoader;
+import com.microservices.productservice.service.bulk.BulkProductWriter;
+import com.microservices.productservice.service.cache.OffHeapProductStore;
+import com.microservices.productservice.service.cache.ProductCache;
+import com.microservices.productservice.service.coalescing.ProductReadCoalescer;
+import com.microservices.productservice.service.index.CatalogIndexRefresher;
+import com.microservices.productservice.service.index.CatalogRefreshedEvent;
+import com.microservices.productservice.service.index.PriceIndex;
+import com.microservices.productservice.service.index.ProductNameTrie;
+import com.microservices.productservice.service.index.ProductSearchIndex;
 import com.microservices.productservice.service.mapper.ProductMapper;
+import com.microservices.productservice.service.pagination.KeysetCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static com.microservices.productservice.utility.ExceptionConstant.*;
 import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MAXIMUM;
+import static com.microservices.productservice.utility.ValidationConstant.PRODUCT_PRICE_MINIMUM;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -28,9 +70,43 @@ class ProductServiceImplTest {
     private ProductRepository productRepository;
     @Mock
     private ProductMapper productMapper;
-    @InjectMocks
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private BulkProductWriter bulkProductWriter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private PriceIndex priceIndex;
+    private ProductSearchIndex productSearchIndex;
+    private ProductNameTrie productNameTrie;
+    private CatalogIndexRefresher catalogIndexRefresher;
+    private SimpleMeterRegistry meterRegistry;
     private ProductServiceImpl productService;
 
+    @BeforeEach
+    void setUp() {
+        ProductCacheProperties cacheProperties = new ProductCacheProperties();
+        cacheProperties.setBatchLoadSize(2);
+        ProductCache productCache = new ProductCache(productRepository, productMapper,
+                                                     new OffHeapProductStore(cacheProperties),
+                                                     new ProductBatchLoader(productRepository, new BatchLoaderProperties()),
+                                                     cacheProperties);
+        priceIndex = new PriceIndex(new PriceIndexProperties());
+        productSearchIndex = new ProductSearchIndex(new SearchIndexProperties());
+        productNameTrie = new ProductNameTrie(new AutocompleteProperties());
+        catalogIndexRefresher = new CatalogIndexRefresher(productRepository, entityManager,
+                                                          new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                                                          new CatalogIndexProperties(), eventPublisher,
+                                                          List.of(priceIndex, productSearchIndex, productNameTrie));
+        ProductReadCoalescer productReadCoalescer = new ProductReadCoalescer();
+        meterRegistry = new SimpleMeterRegistry();
+        productReadCoalescer.bindTo(meterRegistry);
+        productService = new ProductServiceImpl(productRepository, productMapper, productCache, priceIndex,
+                                                productSearchIndex, productNameTrie, catalogIndexRefresher,
+                                                new PaginationProperties(), entityManager, bulkProductWriter,
+                                                productReadCoalescer, new BulkInsertProperties());
+    }
+
     @Test
     @DisplayName("GET ALL PRODUCTS - SUCCESS")
     void GetAllProducts_ReturnProductList() {
@@ -70,6 +146,278 @@ class ProductServiceImplTest {
         verifyProductRepoMethodCalledOnce("getProductsByPriceRange");
     }
 
+    @Test
+    @DisplayName("GET ALL PRODUCTS SORTED BY PRICE - SERVED FROM PRICE INDEX")
+    void GetAllProductsSortedByPrice_IndexLoaded_ReturnProductListWithoutQuery() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        List<Product> sortedProductList = List.of(productList.get(1), productList.get(0));
+        when(productMapper.productListToProductDtoList(sortedProductList)).thenReturn(expectedProductListDto);
+
+        List<ProductDto> actualProductList = productService.getAllProductsSortedByPrice();
+
+        assertIterableEquals(expectedProductListDto, actualProductList);
+        verify(productRepository, never()).findAllSortedByPrice();
+        assertEquals(0.0, executedReads("getAllProductsSortedByPrice"));
+    }
+
+    @Test
+    @DisplayName("GET ALL PRODUCTS SORTED BY PRICE - DATABASE READ COALESCED")
+    void GetAllProductsSortedByPrice_IndexNotLoaded_ReadThroughCoalescer() {
+        when(productRepository.findAllSortedByPrice()).thenReturn(productList);
+        when(productMapper.productListToProductDtoList(productList)).thenReturn(expectedProductListDto);
+
+        List<ProductDto> actualProductList = productService.getAllProductsSortedByPrice();
+
+        assertIterableEquals(expectedProductListDto, actualProductList);
+        assertEquals(1.0, executedReads("getAllProductsSortedByPrice"));
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS IN SPECIFIED PRICE RANGE - SERVED FROM PRICE INDEX")
+    void GetProductsByPriceRange_IndexLoaded_ReturnProductListWithoutQuery() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        when(productMapper.productListToProductDtoList(List.of(productList.get(1)))).thenReturn(singletonProductListDto);
+
+        List<ProductDto> actualProductList = productService.getProductsByPriceRange(PRODUCT_PRICE_LOWER_LIMIT,
+                                                                                    PRODUCT_PRICE_LOWER_LIMIT);
+
+        assertIterableEquals(singletonProductListDto, actualProductList);
+        verify(productRepository, never()).findByPriceRange(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS IN SPECIFIED PRICE RANGE - PRICE INDEX UPDATED BY CREATE")
+    void GetProductsByPriceRange_AfterCreate_ReturnCreatedProduct() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> Stream.empty());
+        catalogIndexRefresher.rebuild();
+        when(productMapper.productDtoToProduct(productDto)).thenReturn(product);
+        when(productRepository.save(product)).thenReturn(product);
+        when(productMapper.productListToProductDtoList(singletonProductList)).thenReturn(singletonProductListDto);
+
+        productService.createProduct(productDto);
+        List<ProductDto> actualProductList = productService.getProductsByPriceRange(PRODUCT_PRICE_LOWER_LIMIT,
+                                                                                    PRODUCT_PRICE_UPPER_LIMIT);
+
+        assertIterableEquals(singletonProductListDto, actualProductList);
+        verify(productRepository, never()).findByPriceRange(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("SEARCH PRODUCTS - SERVED FROM SEARCH INDEX")
+    void SearchProducts_IndexLoaded_ReturnMatchingProducts() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        when(productMapper.productListToProductDtoList(List.of(productList.get(1)))).thenReturn(singletonProductListDto);
+
+        List<ProductDto> actualProductList = productService.searchProducts(PRODUCT_NAME_2.toUpperCase(), null,
+                                                                           PRODUCT_PRICE_UPPER_LIMIT, 20);
+
+        assertIterableEquals(singletonProductListDto, actualProductList);
+    }
+
+    @Test
+    @DisplayName("SEARCH PRODUCTS - SEARCH INDEX UPDATED BY CREATE")
+    void SearchProducts_AfterCreate_ReturnCreatedProduct() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> Stream.empty());
+        catalogIndexRefresher.rebuild();
+        when(productMapper.productDtoToProduct(productDto)).thenReturn(product);
+        when(productRepository.save(product)).thenReturn(product);
+        when(productMapper.productListToProductDtoList(singletonProductList)).thenReturn(singletonProductListDto);
+
+        productService.createProduct(productDto);
+        List<ProductDto> actualProductList = productService.searchProducts(PRODUCT_NAME_1, PRODUCT_PRICE_LOWER_LIMIT,
+                                                                           PRODUCT_PRICE_UPPER_LIMIT, 20);
+
+        assertIterableEquals(singletonProductListDto, actualProductList);
+    }
+
+    @Test
+    @DisplayName("SEARCH PRODUCTS - NO MATCH")
+    void SearchProducts_NoMatch_ExceptionThrown() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                () -> productService.searchProducts(PRODUCT_NAME_2, PRODUCT_PRICE_2 + 1, null, 20));
+
+        assertEquals(SEARCH_PRODUCTS_NO_CONTENT, exception.getMessage());
+        assertEquals(HttpStatus.NO_CONTENT, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("SEARCH PRODUCTS - QUERY WITHOUT TERMS")
+    void SearchProducts_QueryWithoutTerms_ExceptionThrown() {
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                () -> productService.searchProducts(" - ", null, null, 20));
+
+        assertEquals(INVALID_SEARCH_QUERY, exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("SEARCH PRODUCTS - SEARCH INDEX NOT LOADED")
+    void SearchProducts_IndexNotLoaded_ExceptionThrown() {
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                () -> productService.searchProducts(PRODUCT_NAME_1, null, null, 20));
+
+        assertEquals(SEARCH_UNAVAILABLE, exception.getMessage());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE PRODUCT NAMES - SERVED FROM TRIE")
+    void AutocompleteProductNames_TrieLoaded_ReturnCompletions() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+
+        List<String> actualCompletions = productService.autocompleteProductNames(PRODUCT_NAME_2.substring(0, 2), 10);
+
+        assertEquals(List.of(PRODUCT_NAME_2.toLowerCase()), actualCompletions);
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE PRODUCT NAMES - TRIE UPDATED BY UPDATE")
+    void AutocompleteProductNames_AfterUpdate_ReturnUpdatedName() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(new Product(PRODUCT_ID_1, PRODUCT_NAME_1,
+                                                                                       PRODUCT_PRICE_1)));
+        when(productMapper.productDtoToProduct(updatedProductDto)).thenReturn(updatedProduct);
+        when(productRepository.save(updatedProduct)).thenReturn(new Product(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1,
+                                                                            UPDATED_PRODUCT_PRICE_1, 1L));
+
+        productService.updateProduct(updatedProductDto);
+
+        assertEquals(List.of(UPDATED_PRODUCT_NAME_1.toLowerCase()),
+                     productService.autocompleteProductNames(UPDATED_PRODUCT_NAME_1, 10));
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                () -> productService.autocompleteProductNames(PRODUCT_NAME_1, 10));
+        assertEquals(AUTOCOMPLETE_NO_CONTENT, exception.getMessage());
+        assertEquals(HttpStatus.NO_CONTENT, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE PRODUCT NAMES - BLANK PREFIX")
+    void AutocompleteProductNames_BlankPrefix_ExceptionThrown() {
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                () -> productService.autocompleteProductNames(" ", 10));
+
+        assertEquals(INVALID_AUTOCOMPLETE_PREFIX, exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE PRODUCT NAMES - TRIE NOT LOADED")
+    void AutocompleteProductNames_TrieNotLoaded_ExceptionThrown() {
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                () -> productService.autocompleteProductNames(PRODUCT_NAME_1, 10));
+
+        assertEquals(AUTOCOMPLETE_UNAVAILABLE, exception.getMessage());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("STREAM ALL PRODUCTS - EACH PRODUCT DETACHED")
+    void StreamAllProducts_ProductsConsumedAndDetached() {
+        when(productRepository.streamAll()).thenReturn(productList.stream());
+        when(productMapper.productToProductDto(any(Product.class))).thenReturn(productDto, expectedProductListDto.get(1));
+        List<ProductDto> actualProductList = new ArrayList<>();
+
+        productService.streamAllProducts(actualProductList::add);
+
+        assertIterableEquals(expectedProductListDto, actualProductList);
+        verify(entityManager, times(productList.size())).detach(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("STREAM ALL PRODUCTS SORTED BY PRICE - STREAM CLOSED")
+    void StreamAllProductsSortedByPrice_StreamClosed() {
+        List<Boolean> closed = new ArrayList<>();
+        when(productRepository.streamAllSortedByPrice()).thenReturn(Stream.<Product>empty().onClose(() -> closed.add(true)));
+
+        productService.streamAllProductsSortedByPrice(productDto -> fail("No product expected"));
+
+        assertEquals(List.of(true), closed);
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS PAGE - NEXT CURSOR RETURNED")
+    void GetProductsPage_MoreProductsAvailable_ReturnNextCursor() {
+        when(productRepository.findPageAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(productList);
+        when(productMapper.productListToProductDtoList(singletonProductList)).thenReturn(singletonProductListDto);
+
+        ProductPageDto actualPage = productService.getProductsPage(null, 1);
+
+        assertIterableEquals(singletonProductListDto, actualPage.getProducts());
+        assertEquals(KeysetCursor.after(KeysetCursor.Order.PRODUCT_ID, product).encode(), actualPage.getNextCursor());
+        verify(productRepository, times(1)).findPageAfter(Long.MIN_VALUE, Pageable.ofSize(2));
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS PAGE - LAST PAGE")
+    void GetProductsPage_FromCursor_ReturnLastPage() {
+        String cursor = KeysetCursor.after(KeysetCursor.Order.PRODUCT_ID, product).encode();
+        List<Product> lastPage = Collections.singletonList(productList.get(1));
+        when(productRepository.findPageAfter(eq(PRODUCT_ID_1), any(Pageable.class))).thenReturn(lastPage);
+        when(productMapper.productListToProductDtoList(lastPage)).thenReturn(singletonProductListDto);
+
+        ProductPageDto actualPage = productService.getProductsPage(cursor, 1);
+
+        assertIterableEquals(singletonProductListDto, actualPage.getProducts());
+        assertNull(actualPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS SORTED BY PRICE PAGE - CURSOR CARRIES PRICE")
+    void GetProductsSortedByPricePage_FromCursor_ContinueAfterLastPrice() {
+        String cursor = KeysetCursor.after(KeysetCursor.Order.PRICE, product).encode();
+        List<Product> lastPage = Collections.singletonList(productList.get(1));
+        when(productRepository.findPageSortedByPriceAfter(anyLong(), anyLong(), anyLong(), any(Pageable.class)))
+                .thenReturn(lastPage);
+        when(productMapper.productListToProductDtoList(lastPage)).thenReturn(singletonProductListDto);
+
+        ProductPageDto actualPage = productService.getProductsSortedByPricePage(cursor, 10);
+
+        assertNull(actualPage.getNextCursor());
+        verify(productRepository, times(1)).findPageSortedByPriceAfter(PRODUCT_PRICE_1, PRODUCT_ID_1,
+                                                                       Long.MAX_VALUE, Pageable.ofSize(11));
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS BY PRICE RANGE PAGE - PAGE SIZE CAPPED")
+    void GetProductsByPriceRangePage_PageSizeTooLarge_PageSizeCapped() {
+        when(productRepository.findPageSortedByPriceAfter(anyLong(), anyLong(), anyLong(), any(Pageable.class)))
+                .thenReturn(productList);
+        when(productMapper.productListToProductDtoList(productList)).thenReturn(expectedProductListDto);
+
+        productService.getProductsByPriceRangePage(PRODUCT_PRICE_LOWER_LIMIT, PRODUCT_PRICE_UPPER_LIMIT, null,
+                                                   Integer.MAX_VALUE);
+
+        verify(productRepository, times(1)).findPageSortedByPriceAfter(PRODUCT_PRICE_LOWER_LIMIT, Long.MIN_VALUE,
+                PRODUCT_PRICE_UPPER_LIMIT, Pageable.ofSize(new PaginationProperties().getMaximumPageSize() + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not-a-cursor", "AAAA"})
+    @DisplayName("GET PRODUCTS PAGE - INVALID CURSOR")
+    void GetProductsPage_InvalidCursor_ExceptionThrown(String cursor) {
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.getProductsPage(cursor, 10));
+
+        assertEquals(INVALID_PAGE_CURSOR, exception.getMessage());
+        verify(productRepository, never()).findPageAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET PRODUCTS SORTED BY PRICE PAGE - CURSOR OF ANOTHER LISTING")
+    void GetProductsSortedByPricePage_ProductIdCursor_ExceptionThrown() {
+        String cursor = KeysetCursor.after(KeysetCursor.Order.PRODUCT_ID, product).encode();
+
+        assertThrows(ProductServiceException.class, () -> productService.getProductsSortedByPricePage(cursor, 10));
+    }
+
     @Test
     @DisplayName("CREATE PRODUCT - SUCCESS")
     void CreateProduct_ReturnCreatedProduct() {
@@ -88,6 +436,26 @@ class ProductServiceImplTest {
         verifyProductRepoMethodCalledOnce("createProduct");
     }
 
+    @Test
+    @DisplayName("CREATE PRODUCTS - PRICE INDEX UPDATED WITH COMMITTED CHUNKS")
+    void CreateProducts_ChunkCommitted_PriceIndexUpdated() {
+        List<BulkProductResultDto> expectedResults = List.of(
+                new BulkProductResultDto(0, 201, expectedProductDto, Collections.emptyList()));
+        when(bulkProductWriter.createAll(eq(singletonProductListDto), any())).thenAnswer(invocation -> {
+            Consumer<List<Product>> onChunkCommitted = invocation.getArgument(1);
+            onChunkCommitted.accept(singletonProductList);
+            return expectedResults;
+        });
+        when(productRepository.streamAll()).thenAnswer(invocation -> Stream.empty());
+        when(productMapper.productListToProductDtoList(singletonProductList)).thenReturn(singletonProductListDto);
+        catalogIndexRefresher.rebuild();
+
+        List<BulkProductResultDto> actualResults = productService.createProducts(singletonProductListDto);
+
+        assertEquals(expectedResults, actualResults);
+        assertIterableEquals(singletonProductListDto, productService.getAllProductsSortedByPrice());
+    }
+
     @Test
     @DisplayName("GET PRODUCT BY ID - SUCCESS")
     void GetProductById_ReturnFetchedProduct() {
@@ -101,11 +469,93 @@ class ProductServiceImplTest {
         verifyProductRepoMethodCalledOnce("getProductById");
     }
 
+    @Test
+    @DisplayName("GET PRODUCT BY ID - SERVED FROM CACHE")
+    void GetProductById_RepeatedCalls_RepositoryCalledOnce() {
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+        when(productMapper.productToProductDto(product)).thenReturn(productDto);
+
+        productService.getProductById(PRODUCT_ID_1);
+        ProductDto actualProductResponseDto = productService.getProductById(PRODUCT_ID_1);
+
+        assertEquals(expectedProductDto, actualProductResponseDto);
+        verifyProductRepoMethodCalledOnce("getProductById");
+    }
+
+    @Test
+    @DisplayName("GET PRODUCT BY ID - CACHE INVALIDATED BY UPDATE")
+    void GetProductById_AfterUpdate_ReturnUpdatedProduct() {
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product), Optional.of(product),
+                                                                   Optional.of(updatedProduct));
+        when(productMapper.productToProductDto(product)).thenReturn(productDto);
+        when(productMapper.productDtoToProduct(updatedProductDto)).thenReturn(updatedProduct);
+        when(productRepository.save(updatedProduct)).thenReturn(updatedProduct);
+        when(productMapper.productToProductDto(updatedProduct)).thenReturn(updatedProductDto);
+
+        productService.getProductById(PRODUCT_ID_1);
+        productService.updateProduct(updatedProductDto);
+        ProductDto actualProductResponseDto = productService.getProductById(PRODUCT_ID_1);
+
+        assertEquals(updatedProductDto, actualProductResponseDto);
+        verify(productRepository, times(3)).findById(PRODUCT_ID_1);
+    }
+
+    @Test
+    @DisplayName("LOOKUP PRODUCTS - FOUND AND MISSING IDS")
+    void LookupProducts_SomeIdsMissing_ReturnFoundAndMissing() {
+        when(productRepository.findAllById(List.of(PRODUCT_ID_1, NON_EXISTENT_PRODUCT_ID))).thenReturn(singletonProductList);
+        when(productMapper.productToProductDto(product)).thenReturn(productDto);
+
+        ProductLookupDto actualLookup = productService.lookupProducts(
+                Arrays.asList(PRODUCT_ID_1, NON_EXISTENT_PRODUCT_ID, null, PRODUCT_ID_1));
+
+        assertIterableEquals(singletonProductListDto, actualLookup.getProducts());
+        assertIterableEquals(List.of(NON_EXISTENT_PRODUCT_ID), actualLookup.getMissingIds());
+        verify(productRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("LOOKUP PRODUCTS - CACHED PRODUCTS AND CHUNKED IN QUERIES")
+    void LookupProducts_ManyIds_QueryUncachedIdsInChunks() {
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+        when(productMapper.productToProductDto(product)).thenReturn(productDto);
+        when(productRepository.findAllById(anyIterable())).thenReturn(Collections.emptyList());
+        productService.getProductById(PRODUCT_ID_1);
+
+        ProductLookupDto actualLookup = productService.lookupProducts(List.of(PRODUCT_ID_1, 101L, 102L, 103L));
+
+        assertIterableEquals(singletonProductListDto, actualLookup.getProducts());
+        assertIterableEquals(List.of(101L, 102L, 103L), actualLookup.getMissingIds());
+        verify(productRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("LOOKUP PRODUCTS - NO IDS")
+    void LookupProducts_NoIds_ReturnEmptyLookup() {
+        ProductLookupDto actualLookup = productService.lookupProducts(Collections.emptyList());
+
+        assertTrue(actualLookup.getProducts().isEmpty());
+        assertTrue(actualLookup.getMissingIds().isEmpty());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("LOOKUP PRODUCTS - MORE IDS THAN THE MAXIMUM BULK SIZE")
+    void LookupProducts_TooManyIds_ExceptionThrown() {
+        List<Long> productIds = Collections.nCopies(new BulkInsertProperties().getMaximumSize() + 1, PRODUCT_ID_1);
+
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.lookupProducts(productIds));
+
+        assertEquals(INVALID_LOOKUP_REQUEST, exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verifyNoInteractions(productRepository);
+    }
+
     @Test
     @DisplayName("DELETE PRODUCT BY ID - SUCCESS")
     void DeleteProductById_ReturnDeletedProduct() {
-        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
-        doNothing().when(productRepository).deleteById(PRODUCT_ID_1);
+        when(productRepository.deleteAndGet(PRODUCT_ID_1)).thenReturn(Optional.of(product));
         when(productMapper.productToProductDto(product)).thenReturn(productDto);
 
         ProductDto actualProductResponseDto = productService.deleteProductById(PRODUCT_ID_1);
@@ -113,6 +563,154 @@ class ProductServiceImplTest {
         assertNotNull(actualProductResponseDto);
         assertEquals(expectedProductDto, actualProductResponseDto);
         verifyProductRepoMethodCalledOnce("deleteProductById");
+        verify(productRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("DELETE PRODUCT BY ID - CACHED PRODUCT DELETED WITH ONE STATEMENT")
+    void DeleteProductById_ProductCached_SingleDelete() {
+        ProductDto cachedProductDto = new ProductDto(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1, 2L);
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+        when(productMapper.productToProductDto(product)).thenReturn(cachedProductDto);
+        when(productRepository.deleteIfVersionMatches(PRODUCT_ID_1, 2L)).thenReturn(1);
+        productService.getProductById(PRODUCT_ID_1);
+
+        ProductDto actualProductDto = productService.deleteProductById(PRODUCT_ID_1);
+
+        assertEquals(cachedProductDto, actualProductDto);
+        verify(productRepository, never()).deleteAndGet(anyLong());
+        productService.getProductById(PRODUCT_ID_1);
+        verify(productRepository, times(2)).findById(PRODUCT_ID_1);
+    }
+
+    @Test
+    @DisplayName("DELETE PRODUCTS - SET-BASED DELETE OF DISTINCT IDS")
+    void DeleteProducts_DuplicateIds_DeleteDistinctIdsOnce() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        when(productRepository.deleteAllByIds(List.of(PRODUCT_ID_1, NON_EXISTENT_PRODUCT_ID), 5_000)).thenReturn(1);
+        CatalogRevisionDto initial = productService.getCatalogRevision();
+
+        BulkDeleteResultDto result = productService.deleteProducts(List.of(PRODUCT_ID_1, NON_EXISTENT_PRODUCT_ID, PRODUCT_ID_1));
+
+        assertEquals(2, result.getRequestedCount());
+        assertEquals(1, result.getDeletedCount());
+        assertTrue(priceIndex.findAllSortedByPrice().stream().noneMatch(p -> PRODUCT_ID_1.equals(p.getProductId())));
+        assertEquals(initial.getRevision() + 1, productService.getCatalogRevision().getRevision());
+    }
+
+    @Test
+    @DisplayName("DELETE PRODUCTS - INVALID REQUEST")
+    void DeleteProducts_EmptyRequest_ExceptionThrown() {
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.deleteProducts(List.of()));
+
+        assertEquals(INVALID_BULK_DELETE_REQUEST, exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verify(productRepository, never()).deleteAllByIds(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("ADJUST PRICES - PERCENTAGE CHANGE OF A PRICE RANGE")
+    void AdjustPrices_PriceRange_ReturnAffectedCount() {
+        PriceAdjustmentDto adjustment = new PriceAdjustmentDto();
+        adjustment.setType(PriceAdjustmentDto.Type.PERCENTAGE);
+        adjustment.setAmount(10);
+        adjustment.setLowerLimit(PRODUCT_PRICE_LOWER_LIMIT);
+        adjustment.setUpperLimit(PRODUCT_PRICE_UPPER_LIMIT);
+        when(productRepository.adjustPricesInRange(PRODUCT_PRICE_LOWER_LIMIT, PRODUCT_PRICE_UPPER_LIMIT, 1.1, 0, PRODUCT_PRICE_MINIMUM,
+                                                   PRODUCT_PRICE_MAXIMUM, 5_000)).thenReturn(2);
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        CatalogRevisionDto initial = productService.getCatalogRevision();
+
+        PriceAdjustmentResultDto result = productService.adjustPrices(adjustment);
+
+        assertEquals(2, result.getAffectedCount());
+        assertEquals(List.of(55000L, 5500000L),
+                     priceIndex.findAllSortedByPrice().stream().map(Product::getProductPrice).toList());
+        assertEquals(initial.getRevision() + 1, productService.getCatalogRevision().getRevision());
+        verify(productRepository, times(1)).streamAll();
+    }
+
+    @Test
+    @DisplayName("ADJUST PRICES - INDEX DISAGREEING WITH DATABASE REBUILT IN THE BACKGROUND")
+    void AdjustPrices_IndexMissedProducts_RebuildIndex() {
+        PriceAdjustmentDto adjustment = new PriceAdjustmentDto();
+        adjustment.setType(PriceAdjustmentDto.Type.PERCENTAGE);
+        adjustment.setAmount(10);
+        adjustment.setLowerLimit(PRODUCT_PRICE_LOWER_LIMIT);
+        adjustment.setUpperLimit(PRODUCT_PRICE_UPPER_LIMIT);
+        when(productRepository.adjustPricesInRange(PRODUCT_PRICE_LOWER_LIMIT, PRODUCT_PRICE_UPPER_LIMIT, 1.1, 0, PRODUCT_PRICE_MINIMUM,
+                                                   PRODUCT_PRICE_MAXIMUM, 5_000)).thenReturn(3);
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        CatalogRevisionDto initial = productService.getCatalogRevision();
+
+        productService.adjustPrices(adjustment);
+
+        verify(eventPublisher, timeout(5_000).times(2)).publishEvent(any(CatalogRefreshedEvent.class));
+        assertTrue(priceIndex.isLoaded());
+        verify(productRepository, times(2)).streamAll();
+        assertEquals(initial.getRevision() + 1, productService.getCatalogRevision().getRevision());
+    }
+
+    @Test
+    @DisplayName("ADJUST PRICES - FAILED CHUNK DISCARDS INDEXES")
+    void AdjustPrices_ChunkFails_IndexesRebuiltAndExceptionRethrown() {
+        PriceAdjustmentDto adjustment = new PriceAdjustmentDto();
+        adjustment.setType(PriceAdjustmentDto.Type.PERCENTAGE);
+        adjustment.setAmount(10);
+        adjustment.setLowerLimit(PRODUCT_PRICE_LOWER_LIMIT);
+        adjustment.setUpperLimit(PRODUCT_PRICE_UPPER_LIMIT);
+        when(productRepository.adjustPricesInRange(PRODUCT_PRICE_LOWER_LIMIT, PRODUCT_PRICE_UPPER_LIMIT, 1.1, 0, PRODUCT_PRICE_MINIMUM,
+                                                   PRODUCT_PRICE_MAXIMUM, 5_000))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+        when(productRepository.streamAll()).thenAnswer(invocation -> productList.stream());
+        catalogIndexRefresher.rebuild();
+        CatalogRevisionDto initial = productService.getCatalogRevision();
+
+        assertThrows(DataAccessResourceFailureException.class, () -> productService.adjustPrices(adjustment));
+
+        verify(eventPublisher, timeout(5_000).times(2)).publishEvent(any(CatalogRefreshedEvent.class));
+        assertTrue(priceIndex.isLoaded());
+        assertTrue(productSearchIndex.isLoaded());
+        verify(productRepository, times(2)).streamAll();
+        assertEquals(initial.getRevision() + 1, productService.getCatalogRevision().getRevision());
+    }
+
+    @Test
+    @DisplayName("ADJUST PRICES - ABSOLUTE CHANGE OF DISTINCT IDS")
+    void AdjustPrices_DuplicateIds_AdjustDistinctIdsOnce() {
+        PriceAdjustmentDto adjustment = new PriceAdjustmentDto();
+        adjustment.setType(PriceAdjustmentDto.Type.ABSOLUTE);
+        adjustment.setAmount(-50);
+        adjustment.setProductIds(List.of(PRODUCT_ID_1, PRODUCT_ID_2, PRODUCT_ID_1));
+        when(productRepository.adjustPricesByIds(List.of(PRODUCT_ID_1, PRODUCT_ID_2), 1, -50, PRODUCT_PRICE_MINIMUM,
+                                                 PRODUCT_PRICE_MAXIMUM, 5_000)).thenReturn(0);
+
+        PriceAdjustmentResultDto result = productService.adjustPrices(adjustment);
+
+        assertEquals(0, result.getAffectedCount());
+        verify(productRepository, never()).findAllSortedByPrice();
+    }
+
+    @Test
+    @DisplayName("ADJUST PRICES - INVALID REQUEST")
+    void AdjustPrices_RangeAndIds_ExceptionThrown() {
+        PriceAdjustmentDto adjustment = new PriceAdjustmentDto();
+        adjustment.setType(PriceAdjustmentDto.Type.PERCENTAGE);
+        adjustment.setAmount(5);
+        adjustment.setLowerLimit(PRODUCT_PRICE_LOWER_LIMIT);
+        adjustment.setUpperLimit(PRODUCT_PRICE_UPPER_LIMIT);
+        adjustment.setProductIds(List.of(PRODUCT_ID_1));
+
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.adjustPrices(adjustment));
+
+        assertEquals(INVALID_PRICE_ADJUSTMENT, exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verifyNoInteractions(productRepository);
     }
 
     @Test
@@ -133,9 +731,9 @@ class ProductServiceImplTest {
     @Test
     @DisplayName("UPDATE PRODUCT FIELDS - SUCCESS")
     void UpdateProductFields_ReturnUpdatedProduct() {
-        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
-        when(productMapper.convertProductDtoToProduct(product, updatedProductDto)).thenReturn(updatedProduct);
-        when(productRepository.save(updatedProduct)).thenReturn(updatedProduct);
+        when(productRepository.updateFields(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, UPDATED_PRODUCT_PRICE_1, null))
+                .thenReturn(1);
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(updatedProduct));
         when(productMapper.productToProductDto(updatedProduct)).thenReturn(updatedProductDto);
 
         ProductDto actualProductResponseDto = productService.updateProductFields(updatedProductDto);
@@ -143,6 +741,155 @@ class ProductServiceImplTest {
         assertNotNull(actualProductResponseDto);
         assertEquals(updatedProductDto, actualProductResponseDto);
         verifyProductRepoMethodCalledOnce("updateProductFields");
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT FIELDS - CACHED PRODUCT UPDATED WITHOUT READ")
+    void UpdateProductFields_ProductCached_SingleUpdateWithoutRead() {
+        ProductDto cachedProductDto = new ProductDto(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1, 2L);
+        Product patchedProduct = new Product(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, PRODUCT_PRICE_1, 3L);
+        ProductDto patchedProductDto = new ProductDto(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, PRODUCT_PRICE_1, 3L);
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+        when(productMapper.productToProductDto(product)).thenReturn(cachedProductDto);
+        when(productRepository.updateFields(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, 0, 2L)).thenReturn(1);
+        when(productMapper.productToProductDto(patchedProduct)).thenReturn(patchedProductDto);
+        productService.getProductById(PRODUCT_ID_1);
+
+        ProductDto actualProductDto = productService.updateProductFields(new ProductDto(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, 0));
+
+        assertEquals(patchedProductDto, actualProductDto);
+        verify(productRepository, times(1)).findById(PRODUCT_ID_1);
+        verify(productRepository, times(1)).updateFields(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("CATALOG REVISION - ADVANCED BY EVERY WRITE")
+    void GetCatalogRevision_AfterCreateAndDelete_RevisionAdvanced() {
+        CatalogRevisionDto initial = productService.getCatalogRevision();
+        when(productMapper.productDtoToProduct(productDto)).thenReturn(product);
+        when(productRepository.save(product)).thenReturn(product);
+        when(productRepository.deleteAndGet(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+
+        productService.createProduct(productDto);
+        CatalogRevisionDto afterCreate = productService.getCatalogRevision();
+        productService.deleteProductById(PRODUCT_ID_1);
+        CatalogRevisionDto afterDelete = productService.getCatalogRevision();
+
+        assertEquals(initial.getRevision() + 1, afterCreate.getRevision());
+        assertEquals(initial.getRevision() + 2, afterDelete.getRevision());
+        assertNotEquals(initial.getEntityTag(), afterCreate.getEntityTag());
+        assertNotEquals(afterCreate.getEntityTag(), afterDelete.getEntityTag());
+    }
+
+    @Test
+    @DisplayName("CATALOG REVISION - ADVANCED BY CATALOG REFRESH")
+    void GetCatalogRevision_AfterCatalogRefresh_RevisionAdvanced() {
+        CatalogRevisionDto initial = productService.getCatalogRevision();
+
+        productService.onCatalogRefreshed(new CatalogRefreshedEvent(2));
+
+        assertEquals(initial.getRevision() + 1, productService.getCatalogRevision().getRevision());
+        assertNotEquals(initial.getEntityTag(), productService.getCatalogRevision().getEntityTag());
+    }
+
+    @Test
+    @DisplayName("CATALOG REVISION - UNCHANGED BY FAILED WRITE")
+    void GetCatalogRevision_AfterVersionMismatch_RevisionUnchanged() {
+        CatalogRevisionDto initial = productService.getCatalogRevision();
+        when(productRepository.existsById(PRODUCT_ID_1)).thenReturn(true);
+
+        assertThrows(ProductServiceException.class, () -> productService.updateProduct(updatedProductDto, 3L));
+
+        assertSame(initial, productService.getCatalogRevision());
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT - VERSION MATCHES")
+    void UpdateProduct_VersionMatches_ReturnNextVersionWithoutRead() {
+        Product nextVersion = new Product(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, UPDATED_PRODUCT_PRICE_1, 4L);
+        ProductDto nextVersionDto = new ProductDto(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, UPDATED_PRODUCT_PRICE_1, 4L);
+        when(productRepository.updateFields(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, UPDATED_PRODUCT_PRICE_1, 3L))
+                .thenReturn(1);
+        when(productMapper.productToProductDto(nextVersion)).thenReturn(nextVersionDto);
+
+        ProductDto actualProductDto = productService.updateProduct(updatedProductDto, 3L);
+
+        assertEquals(nextVersionDto, actualProductDto);
+        verify(productRepository, never()).findById(anyLong());
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT - VERSION MISMATCH")
+    void UpdateProduct_VersionMismatch_PreconditionFailed() {
+        when(productRepository.updateFields(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, UPDATED_PRODUCT_PRICE_1, 3L))
+                .thenReturn(0);
+        when(productRepository.existsById(PRODUCT_ID_1)).thenReturn(true);
+
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.updateProduct(updatedProductDto, 3L));
+
+        assertEquals(UPDATE_PRODUCT_VERSION_MISMATCH, exception.getMessage());
+        assertEquals(HttpStatus.PRECONDITION_FAILED, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT FIELDS - VERSION MATCHES")
+    void UpdateProductFields_VersionMatches_ReturnUpdatedProduct() {
+        Product nextVersion = new Product(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, PRODUCT_PRICE_1, 4L);
+        ProductDto nextVersionDto = new ProductDto(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, PRODUCT_PRICE_1, 4L);
+        ProductDto patch = new ProductDto(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, 0);
+        when(productRepository.updateFields(PRODUCT_ID_1, UPDATED_PRODUCT_NAME_1, 0, 3L)).thenReturn(1);
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(nextVersion));
+        when(productMapper.productToProductDto(nextVersion)).thenReturn(nextVersionDto);
+
+        ProductDto actualProductDto = productService.updateProductFields(patch, 3L);
+
+        assertEquals(nextVersionDto, actualProductDto);
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT FIELDS - VERSIONED PRODUCT NOT FOUND")
+    void UpdateProductFields_VersionedProductMissing_NotFound() {
+        when(productRepository.existsById(NON_EXISTENT_PRODUCT_ID)).thenReturn(false);
+
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.updateProductFields(nonExistentProductDto, 3L));
+
+        assertEquals(UPDATE_PRODUCT_FIELDS_NOT_FOUND, exception.getMessage());
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT FIELDS - EMPTY PATCH")
+    void UpdateProductFields_NoField_ExceptionThrown() {
+        ProductDto emptyPatch = new ProductDto(PRODUCT_ID_1, null, 0);
+
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.updateProductFields(emptyPatch));
+        ProductServiceException versionedException = assertThrows(ProductServiceException.class,
+                                                                   () -> productService.updateProductFields(emptyPatch, 3L));
+
+        assertEquals(EMPTY_PRODUCT_PATCH, exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        assertEquals(EMPTY_PRODUCT_PATCH, versionedException.getMessage());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("UPDATE PRODUCT - CONCURRENT UPDATE")
+    void UpdateProduct_ConcurrentUpdate_Conflict() {
+        when(productMapper.productDtoToProduct(updatedProductDto)).thenReturn(updatedProduct);
+        when(productRepository.findById(PRODUCT_ID_1)).thenReturn(Optional.of(product));
+        when(productRepository.save(updatedProduct)).thenThrow(new ObjectOptimisticLockingFailureException(Product.class, PRODUCT_ID_1));
+
+        ProductServiceException exception = assertThrows(ProductServiceException.class,
+                                                         () -> productService.updateProduct(updatedProductDto));
+
+        assertEquals(UPDATE_PRODUCT_CONFLICT, exception.getMessage());
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
     }
 
     @ParameterizedTest
@@ -240,16 +987,23 @@ class ProductServiceImplTest {
             case "getAllProductsSortedByPrice" ->
                     verify(productRepository, times(1)).findAllSortedByPrice();
             case "getProductsByPriceRange" ->
-                    verify(productRepository, times(1)).findByPriceRange(anyDouble(),
-                            anyDouble());
-            case "createProduct", "updateProduct", "updateProductFields" ->
+                    verify(productRepository, times(1)).findByPriceRange(anyLong(),
+                            anyLong());
+            case "createProduct", "updateProduct" ->
                     verify(productRepository, times(1)).save(any(Product.class));
+            case "updateProductFields" ->
+                    verify(productRepository, times(1)).updateFields(anyLong(), any(), anyLong(), any());
             case "getProductById" ->
                     verify(productRepository, times(1)).findById(anyLong());
             case "deleteProductById" ->
-                    verify(productRepository, times(1)).deleteById(anyLong());
+                    verify(productRepository, times(1)).deleteAndGet(anyLong());
             default -> throw new IllegalArgumentException("Unsupported method: " + methodName);
         }
     }
 
+    private double executedReads(String operation) {
+        return meterRegistry.get("product.reads").tag("operation", operation).tag("result", "executed")
+                .functionCounter().count();
+    }
+
 }
@@ -0,0 +1,165 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.AutocompleteProperties;
+import com.microservices.productservice.config.CatalogIndexProperties;
+import com.microservices.productservice.config.PriceIndexProperties;
+import com.microservices.productservice.config.SearchIndexProperties;
+import com.microservices.productservice.entity.Product;
+import com.microservices.productservice.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class CatalogIndexRefresherTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<Product> catalog = List.of(new Product(1L, "Wireless Mouse", 50000),
+                                                  new Product(2L, "Laptop", 5000000));
+    private PriceIndexProperties priceIndexProperties;
+    private PriceIndex priceIndex;
+    private ProductSearchIndex productSearchIndex;
+    private ProductNameTrie productNameTrie;
+    private CatalogIndexRefresher catalogIndexRefresher;
+
+    @BeforeEach
+    void setUp() {
+        priceIndexProperties = new PriceIndexProperties();
+        priceIndex = new PriceIndex(priceIndexProperties);
+        productSearchIndex = new ProductSearchIndex(new SearchIndexProperties());
+        productNameTrie = new ProductNameTrie(new AutocompleteProperties());
+        catalogIndexRefresher = new CatalogIndexRefresher(productRepository, entityManager,
+                                                          new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                                                          new CatalogIndexProperties(), eventPublisher,
+                                                          List.of(priceIndex, productSearchIndex, productNameTrie));
+        when(productRepository.streamAll()).thenAnswer(invocation -> catalog.stream());
+    }
+
+    @Test
+    @DisplayName("CATALOG INDEX REFRESHER - ONE SCAN BUILDS EVERY INDEX")
+    void Rebuild_EnabledIndexes_BuiltFromOneScan() {
+        catalogIndexRefresher.rebuild();
+
+        assertEquals(List.of(1L, 2L), productIds(priceIndex.findAllSortedByPrice()));
+        assertEquals(List.of(1L), productIds(productSearchIndex.search("mouse", 0, Long.MAX_VALUE, 10)));
+        assertEquals(List.of("laptop"), productNameTrie.complete("la", 10));
+        verify(productRepository, times(1)).streamAll();
+        verify(entityManager, times(catalog.size())).detach(any());
+        verify(eventPublisher, times(1)).publishEvent(argThat(
+                (Object event) -> ((CatalogRefreshedEvent) event).getScannedProducts() == catalog.size()));
+    }
+
+    @Test
+    @DisplayName("CATALOG INDEX REFRESHER - DISABLED INDEX NOT BUILT")
+    void Rebuild_DisabledIndex_IndexNotLoaded() {
+        priceIndexProperties.setEnabled(false);
+
+        catalogIndexRefresher.rebuild();
+
+        assertFalse(priceIndex.isLoaded());
+        assertTrue(productSearchIndex.isLoaded());
+        assertTrue(productNameTrie.isLoaded());
+    }
+
+    @Test
+    @DisplayName("CATALOG INDEX REFRESHER - WRITE DURING SCAN REPLAYED")
+    void Rebuild_WriteDuringScan_WriteReplayedWithoutRescan() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> {
+            priceIndex.remove(2L, 0);
+            return catalog.stream();
+        });
+
+        catalogIndexRefresher.rebuild();
+
+        assertEquals(List.of(1L), productIds(priceIndex.findAllSortedByPrice()));
+        assertTrue(productSearchIndex.isLoaded());
+        assertTrue(productNameTrie.isLoaded());
+        verify(productRepository, times(1)).streamAll();
+    }
+
+    @Test
+    @DisplayName("CATALOG INDEX REFRESHER - INDEX UNLOADED DURING SCAN SCANNED AGAIN")
+    void Rebuild_UnloadDuringScan_UnloadedIndexRebuiltAgain() {
+        when(productRepository.streamAll()).thenAnswer(invocation -> {
+            priceIndex.unload();
+            return catalog.stream();
+        }).thenAnswer(invocation -> catalog.stream());
+
+        catalogIndexRefresher.rebuild();
+
+        assertTrue(priceIndex.isLoaded());
+        assertTrue(productSearchIndex.isLoaded());
+        assertTrue(productNameTrie.isLoaded());
+        verify(productRepository, times(2)).streamAll();
+    }
+
+    @Test
+    @DisplayName("CATALOG INDEX REFRESHER - SELECTED INDEXES ONLY")
+    void Rebuild_SelectedIndexes_OtherIndexesNotLoaded() {
+        assertEquals(catalog.size(), catalogIndexRefresher.rebuild(List.of(productSearchIndex)));
+
+        assertFalse(priceIndex.isLoaded());
+        assertTrue(productSearchIndex.isLoaded());
+        assertFalse(productNameTrie.isLoaded());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("CATALOG INDEX REFRESHER - SCAN FAILURE")
+    void Rebuild_ScanFails_IndexesNotLoaded() {
+        when(productRepository.streamAll()).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        catalogIndexRefresher.rebuild();
+
+        assertFalse(priceIndex.isLoaded());
+        assertFalse(productSearchIndex.isLoaded());
+        assertFalse(productNameTrie.isLoaded());
+        verify(eventPublisher, times(1)).publishEvent(argThat(
+                (Object event) -> ((CatalogRefreshedEvent) event).getScannedProducts() == -1));
+    }
+
+    @Test
+    @DisplayName("CATALOG INDEX REFRESHER - BACKGROUND REBUILDS MERGED")
+    void RebuildLater_RequestedTwiceBeforeRunning_OneScanRebuildsBoth() {
+        List<Runnable> tasks = new ArrayList<>();
+        catalogIndexRefresher = new CatalogIndexRefresher(productRepository, entityManager,
+                                                          new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                                                          new CatalogIndexProperties(), eventPublisher,
+                                                          List.of(priceIndex, productSearchIndex, productNameTrie),
+                                                          tasks::add);
+
+        catalogIndexRefresher.rebuildLater(List.of(priceIndex));
+        catalogIndexRefresher.rebuildLater(List.of(productSearchIndex));
+
+        assertEquals(1, tasks.size());
+        assertFalse(priceIndex.isLoaded());
+        verify(productRepository, never()).streamAll();
+        tasks.get(0).run();
+        assertTrue(priceIndex.isLoaded());
+        assertTrue(productSearchIndex.isLoaded());
+        assertFalse(productNameTrie.isLoaded());
+        verify(productRepository, times(1)).streamAll();
+        verify(eventPublisher, times(1)).publishEvent(argThat(
+                (Object event) -> ((CatalogRefreshedEvent) event).getScannedProducts() == catalog.size()));
+        catalogIndexRefresher.rebuildLater(List.of(productNameTrie));
+        assertEquals(2, tasks.size());
+    }
+
+    private List<Long> productIds(List<Product> products) {
+        return products.stream().map(Product::getProductId).toList();
+    }
+}
@@ -0,0 +1,241 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.PriceIndexProperties;
+import com.microservices.productservice.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceIndexTest {
+
+    private final List<Product> catalog = new ArrayList<>(List.of(
+            new Product(1L, "Laptop", 5000000),
+            new Product(2L, "Mouse", 50000),
+            new Product(3L, "Keyboard", 150000),
+            new Product(4L, "Cable", 50000)));
+    private PriceIndex priceIndex;
+
+    @BeforeEach
+    void setUp() {
+        priceIndex = new PriceIndex(new PriceIndexProperties());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - NOT LOADED")
+    void FindAllSortedByPrice_NotLoaded_ExceptionThrown() {
+        assertFalse(priceIndex.isLoaded());
+        assertThrows(IllegalStateException.class, () -> priceIndex.findAllSortedByPrice());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - SORTED BY PRICE THEN ID")
+    void FindAllSortedByPrice_Loaded_ReturnSortedProducts() {
+        rebuild();
+
+        assertEquals(List.of(2L, 4L, 3L, 1L), productIds(priceIndex.findAllSortedByPrice()));
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - RANGE LIMITS INCLUDED")
+    void FindByPriceRange_Loaded_ReturnProductsWithinLimits() {
+        rebuild();
+
+        assertEquals(List.of(2L, 4L, 3L), productIds(priceIndex.findByPriceRange(50000, 150000)));
+        assertEquals(List.of(3L), productIds(priceIndex.findByPriceRange(50001, 4999999)));
+        assertTrue(priceIndex.findByPriceRange(150001, 4999999).isEmpty());
+        assertTrue(priceIndex.findByPriceRange(150000, 50000).isEmpty());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - INSERT ALL MERGES PRODUCTS")
+    void InsertAll_NewProducts_MergeInPriceOrder() {
+        rebuild();
+
+        priceIndex.insertAll(List.of(new Product(6L, "Charger", 6000000),
+                                     new Product(5L, "Stand", 50000),
+                                     new Product(7L, "Sticker", 10000)));
+
+        assertEquals(List.of(7L, 2L, 4L, 5L, 3L, 1L, 6L), productIds(priceIndex.findAllSortedByPrice()));
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - UPSERT MOVES PRODUCT")
+    void Upsert_ExistingProduct_ReplaceEntry() {
+        rebuild();
+
+        priceIndex.upsert(new Product(1L, "Laptop", 10000, 1));
+        priceIndex.upsert(new Product(5L, "Monitor", 150000));
+
+        assertEquals(List.of(1L, 2L, 4L, 3L, 5L), productIds(priceIndex.findAllSortedByPrice()));
+        assertEquals("Laptop", priceIndex.findByPriceRange(10000, 10000).get(0).getProductName());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - REMOVE")
+    void Remove_ExistingProduct_RemoveEntry() {
+        rebuild();
+
+        priceIndex.remove(4L, 0);
+        priceIndex.remove(99L, 0);
+
+        assertEquals(List.of(2L, 3L, 1L), productIds(priceIndex.findAllSortedByPrice()));
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - REMOVE ALL")
+    void RemoveAll_ExistingAndMissingProducts_RemoveExistingEntries() {
+        rebuild();
+
+        priceIndex.removeAll(Set.of(4L, 1L, 99L));
+
+        assertEquals(List.of(2L, 3L), productIds(priceIndex.findAllSortedByPrice()));
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - ADJUST PRICES IN RANGE")
+    void AdjustPrices_PriceRange_RoundAndReorderAdjustedProducts() {
+        rebuild();
+
+        int adjusted = priceIndex.adjustPrices(PriceAdjustment.inRange(50000, 150000, 1.00333, 0, 10000, 10000000));
+
+        assertEquals(3, adjusted);
+        List<Product> products = priceIndex.findAllSortedByPrice();
+        assertEquals(List.of(2L, 4L, 3L, 1L), productIds(products));
+        assertEquals(List.of(50167L, 50167L, 150500L, 5000000L),
+                     products.stream().map(Product::getProductPrice).toList());
+        assertEquals(List.of(1L, 1L, 1L, 0L), products.stream().map(Product::getVersion).toList());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - ADJUST PRICES BY IDS WITHIN BOUNDS")
+    void AdjustPrices_ProductIds_SkipPricesOutOfBounds() {
+        rebuild();
+
+        int adjusted = priceIndex.adjustPrices(PriceAdjustment.ofIds(Set.of(1L, 2L, 99L), 1, 6000000, 10000, 10000000));
+
+        assertEquals(1, adjusted);
+        assertEquals(List.of(4L, 3L, 1L, 2L), productIds(priceIndex.findAllSortedByPrice()));
+        assertEquals(6050000L, priceIndex.findByPriceRange(6050000, 6050000).get(0).getProductPrice());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - UNLOAD")
+    void Unload_Loaded_IndexNotLoaded() {
+        rebuild();
+
+        priceIndex.unload();
+
+        assertFalse(priceIndex.isLoaded());
+        assertEquals(0, priceIndex.adjustPrices(PriceAdjustment.ofIds(Set.of(1L), 1, 100, 10000, 10000000)));
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - OLDER UPDATE IGNORED")
+    void Upsert_SameOrEarlierVersion_EntryKept() {
+        rebuild();
+        priceIndex.upsert(new Product(3L, "Keyboard", 160000, 2));
+
+        priceIndex.upsert(new Product(3L, "Keyboard", 170000, 1));
+        priceIndex.upsert(new Product(3L, "Keyboard", 180000, 2));
+
+        assertEquals(160000L, priceIndex.findByPriceRange(150001, 4999999).get(0).getProductPrice());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - UPDATE OLDER THAN DELETE IGNORED")
+    void Upsert_AfterDeleteOfLaterVersion_ProductNotRestored() {
+        rebuild();
+
+        priceIndex.remove(3L, 1);
+        priceIndex.upsert(new Product(3L, "Keyboard", 160000, 1));
+        priceIndex.removeAll(Set.of(4L));
+        priceIndex.upsert(new Product(4L, "Cable", 60000, 7));
+        priceIndex.remove(1L, 0);
+        priceIndex.upsert(new Product(1L, "Laptop", 4000000, 0));
+
+        assertEquals(List.of(2L), productIds(priceIndex.findAllSortedByPrice()));
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - DELETE OLDER THAN ENTRY IGNORED")
+    void Remove_EarlierVersion_EntryKept() {
+        rebuild();
+        priceIndex.upsert(new Product(3L, "Keyboard", 160000, 2));
+
+        priceIndex.remove(3L, 1);
+
+        assertEquals(List.of(2L, 4L, 3L, 1L), productIds(priceIndex.findAllSortedByPrice()));
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - WRITES DURING REBUILD REPLAYED")
+    void Publish_WritesDuringRebuild_WritesReplayed() {
+        CatalogIndex.Rebuild rebuild = priceIndex.startRebuild();
+        rebuild.add(catalog.get(0));
+        rebuild.add(catalog.get(1));
+
+        priceIndex.remove(4L, 0);
+        priceIndex.upsert(new Product(1L, "Laptop", 10000, 1));
+        priceIndex.upsert(new Product(2L, "Mouse", 20000, 0));
+        priceIndex.upsert(new Product(5L, "Monitor", 150000));
+        rebuild.add(catalog.get(2));
+        rebuild.add(catalog.get(3));
+
+        assertTrue(rebuild.publish());
+        List<Product> products = priceIndex.findAllSortedByPrice();
+        assertEquals(List.of(1L, 2L, 3L, 5L), productIds(products));
+        assertEquals(List.of(10000L, 50000L, 150000L, 150000L),
+                     products.stream().map(Product::getProductPrice).toList());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - REBUILD DISCARDED BY UNLOAD")
+    void Publish_UnloadDuringRebuild_RebuildDiscarded() {
+        rebuild();
+        CatalogIndex.Rebuild rebuild = priceIndex.startRebuild();
+        catalog.forEach(rebuild::add);
+
+        priceIndex.unload();
+
+        assertFalse(rebuild.publish());
+        assertFalse(priceIndex.isLoaded());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - REBUILD DISCARDED BY ADJUSTMENT WHILE NOT LOADED")
+    void Publish_AdjustmentDuringFirstRebuild_RebuildDiscarded() {
+        CatalogIndex.Rebuild rebuild = priceIndex.startRebuild();
+        catalog.forEach(rebuild::add);
+
+        assertEquals(0, priceIndex.adjustPrices(PriceAdjustment.ofIds(Set.of(1L), 1, 100, 10000, 10000000)));
+
+        assertFalse(rebuild.publish());
+        assertFalse(priceIndex.isLoaded());
+    }
+
+    @Test
+    @DisplayName("PRICE INDEX - DISABLED")
+    void IsEnabled_Disabled_ReturnFalse() {
+        PriceIndexProperties properties = new PriceIndexProperties();
+        properties.setEnabled(false);
+
+        assertFalse(new PriceIndex(properties).isEnabled());
+        assertTrue(priceIndex.isEnabled());
+    }
+
+    private void rebuild() {
+        CatalogIndex.Rebuild rebuild = priceIndex.startRebuild();
+        catalog.forEach(rebuild::add);
+        assertTrue(rebuild.publish());
+    }
+
+    private List<Long> productIds(List<Product> products) {
+        return products.stream().map(Product::getProductId).toList();
+    }
+}
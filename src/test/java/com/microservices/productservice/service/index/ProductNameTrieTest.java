@@ -0,0 +1,153 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.AutocompleteProperties;
+import com.microservices.productservice.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductNameTrieTest {
+
+    private final List<Product> catalog = new ArrayList<>(List.of(
+            new Product(1L, "Wireless Mouse", 50000),
+            new Product(2L, "Wireless  Keyboard", 150000),
+            new Product(3L, "wireless mouse", 90000),
+            new Product(4L, "Mouse", 40000),
+            new Product(5L, "Mouse Pad", 10000),
+            new Product(6L, "Laptop", 5000000)));
+    private AutocompleteProperties properties;
+    private ProductNameTrie productNameTrie;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AutocompleteProperties();
+        productNameTrie = new ProductNameTrie(properties);
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - NOT LOADED")
+    void Complete_NotLoaded_ExceptionThrown() {
+        assertFalse(productNameTrie.isLoaded());
+        assertThrows(IllegalStateException.class, () -> productNameTrie.complete("mo", 10));
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - NORMALIZE")
+    void Normalize_MixedText_ReturnLowerCaseWithSingleSpaces() {
+        assertEquals("usb-c hub 4k", ProductNameTrie.normalize("  USB-C \t Hub  4K "));
+        assertEquals("", ProductNameTrie.normalize(" \n "));
+        assertEquals("", ProductNameTrie.normalize(null));
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - RANKED BY PRODUCT COUNT THEN NAME")
+    void Complete_Prefix_RankCommonNamesFirst() {
+        rebuild();
+
+        assertEquals(List.of("wireless mouse", "wireless keyboard"), productNameTrie.complete("w", 10));
+        assertEquals(List.of("mouse", "mouse pad"), productNameTrie.complete("MO", 10));
+        assertEquals(List.of("wireless mouse"), productNameTrie.complete("Wireless   M", 10));
+        assertEquals(List.of("wireless mouse"), productNameTrie.complete("wire", 1));
+        assertTrue(productNameTrie.complete("tablet", 10).isEmpty());
+        assertTrue(productNameTrie.complete("mousepad", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - TRAILING SPACE COMPLETES LONGER NAMES")
+    void Complete_TrailingSpace_ExcludeFinishedName() {
+        rebuild();
+
+        assertEquals(List.of("mouse pad"), productNameTrie.complete("mouse ", 10));
+        assertTrue(productNameTrie.complete("laptop ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - COMPLETIONS LIMITED PER NODE")
+    void Complete_BeyondMaximumCompletions_ReturnMaximumCompletions() {
+        properties.setMaximumCompletions(1);
+        rebuild();
+
+        assertEquals(List.of("wireless mouse"), productNameTrie.complete("w", 10));
+        assertTrue(productNameTrie.complete("w", 0).isEmpty());
+        assertTrue(productNameTrie.complete("  ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - UPSERT RENAMES AND INSERTS")
+    void Upsert_RenamedAndNewProducts_CompleteNewNames() {
+        rebuild();
+
+        productNameTrie.upsert(new Product(1L, "Wireless Keyboard", 50000, 1));
+        productNameTrie.upsert(new Product(7L, "Wireless Keyboard", 60000));
+        productNameTrie.upsert(new Product(8L, "Mouse Pad Large", 20000));
+
+        assertEquals(List.of("wireless keyboard", "wireless mouse"), productNameTrie.complete("wireless", 10));
+        assertEquals(List.of("mouse", "mouse pad", "mouse pad large"), productNameTrie.complete("mouse", 10));
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - REMOVE")
+    void Remove_ExistingProducts_RemoveNamesWithoutProducts() {
+        rebuild();
+
+        productNameTrie.remove(4L, 0);
+        productNameTrie.removeAll(Set.of(1L, 3L, 99L));
+
+        assertEquals(List.of("mouse pad"), productNameTrie.complete("mo", 10));
+        assertEquals(List.of("wireless keyboard"), productNameTrie.complete("w", 10));
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - WRITES APPLIED IN VERSION ORDER")
+    void Upsert_OutOfOrderWrites_LatestVersionKept() {
+        rebuild();
+
+        productNameTrie.upsert(new Product(6L, "Laptop Stand", 5000000, 2));
+        productNameTrie.upsert(new Product(6L, "Laptop Bag", 5000000, 1));
+        productNameTrie.remove(5L, 0);
+        productNameTrie.upsert(new Product(5L, "Mouse Pad XL", 10000, 0));
+
+        assertEquals(List.of("laptop stand"), productNameTrie.complete("la", 10));
+        assertEquals(List.of("mouse"), productNameTrie.complete("mouse", 10));
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - WRITES DURING REBUILD REPLAYED")
+    void Publish_WritesDuringRebuild_WritesReplayed() {
+        rebuild();
+        CatalogIndex.Rebuild rebuild = productNameTrie.startRebuild();
+        catalog.subList(0, 3).forEach(rebuild::add);
+
+        productNameTrie.upsert(new Product(7L, "Monitor", 100000));
+        productNameTrie.upsert(new Product(1L, "Wireless Keyboard", 50000, 1));
+        productNameTrie.remove(5L, 0);
+        catalog.subList(3, catalog.size()).forEach(rebuild::add);
+
+        assertTrue(rebuild.publish());
+        assertEquals(List.of("monitor"), productNameTrie.complete("mon", 10));
+        assertEquals(List.of("wireless keyboard", "wireless mouse"), productNameTrie.complete("w", 10));
+        assertEquals(List.of("mouse"), productNameTrie.complete("mouse", 10));
+    }
+
+    @Test
+    @DisplayName("AUTOCOMPLETE TRIE - DISABLED")
+    void IsEnabled_Disabled_ReturnFalse() {
+        assertTrue(productNameTrie.isEnabled());
+
+        properties.setEnabled(false);
+
+        assertFalse(productNameTrie.isEnabled());
+    }
+
+    private void rebuild() {
+        CatalogIndex.Rebuild rebuild = productNameTrie.startRebuild();
+        catalog.forEach(rebuild::add);
+        assertTrue(rebuild.publish());
+    }
+}
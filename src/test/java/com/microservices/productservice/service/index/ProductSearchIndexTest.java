@@ -0,0 +1,221 @@
+package com.microservices.productservice.service.index;
+
+import com.microservices.productservice.config.SearchIndexProperties;
+import com.microservices.productservice.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    private final List<Product> catalog = new ArrayList<>(List.of(
+            new Product(1L, "Wireless Mouse", 50000),
+            new Product(2L, "Wireless Gaming Keyboard", 150000),
+            new Product(3L, "Gaming Mouse", 90000),
+            new Product(4L, "Laptop", 5000000)));
+    private SearchIndexProperties properties;
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SearchIndexProperties();
+        productSearchIndex = new ProductSearchIndex(properties, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - NOT LOADED")
+    void Search_NotLoaded_ExceptionThrown() {
+        assertFalse(productSearchIndex.isLoaded());
+        assertThrows(IllegalStateException.class, () -> search("mouse"));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - TOKENIZE")
+    void Tokenize_MixedText_ReturnLowerCaseTerms() {
+        assertEquals(List.of("usb", "c", "hub", "4k", "hub"), ProductSearchIndex.tokenize("  USB-C Hub, 4K hub "));
+        assertTrue(ProductSearchIndex.tokenize(" -- ").isEmpty());
+        assertTrue(ProductSearchIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - EVERY TERM MUST MATCH")
+    void Search_SeveralTerms_ReturnProductsContainingAll() {
+        rebuild();
+
+        assertEquals(List.of(1L), productIds(search("mouse WIRELESS")));
+        assertEquals(List.of(2L), productIds(search("gaming keyboard")));
+        assertTrue(search("wireless laptop").isEmpty());
+        assertTrue(search("tablet").isEmpty());
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - RANKED BY RELEVANCE THEN ID")
+    void Search_OneTerm_RankShorterNamesFirst() {
+        rebuild();
+
+        assertEquals(List.of(1L, 2L), productIds(search("wireless")));
+        assertEquals(List.of(3L, 2L), productIds(search("gaming")));
+        assertEquals(List.of(3L), productIds(productSearchIndex.search("gaming", 0, Long.MAX_VALUE, 1)));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - PRICE RANGE LIMITS INCLUDED")
+    void Search_PriceRange_ReturnProductsWithinLimits() {
+        rebuild();
+
+        assertEquals(List.of(1L, 3L), productIds(productSearchIndex.search("mouse", 50000, 90000, 10)));
+        assertEquals(List.of(3L), productIds(productSearchIndex.search("mouse", 50001, 5000000, 10)));
+        assertTrue(productSearchIndex.search("mouse", 90000, 50000, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - UPSERT REPLACES ENTRY")
+    void Upsert_RenamedAndNewProducts_SearchNewNames() {
+        rebuild();
+
+        productSearchIndex.upsert(new Product(1L, "Ergonomic Keyboard", 50000, 1));
+        productSearchIndex.upsert(new Product(5L, "Silent Mouse", 60000));
+
+        assertEquals(List.of(3L, 5L), productIds(search("mouse")));
+        assertEquals(List.of(1L, 2L), productIds(search("keyboard")));
+        assertEquals(List.of(2L), productIds(search("wireless")));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - PENDING PRODUCTS MERGED BEYOND LIMIT")
+    void InsertAll_BeyondPendingLimit_SearchMergedIndex() {
+        properties.setMaximumPendingProducts(1);
+        rebuild();
+
+        productSearchIndex.insertAll(List.of(new Product(6L, "Mouse Pad", 10000),
+                                             new Product(5L, "Silent Mouse Mouse", 60000)));
+        productSearchIndex.upsert(new Product(3L, "Gaming Headset", 90000, 1));
+
+        assertEquals(List.of(5L, 1L, 6L), productIds(search("mouse")));
+        assertEquals(List.of(3L, 2L), productIds(search("gaming")));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - PENDING PRODUCTS MERGED IN THE BACKGROUND")
+    void InsertAll_BeyondPendingLimit_MergedByOneBackgroundTask() {
+        List<Runnable> tasks = new ArrayList<>();
+        productSearchIndex = new ProductSearchIndex(properties, tasks::add);
+        properties.setMaximumPendingProducts(1);
+        rebuild();
+
+        productSearchIndex.insertAll(List.of(new Product(6L, "Mouse Pad", 10000),
+                                             new Product(5L, "Silent Mouse Mouse", 60000)));
+        productSearchIndex.upsert(new Product(7L, "Wireless Mouse", 70000));
+
+        assertEquals(1, tasks.size());
+        assertEquals(List.of(5L, 1L, 3L, 6L, 7L), productIds(search("mouse")));
+        tasks.get(0).run();
+        productSearchIndex.remove(6L, 0);
+        productSearchIndex.upsert(new Product(3L, "Gaming Headset", 90000, 1));
+        assertEquals(List.of(5L, 1L, 7L), productIds(search("mouse")));
+        assertEquals(List.of(1L, 7L, 2L), productIds(search("wireless")));
+        assertEquals(List.of(3L, 2L), productIds(search("gaming")));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - REMOVE")
+    void Remove_ExistingAndPendingProducts_RemoveEntries() {
+        rebuild();
+        productSearchIndex.upsert(new Product(5L, "Silent Mouse", 60000));
+
+        productSearchIndex.remove(1L, 0);
+        productSearchIndex.removeAll(Set.of(5L, 99L));
+
+        assertEquals(List.of(3L), productIds(search("mouse")));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - ADJUST PRICES")
+    void AdjustPrices_SegmentAndPendingProducts_SearchNewPrices() {
+        rebuild();
+        productSearchIndex.upsert(new Product(5L, "Silent Mouse", 60000));
+
+        int adjusted = productSearchIndex.adjustPrices(PriceAdjustment.inRange(50000, 60000, 1, -20000, 10000,
+                                                                                10000000));
+
+        assertEquals(2, adjusted);
+        List<Product> products = productSearchIndex.search("mouse", 30000, 40000, 10);
+        assertEquals(List.of(1L, 5L), productIds(products));
+        assertEquals(List.of(30000L, 40000L), products.stream().map(Product::getProductPrice).toList());
+        assertEquals(List.of(3L), productIds(productSearchIndex.search("mouse", 50000, 90000, 10)));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - WRITES APPLIED IN VERSION ORDER")
+    void Upsert_OutOfOrderWrites_LatestVersionKept() {
+        rebuild();
+
+        productSearchIndex.upsert(new Product(3L, "Gaming Headset", 90000, 2));
+        productSearchIndex.upsert(new Product(3L, "Gaming Mouse", 90000, 1));
+        productSearchIndex.remove(1L, 0);
+        productSearchIndex.upsert(new Product(1L, "Wireless Mouse", 50000, 0));
+        productSearchIndex.remove(3L, 1);
+
+        assertTrue(search("mouse").isEmpty());
+        assertEquals(List.of(3L, 2L), productIds(search("gaming")));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - WRITES DURING REBUILD REPLAYED")
+    void Publish_WritesDuringRebuild_WritesReplayed() {
+        CatalogIndex.Rebuild rebuild = productSearchIndex.startRebuild();
+        rebuild.add(catalog.get(0));
+
+        productSearchIndex.upsert(new Product(1L, "Silent Mouse", 50000, 1));
+        productSearchIndex.remove(3L, 0);
+        productSearchIndex.upsert(new Product(5L, "Mouse Pad", 10000));
+        catalog.subList(1, catalog.size()).forEach(rebuild::add);
+
+        assertTrue(rebuild.publish());
+        assertEquals(List.of(1L, 5L), productIds(search("mouse")));
+        assertEquals(List.of(1L), productIds(search("silent")));
+        assertEquals(List.of(2L), productIds(search("gaming")));
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - REBUILD DISCARDED BY UNLOAD")
+    void Publish_UnloadDuringRebuild_RebuildDiscarded() {
+        CatalogIndex.Rebuild rebuild = productSearchIndex.startRebuild();
+        catalog.forEach(rebuild::add);
+
+        productSearchIndex.unload();
+
+        assertFalse(rebuild.publish());
+        assertFalse(productSearchIndex.isLoaded());
+    }
+
+    @Test
+    @DisplayName("SEARCH INDEX - DISABLED")
+    void IsEnabled_Disabled_ReturnFalse() {
+        assertTrue(productSearchIndex.isEnabled());
+
+        properties.setEnabled(false);
+
+        assertFalse(productSearchIndex.isEnabled());
+    }
+
+    private void rebuild() {
+        CatalogIndex.Rebuild rebuild = productSearchIndex.startRebuild();
+        catalog.forEach(rebuild::add);
+        assertTrue(rebuild.publish());
+    }
+
+    private List<Product> search(String query) {
+        return productSearchIndex.search(query, Long.MIN_VALUE, Long.MAX_VALUE, 10);
+    }
+
+    private List<Long> productIds(List<Product> products) {
+        return products.stream().map(Product::getProductId).toList();
+    }
+}
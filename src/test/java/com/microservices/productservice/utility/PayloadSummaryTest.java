@@ -0,0 +1,34 @@
+package com.microservices.productservice.utility;
+
+import com.microservices.productservice.dto.ProductDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+
+import static com.microservices.productservice.utility.ProductDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadSummaryTest {
+
+    @Test
+    @DisplayName("PAYLOAD SUMMARY - PRODUCTS AND LISTS SUMMARIZED")
+    void Summarize_ControllerPayloads_IdsAndSizesOnly() {
+        ProductDto productDto = new ProductDto(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1);
+
+        assertEquals("[ProductDto(productId=" + PRODUCT_ID_1 + "), " + PRODUCT_ID_1 + "]",
+                     PayloadSummary.summarize(new Object[]{productDto, PRODUCT_ID_1}));
+        assertEquals("ResponseEntity(status=200, body=List(size=1000))",
+                     PayloadSummary.summarize(ResponseEntity.ok(Collections.nCopies(1000, productDto))));
+        assertEquals("null", PayloadSummary.of(null).toString());
+    }
+
+    @Test
+    @DisplayName("PAYLOAD SUMMARY - LONG TEXT TRUNCATED")
+    void Summarize_LongText_Truncated() {
+        String summary = PayloadSummary.summarize("a".repeat(1000));
+
+        assertEquals("a".repeat(PayloadSummary.MAXIMUM_STRING_LENGTH) + "...(length=1000)", summary);
+    }
+}
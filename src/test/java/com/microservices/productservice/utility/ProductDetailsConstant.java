@@ -27,21 +27,21 @@ public class ProductDetailsConstant {
     private static final JSONObject jsonObject = (JSONObject) obj;
     public static final Long PRODUCT_ID_1 = (Long) jsonObject.get("productIdOne");
     public static final String PRODUCT_NAME_1 =  (String) jsonObject.get("productNameOne");
-    public static final Double PRODUCT_PRICE_1=(Double) jsonObject.get("productPriceOne");
+    public static final Long PRODUCT_PRICE_1=(Long) jsonObject.get("productPriceOne");
     public static final Long PRODUCT_ID_2=(Long) jsonObject.get("productIdTwo");
     public static final String PRODUCT_NAME_2= (String) jsonObject.get("productNameTwo");
-    public static final Double PRODUCT_PRICE_2=(Double) jsonObject.get("productPriceTwo");
+    public static final Long PRODUCT_PRICE_2=(Long) jsonObject.get("productPriceTwo");
     public static final Long INVALID_PRODUCT_ID=(Long) jsonObject.get("productIdInvalid");
     public static final Long NON_EXISTENT_PRODUCT_ID=(Long) jsonObject.get("productIdNonExistent");
-    public static final Double PRODUCT_PRICE_LOWER_LIMIT=(Double) jsonObject.get("productPriceLowerLimit");
-    public static final Double PRODUCT_PRICE_UPPER_LIMIT=(Double) jsonObject.get("productPriceUpperLimit");
+    public static final Long PRODUCT_PRICE_LOWER_LIMIT=(Long) jsonObject.get("productPriceLowerLimit");
+    public static final Long PRODUCT_PRICE_UPPER_LIMIT=(Long) jsonObject.get("productPriceUpperLimit");
     public static final String UPDATED_PRODUCT_NAME_1= (String) jsonObject.get("productNameOneUpdated");
-    public static final Double UPDATED_PRODUCT_PRICE_1=(Double) jsonObject.get("productPriceOneUpdated");
+    public static final Long UPDATED_PRODUCT_PRICE_1=(Long) jsonObject.get("productPriceOneUpdated");
     public static final String BLANK_PRODUCT_NAME= (String) jsonObject.get("productNameBlank");
     public static final String INVALID_PRODUCT_NAME= (String) jsonObject.get("productNameInvalid");
     public static final String MINIMUM_SIZE_PRODUCT_NAME= (String) jsonObject.get("productNameMinimumSize");
-    public static final Double MINIMUM_PRODUCT_PRICE=(Double) jsonObject.get("productPriceMinimum");
-    public static final Double MAXIMUM_PRODUCT_PRICE=(Double) jsonObject.get("productPriceMaximum");
+    public static final Long MINIMUM_PRODUCT_PRICE=(Long) jsonObject.get("productPriceMinimum");
+    public static final Long MAXIMUM_PRODUCT_PRICE=(Long) jsonObject.get("productPriceMaximum");
     public static final Double INVALID_PRODUCT_PRICE=(Double) jsonObject.get("productPriceInvalid");
 
     public static final Product product = new Product(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1);
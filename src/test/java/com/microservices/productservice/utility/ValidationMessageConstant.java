@@ -24,8 +24,5 @@ public class ValidationMessageConstant {
     public static final String PRODUCT_PRICE_MAX_VALUE_MESSAGE = PropertiesFileReader
             .getProperties("classpath:messages.properties")
             .getProperty("validation.productprice.maximumvalue");
-    public static final String PRODUCT_PRICE_PRICE_PATTERN_MESSAGE = PropertiesFileReader
-            .getProperties("classpath:messages.properties")
-            .getProperty("validation.productprice.pricepattern");
 
 }